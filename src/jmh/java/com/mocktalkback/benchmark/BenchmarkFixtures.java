@@ -0,0 +1,52 @@
+package com.mocktalkback.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * src/jmh/resources/fixtures 아래 벤치마크 입력을 읽는다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String ROOT = "fixtures/";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String text(String path) {
+        return new String(bytes(path), StandardCharsets.UTF_8);
+    }
+
+    public static byte[] bytes(String path) {
+        try (InputStream inputStream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(ROOT + path)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("벤치마크 fixture를 찾을 수 없습니다: " + path);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("벤치마크 fixture를 읽지 못했습니다: " + path, ex);
+        }
+    }
+
+    /**
+     * directory 아래 entries를 같은 상대 경로로 담은 zip을 만든다.
+     */
+    public static byte[] zip(String directory, String... entries) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (String entry : entries) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry));
+                zipOutputStream.write(bytes(directory + "/" + entry));
+                zipOutputStream.closeEntry();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("벤치마크 zip fixture를 만들지 못했습니다: " + directory, ex);
+        }
+        return outputStream.toByteArray();
+    }
+}
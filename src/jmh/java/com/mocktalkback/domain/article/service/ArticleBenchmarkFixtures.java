@@ -0,0 +1,28 @@
+package com.mocktalkback.domain.article.service;
+
+/**
+ * 벤치마크용 게시글 본문. 렌더링된 실제 게시글처럼 제목/문단/목록/코드 블록/표/엔티티를 반복해 만든다.
+ */
+final class ArticleBenchmarkFixtures {
+
+    private ArticleBenchmarkFixtures() {
+    }
+
+    static String renderedHtml(int sections) {
+        StringBuilder builder = new StringBuilder();
+        for (int section = 0; section < sections; section += 1) {
+            builder.append("<h2>섹션 ").append(section).append("</h2>\n");
+            builder.append("<p>오늘은 <strong>목업 토크</strong> 게시판에서 나온 이야기를 정리합니다.&nbsp;")
+                .append("A &amp; B, 5 &lt; 6 같은 표현도 섞여 있습니다.\n");
+            builder.append("자세한 내용은 <a href=\"https://example.com/docs/").append(section)
+                .append("\" rel=\"nofollow\">문서</a>를 참고하세요.</p>\n");
+            builder.append("<ul>\n<li><input type=\"checkbox\" checked disabled> 완료한 일</li>\n")
+                .append("<li><input type=\"checkbox\" disabled> 남은 일</li>\n<li><del>취소한 일</del></li>\n</ul>\n");
+            builder.append("<pre><code class=\"language-java\">int value = ").append(section)
+                .append(";\nSystem.out.println(value);\n</code></pre>\n");
+            builder.append("<table>\n<thead>\n<tr><th>항목</th><th>값</th></tr>\n</thead>\n<tbody>\n")
+                .append("<tr><td>조회수</td><td>").append(section * 13).append("</td></tr>\n</tbody>\n</table>\n");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mocktalkback.benchmark.BenchmarkFixtures;
+import com.mocktalkback.domain.article.type.ArticleContentFormat;
+import com.mocktalkback.global.common.sanitize.HtmlSanitizer;
+import com.mocktalkback.global.common.sanitize.HtmlSanitizerProperties;
+
+/**
+ * 게시글 본문 렌더링(Markdown 파싱 + 정규화 + sanitize)과 렌더 캐시 적중 비용.
+ * 미적중은 캐시를 1칸으로 줄이고 서로 다른 두 본문을 번갈아 렌더링해 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleContentRenderBenchmark {
+
+    private ArticleContentService uncachedService;
+    private ArticleContentService cachedService;
+    private String markdown;
+    private String[] alternatingMarkdown;
+    private String editorHtml;
+    private int sequence;
+
+    @Setup
+    public void setUp() {
+        HtmlSanitizer htmlSanitizer = new HtmlSanitizer(new HtmlSanitizerProperties());
+        htmlSanitizer.initialize();
+        uncachedService = new ArticleContentService(htmlSanitizer);
+        ReflectionTestUtils.setField(uncachedService, "renderCacheMaxEntries", 1);
+        cachedService = new ArticleContentService(htmlSanitizer);
+
+        markdown = BenchmarkFixtures.text("article.md");
+        alternatingMarkdown = new String[] {markdown, markdown + "\n"};
+        editorHtml = BenchmarkFixtures.text("article-editor.html");
+        cachedService.render(markdown, ArticleContentFormat.MARKDOWN);
+    }
+
+    @Benchmark
+    public ArticleContentService.RenderedContent renderMarkdown() {
+        sequence += 1;
+        return uncachedService.render(alternatingMarkdown[sequence & 1], ArticleContentFormat.MARKDOWN);
+    }
+
+    @Benchmark
+    public ArticleContentService.RenderedContent renderHtml() {
+        sequence += 1;
+        String html = (sequence & 1) == 0 ? editorHtml : editorHtml + " ";
+        return uncachedService.render(html, ArticleContentFormat.HTML);
+    }
+
+    @Benchmark
+    public ArticleContentService.RenderedContent renderMarkdownCached() {
+        return cachedService.render(markdown, ArticleContentFormat.MARKDOWN);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.mocktalkback.benchmark.BenchmarkFixtures;
+
+/**
+ * 게시글 import zip(manifest + frontmatter Markdown) 파싱 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleImportBundleParserBenchmark {
+
+    private final ArticleImportBundleParser articleImportBundleParser = new ArticleImportBundleParser();
+    private MockMultipartFile bundle;
+
+    @Setup
+    public void setUp() {
+        byte[] zip = BenchmarkFixtures.zip(
+            "article-import",
+            "manifest.yml",
+            "posts/01-spring-boot.md",
+            "posts/02-querydsl.md",
+            "posts/03-redis.md",
+            "posts/04-flyway.md"
+        );
+        bundle = new MockMultipartFile("file", "article-import.zip", "application/zip", zip);
+    }
+
+    @Benchmark
+    public ArticleImportBundleParser.ArticleImportBundle parse() {
+        return articleImportBundleParser.parse(bundle);
+    }
+}
@@ -0,0 +1,63 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 미리보기 추출: 한 번 훑는 현재 구현과 이전 정규식 치환 구현 비교.
+ * 본문은 렌더링된 게시글처럼 문단/코드 블록/표/엔티티를 섞어 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticlePreviewTextExtractorBenchmark {
+
+    @Param({"2", "40", "400"})
+    private int sections;
+
+    private final ArticlePreviewTextExtractor extractor = new ArticlePreviewTextExtractor();
+    private String html;
+
+    @Setup
+    public void setUp() {
+        html = ArticleBenchmarkFixtures.renderedHtml(sections);
+    }
+
+    @Benchmark
+    public String streaming() {
+        return extractor.extract(html);
+    }
+
+    @Benchmark
+    public String legacyRegex() {
+        return legacyExtract(html);
+    }
+
+    // 단일 패스 구현 이전의 ArticlePreviewTextExtractor.extract
+    static String legacyExtract(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        String withoutCodeBlocks = html
+            .replaceAll("(?is)<pre\\b[^>]*>.*?</pre>", " ")
+            .replaceAll("(?is)<code\\b[^>]*>.*?</code>", " ");
+        String plainText = withoutCodeBlocks.replaceAll("(?is)<[^>]+>", " ");
+        String normalized = HtmlUtils.htmlUnescape(plainText)
+            .replace('\u00A0', ' ')
+            .replaceAll("\\s+", " ")
+            .trim();
+        if (normalized.length() <= ArticlePreviewTextExtractor.MAX_PREVIEW_LENGTH) {
+            return normalized;
+        }
+        return normalized.substring(0, ArticlePreviewTextExtractor.MAX_PREVIEW_LENGTH - 1).trim() + "…";
+    }
+}
@@ -0,0 +1,51 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 게시글 조회수 중복 판정용 뷰어 키 계산(익명은 IP + User-Agent HMAC) 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArticleViewerKeyServiceBenchmark {
+
+    private static final String[] USER_AGENTS = {
+        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36",
+        "Mozilla/5.0 (iPhone; CPU iPhone OS 17_4 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko)  Version/17.4 Mobile/15E148 Safari/604.1",
+        "Mozilla/5.0 (Linux; Android 14; SM-S918N Build/UP1A.231005.007; wv) AppleWebKit/537.36 (KHTML, like Gecko) Version/4.0 Chrome/123.0.6312.118 Mobile Safari/537.36 KAKAOTALK 10.6.7",
+        "k6/0.50.0 (https://k6.io/)"
+    };
+    private static final String[] CLIENT_IPS = {"203.0.113.10", " 198.51.100.7 ", "2001:db8::1", ""};
+
+    private ArticleViewerKeyService articleViewerKeyService;
+    private int sequence;
+
+    @Setup
+    public void setUp() {
+        articleViewerKeyService = new ArticleViewerKeyService();
+        ReflectionTestUtils.setField(articleViewerKeyService, "anonHashSecret", "mocktalk-article-view-anon-secret");
+    }
+
+    @Benchmark
+    public String resolveAnonymous() {
+        sequence += 1;
+        int index = sequence & 3;
+        return articleViewerKeyService.resolve(null, CLIENT_IPS[index], USER_AGENTS[index]);
+    }
+
+    @Benchmark
+    public String resolveMember() {
+        sequence += 1;
+        return articleViewerKeyService.resolve((long) sequence, CLIENT_IPS[0], USER_AGENTS[0]);
+    }
+}
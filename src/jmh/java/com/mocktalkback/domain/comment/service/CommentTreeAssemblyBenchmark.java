@@ -0,0 +1,108 @@
+package com.mocktalkback.domain.comment.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mocktalkback.domain.comment.dto.CommentTreeResponse;
+import com.mocktalkback.domain.comment.entity.CommentEntity;
+import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
+import com.mocktalkback.domain.role.entity.RoleEntity;
+import com.mocktalkback.domain.user.entity.UserEntity;
+
+/**
+ * 댓글 페이지 조회 시 루트 댓글과 답글을 트리로 묶는 비용(응답 노드 생성 포함).
+ * 루트마다 답글 repliesPerRoot개를 깊이 1~3으로 섞어 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeAssemblyBenchmark {
+
+    private static final int ROOTS_PER_PAGE = 20;
+
+    @Param({"3", "30"})
+    private int repliesPerRoot;
+
+    private final AuthorDisplayResolver authorDisplayResolver = new AuthorDisplayResolver();
+    private List<CommentEntity> treeEntities;
+
+    @Setup
+    public void setUp() {
+        List<UserEntity> users = new ArrayList<>();
+        RoleEntity role = RoleEntity.create("USER", 0, "벤치마크");
+        for (long userId = 1L; userId <= 10L; userId += 1) {
+            UserEntity user = UserEntity.createLocal(
+                role, "user" + userId, "user" + userId + "@mocktalk.example.com", "pw", "user" + userId, "사용자" + userId, "user" + userId
+            );
+            ReflectionTestUtils.setField(user, "id", userId);
+            users.add(user);
+        }
+
+        treeEntities = new ArrayList<>();
+        long nextId = 1L;
+        Instant createdAt = Instant.parse("2026-03-14T00:00:00Z");
+        for (int rootIndex = 0; rootIndex < ROOTS_PER_PAGE; rootIndex += 1) {
+            CommentEntity root = comment(nextId++, users.get(rootIndex % users.size()), null, null, 0, createdAt);
+            treeEntities.add(root);
+            List<CommentEntity> thread = new ArrayList<>();
+            thread.add(root);
+            for (int replyIndex = 0; replyIndex < repliesPerRoot; replyIndex += 1) {
+                CommentEntity parent = thread.get(replyIndex % Math.min(thread.size(), 3));
+                if (parent.getDepth() >= 3) {
+                    parent = root;
+                }
+                CommentEntity reply = comment(
+                    nextId++,
+                    users.get((rootIndex + replyIndex + 1) % users.size()),
+                    parent,
+                    root,
+                    parent.getDepth() + 1,
+                    createdAt.plusSeconds(replyIndex + 1L)
+                );
+                thread.add(reply);
+                treeEntities.add(reply);
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Long, CommentTreeResponse> assembleTree() {
+        return CommentService.assembleTree(
+            treeEntities,
+            entity -> CommentService.toTreeResponse(entity, authorDisplayResolver, 0L, 0L, (short) 0)
+        );
+    }
+
+    private CommentEntity comment(
+        long id,
+        UserEntity user,
+        CommentEntity parent,
+        CommentEntity root,
+        int depth,
+        Instant createdAt
+    ) {
+        CommentEntity comment = CommentEntity.builder()
+            .user(user)
+            .parentComment(parent)
+            .rootComment(root)
+            .depth(depth)
+            .content("댓글 " + id + " 본문입니다. 의견 감사합니다.")
+            .build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        ReflectionTestUtils.setField(comment, "createdAt", createdAt);
+        return comment;
+    }
+}
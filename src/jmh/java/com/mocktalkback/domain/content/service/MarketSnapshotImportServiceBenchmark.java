@@ -0,0 +1,41 @@
+package com.mocktalkback.domain.content.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.mocktalkback.benchmark.BenchmarkFixtures;
+
+/**
+ * 시세 스냅샷 통합 CSV(약 1,000행, 날짜/시각 형식 혼합, 오류 행 포함) 파싱 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarketSnapshotImportServiceBenchmark {
+
+    private final MarketSnapshotImportService marketSnapshotImportService = new MarketSnapshotImportService();
+    private MockMultipartFile csv;
+
+    @Setup
+    public void setUp() {
+        csv = new MockMultipartFile(
+            "file",
+            "market-snapshots.csv",
+            "text/csv",
+            BenchmarkFixtures.bytes("market-snapshots.csv")
+        );
+    }
+
+    @Benchmark
+    public Object parseCsv() {
+        return marketSnapshotImportService.parse(csv, null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mocktalkback.domain.newsbot.service;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 뉴스 수집 항목 변경 감지용 payload 해시 비용. 수집 한 번에 항목 수만큼 호출된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NewsBotPayloadHasherBenchmark {
+
+    private final NewsBotPayloadHasher newsBotPayloadHasher = new NewsBotPayloadHasher();
+    private final NewsBotSourceItem item = new NewsBotSourceItem(
+        "hn:40123456",
+        "Show HN: 오픈소스 게시판 엔진을 Spring Boot 3로 다시 만들었습니다",
+        "https://news.ycombinator.com/item?id=40123456",
+        "백엔드를 Spring Boot 3, PostgreSQL, Redis로 옮기면서 조회수 집계와 실시간 알림 구조를 바꾼 경험을 공유합니다. "
+            + "캐시 무효화, 트렌딩 집계, 추천 피드 사전 계산을 어떻게 나눴는지 정리했습니다.",
+        "Hacker News",
+        "mocktalk",
+        Instant.parse("2026-03-14T09:30:00Z"),
+        Instant.parse("2026-03-14T10:05:12Z")
+    );
+
+    @Benchmark
+    public String hash() {
+        return newsBotPayloadHasher.hash(item);
+    }
+}
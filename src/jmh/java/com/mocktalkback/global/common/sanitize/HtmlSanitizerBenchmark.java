@@ -0,0 +1,40 @@
+package com.mocktalkback.global.common.sanitize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mocktalkback.benchmark.BenchmarkFixtures;
+
+/**
+ * 에디터에서 들어온 HTML(스크립트/이벤트 속성/외부 iframe 포함) sanitize 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlSanitizerBenchmark {
+
+    private HtmlSanitizer htmlSanitizer;
+    private String editorHtml;
+
+    @Setup
+    public void setUp() {
+        HtmlSanitizerProperties properties = new HtmlSanitizerProperties();
+        properties.setAllowedFileOrigins(List.of("https://files.mocktalk.example.com"));
+        htmlSanitizer = new HtmlSanitizer(properties);
+        htmlSanitizer.initialize();
+        editorHtml = BenchmarkFixtures.text("article-editor.html");
+    }
+
+    @Benchmark
+    public String sanitizeEditorHtml() {
+        return htmlSanitizer.sanitize(editorHtml);
+    }
+}
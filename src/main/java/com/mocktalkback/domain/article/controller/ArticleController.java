@@ -72,12 +72,12 @@ public class ArticleController {
     }
 
     @GetMapping("/articles/trending")
-    @Operation(summary = "공개 인기 게시글 조회", description = "일간/주간 기준의 공개 인기 게시글을 조회합니다.")
+    @Operation(summary = "공개 인기 게시글 조회", description = "시간/일간/주간 기준의 공개 인기 게시글을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class)))
     })
     public ApiEnvelope<List<ArticleTrendingItemResponse>> findTrendingPublic(
-        @Parameter(description = "집계 윈도우", example = "DAY")
+        @Parameter(description = "집계 윈도우(HOUR/DAY/WEEK)", example = "DAY")
         @RequestParam(name = "window", defaultValue = "DAY") ArticleTrendingWindow window,
         @Parameter(description = "최대 개수(최대 50)", example = "10")
         @RequestParam(name = "limit", defaultValue = "10") int limit
@@ -0,0 +1,17 @@
+package com.mocktalkback.domain.article.dto;
+
+import java.util.List;
+
+import com.mocktalkback.global.common.dto.CursorResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Board article cursor list response")
+public record BoardArticleCursorResponse(
+    @Schema(description = "Pinned articles (only first page)")
+    List<ArticleSummaryResponse> pinned,
+
+    @Schema(description = "Cursor paged articles")
+    CursorResponse<ArticleSummaryResponse> page
+) {
+}
@@ -74,13 +74,20 @@ public class ArticleEntity extends SoftDeleteEntity {
     @Column(name = "content_format", nullable = false, length = 16)
     private ArticleContentFormat contentFormat;
 
+    @Column(name = "preview_text", nullable = false, length = 200)
+    private String previewText;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "hit", nullable = false)
     private long hit;
 
     @Column(name = "is_notice", nullable = false)
     private boolean notice;
 
-    @Column(name = "sync_version", nullable = false)
+    // 댓글 동기화 버전의 DB 하한값. 현재 값은 Redis 카운터이며 ArticleSyncVersionService만 일괄 반영한다.
+    @Column(name = "sync_version", nullable = false, insertable = false, updatable = false)
     private long syncVersion;
 
     @Builder
@@ -93,6 +100,7 @@ public class ArticleEntity extends SoftDeleteEntity {
         String content,
         String contentSource,
         ArticleContentFormat contentFormat,
+        String previewText,
         long hit,
         boolean notice
     ) {
@@ -104,6 +112,7 @@ public class ArticleEntity extends SoftDeleteEntity {
         this.content = content;
         this.contentSource = contentSource;
         this.contentFormat = contentFormat;
+        this.previewText = previewText == null ? "" : previewText;
         this.hit = hit;
         this.notice = notice;
     }
@@ -115,6 +124,7 @@ public class ArticleEntity extends SoftDeleteEntity {
         String content,
         String contentSource,
         ArticleContentFormat contentFormat,
+        String previewText,
         boolean notice
     ) {
         this.category = category;
@@ -123,6 +133,7 @@ public class ArticleEntity extends SoftDeleteEntity {
         this.content = content;
         this.contentSource = contentSource;
         this.contentFormat = contentFormat;
+        this.previewText = previewText == null ? "" : previewText;
         this.notice = notice;
     }
 
@@ -130,6 +141,10 @@ public class ArticleEntity extends SoftDeleteEntity {
         this.notice = notice;
     }
 
+    public void applyContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public void applySyncVersion(long syncVersion) {
         this.syncVersion = syncVersion;
     }
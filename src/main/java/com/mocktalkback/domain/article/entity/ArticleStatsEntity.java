@@ -0,0 +1,43 @@
+package com.mocktalkback.domain.article.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 집계 카운터. 쓰기는 {@code ArticleStatsRepository}의 native upsert로만 수행한다.
+ */
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tb_article_stats")
+public class ArticleStatsEntity {
+
+    @Id
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "dislike_count", nullable = false)
+    private long dislikeCount;
+
+    @Column(name = "bookmark_count", nullable = false)
+    private long bookmarkCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.mocktalkback.domain.article.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추천용 사용자 관심도 프로필. 최초 행은 {@code UserAffinityRepository}의 native insert로 만들고,
+ * 이후 갱신은 행 잠금을 잡은 뒤 {@link #changeProfile(String, Instant)}로 반영한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tb_user_affinity")
+public class UserAffinityEntity {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "profile", nullable = false)
+    private String profile;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public void changeProfile(String profile, Instant updatedAt) {
+        this.profile = profile;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.mocktalkback.domain.article.entity.ArticleBookmarkEntity;
 
@@ -23,6 +25,9 @@ public interface ArticleBookmarkRepository extends JpaRepository<ArticleBookmark
     @EntityGraph(attributePaths = {"article", "article.board", "article.user", "article.category"})
     List<ArticleBookmarkEntity> findTop20ByUserIdOrderByCreatedAtDescIdDesc(Long userId);
 
+    @Query("select b.article.id from ArticleBookmarkEntity b where b.user.id = :userId")
+    List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
+
     void deleteByUserId(Long userId);
 
     void deleteByUserIdAndArticleIdIn(Long userId, Iterable<Long> articleIds);
@@ -0,0 +1,9 @@
+package com.mocktalkback.domain.article.repository;
+
+import java.time.Instant;
+
+/**
+ * 게시글 목록 keyset 페이징 기준값. 정렬 키(created_at, updated_at, article_id)와 1:1로 대응한다.
+ */
+public record ArticleKeysetCursor(Instant createdAt, Instant updatedAt, Long articleId) {
+}
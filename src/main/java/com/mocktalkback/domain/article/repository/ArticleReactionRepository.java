@@ -17,8 +17,6 @@ public interface ArticleReactionRepository extends JpaRepository<ArticleReaction
     @EntityGraph(attributePaths = {"article", "article.board", "article.user", "article.category"})
     List<ArticleReactionEntity> findTop20ByUserIdOrderByUpdatedAtDescIdDesc(Long userId);
 
-    long countByArticleIdAndReactionType(Long articleId, short reactionType);
-
     @Query(value = """
         with upsert as (
             insert into tb_article_reactions (user_id, article_id, reaction_type)
@@ -35,24 +35,9 @@ public interface ArticleRepository extends JpaRepository<ArticleEntity, Long>, A
             a.visibility,
             a.title,
             a.hit,
-            (
-                select count(cm.id)
-                from CommentEntity cm
-                where cm.article.id = a.id
-                  and cm.deletedAt is null
-            ),
-            (
-                select count(ar.id)
-                from ArticleReactionEntity ar
-                where ar.article.id = a.id
-                  and ar.reactionType = 1
-            ),
-            (
-                select count(ar.id)
-                from ArticleReactionEntity ar
-                where ar.article.id = a.id
-                  and ar.reactionType = -1
-            ),
+            coalesce(s.commentCount, 0L),
+            coalesce(s.likeCount, 0L),
+            coalesce(s.dislikeCount, 0L),
             a.notice,
             a.createdAt,
             a.updatedAt,
@@ -62,6 +47,7 @@ public interface ArticleRepository extends JpaRepository<ArticleEntity, Long>, A
         join a.board b
         join a.user u
         left join a.category c
+        left join ArticleStatsEntity s on s.articleId = a.id
         where a.user.id = :userId
           and a.deletedAt is null
         """)
@@ -73,35 +59,6 @@ public interface ArticleRepository extends JpaRepository<ArticleEntity, Long>, A
     @EntityGraph(attributePaths = {"user", "board", "category"})
     List<ArticleEntity> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<ArticleEntity> findByBoardIdAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-        Long boardId,
-        Collection<ContentVisibility> visibilities,
-        Pageable pageable
-    );
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<ArticleEntity> findByBoardIdAndCategoryIdAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-        Long boardId,
-        Long categoryId,
-        Collection<ContentVisibility> visibilities,
-        Pageable pageable
-    );
-
-    @EntityGraph(attributePaths = {"user"})
-    Page<ArticleEntity> findByBoardIdAndCategoryIsNullAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-        Long boardId,
-        Collection<ContentVisibility> visibilities,
-        Pageable pageable
-    );
-
-    @EntityGraph(attributePaths = {"user"})
-    List<ArticleEntity> findByBoardIdAndNoticeTrueAndVisibilityInAndDeletedAtIsNull(
-        Long boardId,
-        Collection<ContentVisibility> visibilities,
-        Pageable pageable
-    );
-
     @EntityGraph(attributePaths = {"user", "board", "category"})
     Slice<ArticleEntity> findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
         BoardVisibility boardVisibility,
@@ -1,10 +1,14 @@
 package com.mocktalkback.domain.article.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.moderation.type.ReportTargetType;
+import com.mocktalkback.domain.role.type.ContentVisibility;
 
 public interface ArticleRepositoryCustom {
     Page<ArticleEntity> findAdminBoardArticles(
@@ -15,4 +19,53 @@ public interface ArticleRepositoryCustom {
         ReportTargetType targetType,
         Pageable pageable
     );
+
+    /**
+     * 게시판 목록(offset 페이지). 요약 컬럼만 조회한다.
+     * categoryId가 있으면 카테고리, uncategorized면 미분류 글만 조회한다.
+     */
+    Page<ArticleSummaryRow> findBoardArticleRows(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities,
+        Pageable pageable
+    );
+
+    /**
+     * (created_at, updated_at, article_id) 기준 keyset 조회. count 쿼리 없이 limit 만큼만 읽는다.
+     */
+    List<ArticleSummaryRow> findBoardArticleRowsByKeyset(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities,
+        ArticleKeysetCursor cursor,
+        boolean ascending,
+        int limit
+    );
+
+    List<ArticleSummaryRow> findPinnedArticleRows(
+        Long boardId,
+        Collection<ContentVisibility> visibilities,
+        boolean ascending,
+        int limit
+    );
+
+    long countBoardArticles(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities
+    );
+
+    /**
+     * 홈 최근 공개 게시글. 공개 게시판/공개 글만 조회하고 제외 게시판은 건너뛴다.
+     */
+    List<ArticleSummaryRow> findRecentPublicRows(Collection<String> excludedBoardSlugs, long offset, int limit);
+
+    /**
+     * 지정한 ID 중 공개 피드 대상 게시글만 요약 컬럼으로 조회한다. 반환 순서는 보장하지 않는다.
+     */
+    List<ArticleSummaryRow> findPublicRowsByIds(Collection<Long> articleIds, Collection<String> excludedBoardSlugs);
 }
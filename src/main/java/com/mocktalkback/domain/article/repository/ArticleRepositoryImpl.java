@@ -1,5 +1,6 @@
 package com.mocktalkback.domain.article.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -7,14 +8,21 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import com.mocktalkback.domain.article.entity.ArticleEntity;
+import com.mocktalkback.domain.article.entity.QArticleCategoryEntity;
 import com.mocktalkback.domain.article.entity.QArticleEntity;
+import com.mocktalkback.domain.board.entity.QBoardEntity;
+import com.mocktalkback.domain.board.type.BoardVisibility;
 import com.mocktalkback.domain.moderation.entity.QReportEntity;
 import com.mocktalkback.domain.moderation.type.ReportTargetType;
+import com.mocktalkback.domain.role.type.ContentVisibility;
 import com.mocktalkback.domain.user.entity.QUserEntity;
 import com.mocktalkback.global.common.util.QuerydslSortUtils;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -67,6 +75,202 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         return new PageImpl<>(content, pageable, resolvedTotal);
     }
 
+    @Override
+    public Page<ArticleSummaryRow> findBoardArticleRows(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities,
+        Pageable pageable
+    ) {
+        QArticleEntity article = QArticleEntity.articleEntity;
+        BooleanBuilder predicate = boardArticleCondition(boardId, categoryId, uncategorized, visibilities, article);
+
+        List<ArticleSummaryRow> content = selectSummaryRows(article)
+            .where(predicate)
+            .orderBy(QuerydslSortUtils.toOrderSpecifiers(pageable, article))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        long total = countBoardArticles(boardId, categoryId, uncategorized, visibilities);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public List<ArticleSummaryRow> findBoardArticleRowsByKeyset(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities,
+        ArticleKeysetCursor cursor,
+        boolean ascending,
+        int limit
+    ) {
+        QArticleEntity article = QArticleEntity.articleEntity;
+        BooleanBuilder predicate = boardArticleCondition(boardId, categoryId, uncategorized, visibilities, article);
+        if (cursor != null) {
+            predicate.and(keysetCondition(cursor, ascending, article));
+        }
+
+        return selectSummaryRows(article)
+            .where(predicate)
+            .orderBy(articleOrder(article, ascending))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<ArticleSummaryRow> findPinnedArticleRows(
+        Long boardId,
+        Collection<ContentVisibility> visibilities,
+        boolean ascending,
+        int limit
+    ) {
+        QArticleEntity article = QArticleEntity.articleEntity;
+        return selectSummaryRows(article)
+            .where(
+                article.board.id.eq(boardId),
+                article.notice.isTrue(),
+                article.visibility.in(visibilities),
+                article.deletedAt.isNull()
+            )
+            .orderBy(articleOrder(article, ascending))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public long countBoardArticles(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities
+    ) {
+        QArticleEntity article = QArticleEntity.articleEntity;
+        Long total = queryFactory
+            .select(article.count())
+            .from(article)
+            .where(boardArticleCondition(boardId, categoryId, uncategorized, visibilities, article))
+            .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    @Override
+    public List<ArticleSummaryRow> findRecentPublicRows(Collection<String> excludedBoardSlugs, long offset, int limit) {
+        QArticleEntity article = QArticleEntity.articleEntity;
+        return selectSummaryRows(article)
+            .where(
+                publicFeedCondition(article, excludedBoardSlugs),
+                article.notice.isFalse()
+            )
+            .orderBy(articleOrder(article, false))
+            .offset(offset)
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<ArticleSummaryRow> findPublicRowsByIds(Collection<Long> articleIds, Collection<String> excludedBoardSlugs) {
+        if (articleIds == null || articleIds.isEmpty()) {
+            return List.of();
+        }
+        QArticleEntity article = QArticleEntity.articleEntity;
+        return selectSummaryRows(article)
+            .where(
+                article.id.in(articleIds),
+                publicFeedCondition(article, excludedBoardSlugs)
+            )
+            .fetch();
+    }
+
+    // 목록 화면에 필요한 요약 컬럼만 선택한다. 본문(content/content_source)은 읽지 않는다.
+    private JPAQuery<ArticleSummaryRow> selectSummaryRows(QArticleEntity article) {
+        QBoardEntity board = QBoardEntity.boardEntity;
+        QUserEntity user = QUserEntity.userEntity;
+        QArticleCategoryEntity category = QArticleCategoryEntity.articleCategoryEntity;
+        return queryFactory
+            .select(Projections.constructor(
+                ArticleSummaryRow.class,
+                article.id,
+                board.id,
+                board.slug,
+                board.boardName,
+                user.id,
+                user.displayName,
+                user.userName,
+                category.id,
+                category.categoryName,
+                article.visibility,
+                article.title,
+                article.previewText,
+                article.hit,
+                article.notice,
+                article.createdAt,
+                article.updatedAt
+            ))
+            .from(article)
+            .join(article.board, board)
+            .join(article.user, user)
+            .leftJoin(article.category, category);
+    }
+
+    private BooleanBuilder publicFeedCondition(QArticleEntity article, Collection<String> excludedBoardSlugs) {
+        QBoardEntity board = QBoardEntity.boardEntity;
+        BooleanBuilder predicate = new BooleanBuilder();
+        predicate.and(article.deletedAt.isNull());
+        predicate.and(article.visibility.eq(ContentVisibility.PUBLIC));
+        predicate.and(board.deletedAt.isNull());
+        predicate.and(board.visibility.eq(BoardVisibility.PUBLIC));
+        if (excludedBoardSlugs != null && !excludedBoardSlugs.isEmpty()) {
+            predicate.and(board.slug.notIn(excludedBoardSlugs));
+        }
+        return predicate;
+    }
+
+    private OrderSpecifier<?>[] articleOrder(QArticleEntity article, boolean ascending) {
+        if (ascending) {
+            return new OrderSpecifier<?>[] {article.createdAt.asc(), article.updatedAt.asc(), article.id.asc()};
+        }
+        return new OrderSpecifier<?>[] {article.createdAt.desc(), article.updatedAt.desc(), article.id.desc()};
+    }
+
+    private BooleanBuilder boardArticleCondition(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities,
+        QArticleEntity article
+    ) {
+        BooleanBuilder predicate = new BooleanBuilder();
+        predicate.and(article.board.id.eq(boardId));
+        predicate.and(article.notice.isFalse());
+        predicate.and(article.visibility.in(visibilities));
+        predicate.and(article.deletedAt.isNull());
+        if (uncategorized) {
+            predicate.and(article.category.isNull());
+        } else if (categoryId != null) {
+            predicate.and(article.category.id.eq(categoryId));
+        }
+        return predicate;
+    }
+
+    // 행 값 비교 (a, b, c) < (x, y, z)를 JPQL로 풀어 쓴다. 선두 조건이 created_at 범위라 게시판/작성일 인덱스를 탈 수 있다.
+    private BooleanExpression keysetCondition(ArticleKeysetCursor cursor, boolean ascending, QArticleEntity article) {
+        if (ascending) {
+            return article.createdAt.gt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(
+                    article.updatedAt.gt(cursor.updatedAt())
+                        .or(article.updatedAt.eq(cursor.updatedAt()).and(article.id.gt(cursor.articleId())))
+                ));
+        }
+        return article.createdAt.lt(cursor.createdAt())
+            .or(article.createdAt.eq(cursor.createdAt()).and(
+                article.updatedAt.lt(cursor.updatedAt())
+                    .or(article.updatedAt.eq(cursor.updatedAt()).and(article.id.lt(cursor.articleId())))
+            ));
+    }
+
     private BooleanBuilder reportedCondition(
         Long boardId,
         ReportTargetType targetType,
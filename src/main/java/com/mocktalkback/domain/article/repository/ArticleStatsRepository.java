@@ -0,0 +1,66 @@
+package com.mocktalkback.domain.article.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.mocktalkback.domain.article.entity.ArticleStatsEntity;
+
+public interface ArticleStatsRepository extends JpaRepository<ArticleStatsEntity, Long> {
+
+    List<ArticleStatsEntity> findAllByArticleIdIn(Collection<Long> articleIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        insert into tb_article_stats (article_id, comment_count, like_count, dislike_count, bookmark_count, updated_at)
+        values (
+            :articleId,
+            greatest(:commentDelta, 0),
+            greatest(:likeDelta, 0),
+            greatest(:dislikeDelta, 0),
+            greatest(:bookmarkDelta, 0),
+            now()
+        )
+        on conflict (article_id)
+        do update
+        set comment_count = greatest(tb_article_stats.comment_count + :commentDelta, 0),
+            like_count = greatest(tb_article_stats.like_count + :likeDelta, 0),
+            dislike_count = greatest(tb_article_stats.dislike_count + :dislikeDelta, 0),
+            bookmark_count = greatest(tb_article_stats.bookmark_count + :bookmarkDelta, 0),
+            updated_at = now()
+        """, nativeQuery = true)
+    int applyDelta(
+        @Param("articleId") Long articleId,
+        @Param("commentDelta") long commentDelta,
+        @Param("likeDelta") long likeDelta,
+        @Param("dislikeDelta") long dislikeDelta,
+        @Param("bookmarkDelta") long bookmarkDelta
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        insert into tb_article_stats (article_id, comment_count, like_count, dislike_count, bookmark_count, updated_at)
+        select a.article_id,
+               (select count(*) from tb_comments c where c.article_id = a.article_id and c.deleted_at is null),
+               (select count(*) from tb_article_reactions r where r.article_id = a.article_id and r.reaction_type = 1),
+               (select count(*) from tb_article_reactions r where r.article_id = a.article_id and r.reaction_type = -1),
+               (select count(*) from tb_article_bookmarks b where b.article_id = a.article_id),
+               now()
+        from tb_articles a
+        where a.article_id in (:articleIds)
+        on conflict (article_id)
+        do update
+        set comment_count = excluded.comment_count,
+            like_count = excluded.like_count,
+            dislike_count = excluded.dislike_count,
+            bookmark_count = excluded.bookmark_count,
+            updated_at = now()
+        where (tb_article_stats.comment_count, tb_article_stats.like_count, tb_article_stats.dislike_count, tb_article_stats.bookmark_count)
+            is distinct from (excluded.comment_count, excluded.like_count, excluded.dislike_count, excluded.bookmark_count)
+        """, nativeQuery = true)
+    int recalculate(@Param("articleIds") Collection<Long> articleIds);
+}
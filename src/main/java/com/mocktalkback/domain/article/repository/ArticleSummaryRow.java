@@ -0,0 +1,28 @@
+package com.mocktalkback.domain.article.repository;
+
+import java.time.Instant;
+
+import com.mocktalkback.domain.role.type.ContentVisibility;
+
+/**
+ * 목록 화면용 게시글 요약 프로젝션. content/content_source 같은 대용량 컬럼은 조회하지 않는다.
+ */
+public record ArticleSummaryRow(
+    Long id,
+    Long boardId,
+    String boardSlug,
+    String boardName,
+    Long userId,
+    String authorDisplayName,
+    String authorUserName,
+    Long categoryId,
+    String categoryName,
+    ContentVisibility visibility,
+    String title,
+    String previewText,
+    long hit,
+    boolean notice,
+    Instant createdAt,
+    Instant updatedAt
+) {
+}
@@ -0,0 +1,28 @@
+package com.mocktalkback.domain.article.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.mocktalkback.domain.article.entity.UserAffinityEntity;
+
+import jakarta.persistence.LockModeType;
+
+public interface UserAffinityRepository extends JpaRepository<UserAffinityEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from UserAffinityEntity a where a.userId = :userId")
+    Optional<UserAffinityEntity> findForUpdate(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        insert into tb_user_affinity (user_id, profile, updated_at)
+        values (:userId, cast(:profile as jsonb), now())
+        on conflict (user_id) do nothing
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("profile") String profile);
+}
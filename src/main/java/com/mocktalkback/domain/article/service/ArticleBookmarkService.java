@@ -1,10 +1,7 @@
 package com.mocktalkback.domain.article.service;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,10 +18,9 @@ import com.mocktalkback.domain.article.entity.ArticleBookmarkEntity;
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.mapper.ArticleMapper;
 import com.mocktalkback.domain.article.repository.ArticleBookmarkRepository;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository.ArticleReactionCountView;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
-import com.mocktalkback.domain.comment.repository.CommentRepository;
+import com.mocktalkback.domain.article.service.ArticleStatsService.ArticleStats;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
 import com.mocktalkback.domain.common.policy.PageNormalizer;
 import com.mocktalkback.domain.user.entity.UserEntity;
@@ -46,8 +42,8 @@ public class ArticleBookmarkService {
 
     private final ArticleBookmarkRepository articleBookmarkRepository;
     private final ArticleRepository articleRepository;
-    private final ArticleReactionRepository articleReactionRepository;
-    private final CommentRepository commentRepository;
+    private final ArticleStatsService articleStatsService;
+    private final ArticleRecommendationService articleRecommendationService;
     private final UserRepository userRepository;
     private final CurrentUserService currentUserService;
     private final ArticleMapper articleMapper;
@@ -60,6 +56,8 @@ public class ArticleBookmarkService {
         ArticleEntity article = getArticle(request.articleId());
         ArticleBookmarkEntity entity = articleMapper.toEntity(request, user, article);
         ArticleBookmarkEntity saved = articleBookmarkRepository.save(entity);
+        articleStatsService.recordBookmarkCreated(article.getId());
+        articleRecommendationService.recordUserActivity(user.getId(), article, UserAffinitySignal.BOOKMARK, null);
         return articleMapper.toResponse(saved);
     }
 
@@ -90,24 +88,12 @@ public class ArticleBookmarkService {
         List<ArticleEntity> articles = result.getContent().stream()
             .map(ArticleBookmarkEntity::getArticle)
             .toList();
-        Map<Long, Long> commentCounts = loadCommentCounts(articles);
-        Map<Long, ReactionCounts> reactionCounts = loadReactionCounts(articles);
+        Map<Long, ArticleStats> stats = articleStatsService.loadStats(
+            articles.stream().map(ArticleEntity::getId).toList()
+        );
 
         List<ArticleBookmarkItemResponse> items = articles.stream()
-            .map(article -> new ArticleBookmarkItemResponse(
-                article.getId(),
-                article.getBoard().getId(),
-                article.getBoard().getSlug(),
-                article.getUser().getId(),
-                authorDisplayResolver.resolveAuthorName(article.getUser()),
-                article.getTitle(),
-                article.getHit(),
-                commentCounts.getOrDefault(article.getId(), 0L),
-                reactionCounts.getOrDefault(article.getId(), ReactionCounts.empty()).likeCount(),
-                reactionCounts.getOrDefault(article.getId(), ReactionCounts.empty()).dislikeCount(),
-                article.isNotice(),
-                article.getCreatedAt()
-            ))
+            .map(article -> toItemResponse(article, stats.getOrDefault(article.getId(), ArticleStats.empty())))
             .toList();
 
         return new PageResponse<>(
@@ -124,18 +110,32 @@ public class ArticleBookmarkService {
     @Transactional
     public void deleteAllByUser() {
         Long userId = currentUserService.getUserId();
+        List<Long> articleIds = articleBookmarkRepository.findArticleIdsByUserId(userId);
         articleBookmarkRepository.deleteByUserId(userId);
+        articleStatsService.recalculate(articleIds);
+        articleRecommendationService.rebuildUserAffinity(userId);
     }
 
     @Transactional
     public void deleteByArticleIds(ArticleBookmarkDeleteRequest request) {
         Long userId = currentUserService.getUserId();
         articleBookmarkRepository.deleteByUserIdAndArticleIdIn(userId, request.articleIds());
+        articleStatsService.recalculate(request.articleIds());
+        articleRecommendationService.rebuildUserAffinity(userId);
     }
 
     @Transactional
     public void delete(Long id) {
-        articleBookmarkRepository.deleteById(id);
+        articleBookmarkRepository.findById(id).ifPresent(bookmark -> {
+            articleBookmarkRepository.delete(bookmark);
+            articleStatsService.recordBookmarkDeleted(bookmark.getArticle().getId());
+            articleRecommendationService.recordUserActivity(
+                bookmark.getUser().getId(),
+                bookmark.getArticle(),
+                null,
+                UserAffinitySignal.BOOKMARK
+            );
+        });
     }
 
     private UserEntity getUser(Long userId) {
@@ -148,43 +148,20 @@ public class ArticleBookmarkService {
             .orElseThrow(() -> new IllegalArgumentException("article not found: " + articleId));
     }
 
-    private Map<Long, Long> loadCommentCounts(List<ArticleEntity> articles) {
-        Set<Long> ids = articles.stream()
-            .map(ArticleEntity::getId)
-            .collect(Collectors.toSet());
-        if (ids.isEmpty()) {
-            return Map.of();
-        }
-        return commentRepository.countByArticleIds(ids).stream()
-            .collect(Collectors.toMap(
-                CommentRepository.CommentCountView::getArticleId,
-                CommentRepository.CommentCountView::getCount
-            ));
-    }
-
-    private Map<Long, ReactionCounts> loadReactionCounts(List<ArticleEntity> articles) {
-        List<Long> articleIds = articles.stream()
-            .map(ArticleEntity::getId)
-            .toList();
-        if (articleIds.isEmpty()) {
-            return Map.of();
-        }
-        Map<Long, ReactionCounts> counts = new HashMap<>();
-        List<ArticleReactionCountView> result = articleReactionRepository.countByArticleIds(articleIds);
-        for (ArticleReactionCountView row : result) {
-            ReactionCounts current = counts.getOrDefault(row.getArticleId(), ReactionCounts.empty());
-            if (row.getReactionType() == 1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount() + row.getCount(), current.dislikeCount()));
-            } else if (row.getReactionType() == -1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount(), current.dislikeCount() + row.getCount()));
-            }
-        }
-        return counts;
-    }
-
-    private record ReactionCounts(long likeCount, long dislikeCount) {
-        private static ReactionCounts empty() {
-            return new ReactionCounts(0, 0);
-        }
+    private ArticleBookmarkItemResponse toItemResponse(ArticleEntity article, ArticleStats stats) {
+        return new ArticleBookmarkItemResponse(
+            article.getId(),
+            article.getBoard().getId(),
+            article.getBoard().getSlug(),
+            article.getUser().getId(),
+            authorDisplayResolver.resolveAuthorName(article.getUser()),
+            article.getTitle(),
+            article.getHit(),
+            stats.commentCount(),
+            stats.likeCount(),
+            stats.dislikeCount(),
+            article.isNotice(),
+            article.getCreatedAt()
+        );
     }
 }
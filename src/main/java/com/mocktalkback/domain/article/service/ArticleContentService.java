@@ -1,11 +1,18 @@
 package com.mocktalkback.domain.article.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.mocktalkback.domain.article.type.ArticleContentFormat;
@@ -18,9 +25,17 @@ import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 
+/**
+ * 게시글 원본(Markdown/HTML)을 저장용 HTML로 렌더링하고 sanitize한다.
+ * <p>
+ * 렌더 결과는 (렌더러 버전, 형식, 원본)의 SHA-256을 키로 하는 LRU에 보관해, 같은 원본의 반복 미리보기/저장은
+ * 파싱과 sanitize를 다시 하지 않는다. 렌더링 규칙이나 sanitize 정책을 바꾸면 {@link #RENDERER_VERSION}을 올린다.
+ */
 @Service
 public class ArticleContentService {
 
+    static final String RENDERER_VERSION = "1";
+
     private static final Pattern FRONTMATTER_BOUNDARY_PATTERN = Pattern.compile("^---\\s*$");
     private static final Pattern FRONTMATTER_END_PATTERN = Pattern.compile("^(---|\\.\\.\\.)\\s*$");
     private static final Pattern TABLE_DELIMITER_PATTERN = Pattern.compile(
@@ -30,6 +45,15 @@ public class ArticleContentService {
     private final HtmlSanitizer htmlSanitizer;
     private final Parser markdownParser;
     private final HtmlRenderer markdownRenderer;
+    private final Map<String, RenderedContent> renderCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RenderedContent> eldest) {
+            return size() > Math.max(1, renderCacheMaxEntries);
+        }
+    };
+
+    @Value("${app.article.content.render-cache.max-entries:500}")
+    private int renderCacheMaxEntries = 500;
 
     public ArticleContentService(HtmlSanitizer htmlSanitizer) {
         this.htmlSanitizer = htmlSanitizer;
@@ -47,6 +71,21 @@ public class ArticleContentService {
     }
 
     public RenderedContent render(String contentSource, ArticleContentFormat contentFormat) {
+        String cacheKey = contentHash(contentSource, contentFormat);
+        RenderedContent cached = getCached(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        RenderedContent rendered = doRender(contentSource, contentFormat, cacheKey);
+        putCached(cacheKey, rendered);
+        return rendered;
+    }
+
+    /**
+     * 원본 변경 여부 비교용 해시. 렌더러 버전이 바뀌면 같은 원본이라도 다른 값이 된다.
+     */
+    public String contentHash(String contentSource, ArticleContentFormat contentFormat) {
         if (contentFormat == null) {
             throw new IllegalArgumentException("contentFormat은 필수입니다.");
         }
@@ -54,18 +93,45 @@ public class ArticleContentService {
             throw new IllegalArgumentException("contentSource는 필수입니다.");
         }
 
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update((RENDERER_VERSION + "|" + contentFormat.name() + "|").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(messageDigest.digest(contentSource.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("게시글 본문 해시를 계산할 수 없습니다.", exception);
+        }
+    }
+
+    private RenderedContent doRender(String contentSource, ArticleContentFormat contentFormat, String sourceHash) {
         if (contentFormat == ArticleContentFormat.HTML) {
             String sanitized = htmlSanitizer.sanitize(contentSource);
-            return new RenderedContent(sanitized, sanitized);
+            // HTML은 sanitize 결과가 contentSource로 저장되므로 저장값 기준 해시를 남긴다.
+            String storedHash = sanitized.equals(contentSource) ? sourceHash : contentHash(sanitized, contentFormat);
+            return new RenderedContent(sanitized, sanitized, storedHash);
         }
 
         String normalizedMarkdown = normalizeMarkdownTables(normalizeMarkdownYouTubeEmbeds(stripMarkdownFrontmatter(contentSource)));
         String rendered = markdownRenderer.render(markdownParser.parse(normalizedMarkdown));
         String sanitized = htmlSanitizer.sanitize(rendered);
-        return new RenderedContent(sanitized, contentSource);
+        return new RenderedContent(sanitized, contentSource, sourceHash);
+    }
+
+    private RenderedContent getCached(String cacheKey) {
+        synchronized (renderCache) {
+            return renderCache.get(cacheKey);
+        }
+    }
+
+    private void putCached(String cacheKey, RenderedContent rendered) {
+        synchronized (renderCache) {
+            renderCache.put(cacheKey, rendered);
+        }
     }
 
-    public record RenderedContent(String content, String contentSource) {
+    /**
+     * @param contentHash 저장되는 contentSource 기준 {@link #contentHash(String, ArticleContentFormat)} 값
+     */
+    public record RenderedContent(String content, String contentSource, String contentHash) {
     }
 
     private String normalizeMarkdownTables(String markdown) {
@@ -0,0 +1,187 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mocktalkback.domain.article.entity.ArticleEntity;
+import com.mocktalkback.domain.article.service.ArticleDetailCacheStore.DetailLookup;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 상세 스냅샷 2단 캐시(프로세스 LRU -> Redis -> DB).
+ * <p>
+ * 버전은 updated_at(본문 수정)으로만 만든다. tb_articles.sync_version은 주기적으로 반영되는 하한값이라 댓글 쓰기를 바로 드러내지 못한다.
+ * 댓글/반응/삭제/공지 변경은 커밋 후 명시적으로 무효화하고,
+ * 무효화 전에 읽기 시작한 요청은 읽은 값을 캐시에 넣지 않는다(Redis는 generation, 로컬은 무효화 횟수로 판단).
+ * 다른 인스턴스의 로컬 계층은 짧은 TTL로 어긋남 시간을 제한한다.
+ */
+@Slf4j
+@Service
+public class ArticleDetailCacheService {
+
+    private final ArticleDetailCacheStore articleDetailCacheStore;
+    private final Clock clock;
+    private final Map<Long, LocalEntry> localCache;
+    private final AtomicLong localEvictions = new AtomicLong();
+
+    @Value("${app.article.detail-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.article.detail-cache.local-max-entries:1000}")
+    private int localMaxEntries = 1000;
+
+    @Value("${app.article.detail-cache.local-ttl-seconds:10}")
+    private long localTtlSeconds = 10L;
+
+    @Value("${app.article.detail-cache.redis-ttl-seconds:120}")
+    private long redisTtlSeconds = 120L;
+
+    @Autowired
+    public ArticleDetailCacheService(ArticleDetailCacheStore articleDetailCacheStore) {
+        this(articleDetailCacheStore, Clock.systemUTC());
+    }
+
+    ArticleDetailCacheService(ArticleDetailCacheStore articleDetailCacheStore, Clock clock) {
+        this.articleDetailCacheStore = articleDetailCacheStore;
+        this.clock = clock;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LocalEntry> eldest) {
+                return size() > Math.max(1, localMaxEntries);
+            }
+        });
+    }
+
+    public ArticleDetailSnapshot get(ArticleEntity article, Supplier<ArticleDetailSnapshot> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Long articleId = article.getId();
+        String version = resolveVersion(article);
+        ArticleDetailSnapshot local = findLocal(articleId, version);
+        if (local != null) {
+            return local;
+        }
+
+        // 읽기 시작 시점의 무효화 횟수. 그 사이 무효화되면 읽은 값을 캐시에 넣지 않는다.
+        long localEvictionsAtStart = localEvictions.get();
+        DetailLookup remote = findRemote(articleId, version);
+        if (remote != null && remote.snapshot() != null) {
+            putLocal(articleId, version, remote.snapshot(), localEvictionsAtStart);
+            return remote.snapshot();
+        }
+
+        ArticleDetailSnapshot loaded = loader.get();
+        putLocal(articleId, version, loaded, localEvictionsAtStart);
+        if (remote != null) {
+            saveRemote(articleId, version, remote.generation(), loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화해 커밋 전 값이 다시 캐시되는 것을 막는다.
+     */
+    public void evict(Long articleId) {
+        if (articleId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(articleId);
+                }
+            });
+            return;
+        }
+        evictNow(articleId);
+    }
+
+    private void evictNow(Long articleId) {
+        synchronized (localCache) {
+            localEvictions.incrementAndGet();
+            localCache.remove(articleId);
+        }
+        try {
+            articleDetailCacheStore.evict(articleId);
+        } catch (Exception ex) {
+            log.warn("게시글 상세 캐시 무효화에 실패했습니다. articleId={}", articleId, ex);
+        }
+    }
+
+    private ArticleDetailSnapshot findLocal(Long articleId, String version) {
+        LocalEntry entry = localCache.get(articleId);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.version().equals(version) || entry.expiresAtMillis() <= clock.millis()) {
+            localCache.remove(articleId, entry);
+            return null;
+        }
+        return entry.snapshot();
+    }
+
+    /**
+     * 읽는 동안 이 인스턴스에서 무효화가 있었으면 넣지 않는다. 어느 게시글이든 무효화되면 건너뛰어 보수적으로 판단한다.
+     */
+    private void putLocal(Long articleId, String version, ArticleDetailSnapshot snapshot, long localEvictionsAtStart) {
+        long ttlMillis = Duration.ofSeconds(Math.max(1L, localTtlSeconds)).toMillis();
+        synchronized (localCache) {
+            if (localEvictions.get() != localEvictionsAtStart) {
+                return;
+            }
+            localCache.put(articleId, new LocalEntry(version, snapshot, clock.millis() + ttlMillis));
+        }
+    }
+
+    /**
+     * @return Redis 조회 결과, 조회에 실패하면 null(generation을 모르므로 저장도 건너뛴다)
+     */
+    private DetailLookup findRemote(Long articleId, String version) {
+        try {
+            return articleDetailCacheStore.find(articleId, version);
+        } catch (Exception ex) {
+            log.warn("게시글 상세 캐시 조회에 실패했습니다. articleId={}", articleId, ex);
+            return null;
+        }
+    }
+
+    private void saveRemote(Long articleId, String version, long generation, ArticleDetailSnapshot snapshot) {
+        try {
+            boolean saved = articleDetailCacheStore.save(
+                articleId,
+                version,
+                generation,
+                snapshot,
+                Duration.ofSeconds(Math.max(1L, redisTtlSeconds))
+            );
+            if (!saved) {
+                log.debug("읽는 동안 무효화되어 게시글 상세 캐시 저장을 건너뜁니다. articleId={}", articleId);
+            }
+        } catch (Exception ex) {
+            log.warn("게시글 상세 캐시 저장에 실패했습니다. articleId={}", articleId, ex);
+        }
+    }
+
+    private String resolveVersion(ArticleEntity article) {
+        long updatedAtMillis = article.getUpdatedAt() == null ? 0L : article.getUpdatedAt().toEpochMilli();
+        return String.valueOf(updatedAtMillis);
+    }
+
+    private record LocalEntry(String version, ArticleDetailSnapshot snapshot, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 상세 스냅샷의 Redis 계층.
+ * 키는 게시글 ID 하나로 두고 값에 버전을 함께 저장해, 버전이 다르면 miss로 처리한다.
+ * <p>
+ * 무효화할 때마다 게시글별 generation을 올리고, 저장은 읽기 시작 시점의 generation이 그대로일 때만 한다.
+ * 무효화 전에 읽기 시작한 요청이 무효화 뒤에 옛 스냅샷을 다시 써 넣지 못한다.
+ */
+@Slf4j
+@Service
+public class ArticleDetailCacheStore {
+
+    private static final String KEY_PREFIX = "article:detail:v1:";
+    private static final String GENERATION_KEY_PREFIX = "article:detail:generation:";
+    // 스냅샷 TTL보다 충분히 길게 두어 generation이 사라져 0으로 돌아가는 일이 스냅샷 수명 안에 없도록 한다.
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisScript<Long> saveScript;
+    private final RedisScript<Long> evictScript;
+
+    public ArticleDetailCacheStore(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.saveScript = loadScript("redis/article_detail_cache_save.lua");
+        this.evictScript = loadScript("redis/article_detail_cache_evict.lua");
+    }
+
+    /**
+     * 스냅샷과 현재 generation을 한 번에 읽는다. 스냅샷이 없거나 버전이 다르면 snapshot은 null이다.
+     */
+    public DetailLookup find(Long articleId, String version) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(key(articleId), generationKey(articleId)));
+        String raw = values == null ? null : values.get(0);
+        long generation = parseGeneration(values == null ? null : values.get(1));
+        if (raw == null || raw.isBlank()) {
+            return new DetailLookup(null, generation);
+        }
+
+        try {
+            CachedDetail cached = objectMapper.readValue(raw, CachedDetail.class);
+            if (!version.equals(cached.version()) || cached.generation() != generation || cached.snapshot() == null) {
+                return new DetailLookup(null, generation);
+            }
+            return new DetailLookup(cached.snapshot(), generation);
+        } catch (JsonProcessingException ex) {
+            log.warn("게시글 상세 캐시 역직렬화에 실패해 캐시를 삭제합니다. articleId={}", articleId, ex);
+            stringRedisTemplate.delete(key(articleId));
+            return new DetailLookup(null, generation);
+        }
+    }
+
+    /**
+     * generation이 읽을 때와 같을 때만 저장한다.
+     *
+     * @return 저장했으면 true, 그 사이 무효화되어 건너뛰었으면 false
+     */
+    public boolean save(Long articleId, String version, long generation, ArticleDetailSnapshot snapshot, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("게시글 상세 캐시 TTL이 올바르지 않습니다.");
+        }
+
+        try {
+            String raw = objectMapper.writeValueAsString(new CachedDetail(version, generation, snapshot));
+            Long saved = stringRedisTemplate.execute(
+                saveScript,
+                List.of(key(articleId), generationKey(articleId)),
+                String.valueOf(generation),
+                raw,
+                String.valueOf(ttl.toMillis())
+            );
+            return saved != null && saved == 1L;
+        } catch (JsonProcessingException ex) {
+            log.warn("게시글 상세 캐시 직렬화에 실패해 저장을 건너뜁니다. articleId={}", articleId, ex);
+            return false;
+        }
+    }
+
+    public void evict(Long articleId) {
+        stringRedisTemplate.execute(
+            evictScript,
+            List.of(key(articleId), generationKey(articleId)),
+            String.valueOf(GENERATION_TTL.toSeconds())
+        );
+    }
+
+    private String key(Long articleId) {
+        if (articleId == null) {
+            throw new IllegalArgumentException("게시글 ID가 비어 있습니다.");
+        }
+        return KEY_PREFIX + articleId;
+    }
+
+    private String generationKey(Long articleId) {
+        return GENERATION_KEY_PREFIX + articleId;
+    }
+
+    private static long parseGeneration(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(raw);
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+
+    private static RedisScript<Long> loadScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * @param snapshot 같은 버전/generation의 스냅샷, 없으면 null
+     * @param generation 조회 시점의 무효화 generation
+     */
+    public record DetailLookup(ArticleDetailSnapshot snapshot, long generation) {
+    }
+
+    record CachedDetail(String version, long generation, ArticleDetailSnapshot snapshot) {
+    }
+}
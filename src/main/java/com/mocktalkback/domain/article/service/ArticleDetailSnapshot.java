@@ -0,0 +1,53 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.mocktalkback.domain.article.dto.ArticleBoardResponse;
+import com.mocktalkback.domain.article.dto.ArticleDetailResponse;
+import com.mocktalkback.domain.file.dto.FileResponse;
+import com.mocktalkback.domain.role.type.ContentVisibility;
+
+/**
+ * 게시글 상세 응답 중 조회자와 무관한 부분.
+ * 조회수/내 반응/북마크 여부는 캐시하지 않고 요청마다 채운다.
+ */
+public record ArticleDetailSnapshot(
+    Long id,
+    ArticleBoardResponse board,
+    Long userId,
+    String authorName,
+    ContentVisibility visibility,
+    String title,
+    String content,
+    long commentCount,
+    long likeCount,
+    long dislikeCount,
+    boolean notice,
+    Instant createdAt,
+    Instant updatedAt,
+    List<FileResponse> attachments
+) {
+
+    public ArticleDetailResponse toResponse(long hit, short myReaction, boolean bookmarked) {
+        return new ArticleDetailResponse(
+            id,
+            board,
+            userId,
+            authorName,
+            visibility,
+            title,
+            content,
+            hit,
+            commentCount,
+            likeCount,
+            dislikeCount,
+            myReaction,
+            bookmarked,
+            notice,
+            createdAt,
+            updatedAt,
+            attachments
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * <p>
+ * 조회수 증가분은 게시글별로 메모리에 누적했다가 주기적으로 DB에 일괄 반영한다.
+ * ConcurrentHashMap의 원자 연산(merge/remove)만 사용하므로 flush 도중 들어온 증가분도 유실되지 않는다.
+ */
+@Component
+public class ArticleHitBuffer {
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    public void add(Long articleId, long delta) {
+        if (articleId == null) {
+            throw new IllegalArgumentException("게시글 ID가 비어 있습니다.");
+        }
+        if (delta == 0L) {
+            return;
+        }
+        pending.merge(articleId, delta, Long::sum);
+    }
+
+    public long pendingDelta(Long articleId) {
+        if (articleId == null) {
+            return 0L;
+        }
+        return pending.getOrDefault(articleId, 0L) + inFlight.getOrDefault(articleId, 0L);
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * 누적된 증가분을 꺼내 in-flight 상태로 옮긴다.
+     * 반환된 증가분은 DB 반영 후 {@link #complete(Map)}, 실패 시 {@link #restore(Map)}로 정리해야 한다.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new ConcurrentHashMap<>();
+        for (Long articleId : pending.keySet()) {
+            Long delta = pending.remove(articleId);
+            if (delta == null || delta == 0L) {
+                continue;
+            }
+            inFlight.merge(articleId, delta, Long::sum);
+            drained.put(articleId, delta);
+        }
+        return drained;
+    }
+
+    public void complete(Map<Long, Long> drained) {
+        drained.forEach((articleId, delta) -> inFlight.computeIfPresent(articleId, (key, current) -> {
+            long remaining = current - delta;
+            return remaining == 0L ? null : remaining;
+        }));
+    }
+
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach((articleId, delta) -> {
+            pending.merge(articleId, delta, Long::sum);
+            inFlight.computeIfPresent(articleId, (key, current) -> {
+                long remaining = current - delta;
+                return remaining == 0L ? null : remaining;
+            });
+        });
+    }
+}
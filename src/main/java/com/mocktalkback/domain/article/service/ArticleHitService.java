@@ -1,41 +1,99 @@
 package com.mocktalkback.domain.article.service;
 
-import org.springframework.http.HttpStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleHitService {
 
+    private static final int DEFAULT_FLUSH_BATCH_SIZE = 500;
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ArticleHitBuffer articleHitBuffer;
 
-    @Transactional
-    public long increaseAndGet(Long articleId) {
-        String sql = """
-            update tb_articles
-            set hit = hit + 1
-            where article_id = :articleId
-              and deleted_at is null
-            returning hit
-            """;
-
-        MapSqlParameterSource params = new MapSqlParameterSource("articleId", articleId);
-        Long nextHit = jdbcTemplate.query(sql, params, rs -> {
-            if (!rs.next()) {
-                return null;
+    @Value("${app.article.hit.flush-batch-size:500}")
+    private int flushBatchSize = DEFAULT_FLUSH_BATCH_SIZE;
+
+    public void increase(Long articleId) {
+        articleHitBuffer.add(articleId, 1L);
+    }
+
+    public long resolveHit(Long articleId, long persistedHit) {
+        return persistedHit + articleHitBuffer.pendingDelta(articleId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.hit.flush-interval-ms:3000}")
+    public void flushPending() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    synchronized int flush() {
+        if (articleHitBuffer.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> drained = articleHitBuffer.drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        // article_id 순으로 정렬해 여러 인스턴스가 동시에 flush해도 행 잠금 순서가 같도록 한다.
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(drained).entrySet());
+        int batchSize = Math.max(1, flushBatchSize);
+        int updatedRows = 0;
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            Map<Long, Long> chunkDeltas = new TreeMap<>();
+            chunk.forEach(entry -> chunkDeltas.put(entry.getKey(), entry.getValue()));
+            try {
+                updatedRows += updateHits(chunk);
+                articleHitBuffer.complete(chunkDeltas);
+            } catch (Exception ex) {
+                articleHitBuffer.restore(chunkDeltas);
+                log.warn("게시글 조회수 일괄 반영에 실패해 다음 주기로 미룹니다. size={}", chunkDeltas.size(), ex);
             }
-            return rs.getLong("hit");
-        });
+        }
+        return updatedRows;
+    }
 
-        if (nextHit == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "article not found");
+    private int updateHits(List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder values = new StringBuilder();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                values.append(", ");
+            }
+            values.append("(cast(:articleId").append(i).append(" as bigint), cast(:delta").append(i).append(" as bigint))");
+            params.addValue("articleId" + i, chunk.get(i).getKey());
+            params.addValue("delta" + i, chunk.get(i).getValue());
         }
-        return nextHit;
+
+        String sql = """
+            update tb_articles a
+            set hit = a.hit + v.delta
+            from (values %s) as v(article_id, delta)
+            where a.article_id = v.article_id
+              and a.deleted_at is null
+            """.formatted(values);
+
+        return jdbcTemplate.update(sql, params);
     }
 }
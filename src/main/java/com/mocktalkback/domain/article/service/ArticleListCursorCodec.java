@@ -0,0 +1,45 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.mocktalkback.domain.article.repository.ArticleKeysetCursor;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.global.common.type.SortOrder;
+import com.mocktalkback.global.common.util.KeysetCursorCodec;
+
+/**
+ * 게시글 목록 커서를 불투명 문자열(base64url)로 인코딩/디코딩한다.
+ * 정렬 방향을 커서에 함께 담아 정렬을 바꾼 채 이전 커서를 재사용하는 요청을 거부한다.
+ */
+@Component
+public class ArticleListCursorCodec {
+
+    private static final KeysetCursorCodec CODEC = new KeysetCursorCodec("v1", 4);
+
+    public String encode(ArticleSummaryRow article, SortOrder order) {
+        return CODEC.encode(
+            order.name(),
+            article.createdAt().toString(),
+            article.updatedAt().toString(),
+            String.valueOf(article.id())
+        );
+    }
+
+    /**
+     * 빈 커서는 첫 페이지를 의미하므로 null을 반환한다.
+     */
+    public ArticleKeysetCursor decode(String cursor, SortOrder order) {
+        return CODEC.decode(cursor, parts -> {
+            if (!order.name().equals(parts[0])) {
+                throw new IllegalArgumentException("cursor의 정렬 기준이 요청과 다릅니다.");
+            }
+            return new ArticleKeysetCursor(
+                Instant.parse(parts[1]),
+                Instant.parse(parts[2]),
+                Long.valueOf(parts[3])
+            );
+        });
+    }
+}
@@ -0,0 +1,238 @@
+package com.mocktalkback.domain.article.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 렌더링된 HTML 본문에서 목록 미리보기 문구를 추출한다.
+ * 게시글 작성/수정 시점에 한 번만 계산해 tb_articles.preview_text에 저장한다.
+ * <p>
+ * 본문을 한 번만 훑으면서 태그와 코드 블록(pre/code)을 건너뛰고, 엔티티를 풀고, 공백을 하나로 합친다.
+ * 미리보기 길이를 넘는 순간 멈추므로 긴 본문이라도 앞부분만 읽는다.
+ */
+@Component
+public class ArticlePreviewTextExtractor {
+
+    public static final int MAX_PREVIEW_LENGTH = 140;
+
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    public String extract(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+
+        PreviewBuilder preview = new PreviewBuilder();
+        int length = html.length();
+        int index = 0;
+        while (index < length && !preview.isFull()) {
+            char current = html.charAt(index);
+            if (current == '<') {
+                index = skipTag(html, index, preview);
+                continue;
+            }
+            if (current == '&') {
+                index = decodeEntity(html, index, preview);
+                continue;
+            }
+            preview.append(current);
+            index += 1;
+        }
+        return preview.build();
+    }
+
+    /**
+     * '<'에서 시작하는 태그를 건너뛰고 다음 위치를 반환한다.
+     * pre/code 여는 태그면 첫 닫는 태그까지 통째로 건너뛴다. 닫히지 않은 '<'는 글자로 남긴다.
+     */
+    private int skipTag(String html, int start, PreviewBuilder preview) {
+        int tagEnd = html.indexOf('>', start + 1);
+        if (tagEnd < 0 || tagEnd == start + 1) {
+            preview.append('<');
+            return start + 1;
+        }
+
+        String codeBlockTag = codeBlockTag(html, start + 1);
+        if (codeBlockTag != null) {
+            int closeStart = indexOfIgnoreCase(html, "</" + codeBlockTag + ">", tagEnd + 1);
+            if (closeStart >= 0) {
+                preview.appendSpace();
+                return closeStart + codeBlockTag.length() + 3;
+            }
+        }
+
+        preview.appendSpace();
+        return tagEnd + 1;
+    }
+
+    private String codeBlockTag(String html, int nameStart) {
+        if (startsWithTagName(html, nameStart, "pre")) {
+            return "pre";
+        }
+        if (startsWithTagName(html, nameStart, "code")) {
+            return "code";
+        }
+        return null;
+    }
+
+    private boolean startsWithTagName(String html, int nameStart, String tagName) {
+        int nameEnd = nameStart + tagName.length();
+        if (nameEnd > html.length() || !html.regionMatches(true, nameStart, tagName, 0, tagName.length())) {
+            return false;
+        }
+        return nameEnd == html.length() || !isWordChar(html.charAt(nameEnd));
+    }
+
+    private int indexOfIgnoreCase(String html, String target, int from) {
+        int last = html.length() - target.length();
+        for (int index = from; index <= last; index += 1) {
+            if (html.regionMatches(true, index, target, 0, target.length())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * '&'에서 시작하는 엔티티를 풀어 넣고 다음 위치를 반환한다. 알 수 없는 엔티티는 '&'를 글자로 남긴다.
+     */
+    private int decodeEntity(String html, int start, PreviewBuilder preview) {
+        int limit = Math.min(html.length(), start + MAX_ENTITY_LENGTH + 2);
+        int semicolon = -1;
+        for (int index = start + 1; index < limit; index += 1) {
+            if (html.charAt(index) == ';') {
+                semicolon = index;
+                break;
+            }
+        }
+        if (semicolon < 0 || semicolon == start + 1) {
+            preview.append('&');
+            return start + 1;
+        }
+
+        int codePoint = html.charAt(start + 1) == '#'
+            ? numericEntity(html, start + 2, semicolon)
+            : namedEntity(html, start, semicolon);
+        if (codePoint < 0) {
+            preview.append('&');
+            return start + 1;
+        }
+        preview.appendCodePoint(codePoint);
+        return semicolon + 1;
+    }
+
+    private int numericEntity(String html, int digitsStart, int end) {
+        int radix = 10;
+        int index = digitsStart;
+        if (index < end && (html.charAt(index) == 'x' || html.charAt(index) == 'X')) {
+            radix = 16;
+            index += 1;
+        }
+        if (index >= end) {
+            return -1;
+        }
+        int value = 0;
+        for (; index < end; index += 1) {
+            int digit = Character.digit(html.charAt(index), radix);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * radix + digit;
+            if (value > Character.MAX_CODE_POINT) {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+    private int namedEntity(String html, int start, int semicolon) {
+        int nameLength = semicolon - start - 1;
+        if (html.startsWith("amp", start + 1) && nameLength == 3) {
+            return '&';
+        }
+        if (html.startsWith("lt", start + 1) && nameLength == 2) {
+            return '<';
+        }
+        if (html.startsWith("gt", start + 1) && nameLength == 2) {
+            return '>';
+        }
+        if (html.startsWith("quot", start + 1) && nameLength == 4) {
+            return '"';
+        }
+        if (html.startsWith("nbsp", start + 1) && nameLength == 4) {
+            return '\u00A0';
+        }
+        String reference = html.substring(start, semicolon + 1);
+        String decoded = HtmlUtils.htmlUnescape(reference);
+        if (decoded.equals(reference) || decoded.isEmpty()) {
+            return -1;
+        }
+        return decoded.codePointAt(0);
+    }
+
+    private static boolean isWordChar(char value) {
+        return (value >= 'a' && value <= 'z')
+            || (value >= 'A' && value <= 'Z')
+            || (value >= '0' && value <= '9')
+            || value == '_';
+    }
+
+    /**
+     * 공백을 하나로 합치며 미리보기 길이보다 한 글자 더 모이면 멈춘다(말줄임표 여부 판단용).
+     */
+    private static final class PreviewBuilder {
+
+        private final StringBuilder buffer = new StringBuilder(MAX_PREVIEW_LENGTH + 2);
+        private boolean pendingSpace;
+
+        boolean isFull() {
+            return buffer.length() > MAX_PREVIEW_LENGTH;
+        }
+
+        void appendSpace() {
+            pendingSpace = buffer.length() > 0;
+        }
+
+        void append(char value) {
+            if (isWhitespace(value)) {
+                appendSpace();
+                return;
+            }
+            if (pendingSpace) {
+                buffer.append(' ');
+                pendingSpace = false;
+            }
+            buffer.append(value);
+        }
+
+        void appendCodePoint(int codePoint) {
+            if (Character.isBmpCodePoint(codePoint)) {
+                append((char) codePoint);
+                return;
+            }
+            append(Character.highSurrogate(codePoint));
+            buffer.append(Character.lowSurrogate(codePoint));
+        }
+
+        String build() {
+            if (buffer.length() <= MAX_PREVIEW_LENGTH) {
+                return buffer.toString();
+            }
+            int end = MAX_PREVIEW_LENGTH - 1;
+            while (end > 0 && buffer.charAt(end - 1) == ' ') {
+                end -= 1;
+            }
+            return buffer.substring(0, end) + "…";
+        }
+
+        private static boolean isWhitespace(char value) {
+            return value == ' '
+                || value == '\t'
+                || value == '\n'
+                || value == '\u000B'
+                || value == '\f'
+                || value == '\r'
+                || value == '\u00A0';
+        }
+    }
+}
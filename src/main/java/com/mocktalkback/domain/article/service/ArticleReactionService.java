@@ -25,6 +25,8 @@ public class ArticleReactionService {
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
     private final ArticleMapper articleMapper;
+    private final ArticleStatsService articleStatsService;
+    private final ArticleDetailCacheService articleDetailCacheService;
 
     @Transactional
     public ArticleReactionResponse create(ArticleReactionCreateRequest request) {
@@ -32,6 +34,8 @@ public class ArticleReactionService {
         ArticleEntity article = getArticle(request.articleId());
         ArticleReactionEntity entity = articleMapper.toEntity(request, user, article);
         ArticleReactionEntity saved = articleReactionRepository.save(entity);
+        articleStatsService.recordReactionChanged(article.getId(), (short) 0, saved.getReactionType());
+        articleDetailCacheService.evict(article.getId());
         return articleMapper.toResponse(saved);
     }
 
@@ -51,7 +55,11 @@ public class ArticleReactionService {
 
     @Transactional
     public void delete(Long id) {
-        articleReactionRepository.deleteById(id);
+        articleReactionRepository.findById(id).ifPresent(reaction -> {
+            articleReactionRepository.delete(reaction);
+            articleStatsService.recordReactionChanged(reaction.getArticle().getId(), reaction.getReactionType(), (short) 0);
+            articleDetailCacheService.evict(reaction.getArticle().getId());
+        });
     }
 
     private UserEntity getUser(Long userId) {
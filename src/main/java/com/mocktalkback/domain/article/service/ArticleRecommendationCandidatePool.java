@@ -0,0 +1,396 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mocktalkback.domain.article.dto.ArticleRecommendedItemResponse;
+import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
+import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
+import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.domain.article.service.ArticleStatsService.ArticleStats;
+import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
+import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 후보(최근 공개 글 + 일간 트렌딩 글)를 프로세스 단위로 한 번만 읽어 두는 풀.
+ * <p>
+ * 점수 계산에 필요한 값(게시판/카테고리/작성 시각/트렌딩 점수/작성자)은 병렬 배열로,
+ * 응답에 필요한 게시판 메타데이터와 집계는 함께 적재해 요청마다 후보를 다시 조회하지 않는다.
+ * 짧은 주기로 다시 만들고, 게시글 작성/삭제 이후에는 다음 점검 주기에 한 번만 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ArticleRecommendationCandidatePool {
+
+    static final int RECENT_CANDIDATE_SIZE = 300;
+    static final int TRENDING_CANDIDATE_SIZE = ArticleTrendingService.MAX_TRENDING_LIMIT;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleTrendingSnapshotService articleTrendingSnapshotService;
+    private final ArticleStatsService articleStatsService;
+    private final PublicArticleFeedPolicy publicArticleFeedPolicy;
+    private final AuthorDisplayResolver authorDisplayResolver;
+    private final Clock clock;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Value("${app.article.recommendation.pool.refresh-interval-ms:30000}")
+    private long refreshIntervalMillis = 30000L;
+
+    @Autowired
+    public ArticleRecommendationCandidatePool(
+        ArticleRepository articleRepository,
+        ArticleTrendingSnapshotService articleTrendingSnapshotService,
+        ArticleStatsService articleStatsService,
+        PublicArticleFeedPolicy publicArticleFeedPolicy,
+        AuthorDisplayResolver authorDisplayResolver
+    ) {
+        this(
+            articleRepository,
+            articleTrendingSnapshotService,
+            articleStatsService,
+            publicArticleFeedPolicy,
+            authorDisplayResolver,
+            Clock.systemUTC()
+        );
+    }
+
+    ArticleRecommendationCandidatePool(
+        ArticleRepository articleRepository,
+        ArticleTrendingSnapshotService articleTrendingSnapshotService,
+        ArticleStatsService articleStatsService,
+        PublicArticleFeedPolicy publicArticleFeedPolicy,
+        AuthorDisplayResolver authorDisplayResolver,
+        Clock clock
+    ) {
+        this.articleRepository = articleRepository;
+        this.articleTrendingSnapshotService = articleTrendingSnapshotService;
+        this.articleStatsService = articleStatsService;
+        this.publicArticleFeedPolicy = publicArticleFeedPolicy;
+        this.authorDisplayResolver = authorDisplayResolver;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 후보 풀을 반환한다. 기동 직후 아직 만들어지지 않았으면 한 스레드만 만들고 나머지는 기다린다.
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        buildLock.lock();
+        try {
+            if (snapshot == null) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 게시글 작성/삭제 이후 호출한다. 커밋 이후 표시만 하므로 연속 작성은 한 번의 재적재로 합쳐진다.
+     */
+    public void markStale() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale.set(true);
+                }
+            });
+            return;
+        }
+        stale.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.recommendation.pool.check-interval-ms:1000}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot;
+        boolean expired = current == null || clock.millis() - current.builtAtMillis() >= Math.max(1L, refreshIntervalMillis);
+        if (!expired && !stale.get()) {
+            return;
+        }
+
+        buildLock.lock();
+        try {
+            rebuild();
+        } catch (Exception ex) {
+            log.warn("추천 후보 풀 갱신에 실패해 이전 후보를 유지합니다.", ex);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        // 적재 중에 들어온 작성/삭제는 다시 표시되어 다음 주기에 반영된다.
+        stale.set(false);
+        try {
+            snapshot = load();
+        } catch (RuntimeException ex) {
+            stale.set(true);
+            throw ex;
+        }
+    }
+
+    private Snapshot load() {
+        LinkedHashMap<Long, ArticleSummaryRow> rowMap = new LinkedHashMap<>();
+        for (ArticleSummaryRow row : articleRepository.findRecentPublicRows(
+            publicArticleFeedPolicy.excludedBoardSlugs(),
+            0L,
+            RECENT_CANDIDATE_SIZE
+        )) {
+            rowMap.put(row.id(), row);
+        }
+
+        List<ArticleTrendingItemResponse> trendingItems = articleTrendingSnapshotService.find(
+            ArticleTrendingWindow.DAY,
+            TRENDING_CANDIDATE_SIZE
+        );
+        List<Long> missingTrendingIds = trendingItems.stream()
+            .map(ArticleTrendingItemResponse::articleId)
+            .filter(articleId -> !rowMap.containsKey(articleId))
+            .toList();
+        if (!missingTrendingIds.isEmpty()) {
+            for (ArticleSummaryRow row : articleRepository.findPublicRowsByIds(
+                missingTrendingIds,
+                publicArticleFeedPolicy.excludedBoardSlugs()
+            )) {
+                rowMap.putIfAbsent(row.id(), row);
+            }
+        }
+
+        List<Long> trendingIds = new ArrayList<>(trendingItems.size());
+        Map<Long, Double> trendScores = new HashMap<>();
+        for (ArticleTrendingItemResponse trendingItem : trendingItems) {
+            trendingIds.add(trendingItem.articleId());
+            trendScores.put(trendingItem.articleId(), trendingItem.trendScore());
+        }
+
+        Map<Long, ArticleStats> stats = articleStatsService.loadStats(List.copyOf(rowMap.keySet()));
+        return Snapshot.of(clock.millis(), List.copyOf(rowMap.values()), trendingIds, trendScores, stats, authorDisplayResolver);
+    }
+
+    /**
+     * 후보 풀의 불변 스냅샷. 후보는 최신순(작성 시각, ID 내림차순)으로 정렬되어 있다.
+     */
+    static final class Snapshot {
+
+        static final long NO_CATEGORY = 0L;
+
+        private final long builtAtMillis;
+        private final long[] articleIds;
+        private final long[] boardIds;
+        private final long[] categoryIds;
+        private final long[] createdAtMillis;
+        private final long[] authorIds;
+        private final double[] trendScores;
+        private final int[] trendingOrder;
+        private final Map<Long, Integer> indexById;
+        private final Map<Long, BoardMeta> boards;
+        private final String[] titles;
+        private final String[] authorNames;
+        private final long[] hits;
+        private final ArticleStats[] stats;
+
+        private Snapshot(
+            long builtAtMillis,
+            long[] articleIds,
+            long[] boardIds,
+            long[] categoryIds,
+            long[] createdAtMillis,
+            long[] authorIds,
+            double[] trendScores,
+            int[] trendingOrder,
+            Map<Long, Integer> indexById,
+            Map<Long, BoardMeta> boards,
+            String[] titles,
+            String[] authorNames,
+            long[] hits,
+            ArticleStats[] stats
+        ) {
+            this.builtAtMillis = builtAtMillis;
+            this.articleIds = articleIds;
+            this.boardIds = boardIds;
+            this.categoryIds = categoryIds;
+            this.createdAtMillis = createdAtMillis;
+            this.authorIds = authorIds;
+            this.trendScores = trendScores;
+            this.trendingOrder = trendingOrder;
+            this.indexById = indexById;
+            this.boards = boards;
+            this.titles = titles;
+            this.authorNames = authorNames;
+            this.hits = hits;
+            this.stats = stats;
+        }
+
+        static Snapshot of(
+            long builtAtMillis,
+            List<ArticleSummaryRow> rows,
+            List<Long> trendingIds,
+            Map<Long, Double> trendScores,
+            Map<Long, ArticleStats> stats,
+            AuthorDisplayResolver authorDisplayResolver
+        ) {
+            List<ArticleSummaryRow> sortedRows = new ArrayList<>(rows);
+            sortedRows.sort(Comparator.comparing(ArticleSummaryRow::createdAt, Comparator.reverseOrder())
+                .thenComparing(ArticleSummaryRow::id, Comparator.reverseOrder()));
+
+            int size = sortedRows.size();
+            long[] articleIds = new long[size];
+            long[] boardIds = new long[size];
+            long[] categoryIds = new long[size];
+            long[] createdAtMillis = new long[size];
+            long[] authorIds = new long[size];
+            double[] candidateTrendScores = new double[size];
+            String[] titles = new String[size];
+            String[] authorNames = new String[size];
+            long[] hits = new long[size];
+            ArticleStats[] candidateStats = new ArticleStats[size];
+            Map<Long, Integer> indexById = new HashMap<>();
+            Map<Long, BoardMeta> boards = new HashMap<>();
+            for (int index = 0; index < size; index++) {
+                ArticleSummaryRow row = sortedRows.get(index);
+                articleIds[index] = row.id();
+                boardIds[index] = row.boardId();
+                categoryIds[index] = row.categoryId() == null ? NO_CATEGORY : row.categoryId();
+                createdAtMillis[index] = row.createdAt().toEpochMilli();
+                authorIds[index] = row.userId();
+                candidateTrendScores[index] = trendScores.getOrDefault(row.id(), 0.0d);
+                titles[index] = row.title();
+                authorNames[index] = authorDisplayResolver.resolveAuthorName(row.authorDisplayName(), row.authorUserName());
+                hits[index] = row.hit();
+                candidateStats[index] = stats.getOrDefault(row.id(), ArticleStats.empty());
+                indexById.put(row.id(), index);
+                boards.putIfAbsent(row.boardId(), new BoardMeta(row.boardSlug(), row.boardName()));
+            }
+
+            int[] trendingOrder = trendingIds.stream()
+                .map(indexById::get)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .toArray();
+            return new Snapshot(
+                builtAtMillis,
+                articleIds,
+                boardIds,
+                categoryIds,
+                createdAtMillis,
+                authorIds,
+                candidateTrendScores,
+                trendingOrder,
+                Map.copyOf(indexById),
+                Map.copyOf(boards),
+                titles,
+                authorNames,
+                hits,
+                candidateStats
+            );
+        }
+
+        long builtAtMillis() {
+            return builtAtMillis;
+        }
+
+        int size() {
+            return articleIds.length;
+        }
+
+        boolean isEmpty() {
+            return articleIds.length == 0;
+        }
+
+        /**
+         * @return 후보 인덱스, 풀에 없으면 -1
+         */
+        int indexOf(Long articleId) {
+            Integer index = indexById.get(articleId);
+            return index == null ? -1 : index;
+        }
+
+        long articleId(int index) {
+            return articleIds[index];
+        }
+
+        long boardId(int index) {
+            return boardIds[index];
+        }
+
+        long categoryId(int index) {
+            return categoryIds[index];
+        }
+
+        long createdAtMillis(int index) {
+            return createdAtMillis[index];
+        }
+
+        long authorId(int index) {
+            return authorIds[index];
+        }
+
+        double trendScore(int index) {
+            return trendScores[index];
+        }
+
+        /**
+         * @return 트렌딩 순위대로 정렬된 후보 인덱스
+         */
+        int[] trendingOrder() {
+            return trendingOrder.clone();
+        }
+
+        ArticleRecommendedItemResponse toResponse(
+            int index,
+            double recommendationScore,
+            String recommendationReason,
+            boolean personalized
+        ) {
+            BoardMeta board = boards.get(boardIds[index]);
+            ArticleStats articleStats = stats[index];
+            return new ArticleRecommendedItemResponse(
+                articleIds[index],
+                boardIds[index],
+                board.slug(),
+                board.name(),
+                authorIds[index],
+                authorNames[index],
+                titles[index],
+                hits[index],
+                articleStats.commentCount(),
+                articleStats.likeCount(),
+                articleStats.dislikeCount(),
+                recommendationScore,
+                recommendationReason,
+                personalized,
+                Instant.ofEpochMilli(createdAtMillis[index])
+            );
+        }
+
+        private record BoardMeta(String slug, String name) {
+        }
+    }
+}
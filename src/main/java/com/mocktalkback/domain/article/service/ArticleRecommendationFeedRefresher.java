@@ -0,0 +1,111 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mocktalkback.domain.article.service.ArticleRecommendationFeedStore.Feed;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 추천 피드를 미리 계산해 Redis에 저장한다.
+ * <p>
+ * 활성 사용자 피드는 주기적으로 다시 만들고, 북마크/반응/댓글로 재계산이 요청된 사용자는 짧은 주기로 먼저 다시 만든다.
+ * 후보 집합은 배치마다 한 번만 만들어 사용자 수만큼 반복하지 않는다.
+ */
+@Slf4j
+@Component
+public class ArticleRecommendationFeedRefresher {
+
+    private final ArticleRecommendationService articleRecommendationService;
+    private final ArticleRecommendationFeedStore articleRecommendationFeedStore;
+    private final Clock clock;
+
+    @Value("${app.article.recommendation.feed.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.article.recommendation.feed.ttl-seconds:1800}")
+    private long ttlSeconds = 1800L;
+
+    @Value("${app.article.recommendation.feed.active-window-seconds:86400}")
+    private long activeWindowSeconds = 86400L;
+
+    @Value("${app.article.recommendation.feed.max-active-users:500}")
+    private int maxActiveUsers = 500;
+
+    @Value("${app.article.recommendation.feed.batch-size:50}")
+    private int batchSize = 50;
+
+    @Autowired
+    public ArticleRecommendationFeedRefresher(
+        ArticleRecommendationService articleRecommendationService,
+        ArticleRecommendationFeedStore articleRecommendationFeedStore
+    ) {
+        this(articleRecommendationService, articleRecommendationFeedStore, Clock.systemUTC());
+    }
+
+    ArticleRecommendationFeedRefresher(
+        ArticleRecommendationService articleRecommendationService,
+        ArticleRecommendationFeedStore articleRecommendationFeedStore,
+        Clock clock
+    ) {
+        this.articleRecommendationService = articleRecommendationService;
+        this.articleRecommendationFeedStore = articleRecommendationFeedStore;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.recommendation.feed.refresh-interval-ms:600000}")
+    public void refreshActiveUsers() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> userIds;
+        try {
+            long sinceMillis = clock.millis() - Duration.ofSeconds(Math.max(1L, activeWindowSeconds)).toMillis();
+            userIds = articleRecommendationFeedStore.findActiveUsers(sinceMillis, Math.max(1, maxActiveUsers));
+        } catch (Exception ex) {
+            log.warn("추천 피드 활성 사용자 조회에 실패했습니다.", ex);
+            return;
+        }
+
+        int resolvedBatchSize = Math.max(1, batchSize);
+        for (int from = 0; from < userIds.size(); from += resolvedBatchSize) {
+            rebuild(userIds.subList(from, Math.min(from + resolvedBatchSize, userIds.size())));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.recommendation.feed.rescore-interval-ms:2000}")
+    public void rescoreDirtyUsers() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> userIds;
+        try {
+            userIds = articleRecommendationFeedStore.popDirtyUsers(Math.max(1, batchSize));
+        } catch (Exception ex) {
+            log.warn("추천 피드 재계산 대상 조회에 실패했습니다.", ex);
+            return;
+        }
+        if (!userIds.isEmpty()) {
+            rebuild(userIds);
+        }
+    }
+
+    private void rebuild(List<Long> userIds) {
+        try {
+            Map<Long, Feed> feeds = articleRecommendationService.buildFeeds(userIds);
+            articleRecommendationFeedStore.saveAll(feeds, Duration.ofSeconds(Math.max(1L, ttlSeconds)));
+        } catch (Exception ex) {
+            log.warn("추천 피드 생성에 실패했습니다. users={}", userIds.size(), ex);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별로 미리 계산한 추천 피드(상위 K개 게시글 ID/점수/사유)의 Redis 계층.
+ * <p>
+ * 활성 사용자(ZSET, 점수=마지막 활동 시각)와 재계산이 필요한 사용자(SET)도 함께 관리해
+ * 어느 인스턴스에서 활동이 일어나도 갱신 작업이 같은 대상을 보게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleRecommendationFeedStore {
+
+    private static final String FEED_KEY_PREFIX = "article:recommend:feed:v1:";
+    private static final String ACTIVE_USERS_KEY = "article:recommend:active:v1";
+    private static final String DIRTY_USERS_KEY = "article:recommend:dirty:v1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 피드 조회와 활성 사용자 갱신을 파이프라인 한 번으로 처리한다.
+     */
+    public Optional<Feed> findAndTouch(Long userId, long nowMillis) {
+        String key = feedKey(userId);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.get(key);
+            stringConnection.zAdd(ACTIVE_USERS_KEY, nowMillis, String.valueOf(userId));
+            return null;
+        });
+        Object raw = results.isEmpty() ? null : results.get(0);
+        if (!(raw instanceof String json) || json.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            Feed feed = objectMapper.readValue(json, Feed.class);
+            if (feed.entries() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(feed);
+        } catch (JsonProcessingException ex) {
+            log.warn("추천 피드 역직렬화에 실패해 캐시를 삭제합니다. userId={}", userId, ex);
+            stringRedisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 배치로 계산한 피드를 파이프라인 한 번으로 저장한다.
+     */
+    public void saveAll(Map<Long, Feed> feeds, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("추천 피드 TTL이 올바르지 않습니다.");
+        }
+        if (feeds.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        feeds.forEach((userId, feed) -> {
+            try {
+                values.put(feedKey(userId), objectMapper.writeValueAsString(feed));
+            } catch (JsonProcessingException ex) {
+                log.warn("추천 피드 직렬화에 실패해 저장을 건너뜁니다. userId={}", userId, ex);
+            }
+        });
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            values.forEach((key, json) -> stringConnection.setEx(key, ttl.toSeconds(), json));
+            return null;
+        });
+    }
+
+    /**
+     * 재계산 대상 등록과 활성 사용자 갱신을 파이프라인 한 번으로 처리한다.
+     */
+    public void markDirty(Long userId, long nowMillis) {
+        String member = String.valueOf(userId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.sAdd(DIRTY_USERS_KEY, member);
+            stringConnection.zAdd(ACTIVE_USERS_KEY, nowMillis, member);
+            return null;
+        });
+    }
+
+    /**
+     * 재계산 대상을 최대 count명 꺼낸다(SPOP). 여러 인스턴스가 동시에 꺼내도 같은 사용자를 중복 처리하지 않는다.
+     */
+    public List<Long> popDirtyUsers(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_USERS_KEY, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 마지막 활동 시각이 since 이후인 사용자를 최근 순으로 최대 limit명 반환하고, 그 이전 사용자는 정리한다.
+     */
+    public List<Long> findActiveUsers(long sinceMillis, int limit) {
+        stringRedisTemplate.opsForZSet().removeRangeByScore(ACTIVE_USERS_KEY, 0, sinceMillis - 1);
+        Set<String> members = stringRedisTemplate.opsForZSet()
+            .reverseRangeByScore(ACTIVE_USERS_KEY, sinceMillis, Double.MAX_VALUE, 0, limit);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    private String feedKey(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("추천 피드 사용자 ID가 비어 있습니다.");
+        }
+        return FEED_KEY_PREFIX + userId;
+    }
+
+    public record Feed(long builtAtMillis, List<Entry> entries) {
+    }
+
+    public record Entry(Long articleId, double score, String reason, boolean personalized) {
+    }
+}
@@ -2,7 +2,6 @@ package com.mocktalkback.domain.article.service;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -14,127 +13,266 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mocktalkback.domain.article.dto.ArticleRecommendedItemResponse;
-import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
-import com.mocktalkback.domain.article.entity.ArticleBookmarkEntity;
 import com.mocktalkback.domain.article.entity.ArticleEntity;
-import com.mocktalkback.domain.article.entity.ArticleReactionEntity;
 import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
-import com.mocktalkback.domain.article.repository.ArticleBookmarkRepository;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository.ArticleReactionCountView;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
-import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
-import com.mocktalkback.domain.board.type.BoardVisibility;
-import com.mocktalkback.domain.comment.entity.CommentEntity;
-import com.mocktalkback.domain.comment.repository.CommentRepository;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.domain.article.service.ArticleRecommendationCandidatePool.Snapshot;
+import com.mocktalkback.domain.article.service.ArticleRecommendationFeedStore.Entry;
+import com.mocktalkback.domain.article.service.ArticleRecommendationFeedStore.Feed;
+import com.mocktalkback.domain.article.service.ArticleStatsService.ArticleStats;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
-import com.mocktalkback.domain.role.type.ContentVisibility;
 import com.mocktalkback.global.auth.CurrentUserService;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개 추천 게시글을 계산한다.
+ * <p>
+ * 로그인 사용자는 갱신 작업({@link ArticleRecommendationFeedRefresher})이 미리 만든 상위 K개 피드를 먼저 읽고,
+ * 피드가 없을 때만 요청 중에 계산한다. 후보는 모든 요청이 공유하는 {@link ArticleRecommendationCandidatePool}에서
+ * 가져오고 사용자 신호는 관심도 프로필({@link UserAffinityService}) 한 행으로 읽으므로 요청 중 계산은 메모리 채점만 한다.
+ */
+@Slf4j
 @Service
 public class ArticleRecommendationService {
 
     private static final int DEFAULT_LIMIT = 9;
     private static final int MAX_LIMIT = 50;
-    private static final int MIN_CANDIDATE_FETCH_SIZE = 60;
-    private static final int CANDIDATE_FETCH_MULTIPLIER = 6;
-    private static final double BOOKMARK_BOARD_SCORE = 5.0d;
-    private static final double BOOKMARK_CATEGORY_SCORE = 3.0d;
-    private static final double LIKE_BOARD_SCORE = 4.0d;
-    private static final double LIKE_CATEGORY_SCORE = 2.0d;
-    private static final double DISLIKE_BOARD_SCORE = -4.0d;
-    private static final double DISLIKE_CATEGORY_SCORE = -2.0d;
-    private static final double COMMENT_BOARD_SCORE = 2.0d;
-    private static final double COMMENT_CATEGORY_SCORE = 1.0d;
-    private static final String BOOKMARK_BOARD_REASON = "북마크한 글과 비슷한 게시판 기반";
-    private static final String BOOKMARK_CATEGORY_REASON = "북마크한 글과 비슷한 주제 기반";
-    private static final String LIKE_BOARD_REASON = "최근 좋아요한 글과 비슷한 게시판 기반";
-    private static final String LIKE_CATEGORY_REASON = "최근 좋아요한 글과 비슷한 주제 기반";
-    private static final String COMMENT_BOARD_REASON = "최근 댓글을 남긴 게시판 기반";
-    private static final String COMMENT_CATEGORY_REASON = "최근 댓글을 남긴 주제 기반";
+    static final int FEED_SIZE = MAX_LIMIT;
     private static final String TRENDING_FALLBACK_REASON = "최근 반응이 뜨거운 글 기반";
     private static final String LOGIN_FALLBACK_REASON = "활동 이력이 적어 인기글 기반으로 추천";
 
     private final ArticleRepository articleRepository;
-    private final ArticleBookmarkRepository articleBookmarkRepository;
-    private final ArticleReactionRepository articleReactionRepository;
-    private final CommentRepository commentRepository;
-    private final ArticleTrendingService articleTrendingService;
+    private final ArticleRecommendationCandidatePool articleRecommendationCandidatePool;
+    private final ArticleStatsService articleStatsService;
     private final CurrentUserService currentUserService;
     private final PublicArticleFeedPolicy publicArticleFeedPolicy;
     private final AuthorDisplayResolver authorDisplayResolver;
+    private final ArticleRecommendationFeedStore articleRecommendationFeedStore;
+    private final UserAffinityService userAffinityService;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
+    @Value("${app.article.recommendation.feed.enabled:true}")
+    private boolean feedEnabled = true;
+
     @Autowired
     public ArticleRecommendationService(
         ArticleRepository articleRepository,
-        ArticleBookmarkRepository articleBookmarkRepository,
-        ArticleReactionRepository articleReactionRepository,
-        CommentRepository commentRepository,
-        ArticleTrendingService articleTrendingService,
+        ArticleRecommendationCandidatePool articleRecommendationCandidatePool,
+        ArticleStatsService articleStatsService,
         CurrentUserService currentUserService,
         PublicArticleFeedPolicy publicArticleFeedPolicy,
-        AuthorDisplayResolver authorDisplayResolver
+        AuthorDisplayResolver authorDisplayResolver,
+        ArticleRecommendationFeedStore articleRecommendationFeedStore,
+        UserAffinityService userAffinityService,
+        ApplicationEventPublisher applicationEventPublisher
     ) {
         this(
             articleRepository,
-            articleBookmarkRepository,
-            articleReactionRepository,
-            commentRepository,
-            articleTrendingService,
+            articleRecommendationCandidatePool,
+            articleStatsService,
             currentUserService,
             publicArticleFeedPolicy,
             authorDisplayResolver,
+            articleRecommendationFeedStore,
+            userAffinityService,
+            applicationEventPublisher,
             Clock.systemUTC()
         );
     }
 
     ArticleRecommendationService(
         ArticleRepository articleRepository,
-        ArticleBookmarkRepository articleBookmarkRepository,
-        ArticleReactionRepository articleReactionRepository,
-        CommentRepository commentRepository,
-        ArticleTrendingService articleTrendingService,
+        ArticleRecommendationCandidatePool articleRecommendationCandidatePool,
+        ArticleStatsService articleStatsService,
         CurrentUserService currentUserService,
         PublicArticleFeedPolicy publicArticleFeedPolicy,
         AuthorDisplayResolver authorDisplayResolver,
+        ArticleRecommendationFeedStore articleRecommendationFeedStore,
+        UserAffinityService userAffinityService,
+        ApplicationEventPublisher applicationEventPublisher,
         Clock clock
     ) {
         this.articleRepository = articleRepository;
-        this.articleBookmarkRepository = articleBookmarkRepository;
-        this.articleReactionRepository = articleReactionRepository;
-        this.commentRepository = commentRepository;
-        this.articleTrendingService = articleTrendingService;
+        this.articleRecommendationCandidatePool = articleRecommendationCandidatePool;
+        this.articleStatsService = articleStatsService;
         this.currentUserService = currentUserService;
         this.publicArticleFeedPolicy = publicArticleFeedPolicy;
         this.authorDisplayResolver = authorDisplayResolver;
+        this.articleRecommendationFeedStore = articleRecommendationFeedStore;
+        this.userAffinityService = userAffinityService;
+        this.applicationEventPublisher = applicationEventPublisher;
         this.clock = clock;
     }
 
     @Transactional(readOnly = true)
     public List<ArticleRecommendedItemResponse> findRecommendedPublic(int limit) {
         int resolvedLimit = normalizeLimit(limit);
-        CandidateContext candidateContext = buildCandidateContext(resolvedLimit);
-        if (candidateContext.candidateMap().isEmpty()) {
+        Long userId = currentUserService.getOptionalUserId().orElse(null);
+        if (userId != null && feedEnabled) {
+            Optional<List<ArticleRecommendedItemResponse>> materialized = findMaterializedFeed(userId, resolvedLimit);
+            if (materialized.isPresent()) {
+                return materialized.get();
+            }
+        }
+
+        return recommend(articleRecommendationCandidatePool.current(), userId, resolvedLimit);
+    }
+
+    /**
+     * 공유 후보 풀을 한 번만 가져오고 사용자별 신호만 다시 읽어 사용자마다 상위 {@value #FEED_SIZE}개 피드를 계산한다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Feed> buildFeeds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Snapshot pool = articleRecommendationCandidatePool.current();
+        long builtAtMillis = clock.millis();
+        Map<Long, Feed> feeds = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            List<Entry> entries = recommend(pool, userId, FEED_SIZE).stream()
+                .map(item -> new Entry(
+                    item.articleId(),
+                    item.recommendationScore(),
+                    item.recommendationReason(),
+                    item.personalized()
+                ))
+                .toList();
+            feeds.put(userId, new Feed(builtAtMillis, entries));
+        }
+        return feeds;
+    }
+
+    /**
+     * 북마크/반응/댓글 이후 호출한다. 공개 피드 대상 글의 활동만 관심도 이벤트로 발행하고,
+     * 커밋 이후 {@link UserAffinityEventListener}가 관심도를 반영한 뒤 추천 피드 재계산을 요청한다.
+     */
+    public void recordUserActivity(
+        Long userId,
+        ArticleEntity article,
+        UserAffinitySignal added,
+        UserAffinitySignal removed
+    ) {
+        if (userId == null || added == removed || !publicArticleFeedPolicy.isPublicFeedTarget(article)) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(UserAffinityEvent.of(userId, article, added, removed));
+    }
+
+    /**
+     * 여러 활동이 한꺼번에 사라져 증분으로 옮기기 어려울 때 커밋 이후 프로필을 활동 이력으로 다시 계산하게 한다.
+     */
+    public void rebuildUserAffinity(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(UserAffinityEvent.rebuild(userId));
+    }
+
+    private Optional<List<ArticleRecommendedItemResponse>> findMaterializedFeed(Long userId, int limit) {
+        Optional<Feed> feed;
+        try {
+            feed = articleRecommendationFeedStore.findAndTouch(userId, clock.millis());
+        } catch (Exception ex) {
+            log.warn("추천 피드 조회에 실패해 실시간 계산으로 대체합니다. userId={}", userId, ex);
+            return Optional.empty();
+        }
+        if (feed.isEmpty()) {
+            requestFeedRebuild(userId);
+            return Optional.empty();
+        }
+
+        List<Entry> entries = feed.get().entries();
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 피드에는 ID/점수/사유만 있으므로 제목/집계는 후보 풀에서 채우고, 풀에서 빠진 글만 DB에서 읽는다.
+        Snapshot pool = articleRecommendationCandidatePool.current();
+        List<Long> missingIds = entries.stream()
+            .map(Entry::articleId)
+            .filter(articleId -> pool.indexOf(articleId) < 0)
+            .toList();
+        Map<Long, ArticleSummaryRow> rowMap = new LinkedHashMap<>();
+        Map<Long, ArticleStats> statsMap = Map.of();
+        if (!missingIds.isEmpty()) {
+            articleRepository.findPublicRowsByIds(missingIds, publicArticleFeedPolicy.excludedBoardSlugs())
+                .forEach(row -> rowMap.put(row.id(), row));
+            statsMap = rowMap.isEmpty() ? Map.of() : articleStatsService.loadStats(List.copyOf(rowMap.keySet()));
+        }
+
+        List<ArticleRecommendedItemResponse> items = new ArrayList<>(Math.min(limit, entries.size()));
+        for (Entry entry : entries) {
+            if (items.size() >= limit) {
+                break;
+            }
+            int index = pool.indexOf(entry.articleId());
+            if (index >= 0) {
+                items.add(pool.toResponse(index, entry.score(), entry.reason(), entry.personalized()));
+                continue;
+            }
+
+            ArticleSummaryRow row = rowMap.get(entry.articleId());
+            if (row == null) {
+                continue;
+            }
+            ArticleStats stats = statsMap.getOrDefault(row.id(), ArticleStats.empty());
+            items.add(new ArticleRecommendedItemResponse(
+                row.id(),
+                row.boardId(),
+                row.boardSlug(),
+                row.boardName(),
+                row.userId(),
+                authorDisplayResolver.resolveAuthorName(row.authorDisplayName(), row.authorUserName()),
+                row.title(),
+                row.hit(),
+                stats.commentCount(),
+                stats.likeCount(),
+                stats.dislikeCount(),
+                entry.score(),
+                entry.reason(),
+                entry.personalized(),
+                row.createdAt()
+            ));
+        }
+        if (items.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(items);
+    }
+
+    private void requestFeedRebuild(Long userId) {
+        try {
+            articleRecommendationFeedStore.markDirty(userId, clock.millis());
+        } catch (Exception ex) {
+            log.warn("추천 피드 재계산 요청에 실패했습니다. userId={}", userId, ex);
+        }
+    }
+
+    private List<ArticleRecommendedItemResponse> recommend(Snapshot pool, Long userId, int resolvedLimit) {
+        if (pool.isEmpty()) {
             return List.of();
         }
 
-        Optional<Long> optionalUserId = currentUserService.getOptionalUserId();
-        if (optionalUserId.isEmpty()) {
-            return buildFallbackRecommendations(candidateContext, null, resolvedLimit, TRENDING_FALLBACK_REASON, Set.of());
+        if (userId == null) {
+            return buildFallbackRecommendations(pool, null, resolvedLimit, TRENDING_FALLBACK_REASON, Set.of());
         }
 
-        Long userId = optionalUserId.get();
         UserSignalProfile signalProfile = buildUserSignalProfile(userId);
         if (!signalProfile.hasPositiveSignal()) {
             return buildFallbackRecommendations(
-                candidateContext,
+                pool,
                 userId,
                 resolvedLimit,
                 LOGIN_FALLBACK_REASON,
@@ -143,7 +281,7 @@ public class ArticleRecommendationService {
         }
 
         List<ArticleRecommendedItemResponse> personalizedItems = buildPersonalizedRecommendations(
-            candidateContext,
+            pool,
             signalProfile,
             userId,
             resolvedLimit
@@ -158,7 +296,7 @@ public class ArticleRecommendationService {
         }
 
         List<ArticleRecommendedItemResponse> fallbackItems = buildFallbackRecommendations(
-            candidateContext,
+            pool,
             userId,
             resolvedLimit - personalizedItems.size(),
             TRENDING_FALLBACK_REASON,
@@ -170,88 +308,43 @@ public class ArticleRecommendationService {
         return mergedItems;
     }
 
-    private CandidateContext buildCandidateContext(int limit) {
-        int candidateFetchSize = Math.max(MIN_CANDIDATE_FETCH_SIZE, limit * CANDIDATE_FETCH_MULTIPLIER);
-        List<ArticleEntity> recentCandidates = loadRecentPublicCandidates(candidateFetchSize);
-        List<ArticleTrendingItemResponse> trendingItems = articleTrendingService.findTrendingPublic(
-            ArticleTrendingWindow.DAY,
-            Math.max(limit * 3, limit)
-        );
-
-        LinkedHashMap<Long, ArticleEntity> candidateMap = new LinkedHashMap<>();
-        for (ArticleEntity article : recentCandidates) {
-            candidateMap.put(article.getId(), article);
-        }
-
-        List<Long> missingTrendingIds = trendingItems.stream()
-            .map(ArticleTrendingItemResponse::articleId)
-            .filter(articleId -> !candidateMap.containsKey(articleId))
-            .toList();
-        if (!missingTrendingIds.isEmpty()) {
-            Map<Long, ArticleEntity> extraTrendingMap = articleRepository.findAllByIdInAndDeletedAtIsNull(missingTrendingIds).stream()
-                .filter(publicArticleFeedPolicy::isPublicFeedTarget)
-                .collect(LinkedHashMap::new, (map, article) -> map.put(article.getId(), article), Map::putAll);
-            for (Long articleId : missingTrendingIds) {
-                ArticleEntity article = extraTrendingMap.get(articleId);
-                if (article != null) {
-                    candidateMap.putIfAbsent(articleId, article);
-                }
-            }
-        }
-
-        List<Long> candidateIds = List.copyOf(candidateMap.keySet());
-        Map<Long, Long> commentCounts = loadCommentCounts(candidateIds);
-        Map<Long, ReactionCounts> reactionCounts = loadReactionCounts(candidateIds);
-        Map<Long, Double> trendingScoreMap = new HashMap<>();
-        for (ArticleTrendingItemResponse trendingItem : trendingItems) {
-            trendingScoreMap.put(trendingItem.articleId(), trendingItem.trendScore());
-        }
-
-        return new CandidateContext(candidateMap, trendingItems, commentCounts, reactionCounts, trendingScoreMap);
-    }
-
+    // 후보 풀 배열만 훑는 메모리 연산이다. 후보 조회 쿼리는 실행하지 않는다.
     private List<ArticleRecommendedItemResponse> buildPersonalizedRecommendations(
-        CandidateContext candidateContext,
+        Snapshot pool,
         UserSignalProfile signalProfile,
         Long userId,
         int limit
     ) {
         List<ScoredRecommendation> scoredRecommendations = new ArrayList<>();
-        for (ArticleEntity article : candidateContext.candidateMap().values()) {
-            if (!isVisibleToRecommendedUser(article, userId, signalProfile.excludedArticleIds())) {
+        for (int index = 0; index < pool.size(); index++) {
+            if (!isVisibleToRecommendedUser(pool, index, userId, signalProfile.excludedArticleIds())) {
                 continue;
             }
 
-            double boardScore = signalProfile.boardScores().getOrDefault(article.getBoard().getId(), 0.0d);
+            double boardScore = signalProfile.boardScores().getOrDefault(pool.boardId(index), 0.0d);
             double categoryScore = 0.0d;
-            if (article.getCategory() != null) {
-                categoryScore = signalProfile.categoryScores().getOrDefault(article.getCategory().getId(), 0.0d);
+            if (pool.categoryId(index) != Snapshot.NO_CATEGORY) {
+                categoryScore = signalProfile.categoryScores().getOrDefault(pool.categoryId(index), 0.0d);
             }
             double interestScore = boardScore + categoryScore;
             if (interestScore <= 0.0d) {
                 continue;
             }
 
-            double recencyBonus = resolveRecencyBonus(article.getCreatedAt());
-            double trendBonus = resolveTrendBonus(candidateContext.trendingScoreMap().getOrDefault(article.getId(), 0.0d));
+            double recencyBonus = resolveRecencyBonus(pool.createdAtMillis(index));
+            double trendBonus = resolveTrendBonus(pool.trendScore(index));
             double recommendationScore = interestScore + recencyBonus + trendBonus;
-            String recommendationReason = resolvePersonalizedReason(signalProfile, article, boardScore, categoryScore, trendBonus);
-            scoredRecommendations.add(new ScoredRecommendation(article.getId(), recommendationScore, recommendationReason, true));
+            String recommendationReason = resolvePersonalizedReason(signalProfile, pool, index, boardScore, categoryScore, trendBonus);
+            scoredRecommendations.add(new ScoredRecommendation(index, recommendationScore, recommendationReason, true));
         }
 
+        // 풀은 최신순으로 정렬되어 있으므로 점수가 같으면 인덱스가 작은(더 최신인) 후보가 앞선다.
         scoredRecommendations.sort((left, right) -> {
             int scoreCompare = Double.compare(right.recommendationScore(), left.recommendationScore());
             if (scoreCompare != 0) {
                 return scoreCompare;
             }
-
-            ArticleEntity rightArticle = candidateContext.candidateMap().get(right.articleId());
-            ArticleEntity leftArticle = candidateContext.candidateMap().get(left.articleId());
-            int createdAtCompare = rightArticle.getCreatedAt().compareTo(leftArticle.getCreatedAt());
-            if (createdAtCompare != 0) {
-                return createdAtCompare;
-            }
-            return rightArticle.getId().compareTo(leftArticle.getId());
+            return Integer.compare(left.index(), right.index());
         });
 
         List<ArticleRecommendedItemResponse> items = new ArrayList<>();
@@ -259,16 +352,13 @@ public class ArticleRecommendationService {
             if (items.size() >= limit) {
                 break;
             }
-            ArticleEntity article = candidateContext.candidateMap().get(scoredRecommendation.articleId());
-            if (article != null) {
-                items.add(toRecommendedItemResponse(article, candidateContext, scoredRecommendation));
-            }
+            items.add(toRecommendedItemResponse(pool, scoredRecommendation));
         }
         return items;
     }
 
     private List<ArticleRecommendedItemResponse> buildFallbackRecommendations(
-        CandidateContext candidateContext,
+        Snapshot pool,
         Long userId,
         int limit,
         String fallbackReason,
@@ -281,53 +371,35 @@ public class ArticleRecommendationService {
         LinkedHashSet<Long> selectedIds = new LinkedHashSet<>(excludedIds);
         List<ArticleRecommendedItemResponse> items = new ArrayList<>();
 
-        for (ArticleTrendingItemResponse trendingItem : candidateContext.trendingItems()) {
+        for (int index : pool.trendingOrder()) {
             if (items.size() >= limit) {
                 break;
             }
-
-            ArticleEntity article = candidateContext.candidateMap().get(trendingItem.articleId());
-            if (article == null || !isVisibleToRecommendedUser(article, userId, selectedIds)) {
+            if (!isVisibleToRecommendedUser(pool, index, userId, selectedIds)) {
                 continue;
             }
 
-            selectedIds.add(article.getId());
-            double recommendationScore = resolveTrendBonus(trendingItem.trendScore()) + resolveRecencyBonus(article.getCreatedAt());
+            selectedIds.add(pool.articleId(index));
+            double recommendationScore = resolveTrendBonus(pool.trendScore(index))
+                + resolveRecencyBonus(pool.createdAtMillis(index));
             items.add(toRecommendedItemResponse(
-                article,
-                candidateContext,
-                new ScoredRecommendation(article.getId(), recommendationScore, fallbackReason, false)
+                pool,
+                new ScoredRecommendation(index, recommendationScore, fallbackReason, false)
             ));
         }
 
-        if (items.size() >= limit) {
-            return items;
-        }
-
-        List<ArticleEntity> recentCandidates = new ArrayList<>(candidateContext.candidateMap().values());
-        recentCandidates.sort((left, right) -> {
-            int createdAtCompare = right.getCreatedAt().compareTo(left.getCreatedAt());
-            if (createdAtCompare != 0) {
-                return createdAtCompare;
-            }
-            return right.getId().compareTo(left.getId());
-        });
-
-        for (ArticleEntity article : recentCandidates) {
-            if (items.size() >= limit) {
-                break;
-            }
-            if (!isVisibleToRecommendedUser(article, userId, selectedIds)) {
+        // 트렌딩 후보로 채우지 못한 자리는 최신순(풀 정렬 순서)으로 채운다.
+        for (int index = 0; index < pool.size() && items.size() < limit; index++) {
+            if (!isVisibleToRecommendedUser(pool, index, userId, selectedIds)) {
                 continue;
             }
 
-            selectedIds.add(article.getId());
-            double recommendationScore = resolveTrendBonus(candidateContext.trendingScoreMap().getOrDefault(article.getId(), 0.0d))
-                + resolveRecencyBonus(article.getCreatedAt());
+            selectedIds.add(pool.articleId(index));
+            double recommendationScore = resolveTrendBonus(pool.trendScore(index))
+                + resolveRecencyBonus(pool.createdAtMillis(index));
             items.add(toRecommendedItemResponse(
-                article,
-                candidateContext,
-                new ScoredRecommendation(article.getId(), recommendationScore, fallbackReason, false)
+                pool,
+                new ScoredRecommendation(index, recommendationScore, fallbackReason, false)
             ));
         }
 
@@ -335,145 +407,48 @@ public class ArticleRecommendationService {
     }
 
     private UserSignalProfile buildUserSignalProfile(Long userId) {
-        Map<Long, Double> boardScores = new HashMap<>();
-        Map<Long, Double> categoryScores = new HashMap<>();
-        Map<Long, String> boardReasons = new HashMap<>();
-        Map<Long, String> categoryReasons = new HashMap<>();
-        LinkedHashSet<Long> excludedArticleIds = new LinkedHashSet<>();
-
-        List<ArticleBookmarkEntity> bookmarks = articleBookmarkRepository.findTop20ByUserIdOrderByCreatedAtDescIdDesc(userId);
-        for (ArticleBookmarkEntity bookmark : bookmarks) {
-            ArticleEntity article = bookmark.getArticle();
-            if (!publicArticleFeedPolicy.isPublicFeedTarget(article)) {
-                continue;
-            }
-
-            excludedArticleIds.add(article.getId());
-            addPositiveSignal(boardScores, boardReasons, article.getBoard().getId(), BOOKMARK_BOARD_SCORE, BOOKMARK_BOARD_REASON);
-            if (article.getCategory() != null) {
-                addPositiveSignal(categoryScores, categoryReasons, article.getCategory().getId(), BOOKMARK_CATEGORY_SCORE, BOOKMARK_CATEGORY_REASON);
-            }
-        }
-
-        List<ArticleReactionEntity> reactions = articleReactionRepository.findTop20ByUserIdOrderByUpdatedAtDescIdDesc(userId);
-        for (ArticleReactionEntity reaction : reactions) {
-            ArticleEntity article = reaction.getArticle();
-            if (!publicArticleFeedPolicy.isPublicFeedTarget(article)) {
-                continue;
-            }
-
-            if (reaction.getReactionType() == 1) {
-                addPositiveSignal(boardScores, boardReasons, article.getBoard().getId(), LIKE_BOARD_SCORE, LIKE_BOARD_REASON);
-                if (article.getCategory() != null) {
-                    addPositiveSignal(categoryScores, categoryReasons, article.getCategory().getId(), LIKE_CATEGORY_SCORE, LIKE_CATEGORY_REASON);
-                }
-            } else if (reaction.getReactionType() == -1) {
-                addNegativeSignal(boardScores, article.getBoard().getId(), DISLIKE_BOARD_SCORE);
-                if (article.getCategory() != null) {
-                    addNegativeSignal(categoryScores, article.getCategory().getId(), DISLIKE_CATEGORY_SCORE);
-                }
-            }
-        }
-
-        List<CommentEntity> comments = commentRepository.findTop20ByUserIdAndDeletedAtIsNullOrderByCreatedAtDescIdDesc(userId);
-        for (CommentEntity comment : comments) {
-            ArticleEntity article = comment.getArticle();
-            if (!publicArticleFeedPolicy.isPublicFeedTarget(article)) {
-                continue;
-            }
-
-            addPositiveSignal(boardScores, boardReasons, article.getBoard().getId(), COMMENT_BOARD_SCORE, COMMENT_BOARD_REASON);
-            if (article.getCategory() != null) {
-                addPositiveSignal(categoryScores, categoryReasons, article.getCategory().getId(), COMMENT_CATEGORY_SCORE, COMMENT_CATEGORY_REASON);
-            }
+        Optional<UserAffinityProfile> storedProfile = userAffinityService.findProfile(userId);
+        if (storedProfile.isPresent()) {
+            return UserSignalProfile.from(storedProfile.get());
         }
 
-        return new UserSignalProfile(boardScores, categoryScores, boardReasons, categoryReasons, excludedArticleIds);
-    }
-
-    private List<ArticleEntity> loadRecentPublicCandidates(int size) {
-        Pageable pageable = PageRequest.of(0, size);
-        return articleRepository
-            .findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
-                BoardVisibility.PUBLIC,
-                publicArticleFeedPolicy.excludedBoardSlugs(),
-                ContentVisibility.PUBLIC,
-                pageable
-            )
-            .getContent();
-    }
-
-    private Map<Long, Long> loadCommentCounts(Collection<Long> articleIds) {
-        if (articleIds.isEmpty()) {
-            return Map.of();
-        }
-
-        return commentRepository.countByArticleIds(articleIds).stream()
-            .collect(LinkedHashMap::new, (map, row) -> map.put(row.getArticleId(), row.getCount()), Map::putAll);
-    }
-
-    private Map<Long, ReactionCounts> loadReactionCounts(Collection<Long> articleIds) {
-        if (articleIds.isEmpty()) {
-            return Map.of();
-        }
-
-        Map<Long, ReactionCounts> counts = new HashMap<>();
-        List<ArticleReactionCountView> rows = articleReactionRepository.countByArticleIds(articleIds);
-        for (ArticleReactionCountView row : rows) {
-            ReactionCounts current = counts.getOrDefault(row.getArticleId(), ReactionCounts.empty());
-            if (row.getReactionType() == 1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount() + row.getCount(), current.dislikeCount()));
-            } else if (row.getReactionType() == -1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount(), current.dislikeCount() + row.getCount()));
-            }
-        }
-        return counts;
+        // 아직 저장된 프로필이 없으면 이번 요청만 활동 이력으로 계산하고, 저장은 커밋 이후 리스너에 맡긴다.
+        applicationEventPublisher.publishEvent(UserAffinityEvent.seed(userId));
+        return UserSignalProfile.from(userAffinityService.buildFromHistory(userId));
     }
 
     private ArticleRecommendedItemResponse toRecommendedItemResponse(
-        ArticleEntity article,
-        CandidateContext candidateContext,
+        Snapshot pool,
         ScoredRecommendation scoredRecommendation
     ) {
-        ReactionCounts reactionCounts = candidateContext.reactionCounts().getOrDefault(article.getId(), ReactionCounts.empty());
-        return new ArticleRecommendedItemResponse(
-            article.getId(),
-            article.getBoard().getId(),
-            article.getBoard().getSlug(),
-            article.getBoard().getBoardName(),
-            article.getUser().getId(),
-            authorDisplayResolver.resolveAuthorName(article.getUser()),
-            article.getTitle(),
-            article.getHit(),
-            candidateContext.commentCounts().getOrDefault(article.getId(), 0L),
-            reactionCounts.likeCount(),
-            reactionCounts.dislikeCount(),
+        return pool.toResponse(
+            scoredRecommendation.index(),
             scoredRecommendation.recommendationScore(),
             scoredRecommendation.recommendationReason(),
-            scoredRecommendation.personalized(),
-            article.getCreatedAt()
+            scoredRecommendation.personalized()
         );
     }
 
-    private boolean isVisibleToRecommendedUser(ArticleEntity article, Long userId, Set<Long> excludedIds) {
-        if (article == null || excludedIds.contains(article.getId())) {
-            return false;
-        }
-        if (!publicArticleFeedPolicy.isPublicFeedTarget(article)) {
+    private boolean isVisibleToRecommendedUser(Snapshot pool, int index, Long userId, Set<Long> excludedIds) {
+        if (excludedIds.contains(pool.articleId(index))) {
             return false;
         }
-        return userId == null || !userId.equals(article.getUser().getId());
+        // 풀에는 공개 피드 대상만 적재되어 있으므로 본인 글만 추가로 거른다.
+        return userId == null || userId != pool.authorId(index);
     }
 
     private String resolvePersonalizedReason(
         UserSignalProfile signalProfile,
-        ArticleEntity article,
+        Snapshot pool,
+        int index,
         double boardScore,
         double categoryScore,
         double trendBonus
     ) {
-        String boardReason = signalProfile.boardReasons().get(article.getBoard().getId());
-        String categoryReason = article.getCategory() == null ? null : signalProfile.categoryReasons().get(article.getCategory().getId());
+        String boardReason = signalProfile.boardReasons().get(pool.boardId(index));
+        String categoryReason = pool.categoryId(index) == Snapshot.NO_CATEGORY
+            ? null
+            : signalProfile.categoryReasons().get(pool.categoryId(index));
         if (categoryScore > boardScore && categoryReason != null) {
             return categoryReason;
         }
@@ -489,27 +464,8 @@ public class ArticleRecommendationService {
         return LOGIN_FALLBACK_REASON;
     }
 
-    private void addPositiveSignal(
-        Map<Long, Double> scoreMap,
-        Map<Long, String> reasonMap,
-        Long key,
-        double delta,
-        String reason
-    ) {
-        scoreMap.put(key, scoreMap.getOrDefault(key, 0.0d) + delta);
-        reasonMap.putIfAbsent(key, reason);
-    }
-
-    private void addNegativeSignal(Map<Long, Double> scoreMap, Long key, double delta) {
-        scoreMap.put(key, scoreMap.getOrDefault(key, 0.0d) + delta);
-    }
-
-    private double resolveRecencyBonus(Instant createdAt) {
-        if (createdAt == null) {
-            return 0.0d;
-        }
-
-        Duration age = Duration.between(createdAt, clock.instant());
+    private double resolveRecencyBonus(long createdAtMillis) {
+        Duration age = Duration.ofMillis(clock.millis() - createdAtMillis);
         if (age.isNegative() || age.compareTo(Duration.ofDays(1)) <= 0) {
             return 3.0d;
         }
@@ -542,23 +498,8 @@ public class ArticleRecommendationService {
         return Math.min(limit, MAX_LIMIT);
     }
 
-    private record ReactionCounts(long likeCount, long dislikeCount) {
-        private static ReactionCounts empty() {
-            return new ReactionCounts(0L, 0L);
-        }
-    }
-
-    private record CandidateContext(
-        Map<Long, ArticleEntity> candidateMap,
-        List<ArticleTrendingItemResponse> trendingItems,
-        Map<Long, Long> commentCounts,
-        Map<Long, ReactionCounts> reactionCounts,
-        Map<Long, Double> trendingScoreMap
-    ) {
-    }
-
     private record ScoredRecommendation(
-        Long articleId,
+        int index,
         double recommendationScore,
         String recommendationReason,
         boolean personalized
@@ -572,6 +513,34 @@ public class ArticleRecommendationService {
         Map<Long, String> categoryReasons,
         Set<Long> excludedArticleIds
     ) {
+        private static UserSignalProfile from(UserAffinityProfile profile) {
+            Map<Long, Double> boardScores = new HashMap<>();
+            Map<Long, String> boardReasons = new HashMap<>();
+            profile.boards().forEach((boardId, weight) -> {
+                boardScores.put(boardId, weight.score());
+                if (weight.reason() != null) {
+                    boardReasons.put(boardId, weight.reason().boardReason());
+                }
+            });
+
+            Map<Long, Double> categoryScores = new HashMap<>();
+            Map<Long, String> categoryReasons = new HashMap<>();
+            profile.categories().forEach((categoryId, weight) -> {
+                categoryScores.put(categoryId, weight.score());
+                if (weight.reason() != null) {
+                    categoryReasons.put(categoryId, weight.reason().categoryReason());
+                }
+            });
+
+            return new UserSignalProfile(
+                boardScores,
+                categoryScores,
+                boardReasons,
+                categoryReasons,
+                new LinkedHashSet<>(profile.bookmarkedArticleIds())
+            );
+        }
+
         private boolean hasPositiveSignal() {
             return boardScores.values().stream().anyMatch(score -> score > 0.0d)
                 || categoryScores.values().stream().anyMatch(score -> score > 0.0d);
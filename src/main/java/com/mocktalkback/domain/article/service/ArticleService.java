@@ -1,5 +1,6 @@
 package com.mocktalkback.domain.article.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -7,19 +8,17 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
-import org.springframework.web.util.HtmlUtils;
 
 import com.mocktalkback.domain.article.dto.ArticleBoardResponse;
 import com.mocktalkback.domain.article.dto.ArticleBookmarkStatusResponse;
@@ -34,6 +33,7 @@ import com.mocktalkback.domain.article.dto.ArticleReactionSummaryResponse;
 import com.mocktalkback.domain.article.dto.ArticleReactionToggleRequest;
 import com.mocktalkback.domain.article.dto.ArticleSummaryResponse;
 import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
+import com.mocktalkback.domain.article.dto.BoardArticleCursorResponse;
 import com.mocktalkback.domain.article.dto.BoardArticleListResponse;
 import com.mocktalkback.domain.article.dto.ArticleCreateRequest;
 import com.mocktalkback.domain.article.dto.ArticleResponse;
@@ -47,18 +47,22 @@ import com.mocktalkback.domain.article.mapper.ArticleMapper;
 import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
 import com.mocktalkback.domain.article.repository.ArticleCategoryRepository;
 import com.mocktalkback.domain.article.repository.ArticleFileRepository;
+import com.mocktalkback.domain.article.repository.ArticleKeysetCursor;
 import com.mocktalkback.domain.article.repository.ArticleBookmarkRepository;
 import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
 import com.mocktalkback.domain.article.repository.ArticleReactionRepository.ArticleReactionCountView;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.domain.article.service.ArticleStatsService.ArticleStats;
+import com.mocktalkback.domain.article.type.ArticleTrendingSignal;
 import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
 import com.mocktalkback.domain.board.entity.BoardFileEntity;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.board.entity.BoardMemberEntity;
 import com.mocktalkback.domain.board.repository.BoardFileRepository;
 import com.mocktalkback.domain.board.repository.BoardMemberRepository;
 import com.mocktalkback.domain.board.repository.BoardRepository;
-import com.mocktalkback.domain.board.type.BoardVisibility;
 import com.mocktalkback.domain.comment.repository.CommentRepository;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
 import com.mocktalkback.domain.common.policy.BoardAccessPolicy;
@@ -73,11 +77,14 @@ import com.mocktalkback.domain.file.repository.FileVariantRepository;
 import com.mocktalkback.domain.file.service.FileStorage;
 import com.mocktalkback.domain.file.service.TemporaryFilePolicy;
 import com.mocktalkback.domain.file.type.FileClassCode;
-import com.mocktalkback.domain.realtime.service.BoardRealtimeSseService;
+import com.mocktalkback.domain.outbox.service.OutboxEventWriter;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+import com.mocktalkback.domain.realtime.service.BoardRealtimeOutboxPayload;
 import com.mocktalkback.domain.role.type.ContentVisibility;
 import com.mocktalkback.domain.user.entity.UserEntity;
 import com.mocktalkback.domain.user.repository.UserRepository;
 import com.mocktalkback.global.auth.CurrentUserService;
+import com.mocktalkback.global.common.dto.CursorResponse;
 import com.mocktalkback.global.common.dto.PageResponse;
 import com.mocktalkback.global.common.dto.SliceResponse;
 import com.mocktalkback.global.common.util.ActivityPointPolicy;
@@ -85,7 +92,9 @@ import com.mocktalkback.global.common.util.ReactionTypeValidator;
 import com.mocktalkback.global.common.type.SortOrder;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
@@ -117,14 +126,23 @@ public class ArticleService {
     private final CurrentUserService currentUserService;
     private final ArticleContentService articleContentService;
     private final ArticleViewService articleViewService;
-    private final ArticleTrendingService articleTrendingService;
     private final ArticleRecommendationService articleRecommendationService;
-    private final BoardRealtimeSseService boardRealtimeSseService;
+    private final ArticleRecommendationCandidatePool articleRecommendationCandidatePool;
+    private final ArticleStatsService articleStatsService;
+    private final ArticleDetailCacheService articleDetailCacheService;
+    private final ArticleTrendingSnapshotService articleTrendingSnapshotService;
+    private final OutboxEventWriter outboxEventWriter;
     private final BoardAccessPolicy boardAccessPolicy;
     private final SanctionGuard sanctionGuard;
     private final PageNormalizer pageNormalizer;
     private final AuthorDisplayResolver authorDisplayResolver;
     private final PublicArticleFeedPolicy publicArticleFeedPolicy;
+    private final ArticleListCursorCodec articleListCursorCodec;
+    private final ArticlePreviewTextExtractor articlePreviewTextExtractor;
+    private final BoardArticleCountCacheStore boardArticleCountCacheStore;
+
+    @Value("${app.article.list.count-cache-ttl-seconds:60}")
+    private long boardArticleCountCacheTtlSeconds = 60L;
 
     @Transactional
     public ArticleResponse create(ArticleCreateRequest request) {
@@ -166,15 +184,18 @@ public class ArticleService {
             renderedContent.content(),
             renderedContent.contentSource(),
             request.contentFormat(),
+            articlePreviewTextExtractor.extract(renderedContent.content()),
             request.notice()
         );
+        entity.applyContentHash(renderedContent.contentHash());
         ArticleEntity saved = articleRepository.save(entity);
         attachArticleFiles(saved, sanitizedRequest.fileIds());
         user.changePoint(ActivityPointPolicy.CREATE_ARTICLE.delta);
+        articleRecommendationCandidatePool.markStale();
         return articleMapper.toResponse(saved);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ArticleDetailResponse findDetailById(Long id, String clientIp, String userAgent) {
         ArticleEntity article = articleRepository.findByIdAndDeletedAtIsNull(id)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "article not found"));
@@ -195,42 +216,19 @@ public class ArticleService {
             throw new AccessDeniedException("게시글 조회 권한이 없습니다.");
         }
 
-        long hit = articleViewService.increaseHitIfEligible(article.getId(), article.getHit(), clientIp, userAgent);
-
-        long commentCount = getCommentCount(article.getId());
-        ReactionCounts reactionCounts = getReactionCounts(article.getId());
-        short myReaction = resolveMyReaction(article.getId(), user);
-        boolean bookmarked = resolveBookmarked(article.getId(), user);
-        List<FileResponse> attachments = resolveAttachments(article.getId());
-        FileResponse boardImage = resolveBoardImage(board.getId());
-        ArticleBoardResponse boardResponse = new ArticleBoardResponse(
+        long hit = articleViewService.increaseHitIfEligible(
+            article.getId(),
             board.getId(),
-            board.getBoardName(),
-            board.getSlug(),
-            board.getDescription(),
-            board.getVisibility(),
-            boardImage
+            article.getHit(),
+            clientIp,
+            userAgent
         );
 
-        return new ArticleDetailResponse(
-            article.getId(),
-            boardResponse,
-            article.getUser().getId(),
-            authorDisplayResolver.resolveAuthorName(article.getUser()),
-            article.getVisibility(),
-            article.getTitle(),
-            article.getContent(),
-            hit,
-            commentCount,
-            reactionCounts.likeCount(),
-            reactionCounts.dislikeCount(),
-            myReaction,
-            bookmarked,
-            article.isNotice(),
-            article.getCreatedAt(),
-            article.getUpdatedAt(),
-            attachments
-        );
+        // 조회자와 무관한 부분은 캐시에서 읽고, 내 반응/북마크 여부만 요청마다 조회한다.
+        ArticleDetailSnapshot snapshot = articleDetailCacheService.get(article, () -> loadDetailSnapshot(article));
+        short myReaction = resolveMyReaction(article.getId(), user);
+        boolean bookmarked = resolveBookmarked(article.getId(), user);
+        return snapshot.toResponse(hit, myReaction, bookmarked);
     }
 
     @Transactional(readOnly = true)
@@ -298,7 +296,13 @@ public class ArticleService {
             .article(article)
             .build();
         articleBookmarkRepository.save(entity);
-        articleTrendingService.recordBookmarkCreated(article.getId());
+        articleStatsService.recordBookmarkCreated(article.getId());
+        appendTrendingScore(ArticleTrendingOutboxPayload.of(
+            article.getId(),
+            article.getBoard().getId(),
+            ArticleTrendingSignal.BOOKMARK_CREATED
+        ));
+        articleRecommendationService.recordUserActivity(user.getId(), article, UserAffinitySignal.BOOKMARK, null);
         return new ArticleBookmarkStatusResponse(article.getId(), true);
     }
 
@@ -311,7 +315,13 @@ public class ArticleService {
             return new ArticleBookmarkStatusResponse(articleId, false);
         }
         articleBookmarkRepository.deleteByUserIdAndArticleId(user.getId(), articleId);
-        articleTrendingService.recordBookmarkDeleted(articleId);
+        articleStatsService.recordBookmarkDeleted(articleId);
+        appendTrendingScore(ArticleTrendingOutboxPayload.of(
+            articleId,
+            article.getBoard().getId(),
+            ArticleTrendingSignal.BOOKMARK_DELETED
+        ));
+        articleRecommendationService.recordUserActivity(user.getId(), article, null, UserAffinitySignal.BOOKMARK);
         return new ArticleBookmarkStatusResponse(articleId, false);
     }
 
@@ -337,9 +347,22 @@ public class ArticleService {
             reactionType
         );
 
+        articleStatsService.recordReactionChanged(article.getId(), previousReaction, myReaction);
         ReactionCounts counts = getReactionCounts(article.getId());
-        articleTrendingService.recordArticleReactionChanged(article.getId(), previousReaction, myReaction);
+        appendTrendingScore(ArticleTrendingOutboxPayload.reactionChanged(
+            article.getId(),
+            article.getBoard().getId(),
+            previousReaction,
+            myReaction
+        ));
+        articleRecommendationService.recordUserActivity(
+            user.getId(),
+            article,
+            UserAffinitySignal.fromReaction(myReaction),
+            UserAffinitySignal.fromReaction(previousReaction)
+        );
         publishArticleReactionChanged(article, counts, myReaction);
+        articleDetailCacheService.evict(article.getId());
         return new ArticleReactionSummaryResponse(
             article.getId(),
             counts.likeCount(),
@@ -348,10 +371,16 @@ public class ArticleService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // 미리 만든 스냅샷을 메모리에서 읽으므로 트랜잭션(커넥션)을 열지 않는다.
     public List<ArticleTrendingItemResponse> findTrendingPublic(ArticleTrendingWindow window, int limit) {
         ArticleTrendingWindow resolvedWindow = window == null ? ArticleTrendingWindow.DAY : window;
-        return articleTrendingService.findTrendingPublic(resolvedWindow, limit);
+        return articleTrendingSnapshotService.find(resolvedWindow, limit);
+    }
+
+    // 게시판 트렌딩도 짧은 TTL 로컬 스냅샷에서 읽으므로 트랜잭션을 열지 않는다.
+    public List<ArticleTrendingItemResponse> findBoardTrendingPublic(Long boardId, ArticleTrendingWindow window, int limit) {
+        ArticleTrendingWindow resolvedWindow = window == null ? ArticleTrendingWindow.DAY : window;
+        return articleTrendingSnapshotService.findBoard(boardId, resolvedWindow, limit);
     }
 
     @Transactional(readOnly = true)
@@ -365,29 +394,28 @@ public class ArticleService {
     public SliceResponse<ArticleRecentItemResponse> findRecentPublic(int page, int size) {
         int resolvedPage = pageNormalizer.normalizePage(page);
         int resolvedSize = pageNormalizer.normalizeSize(size, MAX_PAGE_SIZE);
-        Pageable pageable = PageRequest.of(resolvedPage, resolvedSize, ARTICLE_SORT);
-
-        Slice<ArticleEntity> slice = articleRepository
-            .findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
-                BoardVisibility.PUBLIC,
-                publicArticleFeedPolicy.excludedBoardSlugs(),
-                ContentVisibility.PUBLIC,
-                pageable
-            );
+        long offset = (long) resolvedPage * resolvedSize;
+
+        // 다음 페이지 존재 여부는 한 건 더 읽어서 판단한다.
+        List<ArticleSummaryRow> fetched = articleRepository.findRecentPublicRows(
+            publicArticleFeedPolicy.excludedBoardSlugs(),
+            offset,
+            resolvedSize + 1
+        );
+        boolean hasNext = fetched.size() > resolvedSize;
+        List<ArticleSummaryRow> rows = hasNext ? fetched.subList(0, resolvedSize) : fetched;
 
-        List<ArticleEntity> articles = slice.getContent();
-        Map<Long, Long> commentCounts = loadCommentCounts(articles, List.of());
-        Map<Long, ReactionCounts> reactionCounts = loadReactionCounts(articles, List.of());
-        List<ArticleRecentItemResponse> items = articles.stream()
-            .map(article -> toRecentItemResponse(article, commentCounts, reactionCounts))
+        Map<Long, ArticleStats> stats = loadStats(rows, List.of());
+        List<ArticleRecentItemResponse> items = rows.stream()
+            .map(row -> toRecentItemResponse(row, stats))
             .toList();
 
         return new SliceResponse<>(
             items,
-            slice.getNumber(),
-            slice.getSize(),
-            slice.hasNext(),
-            slice.hasPrevious()
+            resolvedPage,
+            resolvedSize,
+            hasNext,
+            resolvedPage > 0
         );
     }
 
@@ -428,63 +456,31 @@ public class ArticleService {
         Sort sort = resolveArticleSort(order);
         Pageable pageable = PageRequest.of(resolvedPage, resolvedSize, sort);
 
-        if (categoryId != null && uncategorized) {
-            throw new IllegalArgumentException("categoryId와 uncategorized=true를 동시에 사용할 수 없습니다.");
-        }
-
-        BoardEntity board = getBoardForRead(boardId);
-        Long userId = currentUserService.getOptionalUserId().orElse(null);
-        UserEntity user = userId == null ? null : getUser(userId);
-        BoardMemberEntity member = userId == null
-            ? null
-            : boardMemberRepository.findByUserIdAndBoardId(userId, boardId).orElse(null);
-
-        if (!boardAccessPolicy.canAccessBoard(board, user, member)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "board not found");
-        }
-
-        EnumSet<ContentVisibility> visibilities = boardAccessPolicy.resolveAllowedVisibilities(board, user, member);
-        if (visibilities.isEmpty()) {
-            throw new AccessDeniedException("게시글 조회 권한이 없습니다.");
-        }
-
-        ArticleCategoryEntity category = getCategoryForBoard(categoryId, board);
-        Page<ArticleEntity> pageResult;
-        if (uncategorized) {
-            pageResult = articleRepository.findByBoardIdAndCategoryIsNullAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-                boardId,
-                visibilities,
-                pageable
-            );
-        } else if (category == null) {
-            pageResult = articleRepository.findByBoardIdAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-                boardId,
-                visibilities,
-                pageable
-            );
-        } else {
-            pageResult = articleRepository.findByBoardIdAndCategoryIdAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-                boardId,
-                category.getId(),
-                visibilities,
-                pageable
-            );
-        }
+        BoardListContext context = resolveBoardListContext(boardId, categoryId, uncategorized);
+        EnumSet<ContentVisibility> visibilities = context.visibilities();
+        ArticleCategoryEntity category = context.category();
+        Page<ArticleSummaryRow> pageResult = articleRepository.findBoardArticleRows(
+            boardId,
+            category == null ? null : category.getId(),
+            uncategorized,
+            visibilities,
+            pageable
+        );
 
-        List<ArticleEntity> pinnedEntities = List.of();
+        List<ArticleSummaryRow> pinnedRows = List.of();
         if (resolvedPage == 0 && category == null && !uncategorized) {
-            pinnedEntities = articleRepository.findByBoardIdAndNoticeTrueAndVisibilityInAndDeletedAtIsNull(
+            pinnedRows = articleRepository.findPinnedArticleRows(
                 boardId,
                 visibilities,
-                PageRequest.of(0, PINNED_LIMIT, sort)
+                order == SortOrder.OLDEST,
+                PINNED_LIMIT
             );
         }
 
-        Map<Long, Long> commentCounts = loadCommentCounts(pageResult.getContent(), pinnedEntities);
-        Map<Long, ReactionCounts> reactionCounts = loadReactionCounts(pageResult.getContent(), pinnedEntities);
+        Map<Long, ArticleStats> stats = loadStats(pageResult.getContent(), pinnedRows);
 
-        List<ArticleSummaryResponse> pinned = mapSummaries(pinnedEntities, commentCounts, reactionCounts);
-        List<ArticleSummaryResponse> items = mapSummaries(pageResult.getContent(), commentCounts, reactionCounts);
+        List<ArticleSummaryResponse> pinned = mapSummaries(pinnedRows, stats);
+        List<ArticleSummaryResponse> items = mapSummaries(pageResult.getContent(), stats);
 
         PageResponse<ArticleSummaryResponse> pageResponse = new PageResponse<>(
             items,
@@ -499,6 +495,65 @@ public class ArticleService {
         return new BoardArticleListResponse(pinned, pageResponse);
     }
 
+    @Transactional(readOnly = true)
+    public BoardArticleCursorResponse getBoardArticlesByCursor(
+        Long boardId,
+        String cursor,
+        int size,
+        SortOrder order,
+        Long categoryId,
+        boolean uncategorized,
+        boolean includeTotal
+    ) {
+        int resolvedSize = pageNormalizer.normalizeSize(size, MAX_PAGE_SIZE);
+        SortOrder resolvedOrder = order == null ? SortOrder.LATEST : order;
+        ArticleKeysetCursor keysetCursor = articleListCursorCodec.decode(cursor, resolvedOrder);
+
+        BoardListContext context = resolveBoardListContext(boardId, categoryId, uncategorized);
+        Long resolvedCategoryId = context.category() == null ? null : context.category().getId();
+        boolean ascending = resolvedOrder == SortOrder.OLDEST;
+
+        // 다음 페이지 존재 여부는 한 건 더 읽어서 판단하고 count 쿼리는 실행하지 않는다.
+        List<ArticleSummaryRow> fetched = articleRepository.findBoardArticleRowsByKeyset(
+            boardId,
+            resolvedCategoryId,
+            uncategorized,
+            context.visibilities(),
+            keysetCursor,
+            ascending,
+            resolvedSize + 1
+        );
+        boolean hasNext = fetched.size() > resolvedSize;
+        List<ArticleSummaryRow> rows = hasNext ? fetched.subList(0, resolvedSize) : fetched;
+        String nextCursor = hasNext
+            ? articleListCursorCodec.encode(rows.get(rows.size() - 1), resolvedOrder)
+            : null;
+
+        List<ArticleSummaryRow> pinnedRows = List.of();
+        if (keysetCursor == null && context.category() == null && !uncategorized) {
+            pinnedRows = articleRepository.findPinnedArticleRows(
+                boardId,
+                context.visibilities(),
+                ascending,
+                PINNED_LIMIT
+            );
+        }
+
+        Map<Long, ArticleStats> stats = loadStats(rows, pinnedRows);
+        Long approximateTotal = includeTotal
+            ? resolveApproximateTotal(boardId, resolvedCategoryId, uncategorized, context.visibilities())
+            : null;
+
+        CursorResponse<ArticleSummaryResponse> cursorResponse = new CursorResponse<>(
+            mapSummaries(rows, stats),
+            resolvedSize,
+            nextCursor,
+            hasNext,
+            approximateTotal
+        );
+        return new BoardArticleCursorResponse(mapSummaries(pinnedRows, stats), cursorResponse);
+    }
+
     @Transactional
     public ArticleResponse update(Long id, ArticleUpdateRequest request) {
         ArticleEntity entity = articleRepository.findByIdAndDeletedAtIsNull(id)
@@ -507,20 +562,39 @@ public class ArticleService {
         sanctionGuard.requireNotSanctioned(user, entity.getBoard(), "제재 상태라 게시글을 수정할 수 없습니다.");
         requireOwnership(user, entity);
         ArticleCategoryEntity category = getCategoryForBoard(request.categoryId(), entity.getBoard());
-        ArticleContentService.RenderedContent renderedContent = articleContentService.render(
-            request.contentSource(),
-            request.contentFormat()
-        );
-        entity.update(
-            category,
-            request.visibility(),
-            request.title(),
-            renderedContent.content(),
-            renderedContent.contentSource(),
-            request.contentFormat(),
-            request.notice()
-        );
+        String contentHash = articleContentService.contentHash(request.contentSource(), request.contentFormat());
+        if (contentHash != null && contentHash.equals(entity.getContentHash())) {
+            // 본문이 그대로면 렌더링/sanitize/미리보기 추출을 건너뛰고 저장된 값을 유지한다.
+            entity.update(
+                category,
+                request.visibility(),
+                request.title(),
+                entity.getContent(),
+                entity.getContentSource(),
+                entity.getContentFormat(),
+                entity.getPreviewText(),
+                request.notice()
+            );
+        } else {
+            ArticleContentService.RenderedContent renderedContent = articleContentService.render(
+                request.contentSource(),
+                request.contentFormat()
+            );
+            entity.update(
+                category,
+                request.visibility(),
+                request.title(),
+                renderedContent.content(),
+                renderedContent.contentSource(),
+                request.contentFormat(),
+                articlePreviewTextExtractor.extract(renderedContent.content()),
+                request.notice()
+            );
+            entity.applyContentHash(renderedContent.contentHash());
+        }
         syncArticleFiles(entity, request.fileIds());
+        articleDetailCacheService.evict(entity.getId());
+        articleRecommendationCandidatePool.markStale();
         return articleMapper.toResponse(entity);
     }
 
@@ -534,6 +608,8 @@ public class ArticleService {
         if (!entity.isDeleted()) {
             entity.softDelete();
             softDeleteAttachments(entity.getId());
+            articleDetailCacheService.evict(entity.getId());
+            articleRecommendationCandidatePool.markStale();
             if (entity.getUser().getId().equals(user.getId())) {
                 user.changePoint(ActivityPointPolicy.DELETE_ARTICLE.delta);
             }
@@ -769,47 +845,47 @@ public class ArticleService {
         throw new AccessDeniedException("게시글 삭제 권한이 없습니다.");
     }
 
-    private Map<Long, Long> loadCommentCounts(
-        List<ArticleEntity> items,
-        List<ArticleEntity> pinned
+    private Map<Long, ArticleStats> loadStats(
+        List<ArticleSummaryRow> items,
+        List<ArticleSummaryRow> pinned
     ) {
         Set<Long> ids = new LinkedHashSet<>();
-        items.forEach(article -> ids.add(article.getId()));
-        pinned.forEach(article -> ids.add(article.getId()));
-        if (ids.isEmpty()) {
-            return Map.of();
-        }
-        return commentRepository.countByArticleIds(ids).stream()
-            .collect(Collectors.toMap(
-                CommentRepository.CommentCountView::getArticleId,
-                CommentRepository.CommentCountView::getCount
-            ));
+        items.forEach(row -> ids.add(row.id()));
+        pinned.forEach(row -> ids.add(row.id()));
+        return articleStatsService.loadStats(ids);
     }
 
-    private Map<Long, ReactionCounts> loadReactionCounts(
-        List<ArticleEntity> items,
-        List<ArticleEntity> pinned
-    ) {
-        List<ArticleEntity> combined = new ArrayList<>(items);
-        combined.addAll(pinned);
-        List<Long> articleIds = combined.stream()
-            .map(ArticleEntity::getId)
-            .toList();
-        if (articleIds.isEmpty()) {
-            return Map.of();
-        }
-
-        Map<Long, ReactionCounts> counts = new HashMap<>();
-        List<ArticleReactionCountView> result = articleReactionRepository.countByArticleIds(articleIds);
-        for (ArticleReactionCountView row : result) {
-            ReactionCounts current = counts.getOrDefault(row.getArticleId(), ReactionCounts.empty());
-            if (row.getReactionType() == 1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount() + row.getCount(), current.dislikeCount()));
-            } else if (row.getReactionType() == -1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount(), current.dislikeCount() + row.getCount()));
-            }
-        }
-        return counts;
+    private ArticleDetailSnapshot loadDetailSnapshot(ArticleEntity article) {
+        BoardEntity board = article.getBoard();
+        long commentCount = getCommentCount(article.getId());
+        ReactionCounts reactionCounts = getReactionCounts(article.getId());
+        List<FileResponse> attachments = resolveAttachments(article.getId());
+        FileResponse boardImage = resolveBoardImage(board.getId());
+        ArticleBoardResponse boardResponse = new ArticleBoardResponse(
+            board.getId(),
+            board.getBoardName(),
+            board.getSlug(),
+            board.getDescription(),
+            board.getVisibility(),
+            boardImage
+        );
+
+        return new ArticleDetailSnapshot(
+            article.getId(),
+            boardResponse,
+            article.getUser().getId(),
+            authorDisplayResolver.resolveAuthorName(article.getUser()),
+            article.getVisibility(),
+            article.getTitle(),
+            article.getContent(),
+            commentCount,
+            reactionCounts.likeCount(),
+            reactionCounts.dislikeCount(),
+            article.isNotice(),
+            article.getCreatedAt(),
+            article.getUpdatedAt(),
+            attachments
+        );
     }
 
     private long getCommentCount(Long articleId) {
@@ -820,8 +896,17 @@ public class ArticleService {
     }
 
     private ReactionCounts getReactionCounts(Long articleId) {
-        long likeCount = articleReactionRepository.countByArticleIdAndReactionType(articleId, (short) 1);
-        long dislikeCount = articleReactionRepository.countByArticleIdAndReactionType(articleId, (short) -1);
+        long likeCount = 0L;
+        long dislikeCount = 0L;
+        // 좋아요/싫어요를 반응 유형별 group by 한 번으로 집계한다.
+        List<ArticleReactionCountView> views = articleReactionRepository.countByArticleIds(List.of(articleId));
+        for (ArticleReactionCountView view : views) {
+            if (view.getReactionType() == 1) {
+                likeCount = view.getCount();
+            } else if (view.getReactionType() == -1) {
+                dislikeCount = view.getCount();
+            }
+        }
         return new ReactionCounts(likeCount, dislikeCount);
     }
 
@@ -850,7 +935,14 @@ public class ArticleService {
         payload.put("likeCount", counts.likeCount());
         payload.put("dislikeCount", counts.dislikeCount());
         payload.put("myReaction", myReaction);
-        boardRealtimeSseService.publishReactionChanged(article.getBoard().getId(), payload);
+        outboxEventWriter.append(
+            OutboxEventType.BOARD_REALTIME,
+            BoardRealtimeOutboxPayload.reactionChanged(article.getBoard().getId(), payload)
+        );
+    }
+
+    private void appendTrendingScore(ArticleTrendingOutboxPayload payload) {
+        outboxEventWriter.append(OutboxEventType.ARTICLE_TRENDING_SCORE, payload);
     }
 
     private ArticleEntity getArticleForReaction(Long articleId, UserEntity user) {
@@ -895,67 +987,107 @@ public class ArticleService {
     }
 
     private List<ArticleSummaryResponse> mapSummaries(
-        List<ArticleEntity> articles,
-        Map<Long, Long> commentCounts,
-        Map<Long, ReactionCounts> reactionCounts
+        List<ArticleSummaryRow> rows,
+        Map<Long, ArticleStats> stats
     ) {
-        return articles.stream()
-            .map(article -> new ArticleSummaryResponse(
-                article.getId(),
-                article.getBoard().getId(),
-                article.getUser().getId(),
-                authorDisplayResolver.resolveAuthorName(article.getUser()),
-                article.getTitle(),
-                article.getCategory() != null ? article.getCategory().getId() : null,
-                article.getCategory() != null ? article.getCategory().getCategoryName() : null,
-                article.getHit(),
-                commentCounts.getOrDefault(article.getId(), 0L),
-                reactionCounts.getOrDefault(article.getId(), ReactionCounts.empty()).likeCount(),
-                reactionCounts.getOrDefault(article.getId(), ReactionCounts.empty()).dislikeCount(),
-                article.isNotice(),
-                article.getCreatedAt()
-            ))
+        return rows.stream()
+            .map(row -> toSummaryResponse(row, stats.getOrDefault(row.id(), ArticleStats.empty())))
             .toList();
     }
 
+    private ArticleSummaryResponse toSummaryResponse(ArticleSummaryRow row, ArticleStats stats) {
+        return new ArticleSummaryResponse(
+            row.id(),
+            row.boardId(),
+            row.userId(),
+            authorDisplayResolver.resolveAuthorName(row.authorDisplayName(), row.authorUserName()),
+            row.title(),
+            row.categoryId(),
+            row.categoryName(),
+            row.hit(),
+            stats.commentCount(),
+            stats.likeCount(),
+            stats.dislikeCount(),
+            row.notice(),
+            row.createdAt()
+        );
+    }
+
     private ArticleRecentItemResponse toRecentItemResponse(
-        ArticleEntity article,
-        Map<Long, Long> commentCounts,
-        Map<Long, ReactionCounts> reactionCounts
+        ArticleSummaryRow row,
+        Map<Long, ArticleStats> stats
     ) {
-        ReactionCounts counts = reactionCounts.getOrDefault(article.getId(), ReactionCounts.empty());
+        ArticleStats counts = stats.getOrDefault(row.id(), ArticleStats.empty());
         return new ArticleRecentItemResponse(
-            article.getId(),
-            article.getBoard().getId(),
-            article.getBoard().getSlug(),
-            article.getBoard().getBoardName(),
-            article.getUser().getId(),
-            authorDisplayResolver.resolveAuthorName(article.getUser()),
-            article.getTitle(),
-            buildPreviewText(article.getContent()),
-            commentCounts.getOrDefault(article.getId(), 0L),
+            row.id(),
+            row.boardId(),
+            row.boardSlug(),
+            row.boardName(),
+            row.userId(),
+            authorDisplayResolver.resolveAuthorName(row.authorDisplayName(), row.authorUserName()),
+            row.title(),
+            row.previewText(),
+            counts.commentCount(),
             counts.likeCount(),
-            article.getHit(),
-            article.getCreatedAt()
+            row.hit(),
+            row.createdAt()
         );
     }
 
-    private String buildPreviewText(String html) {
-        if (html == null || html.isBlank()) {
-            return "";
+    private BoardListContext resolveBoardListContext(Long boardId, Long categoryId, boolean uncategorized) {
+        if (categoryId != null && uncategorized) {
+            throw new IllegalArgumentException("categoryId와 uncategorized=true를 동시에 사용할 수 없습니다.");
         }
-        String withoutCodeBlocks = html
-            .replaceAll("(?is)<pre\\b[^>]*>.*?</pre>", " ")
-            .replaceAll("(?is)<code\\b[^>]*>.*?</code>", " ");
-        String plainText = withoutCodeBlocks.replaceAll("(?is)<[^>]+>", " ");
-        String normalized = HtmlUtils.htmlUnescape(plainText)
-            .replace('\u00A0', ' ')
-            .replaceAll("\\s+", " ")
-            .trim();
-        if (normalized.length() <= 140) {
-            return normalized;
+
+        BoardEntity board = getBoardForRead(boardId);
+        Long userId = currentUserService.getOptionalUserId().orElse(null);
+        UserEntity user = userId == null ? null : getUser(userId);
+        BoardMemberEntity member = userId == null
+            ? null
+            : boardMemberRepository.findByUserIdAndBoardId(userId, boardId).orElse(null);
+
+        if (!boardAccessPolicy.canAccessBoard(board, user, member)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "board not found");
+        }
+
+        EnumSet<ContentVisibility> visibilities = boardAccessPolicy.resolveAllowedVisibilities(board, user, member);
+        if (visibilities.isEmpty()) {
+            throw new AccessDeniedException("게시글 조회 권한이 없습니다.");
+        }
+
+        ArticleCategoryEntity category = getCategoryForBoard(categoryId, board);
+        return new BoardListContext(category, visibilities);
+    }
+
+    private Long resolveApproximateTotal(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        EnumSet<ContentVisibility> visibilities
+    ) {
+        try {
+            Long cached = boardArticleCountCacheStore.find(boardId, categoryId, uncategorized, visibilities);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (Exception ex) {
+            log.warn("게시글 개수 캐시 조회에 실패했습니다. boardId={}", boardId, ex);
+        }
+
+        long total = articleRepository.countBoardArticles(boardId, categoryId, uncategorized, visibilities);
+        try {
+            boardArticleCountCacheStore.save(
+                boardId,
+                categoryId,
+                uncategorized,
+                visibilities,
+                total,
+                Duration.ofSeconds(Math.max(1L, boardArticleCountCacheTtlSeconds))
+            );
+        } catch (Exception ex) {
+            log.warn("게시글 개수 캐시 저장에 실패했습니다. boardId={}", boardId, ex);
         }
-        return normalized.substring(0, 139).trim() + "…";
+        return total;
     }
 
     private Sort resolveArticleSort(SortOrder order) {
@@ -969,10 +1101,13 @@ public class ArticleService {
         return ARTICLE_SORT;
     }
 
+    private record BoardListContext(
+        ArticleCategoryEntity category,
+        EnumSet<ContentVisibility> visibilities
+    ) {
+    }
+
     private record ReactionCounts(long likeCount, long dislikeCount) {
-        private static ReactionCounts empty() {
-            return new ReactionCounts(0, 0);
-        }
     }
 
 }
@@ -0,0 +1,82 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * tb_article_stats 보정/백필 잡.
+ * 쓰기 경로의 증감 반영이 누락되거나 경합으로 어긋난 카운터를 원본 테이블 기준으로 article_id 범위 단위 재집계한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleStatsRepairService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ArticleStatsService articleStatsService;
+
+    @Value("${app.article.stats.repair-enabled:true}")
+    private boolean repairEnabled = true;
+
+    @Value("${app.article.stats.repair-batch-size:500}")
+    private int repairBatchSize = 500;
+
+    @Scheduled(cron = "${app.article.stats.repair-cron:0 40 4 * * *}", zone = "Asia/Seoul")
+    public void repairScheduled() {
+        if (!repairEnabled) {
+            return;
+        }
+        try {
+            repairAll();
+        } catch (Exception ex) {
+            log.warn("게시글 집계 보정 잡 실행에 실패했습니다.", ex);
+        }
+    }
+
+    public RepairResult repairAll() {
+        int batchSize = Math.max(1, repairBatchSize);
+        long afterId = 0L;
+        long scanned = 0L;
+        long repaired = 0L;
+        while (true) {
+            List<Long> articleIds = findArticleIdsAfter(afterId, batchSize);
+            if (articleIds.isEmpty()) {
+                break;
+            }
+            // 배치마다 별도 트랜잭션으로 재집계해 장시간 잠금을 피한다.
+            repaired += articleStatsService.recalculate(articleIds);
+            scanned += articleIds.size();
+            afterId = articleIds.get(articleIds.size() - 1);
+            if (articleIds.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("게시글 집계 보정 완료: scanned={}, repaired={}", scanned, repaired);
+        return new RepairResult(scanned, repaired);
+    }
+
+    private List<Long> findArticleIdsAfter(long afterId, int batchSize) {
+        String sql = """
+            select article_id
+            from tb_articles
+            where article_id > :afterId
+            order by article_id
+            limit :batchSize
+            """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("afterId", afterId)
+            .addValue("batchSize", batchSize);
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    public record RepairResult(long scanned, long repaired) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mocktalkback.domain.article.entity.ArticleStatsEntity;
+import com.mocktalkback.domain.article.repository.ArticleStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록/피드 화면에서 사용하는 게시글 집계 카운터(tb_article_stats)를 관리한다.
+ * 댓글/반응/북마크 쓰기 경로에서 증감분을 반영하고, 조회 경로는 PK 조회 한 번으로 카운터를 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleStatsService {
+
+    private final ArticleStatsRepository articleStatsRepository;
+
+    @Transactional(readOnly = true)
+    public Map<Long, ArticleStats> loadStats(Collection<Long> articleIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (articleIds != null) {
+            articleIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(ids::add);
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, ArticleStats> result = new HashMap<>();
+        for (ArticleStatsEntity entity : articleStatsRepository.findAllByArticleIdIn(ids)) {
+            result.put(entity.getArticleId(), new ArticleStats(
+                entity.getCommentCount(),
+                entity.getLikeCount(),
+                entity.getDislikeCount(),
+                entity.getBookmarkCount()
+            ));
+        }
+        return result;
+    }
+
+    @Transactional
+    public void recordCommentCreated(Long articleId) {
+        applyDelta(articleId, 1L, 0L, 0L, 0L);
+    }
+
+    @Transactional
+    public void recordCommentDeleted(Long articleId) {
+        applyDelta(articleId, -1L, 0L, 0L, 0L);
+    }
+
+    @Transactional
+    public void recordBookmarkCreated(Long articleId) {
+        applyDelta(articleId, 0L, 0L, 0L, 1L);
+    }
+
+    @Transactional
+    public void recordBookmarkDeleted(Long articleId) {
+        applyDelta(articleId, 0L, 0L, 0L, -1L);
+    }
+
+    @Transactional
+    public void recordReactionChanged(Long articleId, short previousReaction, short currentReaction) {
+        if (previousReaction == currentReaction) {
+            return;
+        }
+        long likeDelta = reactionCount(currentReaction, (short) 1) - reactionCount(previousReaction, (short) 1);
+        long dislikeDelta = reactionCount(currentReaction, (short) -1) - reactionCount(previousReaction, (short) -1);
+        applyDelta(articleId, 0L, likeDelta, dislikeDelta, 0L);
+    }
+
+    /**
+     * 일괄 삭제처럼 증감분을 알기 어려운 쓰기 이후에는 원본 테이블 기준으로 다시 집계한다.
+     */
+    @Transactional
+    public int recalculate(Collection<Long> articleIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (articleIds != null) {
+            articleIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(ids::add);
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return articleStatsRepository.recalculate(ids);
+    }
+
+    private void applyDelta(Long articleId, long commentDelta, long likeDelta, long dislikeDelta, long bookmarkDelta) {
+        if (articleId == null) {
+            throw new IllegalArgumentException("게시글 ID가 비어 있습니다.");
+        }
+        if (commentDelta == 0L && likeDelta == 0L && dislikeDelta == 0L && bookmarkDelta == 0L) {
+            return;
+        }
+        articleStatsRepository.applyDelta(articleId, commentDelta, likeDelta, dislikeDelta, bookmarkDelta);
+    }
+
+    private long reactionCount(short reactionType, short target) {
+        return reactionType == target ? 1L : 0L;
+    }
+
+    public record ArticleStats(long commentCount, long likeCount, long dislikeCount, long bookmarkCount) {
+        private static final ArticleStats EMPTY = new ArticleStats(0L, 0L, 0L, 0L);
+
+        public static ArticleStats empty() {
+            return EMPTY;
+        }
+    }
+}
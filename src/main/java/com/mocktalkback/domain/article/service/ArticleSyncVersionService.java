@@ -1,39 +1,247 @@
 package com.mocktalkback.domain.article.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 게시글 댓글 sync_version 발급/조회.
+ * <p>
+ * 버전은 Redis INCR로 발급해 댓글 트랜잭션이 tb_articles 행을 잠그지 않게 한다.
+ * tb_articles.sync_version은 주기적으로 일괄 반영하는 하한값(floor)이며, 카운터가 없으면
+ * (만료, Redis 재시작/장애 조치) DB의 게시글/댓글 버전 중 큰 값에 seed-gap을 더해 다시 시작한다.
+ * 뒤처진 replica로 장애 조치되어 예전 카운터가 남아 있는 경우는 이 인스턴스가 본 발급 watermark보다
+ * 작은 값이 읽히는 것으로 감지하고, seed epoch를 올려 남은 카운터도 같은 방식으로 다시 seed한다.
+ * 버전은 단조 증가만 보장하고 연속성은 보장하지 않는다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ArticleSyncVersionService {
 
+    private final ArticleSyncVersionStore articleSyncVersionStore;
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    // 이 인스턴스가 본 가장 큰 발급 watermark. Redis에서 이보다 작은 값이 읽히면 Redis가 뒤로 간 것이다.
+    private final AtomicLong observedWatermark = new AtomicLong();
+
+    @Value("${app.article.sync-version.seed-gap:1000}")
+    private long seedGap = 1000L;
+
+    @Value("${app.article.sync-version.key-ttl-seconds:604800}")
+    private long keyTtlSeconds = 604800L;
+
+    @Value("${app.article.sync-version.inflight-timeout-ms:30000}")
+    private long inflightTimeoutMillis = 30000L;
+
+    @Value("${app.article.sync-version.flush-batch-size:500}")
+    private int flushBatchSize = 500;
+
+    @Autowired
+    public ArticleSyncVersionService(
+        ArticleSyncVersionStore articleSyncVersionStore,
+        NamedParameterJdbcTemplate jdbcTemplate
+    ) {
+        this(articleSyncVersionStore, jdbcTemplate, Clock.systemUTC());
+    }
+
+    ArticleSyncVersionService(
+        ArticleSyncVersionStore articleSyncVersionStore,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        Clock clock
+    ) {
+        this.articleSyncVersionStore = articleSyncVersionStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
 
-    @Transactional
+    /**
+     * 새 버전을 발급한다. 트랜잭션 안에서 호출하면 커밋/롤백까지 in-flight로 남아 읽는 쪽의 기준 버전을 막는다.
+     */
     public long increaseAndGet(Long articleId) {
+        Duration ttl = Duration.ofSeconds(keyTtlSeconds);
+        long now = clock.millis();
+        Long version = issue(articleId, now, ttl);
+        if (version == null) {
+            articleSyncVersionStore.seed(articleId, seedVersion(articleId), ttl);
+            version = issue(articleId, now, ttl);
+            if (version == null) {
+                throw new IllegalStateException("게시글 동기화 버전을 발급하지 못했습니다: " + articleId);
+            }
+        }
+        completeAfterTransaction(articleId, version);
+        return version;
+    }
+
+    /**
+     * 커밋이 끝난 변경만 포함하는 최신 버전. 댓글 캐시 키, ETag, 변경분 조회 상한으로 쓴다.
+     */
+    public long currentVersion(Long articleId) {
+        long abandonedBefore = clock.millis() - inflightTimeoutMillis;
+        long observed = observedWatermark.get();
+        Long version = observe(articleSyncVersionStore.stable(articleId, abandonedBefore), observed);
+        if (version != null) {
+            return version;
+        }
+        // 카운터가 없거나 믿을 수 없으면 예전 키로 만든 캐시/ETag가 다시 쓰이지 않도록 읽기에서도 seed해 버전을 올린다.
+        long seed = seedVersion(articleId);
+        articleSyncVersionStore.seed(articleId, seed, Duration.ofSeconds(keyTtlSeconds));
+        observed = observedWatermark.get();
+        version = observe(articleSyncVersionStore.stable(articleId, abandonedBefore), observed);
+        return version == null ? seed : version;
+    }
+
+    /**
+     * @return 발급한 버전, 현재 epoch로 seed된 카운터가 없거나 Redis가 뒤로 가 다시 seed해야 하면 null
+     */
+    private Long issue(Long articleId, long nowMillis, Duration ttl) {
+        long observed = observedWatermark.get();
+        ArticleSyncVersionStore.Reading issued = articleSyncVersionStore.next(articleId, nowMillis, ttl);
+        Long version = observe(issued, observed);
+        if (version == null && issued.version() != null) {
+            // 예전 카운터에서 받은 버전은 쓰지 않으므로 in-flight에 남겨 읽기 기준을 막지 않게 바로 뺀다.
+            articleSyncVersionStore.complete(articleId, issued.version());
+        }
+        return version;
+    }
+
+    /**
+     * watermark가 요청 전에 이 인스턴스가 본 값보다 작으면 Redis가 기록을 잃은 것이므로 새 seed epoch를 시작한다.
+     * 남아 있던 카운터는 이미 커밋된 댓글이 가진 버전을 다시 발급할 수 있어 쓰지 않는다.
+     * 비교 기준은 요청 전에 읽어야 한다. 요청 뒤에 읽으면 동시에 돌던 다른 스레드가 올린 값과 비교하게 된다.
+     *
+     * @param observed 요청을 보내기 전의 관측 watermark
+     * @return 믿을 수 있는 버전, 다시 seed해야 하면 null
+     */
+    private Long observe(ArticleSyncVersionStore.Reading reading, long observed) {
+        if (reading.watermark() < observed) {
+            log.warn(
+                "게시글 동기화 버전 watermark가 뒤로 가 카운터를 다시 seed합니다. watermark={}, observed={}",
+                reading.watermark(),
+                observed
+            );
+            articleSyncVersionStore.recover(observed);
+            return null;
+        }
+        observedWatermark.accumulateAndGet(reading.watermark(), Math::max);
+        return reading.version();
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.sync-version.flush-interval-ms:5000}")
+    public void flushPending() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 카운터 값을 tb_articles.sync_version에 일괄 반영한다. 더 큰 값만 쓰므로 여러 인스턴스가 동시에 반영해도 줄지 않는다.
+     */
+    synchronized int flush() {
+        int batchSize = Math.max(1, flushBatchSize);
+        int updatedRows = 0;
+        while (true) {
+            List<Long> articleIds = articleSyncVersionStore.popDirty(batchSize);
+            if (articleIds.isEmpty()) {
+                return updatedRows;
+            }
+            // article_id 순으로 정렬해 여러 인스턴스가 동시에 반영해도 행 잠금 순서가 같도록 한다.
+            Map<Long, Long> counters = new TreeMap<>(articleSyncVersionStore.counters(articleIds));
+            try {
+                updatedRows += updateFloors(counters);
+            } catch (Exception ex) {
+                articleSyncVersionStore.markDirty(articleIds);
+                log.warn("게시글 동기화 버전 일괄 반영에 실패해 다음 주기로 미룹니다. size={}", articleIds.size(), ex);
+                return updatedRows;
+            }
+            if (articleIds.size() < batchSize) {
+                return updatedRows;
+            }
+        }
+    }
+
+    private int updateFloors(Map<Long, Long> counters) {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = counters.entrySet().stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("articleId", entry.getKey())
+                .addValue("syncVersion", entry.getValue()))
+            .toArray(SqlParameterSource[]::new);
         String sql = """
             update tb_articles
-            set sync_version = sync_version + 1
+            set sync_version = greatest(sync_version, :syncVersion)
             where article_id = :articleId
-              and deleted_at is null
-            returning sync_version
             """;
+        int updated = 0;
+        for (int rows : jdbcTemplate.batchUpdate(sql, batch)) {
+            updated += Math.max(rows, 0);
+        }
+        return updated;
+    }
 
-        MapSqlParameterSource params = new MapSqlParameterSource("articleId", articleId);
-        Long nextSyncVersion = jdbcTemplate.query(sql, params, rs -> {
-            if (!rs.next()) {
-                return null;
-            }
-            return rs.getLong("sync_version");
-        });
+    private long seedVersion(Long articleId) {
+        return seedFloor(articleId) + seedGap;
+    }
 
-        if (nextSyncVersion == null) {
+    /**
+     * 반영된 하한과 커밋된 댓글 버전 중 큰 값. 반영 전에 Redis를 잃어도 클라이언트가 본 버전보다 작아지지 않는다.
+     */
+    private long seedFloor(Long articleId) {
+        String sql = """
+            select greatest(
+                a.sync_version,
+                coalesce((select max(c.last_sync_version) from tb_comments c where c.article_id = a.article_id), 0)
+            )
+            from tb_articles a
+            where a.article_id = :articleId
+              and a.deleted_at is null
+            """;
+        List<Long> floors = jdbcTemplate.queryForList(
+            sql,
+            new MapSqlParameterSource("articleId", articleId),
+            Long.class
+        );
+        if (floors.isEmpty() || floors.get(0) == null) {
             throw new IllegalArgumentException("article not found: " + articleId);
         }
-        return nextSyncVersion;
+        return floors.get(0);
+    }
+
+    private void completeAfterTransaction(Long articleId, long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            articleSyncVersionStore.complete(articleId, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    articleSyncVersionStore.complete(articleId, version);
+                } catch (Exception ex) {
+                    // 정리하지 못한 항목은 inflight-timeout-ms가 지나면 읽는 쪽에서 버린다.
+                    log.warn("게시글 동기화 버전 in-flight 정리에 실패했습니다. articleId={}, version={}", articleId, version, ex);
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,198 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 댓글 sync_version 카운터(Redis).
+ * <p>
+ * 버전을 발급하면 커밋 전까지 in-flight ZSET에 남겨 두고, 읽는 쪽은 가장 오래된 in-flight 버전 바로 아래까지만 본다.
+ * 발급 순서와 커밋 순서가 달라도 읽은 버전 이하의 변경은 모두 커밋된 상태가 된다.
+ * <p>
+ * 카운터는 seed epoch와 함께 저장한다. 발급마다 올라가는 watermark가 뒤로 가면(뒤처진 replica로 장애 조치 등)
+ * epoch를 올려 남아 있던 예전 카운터를 모두 DB 하한에서 다시 seed하게 한다.
+ */
+@Service
+public class ArticleSyncVersionStore {
+
+    private static final String COUNTER_KEY_PREFIX = "article:sync-version:";
+    private static final String INFLIGHT_KEY_PREFIX = "article:sync-version:inflight:";
+    private static final String DIRTY_KEY = "article:sync-version:dirty";
+    private static final String ARTICLE_EPOCH_KEY_PREFIX = "article:sync-version:epoch:";
+    private static final String EPOCH_KEY = "article:sync-version:epoch";
+    private static final String WATERMARK_KEY = "article:sync-version:watermark";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> nextScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> stableScript;
+    private final RedisScript<Long> seedScript;
+    private final RedisScript<Long> recoverScript;
+
+    public ArticleSyncVersionStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nextScript = loadScript("redis/article_sync_version_next.lua", List.class);
+        this.stableScript = loadScript("redis/article_sync_version_stable.lua", List.class);
+        this.seedScript = loadScript("redis/article_sync_version_seed.lua", Long.class);
+        this.recoverScript = loadScript("redis/article_sync_version_recover.lua", Long.class);
+    }
+
+    /**
+     * 카운터를 INCR하고 발급한 버전을 in-flight로 등록한다.
+     *
+     * @return 발급한 버전(현재 epoch로 seed된 카운터가 없으면 null)과 watermark
+     */
+    public Reading next(Long articleId, long nowMillis, Duration ttl) {
+        List<?> result = stringRedisTemplate.execute(
+            nextScript,
+            List.of(
+                counterKey(articleId),
+                inflightKey(articleId),
+                DIRTY_KEY,
+                articleEpochKey(articleId),
+                EPOCH_KEY,
+                WATERMARK_KEY
+            ),
+            String.valueOf(nowMillis),
+            String.valueOf(articleId),
+            String.valueOf(ttl.toSeconds())
+        );
+        return toReading(result);
+    }
+
+    /**
+     * 현재 epoch로 seed된 카운터가 없을 때만 seed 값으로 만든다. 예전 epoch의 카운터는 줄이지 않고 올리기만 한다.
+     * 동시에 여러 요청이 seed해도 먼저 쓴 값이 유지된다.
+     */
+    public void seed(Long articleId, long version, Duration ttl) {
+        stringRedisTemplate.execute(
+            seedScript,
+            List.of(counterKey(articleId), articleEpochKey(articleId), EPOCH_KEY),
+            String.valueOf(version),
+            String.valueOf(ttl.toSeconds())
+        );
+    }
+
+    /**
+     * @return 열린 트랜잭션이 발급받은 버전보다 낮은 최신 버전(현재 epoch로 seed된 카운터가 없으면 null)과 watermark
+     */
+    public Reading stable(Long articleId, long abandonedBeforeMillis) {
+        List<?> result = stringRedisTemplate.execute(
+            stableScript,
+            List.of(
+                counterKey(articleId),
+                inflightKey(articleId),
+                articleEpochKey(articleId),
+                EPOCH_KEY,
+                WATERMARK_KEY
+            ),
+            String.valueOf(abandonedBeforeMillis)
+        );
+        return toReading(result);
+    }
+
+    /**
+     * watermark가 관측한 값보다 작으면 새 seed epoch를 시작하고 watermark를 관측한 값으로 되돌린다.
+     * 여러 인스턴스가 같은 유실을 동시에 발견해도 epoch는 한 번만 오른다.
+     */
+    public void recover(long observedWatermark) {
+        stringRedisTemplate.execute(recoverScript, List.of(EPOCH_KEY, WATERMARK_KEY), String.valueOf(observedWatermark));
+    }
+
+    /**
+     * 트랜잭션이 끝난(커밋/롤백) 버전을 in-flight에서 뺀다.
+     */
+    public void complete(Long articleId, long version) {
+        stringRedisTemplate.opsForZSet().removeRangeByScore(inflightKey(articleId), version, version);
+    }
+
+    /**
+     * DB 반영 대상 게시글을 최대 count개 꺼낸다. 꺼낸 게시글은 다른 인스턴스가 중복으로 가져가지 않는다.
+     */
+    public List<Long> popDirty(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream()
+            .map(Long::valueOf)
+            .toList();
+    }
+
+    public void markDirty(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        String[] members = articleIds.stream()
+            .map(String::valueOf)
+            .toArray(String[]::new);
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, members);
+    }
+
+    /**
+     * @return 게시글별 현재 카운터 값(만료되어 없는 게시글은 제외)
+     */
+    public Map<Long, Long> counters(List<Long> articleIds) {
+        List<String> keys = new ArrayList<>(articleIds.size());
+        articleIds.forEach(articleId -> keys.add(counterKey(articleId)));
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        Map<Long, Long> counters = new LinkedHashMap<>();
+        if (values == null) {
+            return counters;
+        }
+        for (int i = 0; i < articleIds.size() && i < values.size(); i++) {
+            if (values.get(i) != null) {
+                counters.put(articleIds.get(i), Long.parseLong(values.get(i)));
+            }
+        }
+        return counters;
+    }
+
+    private static String counterKey(Long articleId) {
+        return COUNTER_KEY_PREFIX + articleId;
+    }
+
+    private static String inflightKey(Long articleId) {
+        return INFLIGHT_KEY_PREFIX + articleId;
+    }
+
+    private static String articleEpochKey(Long articleId) {
+        return ARTICLE_EPOCH_KEY_PREFIX + articleId;
+    }
+
+    private static Reading toReading(List<?> result) {
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("게시글 동기화 버전 스크립트 결과가 올바르지 않습니다.");
+        }
+        long version = ((Number) result.get(0)).longValue();
+        long watermark = ((Number) result.get(1)).longValue();
+        return new Reading(version < 0L ? null : version, watermark);
+    }
+
+    private static <T> RedisScript<T> loadScript(String location, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(resultType);
+        return script;
+    }
+
+    /**
+     * 스크립트 결과.
+     *
+     * @param version 버전, 현재 epoch로 seed된 카운터가 없으면 null
+     * @param watermark 읽은 시점의 발급 watermark
+     */
+    public record Reading(Long version, long watermark) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.outbox.service.OutboxEvent;
+import com.mocktalkback.domain.outbox.service.OutboxEventHandler;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ArticleTrendingOutboxHandler implements OutboxEventHandler {
+
+    private final ArticleTrendingService articleTrendingService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<OutboxEventType> supportedTypes() {
+        return Set.of(OutboxEventType.ARTICLE_TRENDING_SCORE);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        ArticleTrendingOutboxPayload payload = event.payloadAs(objectMapper, ArticleTrendingOutboxPayload.class);
+        articleTrendingService.recordOnce(event.idempotencyKey(), payload);
+    }
+}
@@ -0,0 +1,34 @@
+package com.mocktalkback.domain.article.service;
+
+import com.mocktalkback.domain.article.type.ArticleTrendingSignal;
+
+/**
+ * 트렌딩 점수 아웃박스 이벤트 내용. 반응 변경이 아니면 반응 값은 0이다.
+ */
+public record ArticleTrendingOutboxPayload(
+    Long articleId,
+    Long boardId,
+    ArticleTrendingSignal signal,
+    short previousReaction,
+    short currentReaction
+) {
+
+    public static ArticleTrendingOutboxPayload of(Long articleId, Long boardId, ArticleTrendingSignal signal) {
+        return new ArticleTrendingOutboxPayload(articleId, boardId, signal, (short) 0, (short) 0);
+    }
+
+    public static ArticleTrendingOutboxPayload reactionChanged(
+        Long articleId,
+        Long boardId,
+        short previousReaction,
+        short currentReaction
+    ) {
+        return new ArticleTrendingOutboxPayload(
+            articleId,
+            boardId,
+            ArticleTrendingSignal.REACTION_CHANGED,
+            previousReaction,
+            currentReaction
+        );
+    }
+}
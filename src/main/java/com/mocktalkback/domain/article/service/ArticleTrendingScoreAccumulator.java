@@ -0,0 +1,208 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mocktalkback.domain.article.service.ArticleTrendingStore.ScoreTarget;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트렌딩 점수 증가분을 (버킷 키, 게시글)별로 프로세스 안에 모았다가 스크립트 한 번의 ZINCRBY로 반영한다.
+ * <p>
+ * 게시글 ID로 고른 스트라이프 단위로 잠가 같은 게시글에 몰리는 쓰기만 서로 기다린다.
+ * flush는 주기(flush-interval-ms) 또는 누적 이벤트 수(flush-max-events) 중 먼저 도달한 조건에서 실행된다.
+ * 스크립트는 전부 반영되거나 전혀 반영되지 않으므로, 실패하면 꺼낸 증가분 전체를 되돌려 다음 flush에 다시 보낸다.
+ * 종료 이후 들어온 증가분은 버퍼를 거치지 않고 바로 쓴다.
+ */
+@Slf4j
+@Component
+public class ArticleTrendingScoreAccumulator {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final ArticleTrendingStore articleTrendingStore;
+    private final Clock clock;
+    private final Stripe[] stripes;
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final AtomicLong lastFlushMillis;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    @Value("${app.article.trending.buffer.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.article.trending.buffer.flush-interval-ms:1000}")
+    private long flushIntervalMillis = 1000L;
+
+    @Value("${app.article.trending.buffer.flush-max-events:5000}")
+    private int flushMaxEvents = 5000;
+
+    @Autowired
+    public ArticleTrendingScoreAccumulator(ArticleTrendingStore articleTrendingStore) {
+        this(articleTrendingStore, Clock.systemUTC());
+    }
+
+    ArticleTrendingScoreAccumulator(ArticleTrendingStore articleTrendingStore, Clock clock) {
+        this.articleTrendingStore = articleTrendingStore;
+        this.clock = clock;
+        this.stripes = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.lastFlushMillis = new AtomicLong(clock.millis());
+    }
+
+    /**
+     * 버퍼링 중이면 true. false면 호출자는 Redis에 바로 써야 한다.
+     */
+    public boolean isBuffering() {
+        return enabled && !closed;
+    }
+
+    public void add(List<ScoreTarget> targets, Long articleId, double delta) {
+        if (articleId == null) {
+            throw new IllegalArgumentException("게시글 ID가 비어 있습니다.");
+        }
+        if (targets.isEmpty() || delta == 0.0d) {
+            return;
+        }
+        if (!isBuffering()) {
+            articleTrendingStore.incrementScores(targets, articleId, delta);
+            return;
+        }
+
+        Stripe stripe = stripes[Math.floorMod(articleId.hashCode(), STRIPE_COUNT)];
+        stripe.lock.lock();
+        try {
+            for (ScoreTarget target : targets) {
+                stripe.deltas.computeIfAbsent(target, key -> new HashMap<>()).merge(articleId, delta, Double::sum);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        int events = pendingEvents.incrementAndGet();
+        if (events >= Math.max(1, flushMaxEvents) || isFlushDue()) {
+            tryFlush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.trending.buffer.flush-interval-ms:1000}")
+    public void flushPending() {
+        tryFlush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        closed = true;
+        flush();
+    }
+
+    /**
+     * 주기가 지났으면 flush한다. 테스트는 주입한 Clock을 움직여 주기 도달을 결정적으로 재현한다.
+     */
+    boolean flushIfDue() {
+        if (!isFlushDue()) {
+            return false;
+        }
+        flush();
+        return true;
+    }
+
+    /**
+     * 누적분을 모두 반영한다. 다른 스레드가 flush 중이면 끝날 때까지 기다린다.
+     */
+    int flush() {
+        flushLock.lock();
+        try {
+            return flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void tryFlush() {
+        // 요청 스레드는 진행 중인 flush를 기다리지 않는다. 남은 누적분은 다음 주기에 반영된다.
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean isFlushDue() {
+        return clock.millis() - lastFlushMillis.get() >= Math.max(1L, flushIntervalMillis);
+    }
+
+    private int flushLocked() {
+        lastFlushMillis.set(clock.millis());
+        pendingEvents.set(0);
+        Map<ScoreTarget, Map<Long, Double>> drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        int entries = drained.values().stream().mapToInt(Map::size).sum();
+        try {
+            articleTrendingStore.incrementScoresBatch(drained);
+            return entries;
+        } catch (Exception ex) {
+            log.warn("트렌딩 점수 반영에 실패해 다음 flush로 미룹니다. entries={}", entries, ex);
+            drained.forEach((target, deltas) -> deltas.forEach((articleId, delta) -> restore(target, articleId, delta)));
+            return 0;
+        }
+    }
+
+    private Map<ScoreTarget, Map<Long, Double>> drain() {
+        Map<ScoreTarget, Map<Long, Double>> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<ScoreTarget, Map<Long, Double>> taken;
+            stripe.lock.lock();
+            try {
+                if (stripe.deltas.isEmpty()) {
+                    continue;
+                }
+                taken = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            } finally {
+                stripe.lock.unlock();
+            }
+            taken.forEach((target, deltas) -> {
+                Map<Long, Double> merged = drained.computeIfAbsent(target, key -> new HashMap<>());
+                deltas.forEach((articleId, delta) -> merged.merge(articleId, delta, Double::sum));
+            });
+        }
+        return drained;
+    }
+
+    private void restore(ScoreTarget target, Long articleId, double delta) {
+        Stripe stripe = stripes[Math.floorMod(articleId.hashCode(), STRIPE_COUNT)];
+        stripe.lock.lock();
+        try {
+            stripe.deltas.computeIfAbsent(target, key -> new HashMap<>()).merge(articleId, delta, Double::sum);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<ScoreTarget, Map<Long, Double>> deltas = new HashMap<>();
+    }
+}
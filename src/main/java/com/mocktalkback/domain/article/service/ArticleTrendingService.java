@@ -5,23 +5,27 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
-import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository.ArticleReactionCountView;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.domain.article.service.ArticleStatsService.ArticleStats;
 import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
-import com.mocktalkback.domain.comment.repository.CommentRepository;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
 
 import lombok.extern.slf4j.Slf4j;
@@ -30,43 +34,60 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class ArticleTrendingService {
 
-    private static final int MAX_TRENDING_LIMIT = 50;
+    static final int MAX_TRENDING_LIMIT = 50;
     private static final int FETCH_MULTIPLIER = 3;
     private static final double VIEW_SCORE = 1.0d;
     private static final double COMMENT_SCORE = 4.0d;
     private static final double LIKE_SCORE = 3.0d;
     private static final double DISLIKE_SCORE = -2.0d;
     private static final double BOOKMARK_SCORE = 5.0d;
-    private static final Duration HOUR_TTL = Duration.ofDays(2);
-    private static final Duration DAY_TTL = Duration.ofDays(8);
-    private static final Duration WEEK_TTL = Duration.ofDays(42);
+    // 주간 롤링 창(168시간)을 덮도록 시간 버킷을 보관한다.
+    private static final Duration HOUR_TTL = Duration.ofDays(8);
+    private static final Duration ROLLING_TTL = Duration.ofMinutes(10);
+    // 게시판 롤링 키는 스케줄러 없이 조회 시에만 만들므로 짧게 보관해 순위가 오래 멈춰 있지 않게 한다.
+    private static final Duration BOARD_ROLLING_TTL = Duration.ofMinutes(1);
+    private static final int HOUR_WINDOW_HOURS = 2;
+    private static final int DAY_WINDOW_HOURS = 24;
+    private static final int WEEK_WINDOW_HOURS = 24 * 7;
+    private static final double HOUR_HALF_LIFE_HOURS = 1.0d;
+    private static final double DAY_HALF_LIFE_HOURS = 6.0d;
+    private static final double WEEK_HALF_LIFE_HOURS = 48.0d;
     private static final ZoneId TREND_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String OUTBOX_DEDUPE_KEY_PREFIX = "trend:outbox:dedupe:";
+    // relay 재시도 기간(최대 시도 횟수 x 최대 백오프)보다 길게 둔다.
+    private static final Duration OUTBOX_DEDUPE_TTL = Duration.ofDays(1);
     private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH", Locale.ROOT);
-    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd", Locale.ROOT);
-    private static final DateTimeFormatter WEEK_FORMATTER = DateTimeFormatter.ofPattern("YYYYww", Locale.ROOT);
 
     private final ArticleTrendingStore articleTrendingStore;
+    private final ArticleTrendingScoreAccumulator articleTrendingScoreAccumulator;
     private final ArticleRepository articleRepository;
-    private final CommentRepository commentRepository;
-    private final ArticleReactionRepository articleReactionRepository;
+    private final ArticleStatsService articleStatsService;
     private final AuthorDisplayResolver authorDisplayResolver;
     private final PublicArticleFeedPolicy publicArticleFeedPolicy;
     private final Clock clock;
+    // 게시판별 마지막 점수 반영 시간 버킷(정리 대상 선정용)
+    private final Map<Long, String> activeBoardHours = new ConcurrentHashMap<>();
+
+    @Value("${app.article.trending.trim.max-members:1000}")
+    private int maxMembers = 1000;
+
+    @Value("${app.article.trending.trim.board-max-members:200}")
+    private int boardMaxMembers = 200;
 
     @Autowired
     public ArticleTrendingService(
         ArticleTrendingStore articleTrendingStore,
+        ArticleTrendingScoreAccumulator articleTrendingScoreAccumulator,
         ArticleRepository articleRepository,
-        CommentRepository commentRepository,
-        ArticleReactionRepository articleReactionRepository,
+        ArticleStatsService articleStatsService,
         AuthorDisplayResolver authorDisplayResolver,
         PublicArticleFeedPolicy publicArticleFeedPolicy
     ) {
         this(
             articleTrendingStore,
+            articleTrendingScoreAccumulator,
             articleRepository,
-            commentRepository,
-            articleReactionRepository,
+            articleStatsService,
             authorDisplayResolver,
             publicArticleFeedPolicy,
             Clock.system(TREND_ZONE)
@@ -75,50 +96,102 @@ public class ArticleTrendingService {
 
     ArticleTrendingService(
         ArticleTrendingStore articleTrendingStore,
+        ArticleTrendingScoreAccumulator articleTrendingScoreAccumulator,
         ArticleRepository articleRepository,
-        CommentRepository commentRepository,
-        ArticleReactionRepository articleReactionRepository,
+        ArticleStatsService articleStatsService,
         AuthorDisplayResolver authorDisplayResolver,
         PublicArticleFeedPolicy publicArticleFeedPolicy,
         Clock clock
     ) {
         this.articleTrendingStore = articleTrendingStore;
+        this.articleTrendingScoreAccumulator = articleTrendingScoreAccumulator;
         this.articleRepository = articleRepository;
-        this.commentRepository = commentRepository;
-        this.articleReactionRepository = articleReactionRepository;
+        this.articleStatsService = articleStatsService;
         this.authorDisplayResolver = authorDisplayResolver;
         this.publicArticleFeedPolicy = publicArticleFeedPolicy;
         this.clock = clock;
     }
 
-    public void recordView(Long articleId) {
-        applyScore(articleId, VIEW_SCORE);
-    }
+    /**
+     * 조회 dedupe와 전체/게시판 버킷 점수 반영을 Redis 왕복 한 번으로 처리한다.
+     * 점수 버퍼링 중이면 스크립트는 dedupe만 수행하고 점수는 로컬에 누적한다.
+     * Redis 실패는 호출자가 조회수 증가 여부를 결정할 수 있도록 그대로 던진다.
+     *
+     * @return 첫 조회면 true
+     */
+    public boolean recordFirstView(Long articleId, Long boardId, String dedupeKey, Duration dedupeTtl) {
+        List<ArticleTrendingStore.ScoreTarget> targets = resolveScoreTargets(boardId);
+        if (!articleTrendingScoreAccumulator.isBuffering()) {
+            return articleTrendingStore.recordFirstView(dedupeKey, dedupeTtl, targets, articleId, VIEW_SCORE);
+        }
 
-    public void recordCommentCreated(Long articleId) {
-        applyScore(articleId, COMMENT_SCORE);
+        boolean firstView = articleTrendingStore.recordFirstView(dedupeKey, dedupeTtl, List.of(), articleId, VIEW_SCORE);
+        if (firstView) {
+            articleTrendingScoreAccumulator.add(targets, articleId, VIEW_SCORE);
+        }
+        return firstView;
     }
 
-    public void recordCommentDeleted(Long articleId) {
-        applyScore(articleId, -COMMENT_SCORE);
+    /**
+     * 아웃박스 이벤트의 점수를 멱등 키당 한 번만 반영한다. 실패는 relay가 재시도하도록 그대로 던진다.
+     * dedupe 키 선점과 점수 반영이 한 스크립트로 함께 커밋되어야 하므로 버퍼링 중에도 누적기를 거치지 않는다.
+     * 누적기에 넘기면 키만 선점된 채 flush 전에 점수가 사라질 수 있고, 재전달은 dedupe에 막혀 복구되지 않는다.
+     */
+    public void recordOnce(String idempotencyKey, ArticleTrendingOutboxPayload payload) {
+        double delta = resolveSignalScore(payload);
+        if (payload.articleId() == null || delta == 0.0d) {
+            return;
+        }
+        articleTrendingStore.incrementScoresOnce(
+            OUTBOX_DEDUPE_KEY_PREFIX + idempotencyKey,
+            OUTBOX_DEDUPE_TTL,
+            resolveScoreTargets(payload.boardId()),
+            payload.articleId(),
+            delta
+        );
     }
 
-    public void recordBookmarkCreated(Long articleId) {
-        applyScore(articleId, BOOKMARK_SCORE);
+    public List<ArticleTrendingItemResponse> findTrendingPublic(ArticleTrendingWindow window, int limit) {
+        int resolvedLimit = normalizeLimit(limit);
+        List<ArticleTrendingStore.RankedArticle> rankedArticles = resolveRankedArticles(window, resolvedLimit);
+        return hydrate(rankedArticles, publicArticleFeedPolicy.excludedBoardSlugs(), null, resolvedLimit);
     }
 
-    public void recordBookmarkDeleted(Long articleId) {
-        applyScore(articleId, -BOOKMARK_SCORE);
+    /**
+     * {@link #findTrendingPublic}와 같지만 Redis 실패를 빈 목록으로 바꾸지 않고 그대로 던진다.
+     * 스냅샷처럼 결과를 보관하는 쪽이 장애로 생긴 빈 결과를 정상 결과로 오해하지 않게 한다.
+     */
+    public List<ArticleTrendingItemResponse> loadTrendingPublic(ArticleTrendingWindow window, int limit) {
+        int resolvedLimit = normalizeLimit(limit);
+        List<ArticleTrendingStore.RankedArticle> rankedArticles = loadRankedArticles(window, resolvedLimit);
+        return hydrate(rankedArticles, publicArticleFeedPolicy.excludedBoardSlugs(), null, resolvedLimit);
     }
 
-    public void recordArticleReactionChanged(Long articleId, short previousReaction, short currentReaction) {
-        double delta = resolveReactionScore(currentReaction) - resolveReactionScore(previousReaction);
-        applyScore(articleId, delta);
+    /**
+     * 게시판 안의 트렌딩 게시글을 조회한다.
+     * 공개 게시판의 공개 게시글만 반환하며, 공개 피드 제외 게시판(공지 등)도 자기 게시판 트렌딩은 보여준다.
+     */
+    public List<ArticleTrendingItemResponse> findBoardTrendingPublic(Long boardId, ArticleTrendingWindow window, int limit) {
+        int resolvedLimit = normalizeLimit(limit);
+        List<ArticleTrendingStore.RankedArticle> rankedArticles = resolveBoardRankedArticles(boardId, window, resolvedLimit);
+        return hydrate(rankedArticles, Set.of(), boardId, resolvedLimit);
     }
 
-    public List<ArticleTrendingItemResponse> findTrendingPublic(ArticleTrendingWindow window, int limit) {
+    /**
+     * {@link #findBoardTrendingPublic}와 같지만 Redis 실패를 그대로 던진다.
+     */
+    public List<ArticleTrendingItemResponse> loadBoardTrendingPublic(Long boardId, ArticleTrendingWindow window, int limit) {
         int resolvedLimit = normalizeLimit(limit);
-        List<ArticleTrendingStore.RankedArticle> rankedArticles = resolveRankedArticles(window, resolvedLimit);
+        List<ArticleTrendingStore.RankedArticle> rankedArticles = loadBoardRankedArticles(boardId, window, resolvedLimit);
+        return hydrate(rankedArticles, Set.of(), boardId, resolvedLimit);
+    }
+
+    private List<ArticleTrendingItemResponse> hydrate(
+        List<ArticleTrendingStore.RankedArticle> rankedArticles,
+        Set<String> excludedBoardSlugs,
+        Long boardId,
+        int resolvedLimit
+    ) {
         if (rankedArticles.isEmpty()) {
             return List.of();
         }
@@ -126,7 +199,11 @@ public class ArticleTrendingService {
         List<Long> articleIds = rankedArticles.stream()
             .map(ArticleTrendingStore.RankedArticle::articleId)
             .toList();
-        Map<Long, ArticleEntity> articleMap = loadPublicArticleMap(articleIds);
+        Map<Long, ArticleSummaryRow> articleMap = loadPublicArticleMap(articleIds, excludedBoardSlugs);
+        if (boardId != null) {
+            // 점수 기록 후 다른 게시판으로 이동한 게시글은 제외한다.
+            articleMap.values().removeIf(row -> !boardId.equals(row.boardId()));
+        }
         if (articleMap.isEmpty()) {
             return List.of();
         }
@@ -134,8 +211,7 @@ public class ArticleTrendingService {
         List<Long> visibleArticleIds = articleIds.stream()
             .filter(articleMap::containsKey)
             .toList();
-        Map<Long, Long> commentCounts = loadCommentCounts(visibleArticleIds);
-        Map<Long, ReactionCounts> reactionCounts = loadReactionCounts(visibleArticleIds);
+        Map<Long, ArticleStats> statsMap = articleStatsService.loadStats(visibleArticleIds);
 
         Map<Long, Double> scoreMap = new HashMap<>();
         for (ArticleTrendingStore.RankedArticle rankedArticle : rankedArticles) {
@@ -144,24 +220,24 @@ public class ArticleTrendingService {
 
         Map<Long, ArticleTrendingItemResponse> responseMap = new LinkedHashMap<>();
         for (Long articleId : articleIds) {
-            ArticleEntity article = articleMap.get(articleId);
+            ArticleSummaryRow article = articleMap.get(articleId);
             if (article == null) {
                 continue;
             }
-            ReactionCounts counts = reactionCounts.getOrDefault(articleId, ReactionCounts.empty());
+            ArticleStats stats = statsMap.getOrDefault(articleId, ArticleStats.empty());
             responseMap.put(articleId, new ArticleTrendingItemResponse(
-                article.getId(),
-                article.getBoard().getId(),
-                article.getBoard().getSlug(),
-                article.getUser().getId(),
-                authorDisplayResolver.resolveAuthorName(article.getUser()),
-                article.getTitle(),
-                article.getHit(),
-                commentCounts.getOrDefault(articleId, 0L),
-                counts.likeCount(),
-                counts.dislikeCount(),
+                article.id(),
+                article.boardId(),
+                article.boardSlug(),
+                article.userId(),
+                authorDisplayResolver.resolveAuthorName(article.authorDisplayName(), article.authorUserName()),
+                article.title(),
+                article.hit(),
+                stats.commentCount(),
+                stats.likeCount(),
+                stats.dislikeCount(),
                 scoreMap.getOrDefault(articleId, 0.0d),
-                article.getCreatedAt()
+                article.createdAt()
             ));
             if (responseMap.size() >= resolvedLimit) {
                 break;
@@ -170,74 +246,203 @@ public class ArticleTrendingService {
         return List.copyOf(responseMap.values());
     }
 
-    private void applyScore(Long articleId, double delta) {
-        if (articleId == null || delta == 0.0d) {
-            return;
+    private double resolveSignalScore(ArticleTrendingOutboxPayload payload) {
+        return switch (payload.signal()) {
+            case COMMENT_CREATED -> COMMENT_SCORE;
+            case COMMENT_DELETED -> -COMMENT_SCORE;
+            case BOOKMARK_CREATED -> BOOKMARK_SCORE;
+            case BOOKMARK_DELETED -> -BOOKMARK_SCORE;
+            case REACTION_CHANGED ->
+                resolveReactionScore(payload.currentReaction()) - resolveReactionScore(payload.previousReaction());
+        };
+    }
+
+    /**
+     * 전체 버킷과 게시판 버킷을 같은 대상 목록으로 묶어 같은 스크립트로 함께 반영되게 한다.
+     */
+    private List<ArticleTrendingStore.ScoreTarget> resolveScoreTargets(Long boardId) {
+        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), TREND_ZONE);
+        ArticleTrendingStore.ScoreTarget global = new ArticleTrendingStore.ScoreTarget(hourKey(now), HOUR_TTL);
+        if (boardId == null) {
+            return List.of(global);
         }
+        String boardHourKey = boardHourKey(boardId, now);
+        activeBoardHours.put(boardId, boardHourKey);
+        return List.of(global, new ArticleTrendingStore.ScoreTarget(boardHourKey, HOUR_TTL));
+    }
+
+    /**
+     * 최근 N개 시간 버킷을 지수 감쇠 가중치로 합산해 창별 롤링 ZSET을 다시 만든다.
+     * 달력 경계(자정/주 시작)에서 점수가 0으로 떨어지지 않고 시간이 지날수록 부드럽게 줄어든다.
+     */
+    @Scheduled(fixedDelayString = "${app.article.trending.rolling.refresh-interval-ms:60000}")
+    public void refreshRollingWindows() {
+        for (ArticleTrendingWindow window : ArticleTrendingWindow.values()) {
+            try {
+                materializeRollingWindow(window);
+            } catch (Exception ex) {
+                log.warn("게시글 트렌딩 롤링 집계에 실패했습니다. window={}", window, ex);
+            }
+        }
+    }
+
+    long materializeRollingWindow(ArticleTrendingWindow window) {
+        return materialize(window, rollingKey(window), this::hourKey, ROLLING_TTL, maxMembers);
+    }
+
+    long materializeBoardRollingWindow(Long boardId, ArticleTrendingWindow window) {
+        return materialize(
+            window,
+            boardRollingKey(boardId, window),
+            dateTime -> boardHourKey(boardId, dateTime),
+            BOARD_ROLLING_TTL,
+            boardMaxMembers
+        );
+    }
+
+    private long materialize(
+        ArticleTrendingWindow window,
+        String destinationKey,
+        Function<LocalDateTime, String> hourKeyResolver,
+        Duration ttl,
+        int maxMembersPerKey
+    ) {
+        int hours = switch (window) {
+            case WEEK -> WEEK_WINDOW_HOURS;
+            case DAY -> DAY_WINDOW_HOURS;
+            case HOUR -> HOUR_WINDOW_HOURS;
+        };
+        double halfLifeHours = switch (window) {
+            case WEEK -> WEEK_HALF_LIFE_HOURS;
+            case DAY -> DAY_HALF_LIFE_HOURS;
+            case HOUR -> HOUR_HALF_LIFE_HOURS;
+        };
 
         LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), TREND_ZONE);
-        try {
-            articleTrendingStore.incrementScore(hourKey(now), articleId, delta, HOUR_TTL);
-            articleTrendingStore.incrementScore(dayKey(now), articleId, delta, DAY_TTL);
-            articleTrendingStore.incrementScore(weekKey(now), articleId, delta, WEEK_TTL);
-        } catch (Exception ex) {
-            log.warn("게시글 트렌딩 점수 적재에 실패했습니다. articleId={}, delta={}", articleId, delta, ex);
+        List<String> sourceKeys = new ArrayList<>(hours);
+        double[] weights = new double[hours];
+        for (int age = 0; age < hours; age++) {
+            sourceKeys.add(hourKeyResolver.apply(now.minusHours(age)));
+            weights[age] = Math.pow(0.5d, age / halfLifeHours);
         }
+        return articleTrendingStore.materializeRolling(
+            destinationKey,
+            sourceKeys,
+            weights,
+            ttl,
+            Math.max(1, maxMembersPerKey)
+        );
     }
 
-    private List<ArticleTrendingStore.RankedArticle> resolveRankedArticles(ArticleTrendingWindow window, int limit) {
-        ArticleTrendingWindow resolvedWindow = window == null ? ArticleTrendingWindow.DAY : window;
+    /**
+     * 정리 대상 키. 쓰기가 끝난 과거 시간 버킷은 마지막 정리 이후 커지지 않으므로
+     * 현재/직전 시간 버킷과 롤링 키만 대상으로 한다.
+     * 게시판 버킷은 게시판 수만큼 늘어나므로 메트릭 태그 없이 최근 두 시간 안에 점수가 반영된 게시판만 대상으로 한다.
+     * 게시판 롤링 키는 만들 때 이미 잘라 두므로 제외한다.
+     */
+    List<TrimTarget> trimTargets() {
         LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), TREND_ZONE);
-        String key = switch (resolvedWindow) {
-            case WEEK -> weekKey(now);
-            case DAY -> dayKey(now);
-        };
+        int resolvedMaxMembers = Math.max(1, maxMembers);
+        List<TrimTarget> targets = new ArrayList<>();
+        targets.add(new TrimTarget(hourKey(now), "hour_current", resolvedMaxMembers));
+        targets.add(new TrimTarget(hourKey(now.minusHours(1)), "hour_previous", resolvedMaxMembers));
+        for (ArticleTrendingWindow window : ArticleTrendingWindow.values()) {
+            targets.add(new TrimTarget(
+                rollingKey(window),
+                "rolling_" + window.name().toLowerCase(Locale.ROOT),
+                resolvedMaxMembers
+            ));
+        }
 
+        int resolvedBoardMaxMembers = Math.max(1, boardMaxMembers);
+        LocalDateTime previousHour = now.minusHours(1);
+        for (Long boardId : activeBoardHours.keySet()) {
+            String currentKey = boardHourKey(boardId, now);
+            String previousKey = boardHourKey(boardId, previousHour);
+            String lastKey = activeBoardHours.get(boardId);
+            if (!currentKey.equals(lastKey) && !previousKey.equals(lastKey)) {
+                activeBoardHours.remove(boardId, lastKey);
+                continue;
+            }
+            targets.add(new TrimTarget(currentKey, null, resolvedBoardMaxMembers));
+            targets.add(new TrimTarget(previousKey, null, resolvedBoardMaxMembers));
+        }
+        return targets;
+    }
+
+    private List<ArticleTrendingStore.RankedArticle> resolveRankedArticles(ArticleTrendingWindow window, int limit) {
         try {
-            return articleTrendingStore.findTopArticles(key, Math.max(limit * FETCH_MULTIPLIER, limit));
+            return loadRankedArticles(window, limit);
         } catch (Exception ex) {
-            log.warn("게시글 트렌딩 조회에 실패했습니다. window={}", resolvedWindow, ex);
+            log.warn("게시글 트렌딩 조회에 실패했습니다. window={}", window == null ? ArticleTrendingWindow.DAY : window, ex);
             return List.of();
         }
     }
 
-    private Map<Long, ArticleEntity> loadPublicArticleMap(List<Long> articleIds) {
-        if (articleIds.isEmpty()) {
-            return Map.of();
+    private List<ArticleTrendingStore.RankedArticle> loadRankedArticles(ArticleTrendingWindow window, int limit) {
+        ArticleTrendingWindow resolvedWindow = window == null ? ArticleTrendingWindow.DAY : window;
+        String key = rollingKey(resolvedWindow);
+        int fetchSize = Math.max(limit * FETCH_MULTIPLIER, limit);
+
+        List<ArticleTrendingStore.RankedArticle> ranked = articleTrendingStore.findTopArticles(key, fetchSize);
+        if (!ranked.isEmpty()) {
+            return ranked;
+        }
+        // 집계 작업이 아직 돌지 않았거나 롤링 키가 만료되었으면 한 번 즉시 만든다.
+        if (materializeRollingWindow(resolvedWindow) == 0L) {
+            return List.of();
         }
+        return articleTrendingStore.findTopArticles(key, fetchSize);
+    }
 
-        return articleRepository.findAllByIdInAndDeletedAtIsNull(articleIds).stream()
-            .filter(publicArticleFeedPolicy::isPublicFeedTarget)
-            .collect(LinkedHashMap::new, (map, article) -> map.put(article.getId(), article), Map::putAll);
+    private List<ArticleTrendingStore.RankedArticle> resolveBoardRankedArticles(
+        Long boardId,
+        ArticleTrendingWindow window,
+        int limit
+    ) {
+        try {
+            return loadBoardRankedArticles(boardId, window, limit);
+        } catch (Exception ex) {
+            log.warn(
+                "게시판 트렌딩 조회에 실패했습니다. boardId={}, window={}",
+                boardId,
+                window == null ? ArticleTrendingWindow.DAY : window,
+                ex
+            );
+            return List.of();
+        }
     }
 
-    private Map<Long, Long> loadCommentCounts(List<Long> articleIds) {
-        if (articleIds.isEmpty()) {
-            return Map.of();
+    private List<ArticleTrendingStore.RankedArticle> loadBoardRankedArticles(
+        Long boardId,
+        ArticleTrendingWindow window,
+        int limit
+    ) {
+        ArticleTrendingWindow resolvedWindow = window == null ? ArticleTrendingWindow.DAY : window;
+        String key = boardRollingKey(boardId, resolvedWindow);
+        int fetchSize = Math.max(limit * FETCH_MULTIPLIER, limit);
+
+        List<ArticleTrendingStore.RankedArticle> ranked = articleTrendingStore.findTopArticles(key, fetchSize);
+        if (!ranked.isEmpty()) {
+            return ranked;
+        }
+        if (materializeBoardRollingWindow(boardId, resolvedWindow) == 0L) {
+            return List.of();
         }
-        return commentRepository.countByArticleIds(articleIds).stream()
-            .collect(LinkedHashMap::new, (map, view) -> map.put(view.getArticleId(), view.getCount()), Map::putAll);
+        return articleTrendingStore.findTopArticles(key, fetchSize);
     }
 
-    private Map<Long, ReactionCounts> loadReactionCounts(List<Long> articleIds) {
+    private Map<Long, ArticleSummaryRow> loadPublicArticleMap(List<Long> articleIds, Set<String> excludedBoardSlugs) {
         if (articleIds.isEmpty()) {
-            return Map.of();
+            return new LinkedHashMap<>();
         }
 
-        Map<Long, ReactionCounts> counts = new HashMap<>();
-        List<ArticleReactionCountView> rows = articleReactionRepository.countByArticleIds(articleIds);
-        for (ArticleReactionCountView row : rows) {
-            ReactionCounts current = counts.getOrDefault(row.getArticleId(), ReactionCounts.empty());
-            if (row.getReactionType() == 1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount() + row.getCount(), current.dislikeCount()));
-            } else if (row.getReactionType() == -1) {
-                counts.put(row.getArticleId(), new ReactionCounts(current.likeCount(), current.dislikeCount() + row.getCount()));
-            }
-        }
-        return counts;
+        // 공개 피드 조건(게시판/게시글 공개, 삭제 제외, 제외 게시판)은 쿼리에서 걸러낸다.
+        return articleRepository.findPublicRowsByIds(articleIds, excludedBoardSlugs).stream()
+            .collect(LinkedHashMap::new, (map, row) -> map.put(row.id(), row), Map::putAll);
     }
 
-    private int normalizeLimit(int limit) {
+    static int normalizeLimit(int limit) {
         if (limit <= 0) {
             return 10;
         }
@@ -256,17 +461,22 @@ public class ArticleTrendingService {
         return "trend:article:hour:" + HOUR_FORMATTER.format(dateTime);
     }
 
-    private String dayKey(LocalDateTime dateTime) {
-        return "trend:article:day:" + DAY_FORMATTER.format(dateTime);
+    private String rollingKey(ArticleTrendingWindow window) {
+        return "trend:article:rolling:" + window.name().toLowerCase(Locale.ROOT);
     }
 
-    private String weekKey(LocalDateTime dateTime) {
-        return "trend:article:week:" + WEEK_FORMATTER.format(dateTime);
+    private String boardHourKey(Long boardId, LocalDateTime dateTime) {
+        return "trend:board:" + boardId + ":hour:" + HOUR_FORMATTER.format(dateTime);
     }
 
-    private record ReactionCounts(long likeCount, long dislikeCount) {
-        private static ReactionCounts empty() {
-            return new ReactionCounts(0L, 0L);
-        }
+    private String boardRollingKey(Long boardId, ArticleTrendingWindow window) {
+        return "trend:board:" + boardId + ":rolling:" + window.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param metricTag 크기/메모리 게이지 태그. null이면 게이지를 만들지 않는다.
+     */
+    record TrimTarget(String key, String metricTag, int maxMembers) {
     }
+
 }
@@ -0,0 +1,263 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
+import com.mocktalkback.domain.article.service.ArticleTrendingSnapshotStore.Snapshot;
+import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 창별 트렌딩 응답(게시글/집계 포함)을 미리 만들어 두고 요청은 메모리에서만 읽는다.
+ * <p>
+ * 스케줄러가 몇 초마다 최대 개수만큼 다시 만들어 로컬과 Redis에 저장한다.
+ * 로컬 스냅샷이 없거나 만료되면 창별 락으로 한 스레드만 Redis -> DB 순으로 적재하고 나머지는 그 결과를 쓴다.
+ * <p>
+ * 게시판 트렌딩은 게시판 수만큼 늘어나므로 스케줄러로 미리 만들지 않고,
+ * 조회된 게시판만 짧은 TTL의 LRU 로컬 캐시에 보관한다(miss는 게시판/창별로 한 번만 적재).
+ */
+@Slf4j
+@Service
+public class ArticleTrendingSnapshotService {
+
+    private final ArticleTrendingService articleTrendingService;
+    private final ArticleTrendingSnapshotStore articleTrendingSnapshotStore;
+    private final Clock clock;
+    private final Map<ArticleTrendingWindow, LocalEntry> localSnapshots = new ConcurrentHashMap<>();
+    private final Map<ArticleTrendingWindow, ReentrantLock> loadLocks = new EnumMap<>(ArticleTrendingWindow.class);
+    private final Map<BoardSnapshotKey, LocalEntry> boardSnapshots = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<BoardSnapshotKey, LocalEntry> eldest) {
+            return size() > Math.max(1, boardMaxEntries);
+        }
+    };
+    private final Map<BoardSnapshotKey, CompletableFuture<Snapshot>> boardLoads = new ConcurrentHashMap<>();
+
+    @Value("${app.article.trending.snapshot.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.article.trending.snapshot.local-ttl-ms:15000}")
+    private long localTtlMillis = 15000L;
+
+    @Value("${app.article.trending.snapshot.redis-ttl-seconds:60}")
+    private long redisTtlSeconds = 60L;
+
+    @Value("${app.article.trending.snapshot.board-ttl-ms:30000}")
+    private long boardTtlMillis = 30000L;
+
+    @Value("${app.article.trending.snapshot.board-max-entries:1000}")
+    private int boardMaxEntries = 1000;
+
+    @Autowired
+    public ArticleTrendingSnapshotService(
+        ArticleTrendingService articleTrendingService,
+        ArticleTrendingSnapshotStore articleTrendingSnapshotStore
+    ) {
+        this(articleTrendingService, articleTrendingSnapshotStore, Clock.systemUTC());
+    }
+
+    ArticleTrendingSnapshotService(
+        ArticleTrendingService articleTrendingService,
+        ArticleTrendingSnapshotStore articleTrendingSnapshotStore,
+        Clock clock
+    ) {
+        this.articleTrendingService = articleTrendingService;
+        this.articleTrendingSnapshotStore = articleTrendingSnapshotStore;
+        this.clock = clock;
+        for (ArticleTrendingWindow window : ArticleTrendingWindow.values()) {
+            loadLocks.put(window, new ReentrantLock());
+        }
+    }
+
+    public List<ArticleTrendingItemResponse> find(ArticleTrendingWindow window, int limit) {
+        ArticleTrendingWindow resolvedWindow = window == null ? ArticleTrendingWindow.DAY : window;
+        if (!enabled) {
+            return articleTrendingService.findTrendingPublic(resolvedWindow, limit);
+        }
+
+        LocalEntry entry = localSnapshots.get(resolvedWindow);
+        if (entry != null && entry.isFresh(clock.millis())) {
+            return slice(entry.snapshot(), limit);
+        }
+
+        try {
+            return slice(loadSingleFlight(resolvedWindow), limit);
+        } catch (RuntimeException ex) {
+            if (entry == null) {
+                // 보관할 이전 스냅샷이 없으면 캐시하지 않고 직접 조회한다(Redis 장애는 빈 목록이 된다).
+                log.warn("트렌딩 스냅샷 생성에 실패해 캐시 없이 조회합니다. window={}", resolvedWindow, ex);
+                return articleTrendingService.findTrendingPublic(resolvedWindow, limit);
+            }
+            log.warn("트렌딩 스냅샷 갱신에 실패해 이전 스냅샷을 반환합니다. window={}", resolvedWindow, ex);
+            return slice(entry.snapshot(), limit);
+        }
+    }
+
+    public List<ArticleTrendingItemResponse> findBoard(Long boardId, ArticleTrendingWindow window, int limit) {
+        ArticleTrendingWindow resolvedWindow = window == null ? ArticleTrendingWindow.DAY : window;
+        if (!enabled) {
+            return articleTrendingService.findBoardTrendingPublic(boardId, resolvedWindow, limit);
+        }
+
+        BoardSnapshotKey key = new BoardSnapshotKey(boardId, resolvedWindow);
+        LocalEntry entry;
+        synchronized (boardSnapshots) {
+            entry = boardSnapshots.get(key);
+        }
+        if (entry != null && entry.isFresh(clock.millis())) {
+            return slice(entry.snapshot(), limit);
+        }
+
+        try {
+            return slice(loadBoardSingleFlight(key), limit);
+        } catch (RuntimeException ex) {
+            if (entry == null) {
+                log.warn(
+                    "게시판 트렌딩 스냅샷 생성에 실패해 캐시 없이 조회합니다. boardId={}, window={}",
+                    boardId,
+                    resolvedWindow,
+                    ex
+                );
+                return articleTrendingService.findBoardTrendingPublic(boardId, resolvedWindow, limit);
+            }
+            log.warn("게시판 트렌딩 스냅샷 갱신에 실패해 이전 스냅샷을 반환합니다. boardId={}, window={}", boardId, resolvedWindow, ex);
+            return slice(entry.snapshot(), limit);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.trending.snapshot.refresh-interval-ms:5000}")
+    public void refreshSnapshots() {
+        if (!enabled) {
+            return;
+        }
+        for (ArticleTrendingWindow window : ArticleTrendingWindow.values()) {
+            try {
+                rebuild(window);
+            } catch (Exception ex) {
+                log.warn("트렌딩 스냅샷 생성에 실패했습니다. window={}", window, ex);
+            }
+        }
+    }
+
+    /**
+     * Redis 실패는 그대로 던져, 장애로 생긴 빈 결과가 정상 스냅샷으로 저장되지 않게 한다.
+     */
+    Snapshot rebuild(ArticleTrendingWindow window) {
+        List<ArticleTrendingItemResponse> items = articleTrendingService.loadTrendingPublic(
+            window,
+            ArticleTrendingService.MAX_TRENDING_LIMIT
+        );
+        Snapshot snapshot = new Snapshot(clock.millis(), List.copyOf(items));
+        putLocal(window, snapshot);
+        saveRemote(window, snapshot);
+        return snapshot;
+    }
+
+    private Snapshot loadSingleFlight(ArticleTrendingWindow window) {
+        ReentrantLock lock = loadLocks.get(window);
+        lock.lock();
+        try {
+            // 락을 기다리는 동안 다른 스레드가 적재했으면 그 결과를 쓴다.
+            LocalEntry entry = localSnapshots.get(window);
+            if (entry != null && entry.isFresh(clock.millis())) {
+                return entry.snapshot();
+            }
+
+            Optional<Snapshot> remote = findRemote(window);
+            if (remote.isPresent()) {
+                putLocal(window, remote.get());
+                return remote.get();
+            }
+            return rebuild(window);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot loadBoardSingleFlight(BoardSnapshotKey key) {
+        CompletableFuture<Snapshot> load = new CompletableFuture<>();
+        CompletableFuture<Snapshot> inFlight = boardLoads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+
+        try {
+            List<ArticleTrendingItemResponse> items = articleTrendingService.loadBoardTrendingPublic(
+                key.boardId(),
+                key.window(),
+                ArticleTrendingService.MAX_TRENDING_LIMIT
+            );
+            Snapshot snapshot = new Snapshot(clock.millis(), List.copyOf(items));
+            synchronized (boardSnapshots) {
+                boardSnapshots.put(key, new LocalEntry(snapshot, clock.millis() + Math.max(1L, boardTtlMillis)));
+            }
+            load.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            boardLoads.remove(key, load);
+        }
+    }
+
+    private void putLocal(ArticleTrendingWindow window, Snapshot snapshot) {
+        localSnapshots.put(window, new LocalEntry(snapshot, clock.millis() + Math.max(1L, localTtlMillis)));
+    }
+
+    private Optional<Snapshot> findRemote(ArticleTrendingWindow window) {
+        try {
+            return articleTrendingSnapshotStore.find(window);
+        } catch (Exception ex) {
+            log.warn("트렌딩 스냅샷 조회에 실패했습니다. window={}", window, ex);
+            return Optional.empty();
+        }
+    }
+
+    private void saveRemote(ArticleTrendingWindow window, Snapshot snapshot) {
+        try {
+            articleTrendingSnapshotStore.save(window, snapshot, Duration.ofSeconds(Math.max(1L, redisTtlSeconds)));
+        } catch (Exception ex) {
+            log.warn("트렌딩 스냅샷 저장에 실패했습니다. window={}", window, ex);
+        }
+    }
+
+    private List<ArticleTrendingItemResponse> slice(Snapshot snapshot, int limit) {
+        List<ArticleTrendingItemResponse> items = snapshot.items();
+        int resolvedLimit = ArticleTrendingService.normalizeLimit(limit);
+        return items.size() <= resolvedLimit ? items : items.subList(0, resolvedLimit);
+    }
+
+    private record BoardSnapshotKey(Long boardId, ArticleTrendingWindow window) {
+    }
+
+    private record LocalEntry(Snapshot snapshot, long expiresAtMillis) {
+
+        private boolean isFresh(long nowMillis) {
+            return expiresAtMillis > nowMillis;
+        }
+    }
+}
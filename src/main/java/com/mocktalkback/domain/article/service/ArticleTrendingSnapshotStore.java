@@ -0,0 +1,72 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
+import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 창별 트렌딩 응답 스냅샷의 Redis 계층.
+ * 인스턴스가 재시작되어 로컬 스냅샷이 비었을 때 DB 대신 이 값을 먼저 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleTrendingSnapshotStore {
+
+    private static final String KEY_PREFIX = "article:trending:snapshot:v1:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Optional<Snapshot> find(ArticleTrendingWindow window) {
+        String raw = stringRedisTemplate.opsForValue().get(key(window));
+        if (raw == null || raw.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            Snapshot snapshot = objectMapper.readValue(raw, Snapshot.class);
+            if (snapshot.items() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+        } catch (JsonProcessingException ex) {
+            log.warn("트렌딩 스냅샷 역직렬화에 실패해 캐시를 삭제합니다. window={}", window, ex);
+            stringRedisTemplate.delete(key(window));
+            return Optional.empty();
+        }
+    }
+
+    public void save(ArticleTrendingWindow window, Snapshot snapshot, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("트렌딩 스냅샷 TTL이 올바르지 않습니다.");
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(key(window), objectMapper.writeValueAsString(snapshot), ttl);
+        } catch (JsonProcessingException ex) {
+            log.warn("트렌딩 스냅샷 직렬화에 실패해 저장을 건너뜁니다. window={}", window, ex);
+        }
+    }
+
+    private String key(ArticleTrendingWindow window) {
+        if (window == null) {
+            throw new IllegalArgumentException("트렌딩 집계 윈도우가 비어 있습니다.");
+        }
+        return KEY_PREFIX + window.name();
+    }
+
+    public record Snapshot(long builtAtMillis, List<ArticleTrendingItemResponse> items) {
+    }
+}
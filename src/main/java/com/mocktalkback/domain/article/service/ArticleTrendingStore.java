@@ -1,24 +1,178 @@
 package com.mocktalkback.domain.article.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
-
 @Service
-@RequiredArgsConstructor
 public class ArticleTrendingStore {
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> incrementScript;
+    private final RedisScript<Long> incrementBatchScript;
+    private final RedisScript<Long> viewRecordScript;
+
+    public ArticleTrendingStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.incrementScript = loadScript("redis/article_trending_increment.lua");
+        this.incrementBatchScript = loadScript("redis/article_trending_increment_batch.lua");
+        this.viewRecordScript = loadScript("redis/article_view_record.lua");
+    }
+
+    /**
+     * 모든 버킷의 ZINCRBY와 신규 키 EXPIRE를 스크립트 한 번(EVALSHA)으로 처리한다.
+     */
+    public void incrementScores(List<ScoreTarget> targets, Long articleId, double delta) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        List<String> keys = targets.stream().map(ScoreTarget::key).toList();
+        List<String> args = new ArrayList<>();
+        args.add(member(articleId));
+        args.add(String.valueOf(delta));
+        targets.forEach(target -> args.add(String.valueOf(ttlSeconds(target.ttl()))));
+        stringRedisTemplate.execute(incrementScript, keys, args.toArray());
+    }
+
+    /**
+     * 누적된 증가분을 스크립트 한 번으로 반영한다. 키마다 ZINCRBY 후 EXPIRE를 한 번 실행한다.
+     * 스크립트는 원자적으로 실행되므로 실패하면 일부만 반영되지 않고, 호출자는 전체를 다시 보내면 된다.
+     */
+    public void incrementScoresBatch(Map<ScoreTarget, Map<Long, Double>> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(deltas.size());
+        List<String> args = new ArrayList<>();
+        deltas.forEach((target, members) -> {
+            keys.add(target.key());
+            args.add(String.valueOf(ttlSeconds(target.ttl())));
+            args.add(String.valueOf(members.size()));
+            members.forEach((articleId, delta) -> {
+                args.add(member(articleId));
+                args.add(String.valueOf(delta));
+            });
+        });
+        stringRedisTemplate.execute(incrementBatchScript, keys, args.toArray());
+    }
+
+    /**
+     * 조회 dedupe(SET NX EX)와 버킷 점수 반영을 하나의 스크립트로 원자적으로 처리한다.
+     *
+     * @return 첫 조회라 점수가 반영되었으면 true, 중복 조회면 false
+     */
+    public boolean recordFirstView(
+        String dedupeKey,
+        Duration dedupeTtl,
+        List<ScoreTarget> targets,
+        Long articleId,
+        double delta
+    ) {
+        return incrementScoresOnce(dedupeKey, dedupeTtl, targets, articleId, delta);
+    }
+
+    /**
+     * dedupeKey가 처음일 때만 버킷 점수를 반영한다. 같은 이벤트를 다시 전달받아도 점수가 한 번만 오른다.
+     *
+     * @return 처음이라 점수가 반영되었으면 true
+     */
+    public boolean incrementScoresOnce(
+        String dedupeKey,
+        Duration dedupeTtl,
+        List<ScoreTarget> targets,
+        Long articleId,
+        double delta
+    ) {
+        List<String> keys = new ArrayList<>();
+        keys.add(dedupeKey);
+        targets.forEach(target -> keys.add(target.key()));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds(dedupeTtl)));
+        args.add(member(articleId));
+        args.add(String.valueOf(delta));
+        targets.forEach(target -> args.add(String.valueOf(ttlSeconds(target.ttl()))));
 
-    public void incrementScore(String key, Long articleId, double delta, Duration ttl) {
-        stringRedisTemplate.opsForZSet().incrementScore(key, member(articleId), delta);
-        stringRedisTemplate.expire(key, ttl);
+        Long result = stringRedisTemplate.execute(viewRecordScript, keys, args.toArray());
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 가중 ZUNIONSTORE 결과를 임시 키에 만든 뒤 RENAME으로 교체해, 읽는 쪽이 만들다 만 ZSET을 보지 않게 한다.
+     * 교체 전에 상위 maxMembers개만 남긴다.
+     *
+     * @return 롤링 ZSET의 멤버 수
+     */
+    public long materializeRolling(
+        String destinationKey,
+        List<String> sourceKeys,
+        double[] weights,
+        Duration ttl,
+        int maxMembers
+    ) {
+        if (sourceKeys.isEmpty() || sourceKeys.size() != weights.length) {
+            throw new IllegalArgumentException("롤링 집계 원본 키와 가중치 수가 일치하지 않습니다.");
+        }
+
+        String temporaryKey = destinationKey + ":tmp:" + UUID.randomUUID();
+        Long size = stringRedisTemplate.opsForZSet().unionAndStore(
+            sourceKeys.get(0),
+            sourceKeys.subList(1, sourceKeys.size()),
+            temporaryKey,
+            Aggregate.SUM,
+            Weights.of(weights)
+        );
+        if (size == null || size == 0L) {
+            stringRedisTemplate.delete(destinationKey);
+            return 0L;
+        }
+        long removed = trimToTop(temporaryKey, maxMembers);
+        stringRedisTemplate.rename(temporaryKey, destinationKey);
+        stringRedisTemplate.expire(destinationKey, ttl);
+        return size - removed;
+    }
+
+    /**
+     * 점수 상위 maxMembers개만 남기고 나머지를 ZREMRANGEBYRANK로 지운다.
+     *
+     * @return 지운 멤버 수
+     */
+    public long trimToTop(String key, int maxMembers) {
+        if (maxMembers <= 0) {
+            throw new IllegalArgumentException("트렌딩 ZSET 보관 개수가 올바르지 않습니다.");
+        }
+        Long removed = stringRedisTemplate.opsForZSet().removeRange(key, 0, -(maxMembers + 1L));
+        return removed == null ? 0L : removed;
+    }
+
+    public long size(String key) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(key);
+        return size == null ? 0L : size;
+    }
+
+    /**
+     * MEMORY USAGE 결과(바이트). 키가 없거나 명령이 막혀 있으면 0을 반환한다.
+     */
+    public long memoryUsage(String key) {
+        Object bytes = stringRedisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(
+            "MEMORY",
+            "USAGE".getBytes(StandardCharsets.UTF_8),
+            key.getBytes(StandardCharsets.UTF_8)
+        ));
+        return bytes instanceof Number number ? number.longValue() : 0L;
     }
 
     public List<RankedArticle> findTopArticles(String key, int limit) {
@@ -46,6 +200,23 @@ public class ArticleTrendingStore {
         return String.valueOf(articleId);
     }
 
+    private long ttlSeconds(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("트렌딩 키 TTL이 올바르지 않습니다.");
+        }
+        return Math.max(1L, ttl.toSeconds());
+    }
+
+    private static RedisScript<Long> loadScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    public record ScoreTarget(String key, Duration ttl) {
+    }
+
     public record RankedArticle(Long articleId, double score) {
     }
 }
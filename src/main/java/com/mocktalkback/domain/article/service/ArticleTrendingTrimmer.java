@@ -0,0 +1,73 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트렌딩 ZSET을 상위 N개로 주기적으로 잘라 롱테일 게시글만큼 Redis 메모리가 커지지 않게 한다.
+ * <p>
+ * 보관 개수는 대상별로 정해진다(전체/게시판).
+ * 크기/메모리 게이지는 스크랩 시점에 Redis를 호출하지 않도록 정리 작업에서 측정한 값을 보관해 노출한다.
+ */
+@Slf4j
+@Component
+public class ArticleTrendingTrimmer {
+
+    private final ArticleTrendingStore articleTrendingStore;
+    private final ArticleTrendingService articleTrendingService;
+    private final MeterRegistry meterRegistry;
+    private final Counter trimmedCounter;
+    private final Map<String, AtomicLong> sizeGauges = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> memoryGauges = new ConcurrentHashMap<>();
+
+    public ArticleTrendingTrimmer(
+        ArticleTrendingStore articleTrendingStore,
+        ArticleTrendingService articleTrendingService,
+        MeterRegistry meterRegistry
+    ) {
+        this.articleTrendingStore = articleTrendingStore;
+        this.articleTrendingService = articleTrendingService;
+        this.meterRegistry = meterRegistry;
+        this.trimmedCounter = Counter.builder("article.trending.zset.trimmed")
+            .description("정리로 제거된 트렌딩 ZSET 멤버 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.article.trending.trim.interval-ms:60000}")
+    public void trim() {
+        for (ArticleTrendingService.TrimTarget target : articleTrendingService.trimTargets()) {
+            String key = target.key();
+            try {
+                long removed = articleTrendingStore.trimToTop(key, target.maxMembers());
+                trimmedCounter.increment(removed);
+                if (target.metricTag() == null) {
+                    continue;
+                }
+                gauge(sizeGauges, "article.trending.zset.size", target.metricTag()).set(articleTrendingStore.size(key));
+                gauge(memoryGauges, "article.trending.zset.memory.bytes", target.metricTag())
+                    .set(articleTrendingStore.memoryUsage(key));
+            } catch (Exception ex) {
+                log.warn("트렌딩 ZSET 정리에 실패했습니다. key={}", key, ex);
+            }
+        }
+    }
+
+    private AtomicLong gauge(Map<String, AtomicLong> gauges, String metricName, String name) {
+        return gauges.computeIfAbsent(name, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(metricName, value, AtomicLong::get)
+                .tag("key", key)
+                .register(meterRegistry);
+            return value;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회 집계(dedupe/조회수/트렌딩) 전용 비동기 실행기.
+ * <p>
+ * 큐가 가득 차면 요청 스레드를 막지 않고 이벤트를 버린다. 조회수는 근사치여도 되지만
+ * Redis 지연이 요청 처리와 커넥션 풀로 번지는 것은 막아야 하기 때문이다.
+ */
+@Slf4j
+@Component
+public class ArticleViewAccountingExecutor implements DisposableBean {
+
+    private static final long SHUTDOWN_AWAIT_SECONDS = 5L;
+
+    private final ThreadPoolExecutor executor;
+    private final Counter submittedCounter;
+    private final Counter droppedCounter;
+
+    public ArticleViewAccountingExecutor(
+        MeterRegistry meterRegistry,
+        @Value("${app.article.view.accounting.pool-size:2}") int poolSize,
+        @Value("${app.article.view.accounting.queue-capacity:10000}") int queueCapacity
+    ) {
+        int resolvedPoolSize = Math.max(1, poolSize);
+        this.executor = new ThreadPoolExecutor(
+            resolvedPoolSize,
+            resolvedPoolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            new CustomizableThreadFactory("article-view-accounting-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.submittedCounter = Counter.builder("article.view.accounting.submitted")
+            .description("조회 집계 실행기에 제출된 이벤트 수")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("article.view.accounting.dropped")
+            .description("큐 포화로 버려진 조회 집계 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("article.view.accounting.queue.size", executor, pool -> pool.getQueue().size())
+            .description("조회 집계 대기 큐 길이")
+            .register(meterRegistry);
+        Gauge.builder("article.view.accounting.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("조회 집계 실행 중인 작업 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return 큐에 적재되면 true, 포화/종료로 버려지면 false
+     */
+    public boolean submit(Long articleId, Runnable task) {
+        try {
+            executor.execute(task);
+            submittedCounter.increment();
+            return true;
+        } catch (RejectedExecutionException ex) {
+            droppedCounter.increment();
+            log.debug("조회 집계 큐가 가득 차 이벤트를 버립니다. articleId={}", articleId);
+            return false;
+        }
+    }
+
+    int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // 종료 시 이미 적재된 이벤트는 제한 시간 안에서 최대한 처리한다.
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_AWAIT_SECONDS, TimeUnit.SECONDS)) {
+            int remaining = executor.shutdownNow().size();
+            log.warn("조회 집계 실행기 종료 대기 시간을 넘겨 남은 이벤트를 버립니다. remaining={}", remaining);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.mocktalkback.global.auth.CurrentUserService;
 
@@ -19,28 +21,52 @@ public class ArticleViewService {
     private final ArticleViewDedupeStore articleViewDedupeStore;
     private final ArticleViewerKeyService articleViewerKeyService;
     private final ArticleTrendingService articleTrendingService;
+    private final ArticleViewAccountingExecutor articleViewAccountingExecutor;
     private final CurrentUserService currentUserService;
 
     @Value("${app.article.view.dedupe-ttl-seconds:86400}")
     private long dedupeTtlSeconds;
 
-    public long increaseHitIfEligible(Long articleId, long currentHit, String clientIp, String userAgent) {
+    /**
+     * 조회자 키만 요청 스레드에서 계산하고, dedupe/조회수/트렌딩 반영은 트랜잭션이 끝난 뒤 비동기로 처리한다.
+     * 반환값은 이번 조회가 반영되기 전의 조회수(저장값 + 미반영 증가분)다.
+     */
+    public long increaseHitIfEligible(Long articleId, Long boardId, long currentHit, String clientIp, String userAgent) {
         Long userId = currentUserService.getOptionalUserId().orElse(null);
         String viewerKey = articleViewerKeyService.resolve(userId, clientIp, userAgent);
 
+        runAfterTransaction(articleId, () -> accountView(articleId, boardId, viewerKey));
+        return articleHitService.resolveHit(articleId, currentHit);
+    }
+
+    void accountView(Long articleId, Long boardId, String viewerKey) {
         try {
-            boolean firstView = articleViewDedupeStore.markViewed(articleId, viewerKey, resolveDedupeTtl());
+            // dedupe와 트렌딩 점수는 같은 스크립트에서 처리해 중복 조회가 점수에 섞이지 않는다.
+            String dedupeKey = articleViewDedupeStore.key(articleId, viewerKey);
+            boolean firstView = articleTrendingService.recordFirstView(articleId, boardId, dedupeKey, resolveDedupeTtl());
             if (!firstView) {
-                return currentHit;
+                return;
             }
         } catch (Exception ex) {
             log.warn("게시글 조회 dedupe 처리에 실패해 조회수 증가를 생략합니다. articleId={}", articleId, ex);
-            return currentHit;
+            return;
         }
 
-        long updatedHit = articleHitService.increaseAndGet(articleId);
-        articleTrendingService.recordView(articleId);
-        return updatedHit;
+        articleHitService.increase(articleId);
+    }
+
+    private void runAfterTransaction(Long articleId, Runnable task) {
+        // 조회 트랜잭션의 커넥션을 쥔 채로 Redis를 호출하지 않도록 커밋 이후에 제출한다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    articleViewAccountingExecutor.submit(articleId, task);
+                }
+            });
+            return;
+        }
+        articleViewAccountingExecutor.submit(articleId, task);
     }
 
     private Duration resolveDedupeTtl() {
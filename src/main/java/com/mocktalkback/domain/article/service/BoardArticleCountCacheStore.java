@@ -0,0 +1,63 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.mocktalkback.domain.role.type.ContentVisibility;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 목록에서 선택적으로 내려주는 대략적인 전체 개수를 짧은 TTL로 캐시한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardArticleCountCacheStore {
+
+    private static final String KEY_PREFIX = "board:article:count:v1:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Long find(Long boardId, Long categoryId, boolean uncategorized, Collection<ContentVisibility> visibilities) {
+        String value = stringRedisTemplate.opsForValue().get(key(boardId, categoryId, uncategorized, visibilities));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    public void save(
+        Long boardId,
+        Long categoryId,
+        boolean uncategorized,
+        Collection<ContentVisibility> visibilities,
+        long total,
+        Duration ttl
+    ) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("게시글 개수 캐시 TTL이 올바르지 않습니다.");
+        }
+        stringRedisTemplate.opsForValue().set(
+            key(boardId, categoryId, uncategorized, visibilities),
+            String.valueOf(total),
+            ttl
+        );
+    }
+
+    private String key(Long boardId, Long categoryId, boolean uncategorized, Collection<ContentVisibility> visibilities) {
+        String filter = uncategorized ? "none" : categoryId == null ? "all" : String.valueOf(categoryId);
+        String visibilityKey = visibilities.stream()
+            .map(ContentVisibility::name)
+            .sorted()
+            .collect(Collectors.joining(","));
+        return KEY_PREFIX + boardId + ":" + filter + ":" + visibilityKey;
+    }
+}
@@ -0,0 +1,59 @@
+package com.mocktalkback.domain.article.service;
+
+import com.mocktalkback.domain.article.entity.ArticleEntity;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
+
+/**
+ * 사용자 관심도 프로필 갱신 요청. 커밋 이후 {@link UserAffinityEventListener}가 비동기로 반영한다.
+ * 활동(added/removed)이 없는 이벤트는 프로필이 없을 때 활동 이력으로 초기화만 요청한다.
+ * rebuild 이벤트는 대량 삭제처럼 증분으로 옮기기 어려운 변경 뒤에 프로필을 활동 이력으로 다시 계산하게 한다.
+ */
+public record UserAffinityEvent(
+    Long userId,
+    Long articleId,
+    Long boardId,
+    Long categoryId,
+    UserAffinitySignal added,
+    UserAffinitySignal removed,
+    boolean rebuild
+) {
+
+    public UserAffinityEvent(
+        Long userId,
+        Long articleId,
+        Long boardId,
+        Long categoryId,
+        UserAffinitySignal added,
+        UserAffinitySignal removed
+    ) {
+        this(userId, articleId, boardId, categoryId, added, removed, false);
+    }
+
+    public static UserAffinityEvent of(
+        Long userId,
+        ArticleEntity article,
+        UserAffinitySignal added,
+        UserAffinitySignal removed
+    ) {
+        return new UserAffinityEvent(
+            userId,
+            article.getId(),
+            article.getBoard().getId(),
+            article.getCategory() == null ? null : article.getCategory().getId(),
+            added,
+            removed
+        );
+    }
+
+    public static UserAffinityEvent seed(Long userId) {
+        return new UserAffinityEvent(userId, null, null, null, null, null);
+    }
+
+    public static UserAffinityEvent rebuild(Long userId) {
+        return new UserAffinityEvent(userId, null, null, null, null, null, true);
+    }
+
+    public boolean hasActivity() {
+        return added != null || removed != null || rebuild;
+    }
+}
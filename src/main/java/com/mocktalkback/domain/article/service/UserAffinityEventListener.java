@@ -0,0 +1,66 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 북마크/반응/댓글 활동을 관심도 프로필에 비동기로 반영한다.
+ * 프로필 반영이 끝난 뒤에 추천 피드 재계산을 요청해 재계산이 새 관심도를 읽게 한다.
+ */
+@Slf4j
+@Component
+public class UserAffinityEventListener {
+
+    private final UserAffinityService userAffinityService;
+    private final ArticleRecommendationFeedStore articleRecommendationFeedStore;
+    private final Clock clock;
+
+    @Value("${app.article.recommendation.feed.enabled:true}")
+    private boolean feedEnabled = true;
+
+    @Autowired
+    public UserAffinityEventListener(
+        UserAffinityService userAffinityService,
+        ArticleRecommendationFeedStore articleRecommendationFeedStore
+    ) {
+        this(userAffinityService, articleRecommendationFeedStore, Clock.systemUTC());
+    }
+
+    UserAffinityEventListener(
+        UserAffinityService userAffinityService,
+        ArticleRecommendationFeedStore articleRecommendationFeedStore,
+        Clock clock
+    ) {
+        this.userAffinityService = userAffinityService;
+        this.articleRecommendationFeedStore = articleRecommendationFeedStore;
+        this.clock = clock;
+    }
+
+    @Async("affinityTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAffinityEvent(UserAffinityEvent event) {
+        try {
+            userAffinityService.apply(event);
+        } catch (Exception ex) {
+            log.warn("사용자 관심도 반영에 실패했습니다. userId={}", event.userId(), ex);
+            return;
+        }
+        if (!event.hasActivity() || !feedEnabled) {
+            return;
+        }
+
+        try {
+            articleRecommendationFeedStore.markDirty(event.userId(), clock.millis());
+        } catch (Exception ex) {
+            log.warn("추천 피드 재계산 요청에 실패했습니다. userId={}", event.userId(), ex);
+        }
+    }
+}
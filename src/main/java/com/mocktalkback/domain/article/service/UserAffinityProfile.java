@@ -0,0 +1,159 @@
+package com.mocktalkback.domain.article.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
+
+/**
+ * 사용자별 게시판/카테고리 관심도. tb_user_affinity.profile(JSONB)에 그대로 직렬화된다.
+ * <p>
+ * 가중치는 decayedAtMillis 시점 기준 값이며, 읽거나 갱신할 때 반감기만큼 지수 감쇠한 뒤 사용한다.
+ * 모든 메서드는 새 인스턴스를 반환한다.
+ */
+public record UserAffinityProfile(
+    long decayedAtMillis,
+    Map<Long, Weight> boards,
+    Map<Long, Weight> categories,
+    List<Long> bookmarkedArticleIds
+) {
+
+    static final int MAX_WEIGHTS = 50;
+    static final int MAX_BOOKMARKED_ARTICLES = 20;
+    private static final double MIN_ABS_SCORE = 0.01d;
+
+    public UserAffinityProfile {
+        boards = boards == null ? Map.of() : Map.copyOf(boards);
+        categories = categories == null ? Map.of() : Map.copyOf(categories);
+        bookmarkedArticleIds = bookmarkedArticleIds == null ? List.of() : List.copyOf(bookmarkedArticleIds);
+    }
+
+    public static UserAffinityProfile empty(long nowMillis) {
+        return new UserAffinityProfile(nowMillis, Map.of(), Map.of(), List.of());
+    }
+
+    public UserAffinityProfile decayedTo(long nowMillis, long halfLifeMillis) {
+        if (nowMillis <= decayedAtMillis || halfLifeMillis <= 0L) {
+            return this;
+        }
+        double factor = Math.pow(0.5d, (double) (nowMillis - decayedAtMillis) / halfLifeMillis);
+        return new UserAffinityProfile(
+            nowMillis,
+            prune(scale(boards, factor)),
+            prune(scale(categories, factor)),
+            bookmarkedArticleIds
+        );
+    }
+
+    /**
+     * 활동 가중치에 factor(0~1, 활동 시점 기준 감쇠율)를 곱해 더한다.
+     */
+    public UserAffinityProfile plus(UserAffinitySignal signal, Long boardId, Long categoryId, double factor) {
+        return new UserAffinityProfile(
+            decayedAtMillis,
+            prune(add(boards, boardId, signal.boardWeight() * factor, signal, signal.boardReason())),
+            prune(add(categories, categoryId, signal.categoryWeight() * factor, signal, signal.categoryReason())),
+            bookmarkedArticleIds
+        );
+    }
+
+    /**
+     * 취소된 활동의 가중치를 되돌린다. 감쇠로 이미 줄어든 만큼 넘어서 반대 부호가 되지 않도록 0에서 멈춘다.
+     */
+    public UserAffinityProfile minus(UserAffinitySignal signal, Long boardId, Long categoryId) {
+        return new UserAffinityProfile(
+            decayedAtMillis,
+            prune(subtract(boards, boardId, signal.boardWeight())),
+            prune(subtract(categories, categoryId, signal.categoryWeight())),
+            bookmarkedArticleIds
+        );
+    }
+
+    public UserAffinityProfile withBookmark(Long articleId) {
+        List<Long> ids = new ArrayList<>(MAX_BOOKMARKED_ARTICLES);
+        ids.add(articleId);
+        for (Long bookmarkedArticleId : bookmarkedArticleIds) {
+            if (ids.size() >= MAX_BOOKMARKED_ARTICLES) {
+                break;
+            }
+            if (!bookmarkedArticleId.equals(articleId)) {
+                ids.add(bookmarkedArticleId);
+            }
+        }
+        return new UserAffinityProfile(decayedAtMillis, boards, categories, ids);
+    }
+
+    public UserAffinityProfile withoutBookmark(Long articleId) {
+        List<Long> ids = bookmarkedArticleIds.stream()
+            .filter(bookmarkedArticleId -> !bookmarkedArticleId.equals(articleId))
+            .toList();
+        return new UserAffinityProfile(decayedAtMillis, boards, categories, ids);
+    }
+
+    public boolean hasPositiveSignal() {
+        return boards.values().stream().anyMatch(weight -> weight.score() > 0.0d)
+            || categories.values().stream().anyMatch(weight -> weight.score() > 0.0d);
+    }
+
+    private static Map<Long, Weight> scale(Map<Long, Weight> weights, double factor) {
+        Map<Long, Weight> scaled = new HashMap<>();
+        weights.forEach((key, weight) -> scaled.put(key, new Weight(weight.score() * factor, weight.reason())));
+        return scaled;
+    }
+
+    private static Map<Long, Weight> add(
+        Map<Long, Weight> weights,
+        Long key,
+        double delta,
+        UserAffinitySignal signal,
+        String reason
+    ) {
+        if (key == null || delta == 0.0d) {
+            return weights;
+        }
+        Map<Long, Weight> updated = new HashMap<>(weights);
+        Weight current = weights.get(key);
+        double score = (current == null ? 0.0d : current.score()) + delta;
+        UserAffinitySignal currentReason = current == null ? null : current.reason();
+        // 기존 사유보다 우선순위가 높은 긍정 활동일 때만 사유를 바꾼다.
+        UserAffinitySignal nextReason = reason != null && signal.outranks(currentReason) ? signal : currentReason;
+        updated.put(key, new Weight(score, nextReason));
+        return updated;
+    }
+
+    private static Map<Long, Weight> subtract(Map<Long, Weight> weights, Long key, double delta) {
+        Weight current = key == null ? null : weights.get(key);
+        if (current == null || delta == 0.0d) {
+            return weights;
+        }
+        // 되돌릴 활동과 같은 부호로 남은 몫만 줄인다. 이미 반대 부호면 다른 활동의 몫이므로 건드리지 않는다.
+        double score = delta > 0.0d
+            ? (current.score() > 0.0d ? Math.max(0.0d, current.score() - delta) : current.score())
+            : (current.score() < 0.0d ? Math.min(0.0d, current.score() - delta) : current.score());
+        Map<Long, Weight> updated = new HashMap<>(weights);
+        updated.put(key, new Weight(score, current.reason()));
+        return updated;
+    }
+
+    private static Map<Long, Weight> prune(Map<Long, Weight> weights) {
+        Map<Long, Weight> pruned = new LinkedHashMap<>();
+        weights.entrySet().stream()
+            .filter(entry -> Math.abs(entry.getValue().score()) >= MIN_ABS_SCORE)
+            .sorted(Comparator.comparingDouble(
+                (Map.Entry<Long, Weight> entry) -> Math.abs(entry.getValue().score())
+            ).reversed())
+            .limit(MAX_WEIGHTS)
+            .forEach(entry -> pruned.put(entry.getKey(), entry.getValue()));
+        return pruned;
+    }
+
+    /**
+     * @param reason 이 가중치를 만든 가장 우선순위가 높은 긍정 활동, 부정 활동만 있으면 null
+     */
+    public record Weight(double score, UserAffinitySignal reason) {
+    }
+}
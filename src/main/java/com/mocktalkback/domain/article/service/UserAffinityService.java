@@ -0,0 +1,231 @@
+package com.mocktalkback.domain.article.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.article.entity.ArticleBookmarkEntity;
+import com.mocktalkback.domain.article.entity.ArticleEntity;
+import com.mocktalkback.domain.article.entity.ArticleReactionEntity;
+import com.mocktalkback.domain.article.entity.UserAffinityEntity;
+import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
+import com.mocktalkback.domain.article.repository.ArticleBookmarkRepository;
+import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
+import com.mocktalkback.domain.article.repository.UserAffinityRepository;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
+import com.mocktalkback.domain.comment.entity.CommentEntity;
+import com.mocktalkback.domain.comment.repository.CommentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천용 사용자 관심도 프로필(tb_user_affinity)을 관리한다.
+ * <p>
+ * 조회는 PK 한 행만 읽고, 북마크/반응/댓글 쓰기 이후에는 {@link UserAffinityEventListener}가 증분만 반영한다.
+ * 프로필이 없는 사용자는 최근 활동 이력(북마크/반응/댓글 각 20건)으로 한 번만 초기화한다.
+ */
+@Slf4j
+@Service
+public class UserAffinityService {
+
+    private final UserAffinityRepository userAffinityRepository;
+    private final ArticleBookmarkRepository articleBookmarkRepository;
+    private final ArticleReactionRepository articleReactionRepository;
+    private final CommentRepository commentRepository;
+    private final PublicArticleFeedPolicy publicArticleFeedPolicy;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Value("${app.article.recommendation.affinity.half-life-hours:336}")
+    private long halfLifeHours = 336L;
+
+    @Autowired
+    public UserAffinityService(
+        UserAffinityRepository userAffinityRepository,
+        ArticleBookmarkRepository articleBookmarkRepository,
+        ArticleReactionRepository articleReactionRepository,
+        CommentRepository commentRepository,
+        PublicArticleFeedPolicy publicArticleFeedPolicy,
+        ObjectMapper objectMapper
+    ) {
+        this(
+            userAffinityRepository,
+            articleBookmarkRepository,
+            articleReactionRepository,
+            commentRepository,
+            publicArticleFeedPolicy,
+            objectMapper,
+            Clock.systemUTC()
+        );
+    }
+
+    UserAffinityService(
+        UserAffinityRepository userAffinityRepository,
+        ArticleBookmarkRepository articleBookmarkRepository,
+        ArticleReactionRepository articleReactionRepository,
+        CommentRepository commentRepository,
+        PublicArticleFeedPolicy publicArticleFeedPolicy,
+        ObjectMapper objectMapper,
+        Clock clock
+    ) {
+        this.userAffinityRepository = userAffinityRepository;
+        this.articleBookmarkRepository = articleBookmarkRepository;
+        this.articleReactionRepository = articleReactionRepository;
+        this.commentRepository = commentRepository;
+        this.publicArticleFeedPolicy = publicArticleFeedPolicy;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * 저장된 프로필을 현재 시각 기준으로 감쇠해 반환한다. 없거나 읽을 수 없으면 비어 있다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserAffinityProfile> findProfile(Long userId) {
+        return userAffinityRepository.findById(userId)
+            .flatMap(this::read)
+            .map(profile -> profile.decayedTo(clock.millis(), halfLifeMillis()));
+    }
+
+    /**
+     * 최근 활동 이력으로 프로필을 계산한다. 각 활동은 활동 시각부터 지금까지의 감쇠를 적용해 더한다.
+     */
+    @Transactional(readOnly = true)
+    public UserAffinityProfile buildFromHistory(Long userId) {
+        long nowMillis = clock.millis();
+        UserAffinityProfile profile = UserAffinityProfile.empty(nowMillis);
+
+        List<ArticleBookmarkEntity> bookmarks = articleBookmarkRepository.findTop20ByUserIdOrderByCreatedAtDescIdDesc(userId);
+        List<Long> bookmarkedArticleIds = new ArrayList<>();
+        for (ArticleBookmarkEntity bookmark : bookmarks) {
+            ArticleEntity article = bookmark.getArticle();
+            if (!publicArticleFeedPolicy.isPublicFeedTarget(article)) {
+                continue;
+            }
+            bookmarkedArticleIds.add(article.getId());
+            profile = plus(profile, UserAffinitySignal.BOOKMARK, article, bookmark.getCreatedAt(), nowMillis);
+        }
+
+        List<ArticleReactionEntity> reactions = articleReactionRepository.findTop20ByUserIdOrderByUpdatedAtDescIdDesc(userId);
+        for (ArticleReactionEntity reaction : reactions) {
+            ArticleEntity article = reaction.getArticle();
+            UserAffinitySignal signal = UserAffinitySignal.fromReaction(reaction.getReactionType());
+            if (signal == null || !publicArticleFeedPolicy.isPublicFeedTarget(article)) {
+                continue;
+            }
+            profile = plus(profile, signal, article, reaction.getUpdatedAt(), nowMillis);
+        }
+
+        List<CommentEntity> comments = commentRepository.findTop20ByUserIdAndDeletedAtIsNullOrderByCreatedAtDescIdDesc(userId);
+        for (CommentEntity comment : comments) {
+            ArticleEntity article = comment.getArticle();
+            if (!publicArticleFeedPolicy.isPublicFeedTarget(article)) {
+                continue;
+            }
+            profile = plus(profile, UserAffinitySignal.COMMENT, article, comment.getCreatedAt(), nowMillis);
+        }
+
+        return new UserAffinityProfile(nowMillis, profile.boards(), profile.categories(), bookmarkedArticleIds);
+    }
+
+    /**
+     * 사용자 행을 잠그고 활동 증분을 반영한다. 행이 없거나 rebuild 이벤트면 활동 이력으로 만든다.
+     * 커밋 이후에 호출되므로 이력에는 이번 활동이 이미 포함되어 있어 증분을 따로 더하지 않는다.
+     * 이미 커밋된 트랜잭션에 참여하면 변경이 flush되지 않으므로 항상 새 트랜잭션에서 반영한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void apply(UserAffinityEvent event) {
+        Long userId = event.userId();
+        if (userId == null) {
+            throw new IllegalArgumentException("관심도 사용자 ID가 비어 있습니다.");
+        }
+
+        Optional<UserAffinityEntity> locked = userAffinityRepository.findForUpdate(userId);
+        if (locked.isEmpty()) {
+            // 동시에 다른 스레드가 먼저 만들었으면 그쪽 이력에도 이번 활동이 포함되어 있으므로 그대로 둔다.
+            userAffinityRepository.insertIfAbsent(userId, write(buildFromHistory(userId)));
+            return;
+        }
+        if (!event.hasActivity()) {
+            return;
+        }
+
+        UserAffinityEntity entity = locked.get();
+        Optional<UserAffinityProfile> stored = read(entity);
+        UserAffinityProfile updated = stored.isEmpty() || event.rebuild()
+            ? buildFromHistory(userId)
+            : applyActivity(stored.get().decayedTo(clock.millis(), halfLifeMillis()), event);
+        entity.changeProfile(write(updated), Instant.ofEpochMilli(clock.millis()));
+    }
+
+    private UserAffinityProfile applyActivity(UserAffinityProfile profile, UserAffinityEvent event) {
+        UserAffinityProfile updated = profile;
+        if (event.removed() != null) {
+            updated = updated.minus(event.removed(), event.boardId(), event.categoryId());
+            if (event.removed() == UserAffinitySignal.BOOKMARK) {
+                updated = updated.withoutBookmark(event.articleId());
+            }
+        }
+        if (event.added() != null) {
+            updated = updated.plus(event.added(), event.boardId(), event.categoryId(), 1.0d);
+            if (event.added() == UserAffinitySignal.BOOKMARK) {
+                updated = updated.withBookmark(event.articleId());
+            }
+        }
+        return updated;
+    }
+
+    private UserAffinityProfile plus(
+        UserAffinityProfile profile,
+        UserAffinitySignal signal,
+        ArticleEntity article,
+        Instant occurredAt,
+        long nowMillis
+    ) {
+        Long categoryId = article.getCategory() == null ? null : article.getCategory().getId();
+        return profile.plus(signal, article.getBoard().getId(), categoryId, decayFactor(occurredAt, nowMillis));
+    }
+
+    private double decayFactor(Instant occurredAt, long nowMillis) {
+        if (occurredAt == null) {
+            return 1.0d;
+        }
+        long elapsedMillis = nowMillis - occurredAt.toEpochMilli();
+        if (elapsedMillis <= 0L) {
+            return 1.0d;
+        }
+        return Math.pow(0.5d, (double) elapsedMillis / halfLifeMillis());
+    }
+
+    private long halfLifeMillis() {
+        return Duration.ofHours(Math.max(1L, halfLifeHours)).toMillis();
+    }
+
+    private Optional<UserAffinityProfile> read(UserAffinityEntity entity) {
+        try {
+            return Optional.of(objectMapper.readValue(entity.getProfile(), UserAffinityProfile.class));
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            log.warn("사용자 관심도 프로필을 읽지 못해 활동 이력으로 다시 계산합니다. userId={}", entity.getUserId(), ex);
+            return Optional.empty();
+        }
+    }
+
+    private String write(UserAffinityProfile profile) {
+        try {
+            return objectMapper.writeValueAsString(profile);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("사용자 관심도 프로필 직렬화에 실패했습니다.", ex);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.mocktalkback.domain.article.type;
+
+/**
+ * 트렌딩 점수에 반영하는 게시글 활동 종류. 점수는 {@code ArticleTrendingService}가 정한다.
+ */
+public enum ArticleTrendingSignal {
+    COMMENT_CREATED,
+    COMMENT_DELETED,
+    BOOKMARK_CREATED,
+    BOOKMARK_DELETED,
+    REACTION_CHANGED
+}
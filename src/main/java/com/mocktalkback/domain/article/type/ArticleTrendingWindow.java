@@ -1,6 +1,7 @@
 package com.mocktalkback.domain.article.type;
 
 public enum ArticleTrendingWindow {
+    HOUR,
     DAY,
     WEEK
 }
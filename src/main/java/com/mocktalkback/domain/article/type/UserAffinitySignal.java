@@ -0,0 +1,57 @@
+package com.mocktalkback.domain.article.type;
+
+/**
+ * 추천 관심도에 반영하는 사용자 활동 종류.
+ * 선언 순서가 추천 사유 우선순위다(북마크 > 좋아요 > 댓글).
+ */
+public enum UserAffinitySignal {
+    BOOKMARK(5.0d, 3.0d, "북마크한 글과 비슷한 게시판 기반", "북마크한 글과 비슷한 주제 기반"),
+    LIKE(4.0d, 2.0d, "최근 좋아요한 글과 비슷한 게시판 기반", "최근 좋아요한 글과 비슷한 주제 기반"),
+    COMMENT(2.0d, 1.0d, "최근 댓글을 남긴 게시판 기반", "최근 댓글을 남긴 주제 기반"),
+    DISLIKE(-4.0d, -2.0d, null, null);
+
+    private final double boardWeight;
+    private final double categoryWeight;
+    private final String boardReason;
+    private final String categoryReason;
+
+    UserAffinitySignal(double boardWeight, double categoryWeight, String boardReason, String categoryReason) {
+        this.boardWeight = boardWeight;
+        this.categoryWeight = categoryWeight;
+        this.boardReason = boardReason;
+        this.categoryReason = categoryReason;
+    }
+
+    public double boardWeight() {
+        return boardWeight;
+    }
+
+    public double categoryWeight() {
+        return categoryWeight;
+    }
+
+    public String boardReason() {
+        return boardReason;
+    }
+
+    public String categoryReason() {
+        return categoryReason;
+    }
+
+    public boolean outranks(UserAffinitySignal other) {
+        return other == null || ordinal() < other.ordinal();
+    }
+
+    /**
+     * @return 1이면 좋아요, -1이면 싫어요, 그 외(반응 없음)는 null
+     */
+    public static UserAffinitySignal fromReaction(short reactionType) {
+        if (reactionType == 1) {
+            return LIKE;
+        }
+        if (reactionType == -1) {
+            return DISLIKE;
+        }
+        return null;
+    }
+}
@@ -12,9 +12,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mocktalkback.domain.article.dto.BoardArticleCursorResponse;
 import com.mocktalkback.domain.article.dto.BoardArticleListResponse;
 import com.mocktalkback.domain.article.dto.ArticleCategoryResponse;
+import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
 import com.mocktalkback.domain.article.service.ArticleService;
+import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
 import com.mocktalkback.domain.board.dto.BoardCreateRequest;
 import com.mocktalkback.domain.board.dto.BoardDetailResponse;
 import com.mocktalkback.domain.board.dto.BoardMemberStatusResponse;
@@ -130,6 +133,60 @@ public class BoardController {
         return ApiEnvelope.ok(articleService.getBoardArticles(id, page, size, order, categoryId, uncategorized));
     }
 
+    @GetMapping(value = "/boards/{id:\\d+}/articles", params = "cursor")
+    @Operation(
+        summary = "게시판 게시글 목록(커서)",
+        description = "cursor 파라미터가 있으면 커서 기반으로 조회합니다. 첫 페이지는 빈 cursor로 요청하고, 응답의 nextCursor로 다음 페이지를 요청합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class))),
+        @ApiResponse(responseCode = "400", description = "cursor 형식 오류"),
+        @ApiResponse(responseCode = "404", description = "게시판 없음")
+    })
+    public ApiEnvelope<BoardArticleCursorResponse> findArticlesByCursor(
+        @PathVariable("id") Long id,
+        @Parameter(description = "다음 페이지 커서(첫 페이지는 빈 값)", example = "")
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기(최대 50)", example = "10")
+        @RequestParam(name = "size", defaultValue = "10") int size,
+        @Parameter(description = "정렬(최신순/과거순)", example = "LATEST")
+        @RequestParam(name = "order", defaultValue = "LATEST") SortOrder order,
+        @Parameter(description = "카테고리 ID 필터", example = "10")
+        @RequestParam(name = "categoryId", required = false) @Positive Long categoryId,
+        @Parameter(description = "미분류 게시글만 조회", example = "true")
+        @RequestParam(name = "uncategorized", defaultValue = "false") boolean uncategorized,
+        @Parameter(description = "대략적인 전체 개수 포함 여부(캐시 값)", example = "false")
+        @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return ApiEnvelope.ok(articleService.getBoardArticlesByCursor(
+            id,
+            cursor,
+            size,
+            order,
+            categoryId,
+            uncategorized,
+            includeTotal
+        ));
+    }
+
+    @GetMapping("/boards/{id:\\d+}/articles/trending")
+    @Operation(
+        summary = "게시판 인기 게시글 조회",
+        description = "게시판 안의 시간/일간/주간 기준 인기 게시글을 조회합니다. 공개 게시판의 공개 게시글만 포함되며 결과는 짧게 캐시됩니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class)))
+    })
+    public ApiEnvelope<List<ArticleTrendingItemResponse>> findTrendingArticles(
+        @PathVariable("id") Long id,
+        @Parameter(description = "집계 윈도우(HOUR/DAY/WEEK)", example = "DAY")
+        @RequestParam(name = "window", defaultValue = "DAY") ArticleTrendingWindow window,
+        @Parameter(description = "최대 개수(최대 50)", example = "10")
+        @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        return ApiEnvelope.ok(articleService.findBoardTrendingPublic(id, window, limit));
+    }
+
     @GetMapping("/boards/{id:\\d+}/categories")
     @Operation(summary = "게시판 카테고리 목록", description = "게시판 접근 권한이 있는 사용자가 카테고리 목록을 조회합니다.")
     @ApiResponses({
@@ -1,5 +1,10 @@
 package com.mocktalkback.domain.comment.controller;
 
+import java.util.function.Function;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,16 +14,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.mocktalkback.domain.comment.dto.CommentChangesResponse;
 import com.mocktalkback.domain.comment.dto.CommentCreateRequest;
 import com.mocktalkback.domain.comment.dto.CommentPageResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionSummaryResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionToggleRequest;
 import com.mocktalkback.domain.comment.dto.CommentSnapshotResponse;
+import com.mocktalkback.domain.comment.dto.CommentThreadResponse;
 import com.mocktalkback.domain.comment.dto.CommentTreeResponse;
 import com.mocktalkback.domain.comment.dto.CommentUpdateRequest;
 import com.mocktalkback.domain.comment.service.CommentService;
+import com.mocktalkback.domain.comment.service.CommentSyncState;
 import com.mocktalkback.global.common.dto.ApiEnvelope;
+import com.mocktalkback.global.common.dto.CursorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,38 +46,122 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Comment", description = "댓글 API")
 public class CommentController {
 
+    // 조회자별 내 반응이 들어가므로 공유 캐시에는 두지 않고, 브라우저는 매번 ETag로 재검증한다.
+    private static final CacheControl COMMENT_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final CommentService commentService;
 
     @GetMapping("/articles/{articleId}/comments")
     @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글 목록을 트리 구조로 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "게시글 없음")
     })
-    public ApiEnvelope<CommentPageResponse<CommentTreeResponse>> getArticleComments(
+    public ResponseEntity<ApiEnvelope<CommentPageResponse<CommentTreeResponse>>> getArticleComments(
         @PathVariable("articleId") Long articleId,
         @Parameter(description = "페이지 번호(0부터 시작)", example = "0")
         @RequestParam(name = "page", defaultValue = "0") int page,
         @Parameter(description = "페이지 크기(최대 50)", example = "10")
-        @RequestParam(name = "size", defaultValue = "10") int size
+        @RequestParam(name = "size", defaultValue = "10") int size,
+        WebRequest webRequest
     ) {
-        return ApiEnvelope.ok(commentService.getArticleComments(articleId, page, size));
+        return conditional(articleId, webRequest, state -> commentService.getArticleComments(state, page, size));
+    }
+
+    @GetMapping(value = "/articles/{articleId}/comments", params = "cursor")
+    @Operation(
+        summary = "댓글 목록 조회(커서)",
+        description = "cursor 파라미터가 있으면 루트 댓글을 커서 기반으로 조회합니다. 루트마다 먼저 작성된 답글 일부만 포함하며, 나머지는 답글 더보기 API로 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "cursor 형식 오류"),
+        @ApiResponse(responseCode = "404", description = "게시글 없음")
+    })
+    public ResponseEntity<ApiEnvelope<CursorResponse<CommentThreadResponse>>> getArticleCommentsByCursor(
+        @PathVariable("articleId") Long articleId,
+        @Parameter(description = "다음 페이지 커서(첫 페이지는 빈 값)", example = "")
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기(최대 50)", example = "10")
+        @RequestParam(name = "size", defaultValue = "10") int size,
+        WebRequest webRequest
+    ) {
+        return conditional(
+            articleId,
+            webRequest,
+            state -> commentService.getArticleCommentsByCursor(state, cursor, size)
+        );
+    }
+
+    @GetMapping("/articles/{articleId}/comments/{rootCommentId}/replies")
+    @Operation(
+        summary = "답글 더보기",
+        description = "루트 댓글 아래 답글을 작성 순으로 커서 조회합니다. 댓글 목록의 nextReplyCursor로 이어서 요청합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "cursor 형식 오류"),
+        @ApiResponse(responseCode = "404", description = "게시글 또는 댓글 없음")
+    })
+    public ResponseEntity<ApiEnvelope<CursorResponse<CommentTreeResponse>>> getReplies(
+        @PathVariable("articleId") Long articleId,
+        @PathVariable("rootCommentId") Long rootCommentId,
+        @Parameter(description = "다음 페이지 커서(처음부터는 빈 값)", example = "")
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기(최대 50)", example = "20")
+        @RequestParam(name = "size", defaultValue = "20") int size,
+        WebRequest webRequest
+    ) {
+        return conditional(
+            articleId,
+            webRequest,
+            state -> commentService.getReplies(state, rootCommentId, cursor, size)
+        );
     }
 
     @GetMapping("/articles/{articleId}/comments/snapshot")
     @Operation(summary = "댓글 스냅샷 조회", description = "게시글 댓글 페이지와 동기화 버전을 함께 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "게시글 없음")
     })
-    public ApiEnvelope<CommentSnapshotResponse> getArticleCommentSnapshot(
+    public ResponseEntity<ApiEnvelope<CommentSnapshotResponse>> getArticleCommentSnapshot(
         @PathVariable("articleId") Long articleId,
         @Parameter(description = "페이지 번호(0부터 시작)", example = "0")
         @RequestParam(name = "page", defaultValue = "0") int page,
         @Parameter(description = "페이지 크기(최대 50)", example = "10")
-        @RequestParam(name = "size", defaultValue = "10") int size
+        @RequestParam(name = "size", defaultValue = "10") int size,
+        WebRequest webRequest
+    ) {
+        return conditional(
+            articleId,
+            webRequest,
+            state -> commentService.getArticleCommentsSnapshot(state, page, size)
+        );
+    }
+
+    @GetMapping("/articles/{articleId}/comments/changes")
+    @Operation(
+        summary = "댓글 변경분 조회",
+        description = "since 이후 작성/수정/삭제/반응이 바뀐 댓글만 조회합니다. resyncRequired가 true면 댓글 페이지를 다시 조회합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiEnvelope.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음(If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "since 값 오류"),
+        @ApiResponse(responseCode = "404", description = "게시글 없음")
+    })
+    public ResponseEntity<ApiEnvelope<CommentChangesResponse>> getCommentChanges(
+        @PathVariable("articleId") Long articleId,
+        @Parameter(description = "마지막으로 반영한 동기화 버전", example = "40")
+        @RequestParam(name = "since") long since,
+        WebRequest webRequest
     ) {
-        return ApiEnvelope.ok(commentService.getArticleCommentsSnapshot(articleId, page, size));
+        return conditional(articleId, webRequest, state -> commentService.getCommentChanges(state, since));
     }
 
     @PostMapping("/articles/{articleId}/comments")
@@ -141,4 +235,27 @@ public class CommentController {
         commentService.delete(id);
         return ApiEnvelope.ok();
     }
+
+    /**
+     * 게시글 sync_version으로 ETag를 만들고 If-None-Match가 같으면 댓글을 조회하지 않고 304로 응답한다.
+     * 200이면 ETag를 만들 때 확인한 상태를 loader에 넘겨 접근 검사와 버전 조회를 반복하지 않는다.
+     */
+    private <T> ResponseEntity<ApiEnvelope<T>> conditional(
+        Long articleId,
+        WebRequest webRequest,
+        Function<CommentSyncState, T> loader
+    ) {
+        CommentSyncState state = commentService.getCommentSyncState(articleId);
+        String eTag = state.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(COMMENT_CACHE_CONTROL)
+                .eTag(eTag)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .cacheControl(COMMENT_CACHE_CONTROL)
+            .eTag(eTag)
+            .body(ApiEnvelope.ok(loader.apply(state)));
+    }
 }
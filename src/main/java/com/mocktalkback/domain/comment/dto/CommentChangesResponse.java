@@ -0,0 +1,24 @@
+package com.mocktalkback.domain.comment.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "댓글 변경분 응답")
+public record CommentChangesResponse(
+    @Schema(description = "게시글 ID", example = "1")
+    Long articleId,
+
+    @Schema(description = "요청한 기준 동기화 버전", example = "40")
+    long since,
+
+    @Schema(description = "이번 응답까지 반영된 동기화 버전(다음 요청의 since)", example = "42")
+    long syncVersion,
+
+    @Schema(description = "변경이 많아 댓글 페이지를 다시 조회해야 하는지 여부", example = "false")
+    boolean resyncRequired,
+
+    @Schema(description = "변경된 댓글 목록(평탄 구조, 삭제된 댓글은 deletedAt 포함)")
+    List<CommentTreeResponse> changes
+) {
+}
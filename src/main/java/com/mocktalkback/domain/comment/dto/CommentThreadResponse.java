@@ -0,0 +1,19 @@
+package com.mocktalkback.domain.comment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "루트 댓글과 답글 미리보기")
+public record CommentThreadResponse(
+    @Schema(description = "루트 댓글(children에는 먼저 작성된 답글 일부만 포함)")
+    CommentTreeResponse comment,
+
+    @Schema(description = "전체 답글 수(삭제 표시된 답글 포함)", example = "128")
+    int replyCount,
+
+    @Schema(description = "미리보기 이후 답글 존재 여부", example = "true")
+    boolean hasMoreReplies,
+
+    @Schema(description = "답글 더보기 커서(미리보기 이후 답글이 없으면 null)", example = "YzF8MjAyNi0wMy0xMlQwOToxNTozMFp8MTIw")
+    String nextReplyCursor
+) {
+}
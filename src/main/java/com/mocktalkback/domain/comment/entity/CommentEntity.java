@@ -66,6 +66,16 @@ public class CommentEntity extends SoftDeleteEntity {
     @Column(name = "content", nullable = false, columnDefinition = "text")
     private String content;
 
+    // 루트 댓글에만 의미가 있다. 답글 작성 시 CommentRepository.increaseReplyCount로 원자 증가한다.
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    private int replyCount;
+
+    // 이 댓글을 마지막으로 바꾼 게시글 sync_version. 변경분 조회(since)의 기준이다.
+    // 반응처럼 댓글 자체가 바뀌지 않는 변경이 updated_at을 건드리지 않도록 작성 이후에는
+    // CommentRepository.updateLastSyncVersion으로만 갱신한다.
+    @Column(name = "last_sync_version", nullable = false, updatable = false)
+    private long lastSyncVersion;
+
     @Builder
     private CommentEntity(
         UserEntity user,
@@ -73,7 +83,8 @@ public class CommentEntity extends SoftDeleteEntity {
         CommentEntity parentComment,
         CommentEntity rootComment,
         int depth,
-        String content
+        String content,
+        long lastSyncVersion
     ) {
         this.user = user;
         this.article = article;
@@ -81,6 +92,7 @@ public class CommentEntity extends SoftDeleteEntity {
         this.rootComment = rootComment;
         this.depth = depth;
         this.content = content;
+        this.lastSyncVersion = lastSyncVersion;
     }
 
     public void updateContent(String content) {
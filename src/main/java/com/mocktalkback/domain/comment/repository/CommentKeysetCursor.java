@@ -0,0 +1,9 @@
+package com.mocktalkback.domain.comment.repository;
+
+import java.time.Instant;
+
+/**
+ * 댓글 keyset 페이징 기준값. 루트 댓글/답글 모두 (created_at, comment_id) 오름차순이다.
+ */
+public record CommentKeysetCursor(Instant createdAt, Long commentId) {
+}
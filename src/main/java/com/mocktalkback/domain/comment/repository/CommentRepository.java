@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -57,6 +58,22 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long>, C
 
     Page<CommentEntity> findByArticleIdAndParentCommentIsNull(Long articleId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"user"})
+    @Query("""
+        select c
+        from CommentEntity c
+        where c.article.id = :articleId
+          and c.lastSyncVersion > :since
+          and c.lastSyncVersion <= :until
+        order by c.lastSyncVersion asc, c.id asc
+        """)
+    List<CommentEntity> findChangedComments(
+        @Param("articleId") Long articleId,
+        @Param("since") long since,
+        @Param("until") long until,
+        Pageable pageable
+    );
+
     @Query("""
         select c from CommentEntity c
         left join c.rootComment rc
@@ -69,6 +86,52 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long>, C
         @Param("rootIds") Collection<Long> rootIds
     );
 
+    /**
+     * 루트 댓글마다 가장 먼저 작성된 답글 ID를 최대 limit개씩 조회한다.
+     * ix_tb_comments_root_comment_id_created_at_id를 루트별로 limit만큼만 읽는다.
+     */
+    @Query(value = """
+        select reply.comment_id
+        from tb_comments root
+        cross join lateral (
+            select c.comment_id
+            from tb_comments c
+            where c.root_comment_id = root.comment_id
+              and c.comment_id <> root.comment_id
+            order by c.created_at asc, c.comment_id asc
+            limit :limit
+        ) reply
+        where root.comment_id in (:rootIds)
+        """, nativeQuery = true)
+    List<Long> findFirstReplyIdsByRootIds(
+        @Param("rootIds") Collection<Long> rootIds,
+        @Param("limit") int limit
+    );
+
+    @EntityGraph(attributePaths = {"user"})
+    @Query("""
+        select c from CommentEntity c
+        where c.id in :commentIds
+        order by c.createdAt asc, c.id asc
+        """)
+    List<CommentEntity> findAllWithUserByIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update CommentEntity c
+           set c.replyCount = c.replyCount + 1
+         where c.id = :rootCommentId
+        """)
+    int increaseReplyCount(@Param("rootCommentId") Long rootCommentId);
+
+    @Modifying
+    @Query("""
+        update CommentEntity c
+           set c.lastSyncVersion = :syncVersion
+         where c.id = :commentId
+        """)
+    int updateLastSyncVersion(@Param("commentId") Long commentId, @Param("syncVersion") long syncVersion);
+
     @Query("""
         select c.article.id as articleId, count(c.id) as count
         from CommentEntity c
@@ -1,5 +1,7 @@
 package com.mocktalkback.domain.comment.repository;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,4 +16,14 @@ public interface CommentRepositoryCustom {
         ReportTargetType targetType,
         Pageable pageable
     );
+
+    /**
+     * 게시글 루트 댓글을 (created_at, comment_id) 오름차순으로 cursor 이후부터 limit개 조회한다. 작성자를 함께 읽는다.
+     */
+    List<CommentEntity> findRootCommentsByKeyset(Long articleId, CommentKeysetCursor cursor, int limit);
+
+    /**
+     * 루트 댓글 아래 답글을 (created_at, comment_id) 오름차순으로 cursor 이후부터 limit개 조회한다. 작성자를 함께 읽는다.
+     */
+    List<CommentEntity> findRepliesByKeyset(Long rootCommentId, CommentKeysetCursor cursor, int limit);
 }
@@ -62,6 +62,49 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return new PageImpl<>(content, pageable, resolvedTotal);
     }
 
+    @Override
+    public List<CommentEntity> findRootCommentsByKeyset(Long articleId, CommentKeysetCursor cursor, int limit) {
+        QCommentEntity comment = QCommentEntity.commentEntity;
+        BooleanBuilder predicate = new BooleanBuilder();
+        predicate.and(comment.article.id.eq(articleId));
+        predicate.and(comment.parentComment.isNull());
+        if (cursor != null) {
+            predicate.and(keysetCondition(cursor, comment));
+        }
+
+        return queryFactory
+            .selectFrom(comment)
+            .join(comment.user).fetchJoin()
+            .where(predicate)
+            .orderBy(comment.createdAt.asc(), comment.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<CommentEntity> findRepliesByKeyset(Long rootCommentId, CommentKeysetCursor cursor, int limit) {
+        QCommentEntity comment = QCommentEntity.commentEntity;
+        BooleanBuilder predicate = new BooleanBuilder();
+        predicate.and(comment.rootComment.id.eq(rootCommentId));
+        predicate.and(comment.id.ne(rootCommentId));
+        if (cursor != null) {
+            predicate.and(keysetCondition(cursor, comment));
+        }
+
+        return queryFactory
+            .selectFrom(comment)
+            .join(comment.user).fetchJoin()
+            .where(predicate)
+            .orderBy(comment.createdAt.asc(), comment.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    private BooleanExpression keysetCondition(CommentKeysetCursor cursor, QCommentEntity comment) {
+        return comment.createdAt.gt(cursor.createdAt())
+            .or(comment.createdAt.eq(cursor.createdAt()).and(comment.id.gt(cursor.commentId())));
+    }
+
     private BooleanBuilder reportedCondition(
         Long boardId,
         ReportTargetType targetType,
@@ -0,0 +1,29 @@
+package com.mocktalkback.domain.comment.service;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.mocktalkback.domain.comment.entity.CommentEntity;
+import com.mocktalkback.domain.comment.repository.CommentKeysetCursor;
+import com.mocktalkback.global.common.util.KeysetCursorCodec;
+
+/**
+ * 댓글 목록/답글 더보기 커서를 불투명 문자열(base64url)로 인코딩/디코딩한다.
+ */
+@Component
+public class CommentCursorCodec {
+
+    private static final KeysetCursorCodec CODEC = new KeysetCursorCodec("c1", 2);
+
+    public String encode(CommentEntity comment) {
+        return CODEC.encode(comment.getCreatedAt().toString(), String.valueOf(comment.getId()));
+    }
+
+    /**
+     * 빈 커서는 첫 페이지를 의미하므로 null을 반환한다.
+     */
+    public CommentKeysetCursor decode(String cursor) {
+        return CODEC.decode(cursor, parts -> new CommentKeysetCursor(Instant.parse(parts[0]), Long.valueOf(parts[1])));
+    }
+}
@@ -0,0 +1,52 @@
+package com.mocktalkback.domain.comment.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mocktalkback.domain.comment.dto.CommentPageResponse;
+import com.mocktalkback.domain.comment.dto.CommentTreeResponse;
+
+/**
+ * 게시글 댓글 페이지(트리/반응 수 포함, 내 반응 제외)를 (articleId, syncVersion, page, size) 단위로 보관한다.
+ * <p>
+ * 댓글 작성/수정/삭제/반응마다 sync_version이 올라가므로 키가 바뀌면 이전 항목은 다시 읽히지 않고 LRU로 밀려난다.
+ * 값은 여러 요청이 함께 읽으므로 꺼낸 쪽에서 수정하지 않는다.
+ */
+@Component
+public class CommentPageCache {
+
+    private final Map<Key, CommentPageResponse<CommentTreeResponse>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CommentPageResponse<CommentTreeResponse>> eldest) {
+            return size() > Math.max(1, maxEntries);
+        }
+    };
+
+    @Value("${app.comment.page-cache.max-entries:1000}")
+    private int maxEntries = 1000;
+
+    public CommentPageResponse<CommentTreeResponse> getOrLoad(
+        Key key,
+        Supplier<CommentPageResponse<CommentTreeResponse>> loader
+    ) {
+        synchronized (pages) {
+            CommentPageResponse<CommentTreeResponse> cached = pages.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // 같은 키를 동시에 적재하면 같은 결과를 두 번 만들 뿐이므로 락 밖에서 조회한다.
+        CommentPageResponse<CommentTreeResponse> loaded = loader.get();
+        synchronized (pages) {
+            pages.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public record Key(Long articleId, long syncVersion, int page, int size) {
+    }
+}
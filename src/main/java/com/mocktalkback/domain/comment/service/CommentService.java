@@ -1,13 +1,16 @@
 package com.mocktalkback.domain.comment.service;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,15 +24,23 @@ import org.springframework.web.server.ResponseStatusException;
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
 import com.mocktalkback.domain.article.service.ArticleSyncVersionService;
-import com.mocktalkback.domain.article.service.ArticleTrendingService;
+import com.mocktalkback.domain.article.service.ArticleDetailCacheService;
+import com.mocktalkback.domain.article.service.ArticleRecommendationService;
+import com.mocktalkback.domain.article.service.ArticleStatsService;
+import com.mocktalkback.domain.article.service.ArticleTrendingOutboxPayload;
+import com.mocktalkback.domain.article.type.ArticleTrendingSignal;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
+import com.mocktalkback.domain.comment.dto.CommentChangesResponse;
 import com.mocktalkback.domain.comment.dto.CommentCreateRequest;
 import com.mocktalkback.domain.comment.dto.CommentPageResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionSummaryResponse;
 import com.mocktalkback.domain.comment.dto.CommentSnapshotResponse;
+import com.mocktalkback.domain.comment.dto.CommentThreadResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionToggleRequest;
 import com.mocktalkback.domain.comment.dto.CommentTreeResponse;
 import com.mocktalkback.domain.comment.dto.CommentUpdateRequest;
 import com.mocktalkback.domain.comment.entity.CommentEntity;
+import com.mocktalkback.domain.comment.repository.CommentKeysetCursor;
 import com.mocktalkback.domain.comment.repository.CommentReactionRepository;
 import com.mocktalkback.domain.comment.repository.CommentRepository;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
@@ -37,7 +48,9 @@ import com.mocktalkback.domain.common.policy.BoardAccessPolicy;
 import com.mocktalkback.domain.common.policy.PageNormalizer;
 import com.mocktalkback.domain.common.policy.SanctionGuard;
 import com.mocktalkback.domain.notification.service.NotificationService;
-import com.mocktalkback.domain.realtime.service.BoardRealtimeSseService;
+import com.mocktalkback.domain.outbox.service.OutboxEventWriter;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+import com.mocktalkback.domain.realtime.service.BoardRealtimeOutboxPayload;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.board.entity.BoardMemberEntity;
 import com.mocktalkback.domain.board.repository.BoardMemberRepository;
@@ -45,6 +58,7 @@ import com.mocktalkback.domain.role.type.ContentVisibility;
 import com.mocktalkback.domain.user.entity.UserEntity;
 import com.mocktalkback.domain.user.repository.UserRepository;
 import com.mocktalkback.global.auth.CurrentUserService;
+import com.mocktalkback.global.common.dto.CursorResponse;
 import com.mocktalkback.global.common.util.ActivityPointPolicy;
 import com.mocktalkback.global.common.util.ReactionTypeValidator;
 
@@ -55,6 +69,7 @@ import lombok.RequiredArgsConstructor;
 public class CommentService {
 
     private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_CHANGES = 200;
     private static final Sort ROOT_COMMENT_SORT = Sort.by(
         Sort.Order.asc("createdAt"),
         Sort.Order.asc("id")
@@ -67,13 +82,20 @@ public class CommentService {
     private final BoardMemberRepository boardMemberRepository;
     private final CurrentUserService currentUserService;
     private final NotificationService notificationService;
-    private final BoardRealtimeSseService boardRealtimeSseService;
     private final ArticleSyncVersionService articleSyncVersionService;
-    private final ArticleTrendingService articleTrendingService;
+    private final ArticleRecommendationService articleRecommendationService;
+    private final ArticleStatsService articleStatsService;
+    private final ArticleDetailCacheService articleDetailCacheService;
     private final BoardAccessPolicy boardAccessPolicy;
     private final SanctionGuard sanctionGuard;
     private final PageNormalizer pageNormalizer;
     private final AuthorDisplayResolver authorDisplayResolver;
+    private final CommentCursorCodec commentCursorCodec;
+    private final CommentPageCache commentPageCache;
+    private final OutboxEventWriter outboxEventWriter;
+
+    @Value("${app.comment.reply-preview-size:3}")
+    private int replyPreviewSize = 3;
 
     @Transactional
     public CommentTreeResponse createRoot(Long articleId, CommentCreateRequest request) {
@@ -81,6 +103,7 @@ public class CommentService {
         ArticleEntity article = getAccessibleArticle(articleId, user);
         sanctionGuard.requireNotSanctioned(user, article.getBoard(), "제재 상태라 댓글을 작성할 수 없습니다.");
         String content = normalizeContent(request.content());
+        long syncVersion = articleSyncVersionService.increaseAndGet(article.getId());
 
         CommentEntity entity = CommentEntity.builder()
             .user(user)
@@ -89,14 +112,17 @@ public class CommentService {
             .rootComment(null)
             .depth(0)
             .content(content)
+            .lastSyncVersion(syncVersion)
             .build();
         CommentEntity saved = commentRepository.save(entity);
         saved.assignRootComment(saved);
         user.changePoint(ActivityPointPolicy.CREATE_REPLY.delta);
         notifyArticleComment(user, article);
-        long syncVersion = articleSyncVersionService.increaseAndGet(article.getId());
         article.applySyncVersion(syncVersion);
-        articleTrendingService.recordCommentCreated(article.getId());
+        articleStatsService.recordCommentCreated(article.getId());
+        appendTrendingScore(article, ArticleTrendingSignal.COMMENT_CREATED);
+        articleRecommendationService.recordUserActivity(user.getId(), article, UserAffinitySignal.COMMENT, null);
+        articleDetailCacheService.evict(article.getId());
         publishCommentChanged(saved, "CREATED", syncVersion);
         return toTreeResponse(saved);
     }
@@ -114,6 +140,7 @@ public class CommentService {
         CommentEntity root = resolveRootComment(parent);
         int depth = parent.getDepth() + 1;
         String content = normalizeContent(request.content());
+        long syncVersion = articleSyncVersionService.increaseAndGet(article.getId());
 
         CommentEntity entity = CommentEntity.builder()
             .user(user)
@@ -122,39 +149,125 @@ public class CommentService {
             .rootComment(root)
             .depth(depth)
             .content(content)
+            .lastSyncVersion(syncVersion)
             .build();
         CommentEntity saved = commentRepository.save(entity);
+        commentRepository.increaseReplyCount(root.getId());
         user.changePoint(ActivityPointPolicy.CREATE_REPLY.delta);
         notifyCommentReply(user, article, parent, saved);
-        long syncVersion = articleSyncVersionService.increaseAndGet(article.getId());
         article.applySyncVersion(syncVersion);
-        articleTrendingService.recordCommentCreated(article.getId());
+        articleStatsService.recordCommentCreated(article.getId());
+        appendTrendingScore(article, ArticleTrendingSignal.COMMENT_CREATED);
+        articleRecommendationService.recordUserActivity(user.getId(), article, UserAffinitySignal.COMMENT, null);
+        articleDetailCacheService.evict(article.getId());
         publishCommentChanged(saved, "CREATED", syncVersion);
         return toTreeResponse(saved);
     }
 
+    /**
+     * 댓글 조회 API는 {@link #getCommentSyncState(Long)}로 접근 검사와 버전 확인을 한 번만 하고,
+     * 그 결과를 아래 조회 메서드에 넘겨 게시글/회원/Redis 버전을 다시 읽지 않는다.
+     */
     @Transactional(readOnly = true)
-    public CommentPageResponse<CommentTreeResponse> getArticleComments(Long articleId, int page, int size) {
-        UserEntity currentUser = getOptionalCurrentUser();
-        ArticleEntity article = getAccessibleArticle(articleId, currentUser);
-        return getArticleComments(article, currentUser, page, size);
+    public CommentPageResponse<CommentTreeResponse> getArticleComments(CommentSyncState state, int page, int size) {
+        return getArticleComments(state.articleId(), state.syncVersion(), state.viewerId(), page, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentSnapshotResponse getArticleCommentsSnapshot(CommentSyncState state, int page, int size) {
+        CommentPageResponse<CommentTreeResponse> pageResponse = getArticleComments(
+            state.articleId(),
+            state.syncVersion(),
+            state.viewerId(),
+            page,
+            size
+        );
+        return new CommentSnapshotResponse(state.articleId(), state.syncVersion(), pageResponse);
+    }
+
+    /**
+     * since 이후 작성/수정/삭제/반응이 바뀐 댓글만 평탄한 목록으로 반환한다. 클라이언트는 ID로 기존 트리에 덮어쓴다.
+     * 변경이 너무 많으면 목록 대신 resyncRequired를 내려 페이지 재조회를 유도한다.
+     */
+    @Transactional(readOnly = true)
+    public CommentChangesResponse getCommentChanges(CommentSyncState state, long since) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since는 0 이상이어야 합니다.");
+        }
+        Long articleId = state.articleId();
+        long syncVersion = state.syncVersion();
+        if (since >= syncVersion) {
+            return new CommentChangesResponse(articleId, since, syncVersion, false, List.of());
+        }
+
+        // syncVersion은 열린 트랜잭션의 버전보다 낮으므로 그 이하 변경은 모두 커밋되어 있다.
+        // 그보다 큰 버전의 변경은 다음 요청(since = syncVersion)에서 받는다.
+        List<CommentEntity> changed = commentRepository.findChangedComments(
+            articleId,
+            since,
+            syncVersion,
+            PageRequest.of(0, MAX_CHANGES + 1)
+        );
+        if (changed.size() > MAX_CHANGES) {
+            return new CommentChangesResponse(articleId, since, syncVersion, true, List.of());
+        }
+
+        List<Long> commentIds = changed.stream()
+            .map(CommentEntity::getId)
+            .toList();
+        Map<Long, ReactionCounts> reactionCounts = getReactionCounts(commentIds);
+        Map<Long, Short> myReactions = getMyReactions(state.viewerId(), commentIds);
+        List<CommentTreeResponse> changes = changed.stream()
+            .map(comment -> toTreeResponse(
+                comment,
+                reactionCounts.getOrDefault(comment.getId(), ReactionCounts.empty()),
+                myReactions.getOrDefault(comment.getId(), (short) 0)
+            ))
+            .toList();
+        return new CommentChangesResponse(articleId, since, syncVersion, false, changes);
     }
 
+    /**
+     * 댓글 조회 API의 조건부 요청(ETag) 판단용. 게시글 한 건과 Redis 버전만 읽고 댓글은 조회하지 않는다.
+     * 304가 아니면 같은 상태를 조회 메서드에 넘겨 재사용한다.
+     */
     @Transactional(readOnly = true)
-    public CommentSnapshotResponse getArticleCommentsSnapshot(Long articleId, int page, int size) {
+    public CommentSyncState getCommentSyncState(Long articleId) {
         UserEntity currentUser = getOptionalCurrentUser();
         ArticleEntity article = getAccessibleArticle(articleId, currentUser);
-        CommentPageResponse<CommentTreeResponse> pageResponse = getArticleComments(article, currentUser, page, size);
-        return new CommentSnapshotResponse(article.getId(), article.getSyncVersion(), pageResponse);
+        Long viewerId = currentUser == null ? null : currentUser.getId();
+        long syncVersion = articleSyncVersionService.currentVersion(article.getId());
+        return new CommentSyncState(article.getId(), syncVersion, viewerId);
     }
 
-    private CommentPageResponse<CommentTreeResponse> getArticleComments(ArticleEntity article, UserEntity currentUser, int page, int size) {
+    private CommentPageResponse<CommentTreeResponse> getArticleComments(
+        Long articleId,
+        long syncVersion,
+        Long viewerId,
+        int page,
+        int size
+    ) {
         int resolvedPage = pageNormalizer.normalizePage(page);
         int resolvedSize = pageNormalizer.normalizeSize(size, MAX_PAGE_SIZE);
-        Pageable pageable = PageRequest.of(resolvedPage, resolvedSize, ROOT_COMMENT_SORT);
+        // syncVersion 이하 변경이 모두 커밋된 뒤 댓글을 조회하므로 캐시 값은 키의 버전보다 같거나 새롭다.
+        CommentPageCache.Key key = new CommentPageCache.Key(
+            articleId,
+            syncVersion,
+            resolvedPage,
+            resolvedSize
+        );
+        CommentPageResponse<CommentTreeResponse> shared = commentPageCache.getOrLoad(
+            key,
+            () -> loadArticleComments(articleId, resolvedPage, resolvedSize)
+        );
+        return withMyReactions(shared, viewerId);
+    }
+
+    private CommentPageResponse<CommentTreeResponse> loadArticleComments(Long articleId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, ROOT_COMMENT_SORT);
 
         Page<CommentEntity> rootPage = commentRepository.findByArticleIdAndParentCommentIsNull(
-            article.getId(),
+            articleId,
             pageable
         );
         List<CommentEntity> rootComments = rootPage.getContent();
@@ -165,31 +278,10 @@ public class CommentService {
         Map<Long, CommentTreeResponse> rootNodeMap = new LinkedHashMap<>();
         if (!rootIds.isEmpty()) {
             List<CommentEntity> treeEntities = commentRepository.findTreeByArticleIdAndRootIds(
-                article.getId(),
+                articleId,
                 rootIds
             );
-            List<Long> commentIds = treeEntities.stream()
-                .map(CommentEntity::getId)
-                .toList();
-            Map<Long, ReactionCounts> reactionCounts = getReactionCounts(commentIds);
-            Map<Long, Short> myReactions = getMyReactions(currentUser, commentIds);
-
-            Map<Long, CommentTreeResponse> nodeMap = new LinkedHashMap<>();
-            for (CommentEntity entity : treeEntities) {
-                ReactionCounts counts = reactionCounts.getOrDefault(entity.getId(), ReactionCounts.empty());
-                short myReaction = myReactions.getOrDefault(entity.getId(), (short) 0);
-                nodeMap.put(entity.getId(), toTreeResponse(entity, counts, myReaction));
-            }
-            for (CommentEntity entity : treeEntities) {
-                CommentTreeResponse node = nodeMap.get(entity.getId());
-                if (node == null) {
-                    continue;
-                }
-                CommentEntity parent = entity.getParentComment();
-                if (parent != null && nodeMap.containsKey(parent.getId())) {
-                    nodeMap.get(parent.getId()).children().add(node);
-                }
-            }
+            Map<Long, CommentTreeResponse> nodeMap = assembleNodes(treeEntities, null);
             for (CommentEntity root : rootComments) {
                 CommentTreeResponse node = nodeMap.get(root.getId());
                 if (node != null) {
@@ -209,6 +301,211 @@ public class CommentService {
         return CommentPageResponse.from(treePage);
     }
 
+    /**
+     * 공유 페이지에 현재 사용자의 반응을 덧씌운 복사본을 만든다. 반응이 없으면 공유 페이지를 그대로 반환한다.
+     */
+    private CommentPageResponse<CommentTreeResponse> withMyReactions(
+        CommentPageResponse<CommentTreeResponse> shared,
+        Long viewerId
+    ) {
+        if (viewerId == null || shared.items().isEmpty()) {
+            return shared;
+        }
+        List<Long> commentIds = new ArrayList<>();
+        collectIds(shared.items(), commentIds);
+        Map<Long, Short> myReactions = getMyReactions(viewerId, commentIds);
+        if (myReactions.isEmpty()) {
+            return shared;
+        }
+        return new CommentPageResponse<>(
+            withMyReactions(shared.items(), myReactions),
+            shared.page(),
+            shared.size(),
+            shared.totalElements(),
+            shared.totalPages(),
+            shared.hasNext(),
+            shared.hasPrevious()
+        );
+    }
+
+    private List<CommentTreeResponse> withMyReactions(List<CommentTreeResponse> nodes, Map<Long, Short> myReactions) {
+        List<CommentTreeResponse> copied = new ArrayList<>(nodes.size());
+        for (CommentTreeResponse node : nodes) {
+            copied.add(new CommentTreeResponse(
+                node.id(),
+                node.userId(),
+                node.authorName(),
+                node.content(),
+                node.depth(),
+                node.parentCommentId(),
+                node.rootCommentId(),
+                node.createdAt(),
+                node.updatedAt(),
+                node.deletedAt(),
+                node.likeCount(),
+                node.dislikeCount(),
+                myReactions.getOrDefault(node.id(), (short) 0),
+                withMyReactions(node.children(), myReactions)
+            ));
+        }
+        return copied;
+    }
+
+    private void collectIds(List<CommentTreeResponse> nodes, List<Long> commentIds) {
+        for (CommentTreeResponse node : nodes) {
+            commentIds.add(node.id());
+            collectIds(node.children(), commentIds);
+        }
+    }
+
+    /**
+     * 루트 댓글을 커서로 조회하고, 루트마다 먼저 작성된 답글을 reply-preview-size개까지만 붙인다.
+     * 나머지 답글은 {@link #getReplies(CommentSyncState, Long, String, int)}로 이어서 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentThreadResponse> getArticleCommentsByCursor(
+        CommentSyncState state,
+        String cursor,
+        int size
+    ) {
+        int resolvedSize = pageNormalizer.normalizeSize(size, MAX_PAGE_SIZE);
+        CommentKeysetCursor keysetCursor = commentCursorCodec.decode(cursor);
+
+        // 다음 페이지 존재 여부는 한 건 더 읽어서 판단하고 count 쿼리는 실행하지 않는다.
+        List<CommentEntity> fetched = commentRepository.findRootCommentsByKeyset(
+            state.articleId(),
+            keysetCursor,
+            resolvedSize + 1
+        );
+        boolean hasNext = fetched.size() > resolvedSize;
+        List<CommentEntity> roots = hasNext ? fetched.subList(0, resolvedSize) : fetched;
+        String nextCursor = hasNext ? commentCursorCodec.encode(roots.get(roots.size() - 1)) : null;
+
+        int previewSize = Math.max(0, replyPreviewSize);
+        Map<Long, List<CommentEntity>> repliesByRoot = loadReplyPreviews(roots, previewSize);
+        List<CommentEntity> loaded = new ArrayList<>(roots);
+        for (CommentEntity root : roots) {
+            List<CommentEntity> replies = repliesByRoot.getOrDefault(root.getId(), List.of());
+            loaded.addAll(replies.subList(0, Math.min(replies.size(), previewSize)));
+        }
+        Map<Long, CommentTreeResponse> nodeMap = assembleNodes(loaded, state.viewerId());
+
+        List<CommentThreadResponse> items = new ArrayList<>(roots.size());
+        for (CommentEntity root : roots) {
+            List<CommentEntity> replies = repliesByRoot.getOrDefault(root.getId(), List.of());
+            boolean hasMoreReplies = previewSize == 0 ? root.getReplyCount() > 0 : replies.size() > previewSize;
+            String nextReplyCursor = hasMoreReplies && previewSize > 0
+                ? commentCursorCodec.encode(replies.get(previewSize - 1))
+                : null;
+            items.add(new CommentThreadResponse(
+                nodeMap.get(root.getId()),
+                root.getReplyCount(),
+                hasMoreReplies,
+                nextReplyCursor
+            ));
+        }
+        return new CursorResponse<>(items, resolvedSize, nextCursor, hasNext, null);
+    }
+
+    /**
+     * 루트 댓글 아래 답글을 작성 순으로 커서 조회한다. 응답은 평탄한 목록이며 parentCommentId로 트리를 잇는다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentTreeResponse> getReplies(
+        CommentSyncState state,
+        Long rootCommentId,
+        String cursor,
+        int size
+    ) {
+        CommentEntity root = getComment(rootCommentId);
+        if (!root.getArticle().getId().equals(state.articleId()) || root.getParentComment() != null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "comment not found");
+        }
+        int resolvedSize = pageNormalizer.normalizeSize(size, MAX_PAGE_SIZE);
+        CommentKeysetCursor keysetCursor = commentCursorCodec.decode(cursor);
+
+        List<CommentEntity> fetched = commentRepository.findRepliesByKeyset(root.getId(), keysetCursor, resolvedSize + 1);
+        boolean hasNext = fetched.size() > resolvedSize;
+        List<CommentEntity> replies = hasNext ? fetched.subList(0, resolvedSize) : fetched;
+        String nextCursor = hasNext ? commentCursorCodec.encode(replies.get(replies.size() - 1)) : null;
+
+        List<Long> replyIds = replies.stream()
+            .map(CommentEntity::getId)
+            .toList();
+        Map<Long, ReactionCounts> reactionCounts = getReactionCounts(replyIds);
+        Map<Long, Short> myReactions = getMyReactions(state.viewerId(), replyIds);
+        List<CommentTreeResponse> items = replies.stream()
+            .map(reply -> toTreeResponse(
+                reply,
+                reactionCounts.getOrDefault(reply.getId(), ReactionCounts.empty()),
+                myReactions.getOrDefault(reply.getId(), (short) 0)
+            ))
+            .toList();
+        return new CursorResponse<>(items, resolvedSize, nextCursor, hasNext, (long) root.getReplyCount());
+    }
+
+    /**
+     * 루트마다 답글을 limit + 1개까지 읽는다. 한 개 더 읽은 답글로 더보기 여부만 판단한다.
+     */
+    private Map<Long, List<CommentEntity>> loadReplyPreviews(List<CommentEntity> roots, int limit) {
+        if (roots.isEmpty() || limit == 0) {
+            return Map.of();
+        }
+        List<Long> rootIds = roots.stream()
+            .map(CommentEntity::getId)
+            .toList();
+        List<Long> replyIds = commentRepository.findFirstReplyIdsByRootIds(rootIds, limit + 1);
+        if (replyIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<CommentEntity>> repliesByRoot = new HashMap<>();
+        for (CommentEntity reply : commentRepository.findAllWithUserByIdIn(replyIds)) {
+            repliesByRoot.computeIfAbsent(reply.getRootComment().getId(), key -> new ArrayList<>()).add(reply);
+        }
+        // IN 조회는 순서를 보장하지 않으므로 커서와 같은 (createdAt, id) 순서로 다시 정렬한다.
+        repliesByRoot.values().forEach(replies -> replies.sort(
+            Comparator.comparing(CommentEntity::getCreatedAt).thenComparing(CommentEntity::getId)
+        ));
+        return repliesByRoot;
+    }
+
+    private Map<Long, CommentTreeResponse> assembleNodes(List<CommentEntity> comments, Long viewerId) {
+        List<Long> commentIds = comments.stream()
+            .map(CommentEntity::getId)
+            .toList();
+        Map<Long, ReactionCounts> reactionCounts = getReactionCounts(commentIds);
+        Map<Long, Short> myReactions = getMyReactions(viewerId, commentIds);
+        return assembleTree(comments, entity -> toTreeResponse(
+            entity,
+            reactionCounts.getOrDefault(entity.getId(), ReactionCounts.empty()),
+            myReactions.getOrDefault(entity.getId(), (short) 0)
+        ));
+    }
+
+    /**
+     * 조회한 댓글들을 부모 댓글의 children에 연결한다. 반환 맵은 댓글 ID별 노드이며 입력 순서를 유지한다.
+     */
+    static Map<Long, CommentTreeResponse> assembleTree(
+        List<CommentEntity> treeEntities,
+        Function<CommentEntity, CommentTreeResponse> nodeFactory
+    ) {
+        Map<Long, CommentTreeResponse> nodeMap = new LinkedHashMap<>();
+        for (CommentEntity entity : treeEntities) {
+            nodeMap.put(entity.getId(), nodeFactory.apply(entity));
+        }
+        for (CommentEntity entity : treeEntities) {
+            CommentTreeResponse node = nodeMap.get(entity.getId());
+            if (node == null) {
+                continue;
+            }
+            CommentEntity parent = entity.getParentComment();
+            if (parent != null && nodeMap.containsKey(parent.getId())) {
+                nodeMap.get(parent.getId()).children().add(node);
+            }
+        }
+        return nodeMap;
+    }
+
     @Transactional
     public CommentReactionSummaryResponse toggleReaction(Long commentId, CommentReactionToggleRequest request) {
         if (request.reactionType() == null) {
@@ -233,9 +530,14 @@ public class CommentService {
             comment.getId(),
             reactionType
         );
+        // 댓글 페이지 캐시와 ETag가 반응 수 변경도 반영하도록 sync_version을 올린다.
+        // 댓글 행은 직접 갱신해 수정된 것처럼 updated_at이 바뀌지 않게 한다.
+        long syncVersion = articleSyncVersionService.increaseAndGet(comment.getArticle().getId());
+        comment.getArticle().applySyncVersion(syncVersion);
+        commentRepository.updateLastSyncVersion(comment.getId(), syncVersion);
 
         ReactionCounts counts = getReactionCounts(comment.getId());
-        publishReactionChanged(comment, counts, myReaction);
+        publishReactionChanged(comment, counts, myReaction, syncVersion);
         return new CommentReactionSummaryResponse(
             comment.getId(),
             counts.likeCount(),
@@ -256,6 +558,7 @@ public class CommentService {
         entity.updateContent(normalizeContent(request.content()));
         long syncVersion = articleSyncVersionService.increaseAndGet(entity.getArticle().getId());
         entity.getArticle().applySyncVersion(syncVersion);
+        commentRepository.updateLastSyncVersion(entity.getId(), syncVersion);
         publishCommentChanged(entity, "UPDATED", syncVersion);
         return toTreeResponse(entity);
     }
@@ -270,7 +573,16 @@ public class CommentService {
             entity.softDelete();
             long syncVersion = articleSyncVersionService.increaseAndGet(entity.getArticle().getId());
             entity.getArticle().applySyncVersion(syncVersion);
-            articleTrendingService.recordCommentDeleted(entity.getArticle().getId());
+            commentRepository.updateLastSyncVersion(entity.getId(), syncVersion);
+            articleStatsService.recordCommentDeleted(entity.getArticle().getId());
+            appendTrendingScore(entity.getArticle(), ArticleTrendingSignal.COMMENT_DELETED);
+            articleRecommendationService.recordUserActivity(
+                entity.getUser().getId(),
+                entity.getArticle(),
+                null,
+                UserAffinitySignal.COMMENT
+            );
+            articleDetailCacheService.evict(entity.getArticle().getId());
             publishCommentChanged(entity, "DELETED", syncVersion);
             if (entity.getUser().getId().equals(user.getId())) {
                 user.changePoint(ActivityPointPolicy.DELETE_REPLY.delta);
@@ -334,6 +646,19 @@ public class CommentService {
     }
 
     private CommentTreeResponse toTreeResponse(CommentEntity entity, ReactionCounts counts, short myReaction) {
+        return toTreeResponse(entity, authorDisplayResolver, counts.likeCount(), counts.dislikeCount(), myReaction);
+    }
+
+    /**
+     * 댓글 엔티티를 응답 노드로 바꾼다. children은 {@link #assembleTree}가 채울 수 있도록 빈 가변 목록이다.
+     */
+    static CommentTreeResponse toTreeResponse(
+        CommentEntity entity,
+        AuthorDisplayResolver authorDisplayResolver,
+        long likeCount,
+        long dislikeCount,
+        short myReaction
+    ) {
         String content = entity.isDeleted() ? "삭제된 댓글입니다." : entity.getContent();
         Long parentId = entity.getParentComment() == null ? null : entity.getParentComment().getId();
         Long rootId = entity.getRootComment() == null ? entity.getId() : entity.getRootComment().getId();
@@ -348,8 +673,8 @@ public class CommentService {
             entity.getCreatedAt(),
             entity.getUpdatedAt(),
             entity.getDeletedAt(),
-            counts.likeCount(),
-            counts.dislikeCount(),
+            likeCount,
+            dislikeCount,
             myReaction,
             new ArrayList<>()
         );
@@ -405,10 +730,13 @@ public class CommentService {
         payload.put("depth", comment.getDepth());
         payload.put("syncVersion", syncVersion);
         payload.put("comment", commentSnapshot);
-        boardRealtimeSseService.publishCommentChanged(comment.getArticle().getBoard().getId(), payload);
+        outboxEventWriter.append(
+            OutboxEventType.BOARD_REALTIME,
+            BoardRealtimeOutboxPayload.commentChanged(comment.getArticle().getBoard().getId(), payload)
+        );
     }
 
-    private void publishReactionChanged(CommentEntity comment, ReactionCounts counts, short myReaction) {
+    private void publishReactionChanged(CommentEntity comment, ReactionCounts counts, short myReaction, long syncVersion) {
         Map<String, Object> payload = new HashMap<>();
         payload.put("targetType", "COMMENT");
         payload.put("action", "TOGGLED");
@@ -418,7 +746,18 @@ public class CommentService {
         payload.put("likeCount", counts.likeCount());
         payload.put("dislikeCount", counts.dislikeCount());
         payload.put("myReaction", myReaction);
-        boardRealtimeSseService.publishReactionChanged(comment.getArticle().getBoard().getId(), payload);
+        payload.put("syncVersion", syncVersion);
+        outboxEventWriter.append(
+            OutboxEventType.BOARD_REALTIME,
+            BoardRealtimeOutboxPayload.reactionChanged(comment.getArticle().getBoard().getId(), payload)
+        );
+    }
+
+    private void appendTrendingScore(ArticleEntity article, ArticleTrendingSignal signal) {
+        outboxEventWriter.append(
+            OutboxEventType.ARTICLE_TRENDING_SCORE,
+            ArticleTrendingOutboxPayload.of(article.getId(), article.getBoard().getId(), signal)
+        );
     }
 
     private ReactionCounts getReactionCounts(Long commentId) {
@@ -445,13 +784,13 @@ public class CommentService {
         return counts;
     }
 
-    private Map<Long, Short> getMyReactions(UserEntity user, List<Long> commentIds) {
-        if (user == null || commentIds.isEmpty()) {
+    private Map<Long, Short> getMyReactions(Long viewerId, List<Long> commentIds) {
+        if (viewerId == null || commentIds.isEmpty()) {
             return Map.of();
         }
         Map<Long, Short> result = new HashMap<>();
         List<CommentReactionRepository.CommentReactionUserView> views =
-            commentReactionRepository.findUserReactions(user.getId(), commentIds);
+            commentReactionRepository.findUserReactions(viewerId, commentIds);
         for (CommentReactionRepository.CommentReactionUserView view : views) {
             result.put(view.getCommentId(), view.getReactionType());
         }
@@ -0,0 +1,15 @@
+package com.mocktalkback.domain.comment.service;
+
+/**
+ * 댓글 조회 응답의 버전 정보. 같은 sync_version과 같은 조회자면 응답 본문도 같다.
+ */
+public record CommentSyncState(Long articleId, long syncVersion, Long viewerId) {
+
+    /**
+     * 조회자별 내 반응이 응답에 들어가므로 조회자 ID도 ETag에 포함한다.
+     */
+    public String eTag() {
+        String viewer = viewerId == null ? "anonymous" : viewerId.toString();
+        return "W/\"comments-" + articleId + "-" + syncVersion + "-" + viewer + "\"";
+    }
+}
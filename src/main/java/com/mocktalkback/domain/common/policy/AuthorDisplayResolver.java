@@ -8,11 +8,14 @@ import com.mocktalkback.domain.user.entity.UserEntity;
 public class AuthorDisplayResolver {
 
     public String resolveAuthorName(UserEntity user) {
-        String displayName = user.getDisplayName();
+        return resolveAuthorName(user.getDisplayName(), user.getUserName());
+    }
+
+    public String resolveAuthorName(String displayName, String userName) {
         if (displayName != null && !displayName.isBlank()) {
             return displayName;
         }
-        return user.getUserName();
+        return userName;
     }
 
     public String formatOwnerDisplay(UserEntity user) {
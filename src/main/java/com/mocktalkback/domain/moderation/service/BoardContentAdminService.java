@@ -16,6 +16,10 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.service.ArticleDetailCacheService;
+import com.mocktalkback.domain.article.service.ArticleRecommendationCandidatePool;
+import com.mocktalkback.domain.article.service.ArticleStatsService;
+import com.mocktalkback.domain.article.service.ArticleSyncVersionService;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.board.repository.BoardRepository;
 import com.mocktalkback.domain.comment.entity.CommentEntity;
@@ -48,6 +52,10 @@ public class BoardContentAdminService {
     private final CurrentUserService currentUserService;
     private final PageNormalizer pageNormalizer;
     private final BoardAdminPermissionGuard boardAdminPermissionGuard;
+    private final ArticleStatsService articleStatsService;
+    private final ArticleDetailCacheService articleDetailCacheService;
+    private final ArticleRecommendationCandidatePool articleRecommendationCandidatePool;
+    private final ArticleSyncVersionService articleSyncVersionService;
 
     @Transactional(readOnly = true)
     public PageResponse<BoardAdminArticleItemResponse> findArticles(
@@ -123,6 +131,7 @@ public class BoardContentAdminService {
         ensureSameBoard(boardId, article.getBoard());
 
         article.changeNotice(notice);
+        articleDetailCacheService.evict(article.getId());
         boolean reported = !reportRepository.findAllByBoardIdAndTargetTypeAndTargetIdIn(
             article.getBoard().getId(),
             ReportTargetType.ARTICLE,
@@ -140,6 +149,8 @@ public class BoardContentAdminService {
 
         if (!article.isDeleted()) {
             article.softDelete();
+            articleDetailCacheService.evict(article.getId());
+            articleRecommendationCandidatePool.markStale();
         }
     }
 
@@ -153,6 +164,12 @@ public class BoardContentAdminService {
 
         if (!comment.isDeleted()) {
             comment.softDelete();
+            // 댓글 페이지 캐시/ETag와 변경분 조회가 관리자 삭제도 반영하도록 sync_version을 올린다.
+            long syncVersion = articleSyncVersionService.increaseAndGet(comment.getArticle().getId());
+            comment.getArticle().applySyncVersion(syncVersion);
+            commentRepository.updateLastSyncVersion(comment.getId(), syncVersion);
+            articleStatsService.recordCommentDeleted(comment.getArticle().getId());
+            articleDetailCacheService.evict(comment.getArticle().getId());
         }
     }
 
@@ -6,6 +6,7 @@ import com.mocktalkback.domain.article.entity.ArticleCategoryEntity;
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
 import com.mocktalkback.domain.article.service.ArticleContentService;
+import com.mocktalkback.domain.article.service.ArticlePreviewTextExtractor;
 import com.mocktalkback.domain.article.type.ArticleContentFormat;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.newsbot.entity.NewsCollectionJobEntity;
@@ -21,6 +22,7 @@ public class NewsBotArticlePublishService {
     private final ArticleRepository articleRepository;
     private final ArticleContentService articleContentService;
     private final NewsBotContentBuilder newsBotContentBuilder;
+    private final ArticlePreviewTextExtractor articlePreviewTextExtractor;
 
     public ArticleEntity createArticle(
         NewsCollectionJobEntity job,
@@ -44,9 +46,11 @@ public class NewsBotArticlePublishService {
             .content(renderedContent.content())
             .contentSource(renderedContent.contentSource())
             .contentFormat(ArticleContentFormat.MARKDOWN)
+            .previewText(articlePreviewTextExtractor.extract(renderedContent.content()))
             .hit(0L)
             .notice(false)
             .build();
+        article.applyContentHash(renderedContent.contentHash());
         return articleRepository.save(article);
     }
 
@@ -69,8 +73,10 @@ public class NewsBotArticlePublishService {
             renderedContent.content(),
             renderedContent.contentSource(),
             ArticleContentFormat.MARKDOWN,
+            articlePreviewTextExtractor.extract(renderedContent.content()),
             false
         );
+        article.applyContentHash(renderedContent.contentHash());
         return article;
     }
 
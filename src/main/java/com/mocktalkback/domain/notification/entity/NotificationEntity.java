@@ -74,6 +74,10 @@ public class NotificationEntity extends BaseTimeEntity {
     @Column(name = "is_read", nullable = false)
     private boolean read;
 
+    // 아웃박스 이벤트로 만든 알림만 값이 있다. 저장은 NotificationBatchStore.insertIfAbsent가 한다.
+    @Column(name = "event_key", length = 64, updatable = false)
+    private String eventKey;
+
     @Builder
     private NotificationEntity(
         UserEntity user,
@@ -0,0 +1,122 @@
+package com.mocktalkback.domain.notification.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mocktalkback.domain.notification.type.NotificationType;
+import com.mocktalkback.domain.notification.type.ReferenceType;
+
+/**
+ * 아웃박스 relay가 모은 알림을 JDBC 배치로 저장하고 안읽은 수를 한 번에 센다.
+ * <p>
+ * 저장은 event_key 기준으로 한 번만 되므로 같은 배치가 다시 전달되어도 알림이 늘지 않는다.
+ */
+@Service
+public class NotificationBatchStore {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public NotificationBatchStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 이미 저장된 event_key는 건너뛰고 나머지를 한 번의 배치로 저장한다.
+     */
+    @Transactional
+    public void insertIfAbsent(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = drafts.stream()
+            .map(draft -> new MapSqlParameterSource()
+                .addValue("userId", draft.receiverId())
+                .addValue("senderId", draft.senderId())
+                .addValue("notiType", draft.notiType().name())
+                .addValue("redirectUrl", draft.redirectUrl())
+                .addValue("referenceType", draft.referenceType().name())
+                .addValue("referenceId", draft.referenceId())
+                .addValue("read", draft.read())
+                .addValue("eventKey", draft.eventKey()))
+            .toArray(SqlParameterSource[]::new);
+        String sql = """
+            insert into tb_notification (
+                user_id, sender_id, noti_type, redirect_url, reference_type, reference_id, is_read, event_key
+            )
+            values (
+                :userId, :senderId, :notiType, :redirectUrl, :referenceType, :referenceId, :read, :eventKey
+            )
+            on conflict (event_key) where event_key is not null do nothing
+            """;
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    /**
+     * 아직 안읽음으로 남아 있는 알림의 event_key.
+     * 이전 시도에서 저장만 되고 푸시 전에 실패한 알림도 포함되도록 배치 결과가 아니라 저장된 상태로 판단한다.
+     */
+    public Set<String> findUnreadEventKeys(Collection<String> eventKeys) {
+        if (eventKeys.isEmpty()) {
+            return Set.of();
+        }
+        String sql = """
+            select event_key
+            from tb_notification
+            where event_key in (:eventKeys)
+              and is_read = false
+            """;
+        return new HashSet<>(jdbcTemplate.queryForList(
+            sql,
+            new MapSqlParameterSource("eventKeys", eventKeys),
+            String.class
+        ));
+    }
+
+    /**
+     * 사용자별 안읽은 알림 수. 안읽은 알림이 없는 사용자는 0으로 채운다.
+     */
+    public Map<Long, Long> countUnread(Collection<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        userIds.forEach(userId -> counts.put(userId, 0L));
+        String sql = """
+            select user_id, count(*) as unread_count
+            from tb_notification
+            where user_id in (:userIds)
+              and is_read = false
+            group by user_id
+            """;
+        jdbcTemplate.query(
+            sql,
+            new MapSqlParameterSource("userIds", userIds),
+            rs -> {
+                counts.put(rs.getLong("user_id"), rs.getLong("unread_count"));
+            }
+        );
+        return counts;
+    }
+
+    public record NotificationDraft(
+        String eventKey,
+        Long receiverId,
+        Long senderId,
+        NotificationType notiType,
+        String redirectUrl,
+        ReferenceType referenceType,
+        Long referenceId,
+        boolean read
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.mocktalkback.domain.notification.service;
+
+import com.mocktalkback.domain.notification.type.NotificationType;
+import com.mocktalkback.domain.notification.type.ReferenceType;
+
+/**
+ * 알림 생성 아웃박스 이벤트 내용. 읽음 여부는 전달 시점의 수신자 화면 상태로 정한다.
+ *
+ * @param articleId 알림이 가리키는 게시글(수신자가 보고 있는지 판단용)
+ */
+public record NotificationCreateOutboxPayload(
+    Long receiverId,
+    Long senderId,
+    NotificationType notiType,
+    String redirectUrl,
+    ReferenceType referenceType,
+    Long referenceId,
+    Long articleId
+) {
+}
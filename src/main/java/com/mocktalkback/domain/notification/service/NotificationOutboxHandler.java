@@ -0,0 +1,128 @@
+package com.mocktalkback.domain.notification.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.notification.service.NotificationBatchStore.NotificationDraft;
+import com.mocktalkback.domain.outbox.service.BatchOutboxEventHandler;
+import com.mocktalkback.domain.outbox.service.OutboxEvent;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+import com.mocktalkback.domain.realtime.service.NotificationPresenceService;
+import com.mocktalkback.domain.realtime.service.NotificationRealtimeSseService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 생성과 안읽은 알림 수 푸시를 relay 배치 단위로 처리한다.
+ * <p>
+ * 알림은 한 번의 JDBC 배치로 멱등 키(event_key)당 한 번만 저장하고, 카운트는 수신자마다 한 번만 세어 푸시한다.
+ * 카운트 푸시는 현재 값을 다시 보내는 것이라 재전달로 중복되어도 무해하다.
+ * 내용을 읽지 못한 이벤트는 실패로 돌려주어 그 이벤트만 재시도되게 하고 나머지는 그대로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxHandler implements BatchOutboxEventHandler {
+
+    private final NotificationBatchStore notificationBatchStore;
+    private final NotificationPresenceService notificationPresenceService;
+    private final NotificationRealtimeSseService notificationRealtimeSseService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<OutboxEventType> supportedTypes() {
+        return Set.of(OutboxEventType.NOTIFICATION_CREATE, OutboxEventType.NOTIFICATION_UNREAD_COUNT);
+    }
+
+    @Override
+    public Map<Long, RuntimeException> handleBatch(List<OutboxEvent> events) {
+        Map<Long, RuntimeException> failures = new HashMap<>();
+        Map<String, NotificationCreateOutboxPayload> creates = new LinkedHashMap<>();
+        List<PushTarget> pushTargets = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                if (event.type() == OutboxEventType.NOTIFICATION_CREATE) {
+                    creates.put(
+                        event.idempotencyKey(),
+                        event.payloadAs(objectMapper, NotificationCreateOutboxPayload.class)
+                    );
+                    continue;
+                }
+                NotificationUnreadCountOutboxPayload payload =
+                    event.payloadAs(objectMapper, NotificationUnreadCountOutboxPayload.class);
+                pushTargets.add(new PushTarget(payload.userId(), payload.articleId()));
+            } catch (RuntimeException ex) {
+                failures.put(event.id(), ex);
+            }
+        }
+
+        if (!creates.isEmpty()) {
+            notificationBatchStore.insertIfAbsent(toDrafts(creates));
+            Set<String> unreadKeys = notificationBatchStore.findUnreadEventKeys(creates.keySet());
+            creates.forEach((eventKey, payload) -> {
+                if (unreadKeys.contains(eventKey)) {
+                    pushTargets.add(new PushTarget(payload.receiverId(), payload.articleId()));
+                }
+            });
+        }
+        publishUnreadCounts(pushTargets);
+        return failures;
+    }
+
+    /**
+     * 읽음 여부는 전달 시점의 화면 상태로 정하고, 같은 수신자/게시글 조합은 한 번만 확인한다.
+     */
+    private List<NotificationDraft> toDrafts(Map<String, NotificationCreateOutboxPayload> creates) {
+        Map<PushTarget, Boolean> viewing = new HashMap<>();
+        List<NotificationDraft> drafts = new ArrayList<>(creates.size());
+        creates.forEach((eventKey, payload) -> {
+            boolean read = viewing.computeIfAbsent(
+                new PushTarget(payload.receiverId(), payload.articleId()),
+                target -> notificationPresenceService.isViewingArticleDetail(target.userId(), target.articleId())
+            );
+            drafts.add(new NotificationDraft(
+                eventKey,
+                payload.receiverId(),
+                payload.senderId(),
+                payload.notiType(),
+                payload.redirectUrl(),
+                payload.referenceType(),
+                payload.referenceId(),
+                read
+            ));
+        });
+        return drafts;
+    }
+
+    /**
+     * 수신자마다 한 번만 센다. 요청된 게시글 중 하나라도 푸시를 생략하지 않는 화면이면 푸시한다.
+     */
+    private void publishUnreadCounts(List<PushTarget> pushTargets) {
+        Set<Long> recipients = new LinkedHashSet<>();
+        for (PushTarget target : new LinkedHashSet<>(pushTargets)) {
+            if (recipients.contains(target.userId())) {
+                continue;
+            }
+            if (!notificationPresenceService.shouldSuppressUnreadCountPush(target.userId(), target.articleId())) {
+                recipients.add(target.userId());
+            }
+        }
+        if (recipients.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> unreadCounts = notificationBatchStore.countUnread(recipients);
+        for (Long userId : recipients) {
+            notificationRealtimeSseService.publishUnreadCountChanged(userId, unreadCounts.getOrDefault(userId, 0L));
+        }
+    }
+
+    private record PushTarget(Long userId, Long articleId) {
+    }
+}
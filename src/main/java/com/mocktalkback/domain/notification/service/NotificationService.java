@@ -12,7 +12,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
@@ -22,6 +21,8 @@ import com.mocktalkback.domain.notification.entity.NotificationEntity;
 import com.mocktalkback.domain.notification.repository.NotificationRepository;
 import com.mocktalkback.domain.notification.type.NotificationType;
 import com.mocktalkback.domain.notification.type.ReferenceType;
+import com.mocktalkback.domain.outbox.service.OutboxEventWriter;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
 import com.mocktalkback.domain.realtime.service.NotificationPresenceService;
 import com.mocktalkback.domain.realtime.service.NotificationRealtimeSseService;
 import com.mocktalkback.domain.article.entity.ArticleEntity;
@@ -56,7 +57,11 @@ public class NotificationService {
     private final NotificationRealtimeSseService notificationRealtimeSseService;
     private final PageNormalizer pageNormalizer;
     private final AuthorDisplayResolver authorDisplayResolver;
+    private final OutboxEventWriter outboxEventWriter;
 
+    /**
+     * 게시글 댓글 알림을 아웃박스에 남긴다. 저장과 푸시는 커밋 후 relay가 처리한다.
+     */
     @Transactional
     public void createArticleComment(
         UserEntity receiver,
@@ -66,22 +71,23 @@ public class NotificationService {
         if (receiver.getId().equals(sender.getId())) {
             return;
         }
-        boolean read = notificationPresenceService.isViewingArticleDetail(receiver.getId(), article.getId());
-        NotificationEntity entity = NotificationEntity.builder()
-            .user(receiver)
-            .sender(sender)
-            .notiType(NotificationType.ARTICLE_COMMENT)
-            .redirectUrl(buildArticleRedirect(article))
-            .referenceType(ReferenceType.ARTICLE)
-            .referenceId(article.getId())
-            .read(read)
-            .build();
-        notificationRepository.save(entity);
-        if (!read) {
-            publishUnreadCountChangedAfterCommit(receiver.getId(), article.getId());
-        }
+        outboxEventWriter.append(
+            OutboxEventType.NOTIFICATION_CREATE,
+            new NotificationCreateOutboxPayload(
+                receiver.getId(),
+                sender.getId(),
+                NotificationType.ARTICLE_COMMENT,
+                buildArticleRedirect(article),
+                ReferenceType.ARTICLE,
+                article.getId(),
+                article.getId()
+            )
+        );
     }
 
+    /**
+     * 대댓글 알림을 아웃박스에 남긴다. 저장과 푸시는 커밋 후 relay가 처리한다.
+     */
     @Transactional
     public void createCommentReply(
         UserEntity receiver,
@@ -92,20 +98,18 @@ public class NotificationService {
         if (receiver.getId().equals(sender.getId())) {
             return;
         }
-        boolean read = notificationPresenceService.isViewingArticleDetail(receiver.getId(), article.getId());
-        NotificationEntity entity = NotificationEntity.builder()
-            .user(receiver)
-            .sender(sender)
-            .notiType(NotificationType.COMMENT_REPLY)
-            .redirectUrl(buildArticleRedirect(article))
-            .referenceType(ReferenceType.COMMENT)
-            .referenceId(comment.getId())
-            .read(read)
-            .build();
-        notificationRepository.save(entity);
-        if (!read) {
-            publishUnreadCountChangedAfterCommit(receiver.getId(), article.getId());
-        }
+        outboxEventWriter.append(
+            OutboxEventType.NOTIFICATION_CREATE,
+            new NotificationCreateOutboxPayload(
+                receiver.getId(),
+                sender.getId(),
+                NotificationType.COMMENT_REPLY,
+                buildArticleRedirect(article),
+                ReferenceType.COMMENT,
+                comment.getId(),
+                article.getId()
+            )
+        );
     }
 
     @Transactional(readOnly = true)
@@ -267,12 +271,10 @@ public class NotificationService {
 
     private void publishUnreadCountChangedAfterCommit(Long userId, Long articleId) {
         if (TransactionSynchronizationManager.isActualTransactionActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    publishUnreadCountChanged(userId, articleId);
-                }
-            });
+            outboxEventWriter.append(
+                OutboxEventType.NOTIFICATION_UNREAD_COUNT,
+                new NotificationUnreadCountOutboxPayload(userId, articleId)
+            );
             return;
         }
         publishUnreadCountChanged(userId, articleId);
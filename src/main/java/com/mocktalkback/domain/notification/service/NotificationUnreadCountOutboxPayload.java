@@ -0,0 +1,12 @@
+package com.mocktalkback.domain.notification.service;
+
+/**
+ * 안읽은 알림 수 푸시 아웃박스 이벤트 내용.
+ *
+ * @param articleId 수신자가 보고 있으면 푸시를 생략할 게시글, 없으면 null
+ */
+public record NotificationUnreadCountOutboxPayload(
+    Long userId,
+    Long articleId
+) {
+}
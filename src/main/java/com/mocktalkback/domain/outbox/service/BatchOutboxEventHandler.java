@@ -0,0 +1,26 @@
+package com.mocktalkback.domain.outbox.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * relay가 한 번에 가져온 이벤트 중 이 처리기가 맡은 것을 모아 한 번에 받는다.
+ * <p>
+ * 역직렬화 실패처럼 한 이벤트에만 해당하는 문제는 반환값으로 알려 그 이벤트만 재시도/폐기되게 하고 나머지는 처리한다.
+ * 예외를 던지면 묶음 전체가 재시도되므로 묶음 처리는 멱등이어야 한다.
+ */
+public interface BatchOutboxEventHandler extends OutboxEventHandler {
+
+    /**
+     * @return 처리하지 못한 이벤트 ID와 원인, 모두 처리했으면 빈 맵
+     */
+    Map<Long, RuntimeException> handleBatch(List<OutboxEvent> events);
+
+    @Override
+    default void handle(OutboxEvent event) {
+        RuntimeException failure = handleBatch(List.of(event)).get(event.id());
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
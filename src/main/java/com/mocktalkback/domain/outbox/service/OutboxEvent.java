@@ -0,0 +1,27 @@
+package com.mocktalkback.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+/**
+ * relay가 가져간 아웃박스 행. attempts는 이번 시도를 포함한 횟수다.
+ *
+ * @param type 이 버전이 모르는 유형이면 null
+ */
+public record OutboxEvent(
+    Long id,
+    OutboxEventType type,
+    String idempotencyKey,
+    String payload,
+    int attempts
+) {
+
+    public <T> T payloadAs(ObjectMapper objectMapper, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(payload, payloadType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화에 실패했습니다: " + id, ex);
+        }
+    }
+}
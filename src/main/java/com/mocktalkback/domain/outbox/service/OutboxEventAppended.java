@@ -0,0 +1,9 @@
+package com.mocktalkback.domain.outbox.service;
+
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+/**
+ * 트랜잭션 안에서 아웃박스 행을 쓴 뒤 발행한다. 커밋되면 relay가 주기를 기다리지 않고 바로 꺼내 간다.
+ */
+public record OutboxEventAppended(OutboxEventType type) {
+}
@@ -0,0 +1,18 @@
+package com.mocktalkback.domain.outbox.service;
+
+import java.util.Set;
+
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+/**
+ * 아웃박스 이벤트를 실제 부수효과로 반영한다.
+ * <p>
+ * relay는 최소 한 번 전달하므로 같은 이벤트가 다시 들어올 수 있다.
+ * 구현체는 {@link OutboxEvent#idempotencyKey()}로 중복 반영을 막고, 실패는 예외로 알려 재시도를 받는다.
+ */
+public interface OutboxEventHandler {
+
+    Set<OutboxEventType> supportedTypes();
+
+    void handle(OutboxEvent event);
+}
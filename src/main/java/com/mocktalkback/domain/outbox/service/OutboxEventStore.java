@@ -0,0 +1,166 @@
+package com.mocktalkback.domain.outbox.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+/**
+ * tb_outbox 읽기/쓰기.
+ * <p>
+ * append는 호출한 트랜잭션에 참여하고, relay 쪽 쿼리는 트랜잭션 없이 한 문장씩 실행한다.
+ * 가져간 행은 lease 시각까지 다른 인스턴스가 다시 가져가지 않으며, 처리 도중 죽으면 lease가 끝난 뒤 다시 발행된다.
+ */
+@Service
+public class OutboxEventStore {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxEventStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void append(OutboxEventType type, String idempotencyKey, String payload) {
+        String sql = """
+            insert into tb_outbox (event_type, idempotency_key, payload)
+            values (:eventType, :idempotencyKey, cast(:payload as jsonb))
+            """;
+        jdbcTemplate.update(
+            sql,
+            new MapSqlParameterSource()
+                .addValue("eventType", type.name())
+                .addValue("idempotencyKey", idempotencyKey)
+                .addValue("payload", payload)
+        );
+    }
+
+    /**
+     * 발행할 차례인 행을 최대 limit개 가져가 시도 횟수를 올리고 lease 시각까지 숨긴다.
+     * 다른 인스턴스가 잠근 행은 건너뛴다(FOR UPDATE SKIP LOCKED).
+     */
+    public List<OutboxEvent> claim(int limit, Duration lease) {
+        String sql = """
+            update tb_outbox o
+            set attempts = o.attempts + 1,
+                next_attempt_at = now() + make_interval(secs => :leaseSeconds)
+            where o.outbox_id in (
+                select p.outbox_id
+                from tb_outbox p
+                where p.processed_at is null
+                  and p.dead_at is null
+                  and p.next_attempt_at <= now()
+                order by p.next_attempt_at, p.outbox_id
+                limit :limit
+                for update skip locked
+            )
+            returning o.outbox_id, o.event_type, o.idempotency_key, cast(o.payload as text) as payload, o.attempts
+            """;
+        List<OutboxEvent> events = jdbcTemplate.query(
+            sql,
+            new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("leaseSeconds", lease.toSeconds()),
+            (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("outbox_id"),
+                resolveType(rs.getString("event_type")),
+                rs.getString("idempotency_key"),
+                rs.getString("payload"),
+                rs.getInt("attempts")
+            )
+        );
+        // RETURNING 순서는 보장되지 않으므로 쓰인 순서대로 다시 정렬한다.
+        return events.stream()
+            .sorted(Comparator.comparing(OutboxEvent::id))
+            .toList();
+    }
+
+    public void markProcessed(Collection<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+        String sql = """
+            update tb_outbox
+            set processed_at = now(),
+                last_error = null
+            where outbox_id in (:outboxIds)
+            """;
+        jdbcTemplate.update(sql, new MapSqlParameterSource("outboxIds", outboxIds));
+    }
+
+    public void scheduleRetry(Long outboxId, Duration delay, String error) {
+        String sql = """
+            update tb_outbox
+            set next_attempt_at = now() + make_interval(secs => :delaySeconds),
+                last_error = :lastError
+            where outbox_id = :outboxId
+            """;
+        jdbcTemplate.update(
+            sql,
+            new MapSqlParameterSource()
+                .addValue("outboxId", outboxId)
+                .addValue("delaySeconds", delay.toMillis() / 1000.0d)
+                .addValue("lastError", truncate(error))
+        );
+    }
+
+    public void markDead(Long outboxId, String error) {
+        String sql = """
+            update tb_outbox
+            set dead_at = now(),
+                last_error = :lastError
+            where outbox_id = :outboxId
+            """;
+        jdbcTemplate.update(
+            sql,
+            new MapSqlParameterSource()
+                .addValue("outboxId", outboxId)
+                .addValue("lastError", truncate(error))
+        );
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 행을 최대 limit개 지운다.
+     *
+     * @return 지운 행 수
+     */
+    public int deleteProcessedBefore(Duration retention, int limit) {
+        String sql = """
+            delete from tb_outbox
+            where outbox_id in (
+                select outbox_id
+                from tb_outbox
+                where processed_at < now() - make_interval(secs => :retentionSeconds)
+                limit :limit
+            )
+            """;
+        return jdbcTemplate.update(
+            sql,
+            new MapSqlParameterSource()
+                .addValue("retentionSeconds", retention.toSeconds())
+                .addValue("limit", limit)
+        );
+    }
+
+    private static OutboxEventType resolveType(String value) {
+        try {
+            return OutboxEventType.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
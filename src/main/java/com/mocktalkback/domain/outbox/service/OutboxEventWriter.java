@@ -0,0 +1,41 @@
+package com.mocktalkback.domain.outbox.service;
+
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쓰기 트랜잭션 안에서 커밋 후 부수효과를 tb_outbox에 남긴다.
+ * 트랜잭션이 롤백되면 이벤트도 함께 사라지고, 커밋되면 {@link OutboxRelay}가 최소 한 번 발행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    private final OutboxEventStore outboxEventStore;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Object payload) {
+        outboxEventStore.append(type, UUID.randomUUID().toString(), serialize(payload));
+        applicationEventPublisher.publishEvent(new OutboxEventAppended(type));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화에 실패했습니다.", ex);
+        }
+    }
+}
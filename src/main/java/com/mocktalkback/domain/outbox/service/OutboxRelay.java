@@ -0,0 +1,257 @@
+package com.mocktalkback.domain.outbox.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * tb_outbox를 배치로 꺼내 처리기에 넘긴다.
+ * <p>
+ * 쓰기 트랜잭션이 커밋되면 linger-ms만큼 모았다가, 그 외에는 주기적으로 전용 실행기에서 비운다. 인스턴스 안에서는 한 번에 하나만 비우고,
+ * 인스턴스 사이에서는 SKIP LOCKED와 lease로 같은 행을 나눠 갖지 않는다.
+ * 실패한 행은 지수 백오프로 다시 시도하고, 최대 시도 횟수를 넘기면 dead로 남겨 둔다.
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+
+    private final OutboxEventStore outboxEventStore;
+    private final Map<OutboxEventType, OutboxEventHandler> handlers;
+    private final Executor outboxTaskExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    @Value("${app.outbox.relay.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.outbox.relay.linger-ms:5}")
+    private long lingerMillis = 5L;
+
+    @Value("${app.outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${app.outbox.relay.lease-seconds:30}")
+    private long leaseSeconds = 30L;
+
+    @Value("${app.outbox.relay.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${app.outbox.relay.retry-base-delay-ms:1000}")
+    private long retryBaseDelayMillis = 1000L;
+
+    @Value("${app.outbox.relay.retry-max-delay-ms:300000}")
+    private long retryMaxDelayMillis = 300000L;
+
+    @Value("${app.outbox.retention-hours:24}")
+    private long retentionHours = 24L;
+
+    public OutboxRelay(
+        OutboxEventStore outboxEventStore,
+        List<OutboxEventHandler> outboxEventHandlers,
+        @Qualifier("outboxTaskExecutor") Executor outboxTaskExecutor
+    ) {
+        this.outboxEventStore = outboxEventStore;
+        this.handlers = new EnumMap<>(OutboxEventType.class);
+        for (OutboxEventHandler handler : outboxEventHandlers) {
+            for (OutboxEventType type : handler.supportedTypes()) {
+                if (handlers.putIfAbsent(type, handler) != null) {
+                    throw new IllegalStateException("아웃박스 이벤트 처리기가 중복되었습니다: " + type);
+                }
+            }
+        }
+        this.outboxTaskExecutor = outboxTaskExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventAppended(OutboxEventAppended event) {
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-ms:1000}")
+    public void poll() {
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.prune-interval-ms:600000}")
+    public void pruneProcessed() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = outboxEventStore.deleteProcessedBefore(
+                Duration.ofHours(Math.max(1L, retentionHours)),
+                Math.max(1, batchSize) * 10
+            );
+            if (deleted > 0) {
+                log.info("처리 완료된 아웃박스 이벤트를 정리했습니다. deleted={}", deleted);
+            }
+        } catch (Exception ex) {
+            log.warn("아웃박스 이벤트 정리에 실패했습니다.", ex);
+        }
+    }
+
+    /**
+     * 실행 중인 비우기가 있으면 그 작업이 한 번 더 돌도록 표시만 하고 돌아간다. 호출 스레드를 막지 않는다.
+     */
+    public void requestDrain() {
+        if (!enabled) {
+            return;
+        }
+        drainRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            outboxTaskExecutor.execute(this::drainWhileRequested);
+        } catch (RejectedExecutionException ex) {
+            // 다음 주기에 다시 시도한다.
+            draining.set(false);
+            log.warn("아웃박스 relay 작업을 예약하지 못했습니다.", ex);
+        }
+    }
+
+    private void drainWhileRequested() {
+        try {
+            while (drainRequested.getAndSet(false)) {
+                linger();
+                drain();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            log.warn("아웃박스 이벤트 발행에 실패해 다음 주기로 미룹니다.", ex);
+        } finally {
+            draining.set(false);
+        }
+        // 플래그를 내리기 직전에 들어온 요청을 놓치지 않도록 다시 확인한다.
+        if (drainRequested.get()) {
+            requestDrain();
+        }
+    }
+
+    /**
+     * 거의 동시에 커밋된 이벤트가 한 배치로 묶이도록 잠깐 기다린다.
+     */
+    private void linger() throws InterruptedException {
+        if (lingerMillis > 0L) {
+            Thread.sleep(lingerMillis);
+        }
+    }
+
+    /**
+     * 발행할 차례인 행이 없을 때까지 배치로 꺼내 처리한다.
+     *
+     * @return 처리 완료한 이벤트 수
+     */
+    int drain() {
+        int resolvedBatchSize = Math.max(1, batchSize);
+        Duration lease = Duration.ofSeconds(Math.max(1L, leaseSeconds));
+        int processed = 0;
+        while (true) {
+            List<OutboxEvent> events = outboxEventStore.claim(resolvedBatchSize, lease);
+            if (events.isEmpty()) {
+                return processed;
+            }
+            List<Long> succeeded = new ArrayList<>(events.size());
+            Map<BatchOutboxEventHandler, List<OutboxEvent>> batches = new LinkedHashMap<>();
+            for (OutboxEvent event : events) {
+                OutboxEventHandler handler = event.type() == null ? null : handlers.get(event.type());
+                if (handler instanceof BatchOutboxEventHandler batchHandler) {
+                    batches.computeIfAbsent(batchHandler, key -> new ArrayList<>()).add(event);
+                } else if (dispatch(handler, event)) {
+                    succeeded.add(event.id());
+                }
+            }
+            batches.forEach((batchHandler, batch) -> dispatchBatch(batchHandler, batch, succeeded));
+            outboxEventStore.markProcessed(succeeded);
+            processed += succeeded.size();
+            if (events.size() < resolvedBatchSize) {
+                return processed;
+            }
+        }
+    }
+
+    private boolean dispatch(OutboxEventHandler handler, OutboxEvent event) {
+        if (handler == null) {
+            // 새 버전에서 추가된 유형일 수 있으므로 바로 버리지 않고 재시도 규칙을 따른다.
+            handleFailure(event, new IllegalStateException("처리기가 없는 아웃박스 이벤트입니다."));
+            return false;
+        }
+        try {
+            handler.handle(event);
+            return true;
+        } catch (Exception ex) {
+            handleFailure(event, ex);
+            return false;
+        }
+    }
+
+    /**
+     * 처리기가 실패로 돌려준 이벤트만 재시도 규칙을 따르고, 예외를 던지면 묶음 전체를 다시 예약한다.
+     */
+    private void dispatchBatch(BatchOutboxEventHandler handler, List<OutboxEvent> batch, List<Long> succeeded) {
+        Map<Long, RuntimeException> failures;
+        try {
+            failures = handler.handleBatch(batch);
+        } catch (Exception ex) {
+            batch.forEach(event -> handleFailure(event, ex));
+            return;
+        }
+        for (OutboxEvent event : batch) {
+            RuntimeException failure = failures.get(event.id());
+            if (failure == null) {
+                succeeded.add(event.id());
+            } else {
+                handleFailure(event, failure);
+            }
+        }
+    }
+
+    private void handleFailure(OutboxEvent event, Exception ex) {
+        String error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+        if (event.attempts() >= Math.max(1, maxAttempts)) {
+            outboxEventStore.markDead(event.id(), error);
+            log.error(
+                "아웃박스 이벤트 최대 시도 횟수 초과로 발행을 중단합니다. outboxId={}, type={}, attempts={}",
+                event.id(),
+                event.type(),
+                event.attempts(),
+                ex
+            );
+            return;
+        }
+        Duration delay = resolveRetryDelay(event.attempts());
+        outboxEventStore.scheduleRetry(event.id(), delay, error);
+        log.warn(
+            "아웃박스 이벤트 발행 실패로 재시도를 예약합니다. outboxId={}, type={}, attempts={}, delayMs={}",
+            event.id(),
+            event.type(),
+            event.attempts(),
+            delay.toMillis(),
+            ex
+        );
+    }
+
+    private Duration resolveRetryDelay(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.max(1L, retryBaseDelayMillis) << exponent;
+        return Duration.ofMillis(Math.min(delay, Math.max(1L, retryMaxDelayMillis)));
+    }
+}
@@ -0,0 +1,8 @@
+package com.mocktalkback.domain.outbox.type;
+
+public enum OutboxEventType {
+    BOARD_REALTIME,
+    NOTIFICATION_CREATE,
+    NOTIFICATION_UNREAD_COUNT,
+    ARTICLE_TRENDING_SCORE
+}
@@ -0,0 +1,34 @@
+package com.mocktalkback.domain.realtime.service;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.outbox.service.OutboxEvent;
+import com.mocktalkback.domain.outbox.service.OutboxEventHandler;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시판 SSE 이벤트를 발행한다. 멱등 키를 SSE eventId로 써서 재시도로 다시 보낸 이벤트를 구독자가 구분할 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardRealtimeOutboxHandler implements OutboxEventHandler {
+
+    private final BoardRealtimeSseService boardRealtimeSseService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<OutboxEventType> supportedTypes() {
+        return Set.of(OutboxEventType.BOARD_REALTIME);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        BoardRealtimeOutboxPayload payload = event.payloadAs(objectMapper, BoardRealtimeOutboxPayload.class);
+        boardRealtimeSseService.publish(payload.boardId(), payload.type(), payload.data(), event.idempotencyKey());
+    }
+}
@@ -0,0 +1,21 @@
+package com.mocktalkback.domain.realtime.service;
+
+import com.mocktalkback.domain.realtime.type.RealtimeEventType;
+
+/**
+ * 게시판 SSE 아웃박스 이벤트 내용. data는 JSON으로 저장되었다가 Map으로 다시 읽힌다.
+ */
+public record BoardRealtimeOutboxPayload(
+    Long boardId,
+    RealtimeEventType type,
+    Object data
+) {
+
+    public static BoardRealtimeOutboxPayload commentChanged(Long boardId, Object data) {
+        return new BoardRealtimeOutboxPayload(boardId, RealtimeEventType.COMMENT_CHANGED, data);
+    }
+
+    public static BoardRealtimeOutboxPayload reactionChanged(Long boardId, Object data) {
+        return new BoardRealtimeOutboxPayload(boardId, RealtimeEventType.REACTION_CHANGED, data);
+    }
+}
@@ -66,7 +66,13 @@ public class BoardRealtimeSseService {
     }
 
     public void publish(Long boardId, RealtimeEventType type, Object data) {
-        String eventId = UUID.randomUUID().toString();
+        publish(boardId, type, data, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 같은 eventId로 다시 발행하면 구독자는 SSE id로 중복을 걸러낼 수 있다(아웃박스 재시도).
+     */
+    public void publish(Long boardId, RealtimeEventType type, Object data, String eventId) {
         Instant occurredAt = Instant.now();
         if (tryPublishRedis(boardId, type, data, eventId, occurredAt)) {
             return;
@@ -16,14 +16,14 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.entity.QArticleEntity;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
+import com.mocktalkback.domain.article.service.ArticleStatsService;
+import com.mocktalkback.domain.article.service.ArticleStatsService.ArticleStats;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.board.entity.BoardFileEntity;
 import com.mocktalkback.domain.board.entity.QBoardEntity;
 import com.mocktalkback.domain.board.repository.BoardFileRepository;
 import com.mocktalkback.domain.comment.entity.CommentEntity;
 import com.mocktalkback.domain.comment.entity.QCommentEntity;
-import com.mocktalkback.domain.comment.repository.CommentRepository;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
 import com.mocktalkback.domain.common.policy.PageNormalizer;
 import com.mocktalkback.domain.common.policy.RoleEvaluator;
@@ -58,8 +58,7 @@ public class SearchService {
     private final CurrentUserService currentUserService;
     private final UserRepository userRepository;
     private final BoardFileRepository boardFileRepository;
-    private final CommentRepository commentRepository;
-    private final ArticleReactionRepository articleReactionRepository;
+    private final ArticleStatsService articleStatsService;
     private final SearchNativeQueryExecutor searchNativeQueryExecutor;
     private final FileMapper fileMapper;
     private final RoleEvaluator roleEvaluator;
@@ -186,10 +185,9 @@ public class SearchService {
             return emptySlice(page, size);
         }
         List<ArticleEntity> articles = loadArticles(ids);
-        Map<Long, Long> commentCounts = loadCommentCounts(articles);
-        Map<Long, ReactionCounts> reactionCounts = loadReactionCounts(articles);
+        Map<Long, ArticleStats> stats = articleStatsService.loadStats(toArticleIds(articles));
         List<ArticleSearchResponse> items = articles.stream()
-            .map(entity -> toArticleSearchResponse(entity, commentCounts, reactionCounts))
+            .map(entity -> toArticleSearchResponse(entity, stats))
             .toList();
 
         return new SliceResponse<>(items, page, size, hasNext, page > 0);
@@ -548,36 +546,6 @@ public class SearchService {
         return result;
     }
 
-    private Map<Long, Long> loadCommentCounts(List<ArticleEntity> articles) {
-        Set<Long> ids = toArticleIds(articles);
-        if (ids.isEmpty()) {
-            return Map.of();
-        }
-        return commentRepository.countByArticleIds(ids).stream()
-            .collect(java.util.stream.Collectors.toMap(
-                CommentRepository.CommentCountView::getArticleId,
-                CommentRepository.CommentCountView::getCount
-            ));
-    }
-
-    private Map<Long, ReactionCounts> loadReactionCounts(List<ArticleEntity> articles) {
-        Set<Long> ids = toArticleIds(articles);
-        if (ids.isEmpty()) {
-            return Map.of();
-        }
-        Map<Long, ReactionCounts> counts = new HashMap<>();
-        List<ArticleReactionRepository.ArticleReactionCountView> rows = articleReactionRepository.countByArticleIds(ids);
-        for (ArticleReactionRepository.ArticleReactionCountView row : rows) {
-            ReactionCounts current = counts.getOrDefault(row.getArticleId(), ReactionCounts.empty());
-            if (row.getReactionType() == 1) {
-                counts.put(row.getArticleId(), current.withLike(row.getCount()));
-            } else if (row.getReactionType() == -1) {
-                counts.put(row.getArticleId(), current.withDislike(row.getCount()));
-            }
-        }
-        return counts;
-    }
-
     private Set<Long> toArticleIds(List<ArticleEntity> articles) {
         Set<Long> ids = new LinkedHashSet<>();
         for (ArticleEntity article : articles) {
@@ -588,10 +556,9 @@ public class SearchService {
 
     private ArticleSearchResponse toArticleSearchResponse(
         ArticleEntity entity,
-        Map<Long, Long> commentCounts,
-        Map<Long, ReactionCounts> reactionCounts
+        Map<Long, ArticleStats> stats
     ) {
-        ReactionCounts counts = reactionCounts.getOrDefault(entity.getId(), ReactionCounts.empty());
+        ArticleStats counts = stats.getOrDefault(entity.getId(), ArticleStats.empty());
         return new ArticleSearchResponse(
             entity.getId(),
             entity.getBoard().getId(),
@@ -603,7 +570,7 @@ public class SearchService {
             entity.getCategory() != null ? entity.getCategory().getId() : null,
             entity.getCategory() != null ? entity.getCategory().getCategoryName() : null,
             entity.getHit(),
-            commentCounts.getOrDefault(entity.getId(), 0L),
+            counts.commentCount(),
             counts.likeCount(),
             counts.dislikeCount(),
             entity.isNotice(),
@@ -647,20 +614,6 @@ public class SearchService {
         return keyword.trim();
     }
 
-    private record ReactionCounts(long likeCount, long dislikeCount) {
-        private static ReactionCounts empty() {
-            return new ReactionCounts(0, 0);
-        }
-
-        private ReactionCounts withLike(long count) {
-            return new ReactionCounts(count, dislikeCount);
-        }
-
-        private ReactionCounts withDislike(long count) {
-            return new ReactionCounts(likeCount, count);
-        }
-    }
-
     private record SearchUserContext(Long userId, boolean managerOrAdmin) {
         private static SearchUserContext anonymous() {
             return new SearchUserContext(null, false);
@@ -0,0 +1,24 @@
+package com.mocktalkback.global.common.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "커서 페이지 응답")
+public record CursorResponse<T>(
+    @Schema(description = "목록")
+    List<T> items,
+
+    @Schema(description = "페이지 크기", example = "10")
+    int size,
+
+    @Schema(description = "다음 페이지 커서(다음 페이지가 없으면 null)", example = "djF8TEFURVNUfDIwMjYtMDMtMTJUMDk6MTU6MzBafDIwMjYtMDMtMTJUMDk6MTU6MzBafDEyMA")
+    String nextCursor,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+
+    @Schema(description = "대략적인 전체 개수(요청 시에만, 캐시된 값일 수 있음)", example = "120", nullable = true)
+    Long approximateTotal
+) {
+}
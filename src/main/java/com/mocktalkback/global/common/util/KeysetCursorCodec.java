@@ -0,0 +1,72 @@
+package com.mocktalkback.global.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * keyset 페이징 커서를 "버전|값1|값2..." 형태의 불투명 문자열(base64url)로 인코딩/디코딩한다.
+ * 값을 도메인 커서로 바꾸는 일은 호출자가 맡고, 형식이 맞지 않으면 모두 같은 예외로 거부한다.
+ */
+public final class KeysetCursorCodec {
+
+    private static final String DELIMITER = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String version;
+    private final int fieldCount;
+
+    /**
+     * @param version 커서 형식이 바뀌면 올려서 이전 커서를 거부하게 하는 접두어
+     * @param fieldCount 버전을 제외한 값 개수
+     */
+    public KeysetCursorCodec(String version, int fieldCount) {
+        this.version = version;
+        this.fieldCount = fieldCount;
+    }
+
+    public String encode(String... fields) {
+        if (fields.length != fieldCount) {
+            throw new IllegalArgumentException("cursor 값 개수가 올바르지 않습니다.");
+        }
+        String raw = version + DELIMITER + String.join(DELIMITER, fields);
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 커서는 첫 페이지를 의미하므로 null을 반환한다.
+     * parser가 던지는 날짜/숫자 파싱 예외는 형식 오류로 바꾸고, 그 밖의 예외는 그대로 전달한다.
+     */
+    public <T> T decode(String cursor, Function<String[], T> parser) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        String[] parts = split(cursor.trim());
+        if (parts.length != fieldCount + 1 || !version.equals(parts[0])) {
+            throw invalidCursor();
+        }
+        try {
+            return parser.apply(Arrays.copyOfRange(parts, 1, parts.length));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    private String[] split(String cursor) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            return raw.split("\\|", -1);
+        } catch (IllegalArgumentException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    private IllegalArgumentException invalidCursor() {
+        return new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+    }
+}
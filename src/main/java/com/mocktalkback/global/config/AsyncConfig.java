@@ -1,6 +1,8 @@
 package com.mocktalkback.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,4 +23,43 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "affinityTaskExecutor")
+    public Executor affinityTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // 같은 사용자의 추가/취소 이벤트가 발행 순서대로 반영되도록 스레드 하나로 차례대로 처리한다.
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("user-affinity-");
+        // 큐가 가득 차면 호출 스레드에서 바로 실행하지 않고 큐에 자리가 날 때까지 기다린다.
+        // 먼저 실행하면 앞서 큐에 들어간 같은 사용자의 이벤트보다 먼저 반영되어 순서가 뒤바뀐다.
+        executor.setRejectedExecutionHandler(AsyncConfig::waitForQueue);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "outboxTaskExecutor")
+    public Executor outboxTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // relay가 한 번에 하나의 비우기 작업만 올리므로 스레드 하나면 충분하다.
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.initialize();
+        return executor;
+    }
+
+    private static void waitForQueue(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("종료된 실행기에는 작업을 추가할 수 없습니다.");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("작업 대기 중 인터럽트되었습니다.", ex);
+        }
+    }
 }
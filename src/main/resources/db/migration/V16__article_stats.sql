@@ -0,0 +1,39 @@
+CREATE TABLE tb_article_stats
+(
+  article_id      BIGINT      NOT NULL,
+  comment_count   BIGINT      NOT NULL DEFAULT 0,
+  like_count      BIGINT      NOT NULL DEFAULT 0,
+  dislike_count   BIGINT      NOT NULL DEFAULT 0,
+  bookmark_count  BIGINT      NOT NULL DEFAULT 0,
+  updated_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+  PRIMARY KEY (article_id)
+);
+
+COMMENT ON TABLE tb_article_stats IS '게시글 집계 카운터(목록/피드 조회용 비정규화 테이블)';
+
+COMMENT ON COLUMN tb_article_stats.article_id IS '글번호, ON DELETE CASCADE';
+COMMENT ON COLUMN tb_article_stats.comment_count IS '삭제되지 않은 댓글 수';
+COMMENT ON COLUMN tb_article_stats.like_count IS '좋아요 수';
+COMMENT ON COLUMN tb_article_stats.dislike_count IS '싫어요 수';
+COMMENT ON COLUMN tb_article_stats.bookmark_count IS '북마크 수';
+COMMENT ON COLUMN tb_article_stats.updated_at IS '수정일시';
+
+ALTER TABLE tb_article_stats
+  ADD CONSTRAINT fk_tb_article_stats_article_id__tb_articles
+    FOREIGN KEY (article_id)
+    REFERENCES tb_articles (article_id)
+    ON DELETE CASCADE;
+
+ALTER TABLE tb_article_stats
+  ADD CONSTRAINT ck_tb_article_stats_counts_not_negative
+    CHECK (comment_count >= 0 AND like_count >= 0 AND dislike_count >= 0 AND bookmark_count >= 0);
+
+-- 기존 게시글 집계 백필
+INSERT INTO tb_article_stats (article_id, comment_count, like_count, dislike_count, bookmark_count)
+SELECT a.article_id,
+       (SELECT count(*) FROM tb_comments c WHERE c.article_id = a.article_id AND c.deleted_at IS NULL),
+       (SELECT count(*) FROM tb_article_reactions r WHERE r.article_id = a.article_id AND r.reaction_type = 1),
+       (SELECT count(*) FROM tb_article_reactions r WHERE r.article_id = a.article_id AND r.reaction_type = -1),
+       (SELECT count(*) FROM tb_article_bookmarks b WHERE b.article_id = a.article_id)
+FROM tb_articles a
+ON CONFLICT (article_id) DO NOTHING;
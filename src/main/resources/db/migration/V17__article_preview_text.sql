@@ -0,0 +1,32 @@
+ALTER TABLE tb_articles
+  ADD COLUMN IF NOT EXISTS preview_text VARCHAR(200) NOT NULL DEFAULT '';
+
+COMMENT ON COLUMN tb_articles.preview_text IS '목록 미리보기 문구(작성/수정 시 본문 HTML에서 추출, 최대 140자)';
+
+-- 기존 게시글 미리보기 백필
+-- 애플리케이션 추출기와 같은 규칙(pre/code 제거 -> 태그 제거 -> 주요 엔티티 복원 -> 공백 정리 -> 140자 절단)을 SQL로 근사한다.
+-- 이후 게시글이 수정되면 애플리케이션 추출 결과로 덮어쓴다.
+-- PostgreSQL 정규식은 첫 수량자로 전체 탐욕성이 정해지므로 pre/code 패턴의 첫 수량자를 비탐욕(*?)으로 둔다.
+WITH stripped AS (
+  SELECT article_id,
+         btrim(regexp_replace(
+           replace(replace(replace(replace(replace(replace(
+             regexp_replace(
+               regexp_replace(
+                 regexp_replace(content, '<pre\y[^>]*?>.*?</pre>', ' ', 'gis'),
+                 '<code\y[^>]*?>.*?</code>', ' ', 'gis'
+               ),
+               '<[^>]+>', ' ', 'g'
+             ),
+             '&nbsp;', ' '), '&lt;', '<'), '&gt;', '>'), '&quot;', '"'), '&#39;', ''''), '&amp;', '&'),
+           '\s+', ' ', 'g'
+         )) AS plain_text
+  FROM tb_articles
+)
+UPDATE tb_articles a
+SET preview_text = CASE
+    WHEN char_length(s.plain_text) <= 140 THEN s.plain_text
+    ELSE btrim(left(s.plain_text, 139)) || '…'
+  END
+FROM stripped s
+WHERE a.article_id = s.article_id;
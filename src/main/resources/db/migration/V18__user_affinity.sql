@@ -0,0 +1,21 @@
+CREATE TABLE tb_user_affinity
+(
+  user_id     BIGINT      NOT NULL,
+  profile     JSONB       NOT NULL DEFAULT '{}'::jsonb,
+  updated_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+  PRIMARY KEY (user_id)
+);
+
+COMMENT ON TABLE tb_user_affinity IS '추천용 사용자 관심도 프로필(북마크/반응/댓글로 증분 갱신)';
+
+COMMENT ON COLUMN tb_user_affinity.user_id IS '회원번호, ON DELETE CASCADE';
+COMMENT ON COLUMN tb_user_affinity.profile IS '게시판/카테고리별 감쇠 가중치, 최근 북마크 글 ID(JSON)';
+COMMENT ON COLUMN tb_user_affinity.updated_at IS '수정일시';
+
+ALTER TABLE tb_user_affinity
+  ADD CONSTRAINT fk_tb_user_affinity_user_id__tb_users
+    FOREIGN KEY (user_id)
+    REFERENCES tb_users (user_id)
+    ON DELETE CASCADE;
+
+-- 기존 사용자는 백필하지 않는다. 첫 추천 조회나 첫 활동 시 활동 이력으로 프로필을 만든다.
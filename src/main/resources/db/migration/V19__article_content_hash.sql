@@ -0,0 +1,6 @@
+ALTER TABLE tb_articles
+  ADD COLUMN content_hash VARCHAR(64);
+
+COMMENT ON COLUMN tb_articles.content_hash IS '저장된 본문 원본 해시(SHA-256, 렌더러 버전/형식 포함), 같으면 수정 시 렌더링 생략';
+
+-- 기존 게시글은 백필하지 않는다. 첫 수정 때 렌더링하면서 채운다.
@@ -0,0 +1,24 @@
+ALTER TABLE tb_comments
+  ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN tb_comments.reply_count IS '루트 댓글의 답글 수(삭제 표시된 답글 포함), 루트가 아니면 0';
+
+UPDATE tb_comments root
+   SET reply_count = replies.cnt
+  FROM (
+    SELECT root_comment_id, COUNT(*) AS cnt
+      FROM tb_comments
+     WHERE root_comment_id IS NOT NULL
+       AND comment_id <> root_comment_id
+     GROUP BY root_comment_id
+  ) replies
+ WHERE root.comment_id = replies.root_comment_id;
+
+-- 루트 댓글 커서 페이징: article_id + (created_at, comment_id) 순
+CREATE INDEX IF NOT EXISTS ix_tb_comments_article_id_created_at_id__root
+  ON tb_comments (article_id, created_at, comment_id)
+  WHERE parent_comment_id IS NULL;
+
+-- 루트별 답글 미리보기/더보기 커서 페이징: 삭제 표시된 답글도 자리를 유지하므로 deleted_at 조건을 두지 않는다.
+CREATE INDEX IF NOT EXISTS ix_tb_comments_root_comment_id_created_at_id
+  ON tb_comments (root_comment_id, created_at, comment_id);
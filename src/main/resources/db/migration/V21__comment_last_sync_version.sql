@@ -0,0 +1,14 @@
+ALTER TABLE tb_comments
+  ADD COLUMN last_sync_version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN tb_comments.last_sync_version IS '댓글이 마지막으로 작성/수정/삭제/반응 변경된 시점의 게시글 sync_version';
+
+-- 이전 변경 시점을 알 수 없으므로 현재 게시글 버전으로 채운다. 그보다 낮은 since로 요청하면 전체 재조회 대상이 된다.
+UPDATE tb_comments c
+   SET last_sync_version = a.sync_version
+  FROM tb_articles a
+ WHERE a.article_id = c.article_id;
+
+-- 변경분 조회: article_id + last_sync_version 범위
+CREATE INDEX IF NOT EXISTS ix_tb_comments_article_id_last_sync_version
+  ON tb_comments (article_id, last_sync_version);
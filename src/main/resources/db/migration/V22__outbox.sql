@@ -0,0 +1,50 @@
+CREATE TABLE tb_outbox
+(
+  outbox_id        BIGINT       NOT NULL GENERATED ALWAYS AS IDENTITY,
+  event_type       VARCHAR(48)  NOT NULL,
+  idempotency_key  VARCHAR(64)  NOT NULL,
+  payload          JSONB        NOT NULL,
+  attempts         INT          NOT NULL DEFAULT 0,
+  next_attempt_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+  processed_at     TIMESTAMPTZ ,
+  dead_at          TIMESTAMPTZ ,
+  last_error       VARCHAR(1000),
+  created_at       TIMESTAMPTZ  NOT NULL DEFAULT now(),
+  PRIMARY KEY (outbox_id)
+);
+
+COMMENT ON TABLE tb_outbox IS '커밋 후 부수효과(알림/실시간/트렌딩) 발행 대기열, 쓰기 트랜잭션과 함께 저장';
+
+COMMENT ON COLUMN tb_outbox.outbox_id IS '아웃박스 번호';
+COMMENT ON COLUMN tb_outbox.event_type IS '이벤트 유형';
+COMMENT ON COLUMN tb_outbox.idempotency_key IS '멱등 키 - 재시도해도 같은 값으로 전달';
+COMMENT ON COLUMN tb_outbox.payload IS '이벤트 내용(JSON)';
+COMMENT ON COLUMN tb_outbox.attempts IS '발행 시도 횟수';
+COMMENT ON COLUMN tb_outbox.next_attempt_at IS '다음 발행 가능 시각(처리 중에는 lease 만료 시각)';
+COMMENT ON COLUMN tb_outbox.processed_at IS '발행 완료 일시';
+COMMENT ON COLUMN tb_outbox.dead_at IS '최대 시도 횟수를 넘겨 발행을 포기한 일시';
+COMMENT ON COLUMN tb_outbox.last_error IS '마지막 발행 실패 사유';
+COMMENT ON COLUMN tb_outbox.created_at IS '생성일시';
+
+ALTER TABLE tb_outbox
+  ADD CONSTRAINT uq_tb_outbox_idempotency_key UNIQUE (idempotency_key);
+
+-- relay 조회: 미처리 행만 다음 발행 시각 순으로
+CREATE INDEX IF NOT EXISTS ix_tb_outbox_next_attempt_at__pending
+  ON tb_outbox (next_attempt_at, outbox_id)
+  WHERE processed_at IS NULL AND dead_at IS NULL;
+
+-- 보관 기간이 지난 처리 완료 행 정리
+CREATE INDEX IF NOT EXISTS ix_tb_outbox_processed_at
+  ON tb_outbox (processed_at)
+  WHERE processed_at IS NOT NULL;
+
+-- 아웃박스 재시도로 같은 알림이 두 번 만들어지지 않도록 이벤트 멱등 키를 저장한다.
+ALTER TABLE tb_notification
+  ADD COLUMN event_key VARCHAR(64);
+
+COMMENT ON COLUMN tb_notification.event_key IS '알림을 만든 아웃박스 이벤트 멱등 키, 직접 생성한 알림은 NULL';
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_tb_notification_event_key
+  ON tb_notification (event_key)
+  WHERE event_key IS NOT NULL;
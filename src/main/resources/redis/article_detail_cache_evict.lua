@@ -0,0 +1,10 @@
+-- Bump the eviction generation and drop the cached snapshot.
+-- KEYS[1] = article:detail:v1:<articleId> cached snapshot
+-- KEYS[2] = article:detail:generation:<articleId> eviction counter
+-- ARGV[1] = TTL seconds for KEYS[2]
+-- Returns the new generation.
+
+local generation = redis.call("INCR", KEYS[2])
+redis.call("EXPIRE", KEYS[2], tonumber(ARGV[1]))
+redis.call("DEL", KEYS[1])
+return generation
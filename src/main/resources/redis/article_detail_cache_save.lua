@@ -0,0 +1,15 @@
+-- Save a detail snapshot only when no eviction happened since the reader started loading.
+-- KEYS[1] = article:detail:v1:<articleId> cached snapshot
+-- KEYS[2] = article:detail:generation:<articleId> eviction counter (missing = 0)
+-- ARGV[1] = generation observed before loading
+-- ARGV[2] = serialized snapshot
+-- ARGV[3] = TTL millis for KEYS[1]
+-- Returns 1 when saved, 0 when the generation has moved.
+
+local generation = redis.call("GET", KEYS[2]) or "0"
+if generation ~= ARGV[1] then
+  return 0
+end
+
+redis.call("SET", KEYS[1], ARGV[2], "PX", tonumber(ARGV[3]))
+return 1
@@ -0,0 +1,26 @@
+-- Atomic sync_version INCR + in-flight registration.
+-- KEYS[1] = article:sync-version:<articleId> counter
+-- KEYS[2] = article:sync-version:inflight:<articleId> ZSET (score = version, member = version:startedAtMillis)
+-- KEYS[3] = article:sync-version:dirty SET of article ids to persist
+-- KEYS[4] = article:sync-version:epoch:<articleId> seed epoch the counter was seeded under
+-- KEYS[5] = article:sync-version:epoch current seed epoch (missing = "0")
+-- KEYS[6] = article:sync-version:watermark INCR'd on every issue; going backwards means Redis lost writes
+-- ARGV[1] = now (epoch millis)
+-- ARGV[2] = article id
+-- ARGV[3] = TTL seconds for KEYS[1], KEYS[2], KEYS[4]
+-- Returns {version, watermark}; version is -1 when the counter has not been seeded in the current epoch.
+
+local watermark = tonumber(redis.call("GET", KEYS[6]) or "0")
+local epoch = redis.call("GET", KEYS[5]) or "0"
+if redis.call("EXISTS", KEYS[1]) == 0 or (redis.call("GET", KEYS[4]) or "0") ~= epoch then
+  return {-1, watermark}
+end
+
+local version = redis.call("INCR", KEYS[1])
+redis.call("EXPIRE", KEYS[1], tonumber(ARGV[3]))
+redis.call("EXPIRE", KEYS[4], tonumber(ARGV[3]))
+redis.call("ZADD", KEYS[2], version, version .. ":" .. ARGV[1])
+redis.call("EXPIRE", KEYS[2], tonumber(ARGV[3]))
+redis.call("SADD", KEYS[3], ARGV[2])
+watermark = redis.call("INCR", KEYS[6])
+return {version, watermark}
@@ -0,0 +1,14 @@
+-- Starts a new seed epoch after Redis went backwards (failover to a lagging replica, restore from an old snapshot).
+-- KEYS[1] = article:sync-version:epoch current seed epoch
+-- KEYS[2] = article:sync-version:watermark
+-- ARGV[1] = highest watermark the caller has observed
+-- Every counter from an older epoch is then reseeded from the DB floor on its next use.
+-- The watermark is raised back to the observed value so other instances do not start another epoch for the same loss.
+-- Returns the current epoch.
+
+local observed = tonumber(ARGV[1])
+if tonumber(redis.call("GET", KEYS[2]) or "0") < observed then
+  redis.call("SET", KEYS[2], observed)
+  return redis.call("INCR", KEYS[1])
+end
+return tonumber(redis.call("GET", KEYS[1]) or "0")
@@ -0,0 +1,21 @@
+-- Seeds the counter for the current epoch. A counter left from an older epoch is raised, never lowered.
+-- KEYS[1] = article:sync-version:<articleId> counter
+-- KEYS[2] = article:sync-version:epoch:<articleId> seed epoch the counter was seeded under
+-- KEYS[3] = article:sync-version:epoch current seed epoch (missing = "0")
+-- ARGV[1] = seed version (DB floor + gap)
+-- ARGV[2] = TTL seconds for KEYS[1], KEYS[2]
+-- Returns the counter value after seeding.
+
+local epoch = redis.call("GET", KEYS[3]) or "0"
+local current = redis.call("GET", KEYS[1])
+if current and (redis.call("GET", KEYS[2]) or "0") == epoch then
+  return tonumber(current)
+end
+
+local value = tonumber(ARGV[1])
+if current and tonumber(current) > value then
+  value = tonumber(current)
+end
+redis.call("SET", KEYS[1], value, "EX", tonumber(ARGV[2]))
+redis.call("SET", KEYS[2], epoch, "EX", tonumber(ARGV[2]))
+return value
@@ -0,0 +1,29 @@
+-- Highest sync_version below every still-open writer.
+-- KEYS[1] = article:sync-version:<articleId> counter
+-- KEYS[2] = article:sync-version:inflight:<articleId> ZSET (score = version, member = version:startedAtMillis)
+-- KEYS[3] = article:sync-version:epoch:<articleId> seed epoch the counter was seeded under
+-- KEYS[4] = article:sync-version:epoch current seed epoch (missing = "0")
+-- KEYS[5] = article:sync-version:watermark
+-- ARGV[1] = cutoff (epoch millis); in-flight entries started before it are treated as abandoned and removed
+-- Returns {version, watermark}; version is -1 when the counter has not been seeded in the current epoch.
+
+local watermark = tonumber(redis.call("GET", KEYS[5]) or "0")
+local current = redis.call("GET", KEYS[1])
+local epoch = redis.call("GET", KEYS[4]) or "0"
+if not current or (redis.call("GET", KEYS[3]) or "0") ~= epoch then
+  return {-1, watermark}
+end
+
+local stable = tonumber(current)
+local entries = redis.call("ZRANGE", KEYS[2], 0, -1, "WITHSCORES")
+local cutoff = tonumber(ARGV[1])
+for i = 1, #entries, 2 do
+  local startedAt = tonumber(string.match(entries[i], ":(%d+)$"))
+  if startedAt ~= nil and startedAt < cutoff then
+    redis.call("ZREM", KEYS[2], entries[i])
+  else
+    stable = math.min(stable, tonumber(entries[i + 1]) - 1)
+    break
+  end
+end
+return {stable, watermark}
@@ -0,0 +1,14 @@
+-- Trending score increment for every bucket in one round trip.
+-- KEYS[1..n] = trend:article:<bucket>:<period> ZSET keys
+-- ARGV[1] = member (article id)
+-- ARGV[2] = score delta
+-- ARGV[3..n+2] = TTL seconds for KEYS[1..n]
+-- TTL is set only when the key has none yet (newly created bucket).
+
+for i = 1, #KEYS do
+  redis.call("ZINCRBY", KEYS[i], ARGV[2], ARGV[1])
+  if redis.call("TTL", KEYS[i]) < 0 then
+    redis.call("EXPIRE", KEYS[i], tonumber(ARGV[i + 2]))
+  end
+end
+return #KEYS
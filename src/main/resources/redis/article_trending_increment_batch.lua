@@ -0,0 +1,19 @@
+-- Accumulated trending score increments applied atomically in one script call.
+-- KEYS[1..n] = trend:article:<bucket>:<period> ZSET keys
+-- ARGV per key, in KEYS order: TTL seconds, member count m, then m pairs of (member, score delta)
+-- Every key gets its TTL refreshed. Either all increments are applied or none are.
+
+local cursor = 1
+local applied = 0
+for i = 1, #KEYS do
+  local ttl = tonumber(ARGV[cursor])
+  local count = tonumber(ARGV[cursor + 1])
+  cursor = cursor + 2
+  for j = 1, count do
+    redis.call("ZINCRBY", KEYS[i], ARGV[cursor + 1], ARGV[cursor])
+    cursor = cursor + 2
+    applied = applied + 1
+  end
+  redis.call("EXPIRE", KEYS[i], ttl)
+end
+return applied
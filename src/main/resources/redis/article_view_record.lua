@@ -0,0 +1,20 @@
+-- Atomic view dedupe + trending score increment.
+-- KEYS[1] = article:view:dedupe:v1:<articleId>:<viewerKey>
+-- KEYS[2..n] = trend:article:<bucket>:<period> ZSET keys
+-- ARGV[1] = dedupe TTL seconds
+-- ARGV[2] = member (article id)
+-- ARGV[3] = score delta
+-- ARGV[4..n+2] = TTL seconds for KEYS[2..n]
+-- Returns 1 when this is the first view (scores applied), 0 for a duplicate.
+
+if not redis.call("SET", KEYS[1], "1", "NX", "EX", tonumber(ARGV[1])) then
+  return 0
+end
+
+for i = 2, #KEYS do
+  redis.call("ZINCRBY", KEYS[i], ARGV[3], ARGV[2])
+  if redis.call("TTL", KEYS[i]) < 0 then
+    redis.call("EXPIRE", KEYS[i], tonumber(ARGV[i + 2]))
+  end
+end
+return 1
@@ -1,6 +1,10 @@
 package com.mocktalkback.domain.article.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.Test;
 
@@ -116,6 +120,55 @@ class ArticleContentServiceTest {
         assertThat(rendered.content()).contains("<p>안전</p>");
     }
 
+    // 같은 원본을 다시 렌더링하면 캐시된 결과를 반환하고 sanitize를 다시 하지 않아야 한다.
+    @Test
+    void render_reuses_cached_result_for_same_source() {
+        // Given: sanitize 호출을 추적하는 렌더 서비스
+        HtmlSanitizer sanitizer = spy(createSanitizer());
+        ArticleContentService articleContentService = new ArticleContentService(sanitizer);
+        String markdown = "# 제목";
+
+        // When: 같은 Markdown을 두 번 렌더링하면
+        ArticleContentService.RenderedContent first = articleContentService.render(markdown, ArticleContentFormat.MARKDOWN);
+        ArticleContentService.RenderedContent second = articleContentService.render(markdown, ArticleContentFormat.MARKDOWN);
+
+        // Then: 결과는 같고 sanitize는 한 번만 호출되어야 한다.
+        assertThat(second).isEqualTo(first);
+        assertThat(second.contentHash()).isEqualTo(articleContentService.contentHash(markdown, ArticleContentFormat.MARKDOWN));
+        verify(sanitizer, times(1)).sanitize(anyString());
+    }
+
+    // 본문 해시는 형식이 다르면 같은 원본이라도 달라야 한다.
+    @Test
+    void contentHash_depends_on_format() {
+        // Given: 렌더 서비스와 동일한 원본
+        ArticleContentService articleContentService = new ArticleContentService(createSanitizer());
+        String source = "<p>본문</p>";
+
+        // When: 형식별로 해시를 계산하면
+        String markdownHash = articleContentService.contentHash(source, ArticleContentFormat.MARKDOWN);
+        String htmlHash = articleContentService.contentHash(source, ArticleContentFormat.HTML);
+
+        // Then: 64자리 SHA-256 값이며 서로 달라야 한다.
+        assertThat(markdownHash).hasSize(64);
+        assertThat(markdownHash).isNotEqualTo(htmlHash);
+    }
+
+    // HTML은 sanitize된 저장값 기준 해시를 반환해 수정 시 그대로 다시 보낸 본문과 비교할 수 있어야 한다.
+    @Test
+    void render_html_returns_hash_of_sanitized_source() {
+        // Given: sanitize로 바뀌는 HTML 원본
+        ArticleContentService articleContentService = new ArticleContentService(createSanitizer());
+        String html = "<script>alert('x')</script><p>안전</p>";
+
+        // When: HTML 원본을 렌더링하면
+        ArticleContentService.RenderedContent rendered = articleContentService.render(html, ArticleContentFormat.HTML);
+
+        // Then: 해시는 저장되는 contentSource 기준이어야 한다.
+        assertThat(rendered.contentHash())
+            .isEqualTo(articleContentService.contentHash(rendered.contentSource(), ArticleContentFormat.HTML));
+    }
+
     private HtmlSanitizer createSanitizer() {
         HtmlSanitizerProperties properties = new HtmlSanitizerProperties();
         HtmlSanitizer sanitizer = new HtmlSanitizer(properties);
@@ -0,0 +1,196 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mocktalkback.domain.article.entity.ArticleEntity;
+import com.mocktalkback.domain.article.service.ArticleDetailCacheStore.DetailLookup;
+import com.mocktalkback.domain.role.type.ContentVisibility;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleDetailCacheServiceTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-03-12T09:00:00Z");
+
+    @Mock
+    private ArticleDetailCacheStore articleDetailCacheStore;
+
+    // 같은 버전으로 다시 조회하면 로컬 계층에서 반환하고 Redis/DB를 조회하지 않아야 한다.
+    @Test
+    void get_returns_local_snapshot_for_same_version() {
+        // Given: Redis miss 이후 한 번 적재된 캐시
+        ArticleDetailCacheService service = newService();
+        ArticleEntity article = createArticle(10L);
+        AtomicInteger loads = new AtomicInteger();
+        when(articleDetailCacheStore.find(10L, String.valueOf(UPDATED_AT.toEpochMilli()))).thenReturn(miss(0L));
+
+        // When: 같은 버전으로 두 번 조회하면
+        ArticleDetailSnapshot first = service.get(article, () -> snapshot(loads.incrementAndGet()));
+        ArticleDetailSnapshot second = service.get(article, () -> snapshot(loads.incrementAndGet()));
+
+        // Then: 로더는 한 번만 호출되고 두 번째는 로컬 값이어야 한다.
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        verify(articleDetailCacheStore, times(1)).find(eq(10L), any());
+        verify(articleDetailCacheStore).save(eq(10L), eq(String.valueOf(UPDATED_AT.toEpochMilli())), eq(0L), eq(first), any());
+    }
+
+    // 본문 수정으로 updated_at이 바뀌면 로컬 값을 버리고 다시 적재해야 한다.
+    @Test
+    void get_reloads_when_updated_at_changes() {
+        // Given: 수정 전 updated_at으로 적재된 캐시
+        ArticleDetailCacheService service = newService();
+        ArticleEntity article = createArticle(10L);
+        when(articleDetailCacheStore.find(eq(10L), any())).thenReturn(miss(0L));
+        service.get(article, () -> snapshot(1L));
+
+        // When: 본문 수정으로 updated_at이 바뀐 뒤 조회하면
+        Instant modifiedAt = UPDATED_AT.plusSeconds(60L);
+        ReflectionTestUtils.setField(article, "updatedAt", modifiedAt);
+        ArticleDetailSnapshot reloaded = service.get(article, () -> snapshot(2L));
+
+        // Then: 새 스냅샷을 반환해야 한다.
+        assertThat(reloaded.commentCount()).isEqualTo(2L);
+        verify(articleDetailCacheStore).find(10L, String.valueOf(modifiedAt.toEpochMilli()));
+    }
+
+    // 댓글 쓰기로 sync_version만 바뀌면 버전은 그대로이고, 갱신은 명시적 무효화에 맡겨야 한다.
+    @Test
+    void get_ignores_sync_version_for_cache_version() {
+        // Given: sync_version 3에서 적재된 캐시
+        ArticleDetailCacheService service = newService();
+        ArticleEntity article = createArticle(10L);
+        article.applySyncVersion(3L);
+        when(articleDetailCacheStore.find(eq(10L), any())).thenReturn(miss(0L));
+        ArticleDetailSnapshot first = service.get(article, () -> snapshot(1L));
+
+        // When: 엔티티의 sync_version만 4로 바뀐 뒤 조회하면
+        article.applySyncVersion(4L);
+        ArticleDetailSnapshot second = service.get(article, () -> snapshot(2L));
+
+        // Then: 로컬 값을 그대로 반환해야 한다.
+        assertThat(second).isSameAs(first);
+        verify(articleDetailCacheStore, times(1)).find(eq(10L), any());
+    }
+
+    // Redis에 같은 버전이 있으면 DB 로더를 호출하지 않아야 한다.
+    @Test
+    void get_uses_redis_snapshot_before_loader() {
+        // Given: Redis에 저장된 스냅샷
+        ArticleDetailCacheService service = newService();
+        ArticleEntity article = createArticle(10L);
+        ArticleDetailSnapshot cached = snapshot(7L);
+        when(articleDetailCacheStore.find(10L, String.valueOf(UPDATED_AT.toEpochMilli()))).thenReturn(new DetailLookup(cached, 0L));
+
+        // When: 조회하면
+        ArticleDetailSnapshot result = service.get(article, () -> {
+            throw new IllegalStateException("DB를 조회하면 안 됩니다.");
+        });
+
+        // Then: Redis 스냅샷을 반환하고 다시 저장하지 않아야 한다.
+        assertThat(result).isSameAs(cached);
+        verify(articleDetailCacheStore, never()).save(any(), any(), anyLong(), any(), any());
+    }
+
+    // 트랜잭션 밖에서 무효화하면 로컬/Redis 계층을 즉시 비워야 한다.
+    @Test
+    void evict_clears_local_and_redis_outside_transaction() {
+        // Given: 로컬에 적재된 캐시
+        ArticleDetailCacheService service = newService();
+        ArticleEntity article = createArticle(10L);
+        when(articleDetailCacheStore.find(eq(10L), any())).thenReturn(miss(0L));
+        service.get(article, () -> snapshot(1L));
+
+        // When: 무효화 후 다시 조회하면
+        service.evict(10L);
+        ArticleDetailSnapshot reloaded = service.get(article, () -> snapshot(2L));
+
+        // Then: Redis 키를 지우고 새로 적재해야 한다.
+        verify(articleDetailCacheStore).evict(10L);
+        assertThat(reloaded.commentCount()).isEqualTo(2L);
+    }
+
+    // 읽는 동안 무효화되면 읽은 스냅샷을 로컬에 넣지 않고, Redis 저장은 읽기 시작 시점의 generation으로 시도해야 한다.
+    @Test
+    void get_does_not_cache_snapshot_loaded_across_eviction() {
+        // Given: 로더가 도는 동안 반응 커밋으로 무효화되는 상황
+        ArticleDetailCacheService service = newService();
+        ArticleEntity article = createArticle(10L);
+        when(articleDetailCacheStore.find(eq(10L), any())).thenReturn(miss(0L), miss(1L));
+        ArticleDetailSnapshot stale = snapshot(1L);
+
+        // When: 무효화를 사이에 둔 조회 뒤 다시 조회하면
+        service.get(article, () -> {
+            service.evict(10L);
+            return stale;
+        });
+        ArticleDetailSnapshot reloaded = service.get(article, () -> snapshot(2L));
+
+        // Then: 옛 스냅샷은 generation 0으로만 저장을 시도하고, 다음 조회는 다시 적재해야 한다.
+        verify(articleDetailCacheStore).save(eq(10L), any(), eq(0L), eq(stale), any());
+        verify(articleDetailCacheStore).save(eq(10L), any(), eq(1L), eq(reloaded), any());
+        assertThat(reloaded.commentCount()).isEqualTo(2L);
+    }
+
+    private DetailLookup miss(long generation) {
+        return new DetailLookup(null, generation);
+    }
+
+    private ArticleDetailCacheService newService() {
+        return new ArticleDetailCacheService(
+            articleDetailCacheStore,
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+    }
+
+    private ArticleEntity createArticle(Long id) {
+        ArticleEntity article = ArticleEntity.builder()
+            .visibility(ContentVisibility.PUBLIC)
+            .title("title")
+            .content("content")
+            .contentSource("content")
+            .notice(false)
+            .hit(0L)
+            .build();
+        ReflectionTestUtils.setField(article, "id", id);
+        ReflectionTestUtils.setField(article, "updatedAt", UPDATED_AT);
+        return article;
+    }
+
+    private ArticleDetailSnapshot snapshot(long commentCount) {
+        return new ArticleDetailSnapshot(
+            10L,
+            null,
+            2L,
+            "display",
+            ContentVisibility.PUBLIC,
+            "title",
+            "content",
+            commentCount,
+            0L,
+            0L,
+            false,
+            UPDATED_AT,
+            UPDATED_AT,
+            List.of()
+        );
+    }
+}
@@ -0,0 +1,173 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleHitServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private ArticleHitBuffer articleHitBuffer;
+    private ArticleHitService articleHitService;
+    private Map<Long, Long> persistedHits;
+
+    @BeforeEach
+    void setUp() {
+        articleHitBuffer = new ArticleHitBuffer();
+        articleHitService = new ArticleHitService(jdbcTemplate, articleHitBuffer);
+        persistedHits = new ConcurrentHashMap<>();
+    }
+
+    // 누적된 조회수는 한 번의 VALUES 일괄 UPDATE로 반영되어야 한다.
+    @Test
+    void flush_persists_pending_hits_in_single_batched_update() {
+        // Given: 여러 게시글의 미반영 조회수
+        stubPersistence(call -> false);
+        articleHitService.increase(10L);
+        articleHitService.increase(10L);
+        articleHitService.increase(20L);
+
+        // When: flush하면
+        articleHitService.flush();
+
+        // Then: 한 번의 UPDATE로 모든 증가분이 반영되고 버퍼는 비어야 한다.
+        verify(jdbcTemplate, times(1)).update(contains("from (values"), any(SqlParameterSource.class));
+        assertThat(persistedHits).containsEntry(10L, 2L).containsEntry(20L, 1L);
+        assertThat(articleHitService.resolveHit(10L, 2L)).isEqualTo(2L);
+    }
+
+    // 상세 조회 hit은 저장된 값에 미반영 증가분을 더해야 한다.
+    @Test
+    void resolveHit_adds_pending_delta_to_persisted_hit() {
+        // Given: flush 전 증가분
+        articleHitService.increase(10L);
+        articleHitService.increase(10L);
+
+        // When: 조회수를 계산하면
+        long hit = articleHitService.resolveHit(10L, 7L);
+
+        // Then: 미반영 증가분이 포함되어야 한다.
+        assertThat(hit).isEqualTo(9L);
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    // DB 반영이 실패하면 증가분을 버퍼로 되돌려 다음 주기에 다시 반영해야 한다.
+    @Test
+    void flush_restores_pending_hits_when_update_fails() {
+        // Given: 첫 번째 UPDATE만 실패하는 저장소
+        stubPersistence(call -> call == 1);
+        articleHitService.increase(10L);
+
+        // When: 두 번 flush하면
+        articleHitService.flush();
+        long pendingAfterFailure = articleHitService.resolveHit(10L, 0L);
+        articleHitService.flush();
+
+        // Then: 실패한 증가분이 유실되지 않아야 한다.
+        assertThat(pendingAfterFailure).isEqualTo(1L);
+        assertThat(persistedHits).containsEntry(10L, 1L);
+        assertThat(articleHitService.resolveHit(10L, 1L)).isEqualTo(1L);
+    }
+
+    // 동시 조회와 주기 flush, 종료 flush가 겹쳐도 증가분이 유실되지 않아야 한다.
+    @Test
+    void concurrent_increase_and_flush_never_loses_hits() throws Exception {
+        // Given: 간헐적으로 실패하는 저장소와 동시 조회 스레드
+        stubPersistence(call -> call % 7 == 0);
+        int writerThreads = 8;
+        int incrementsPerThread = 20_000;
+        List<Long> articleIds = List.of(1L, 2L, 3L, 4L, 5L);
+        ExecutorService executor = Executors.newFixedThreadPool(writerThreads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    articleHitService.flushPending();
+                }
+                return null;
+            });
+
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < writerThreads; t++) {
+                int offset = t;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        articleHitService.increase(articleIds.get((i + offset) % articleIds.size()));
+                    }
+                    return null;
+                }));
+            }
+
+            // When: 조회가 모두 끝난 뒤 종료 flush까지 수행하면
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+            articleHitService.flushOnShutdown();
+            articleHitService.flushOnShutdown();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then: 저장된 조회수 합계가 전체 증가 횟수와 같아야 한다.
+        long expectedPerArticle = (long) writerThreads * incrementsPerThread / articleIds.size();
+        for (Long articleId : articleIds) {
+            assertThat(persistedHits.get(articleId)).isEqualTo(expectedPerArticle);
+            assertThat(articleHitBuffer.pendingDelta(articleId)).isZero();
+        }
+    }
+
+    // shouldFail이 참인 호출은 실패하고, 나머지는 VALUES 파라미터를 저장소 맵에 누적한다.
+    private void stubPersistence(IntPredicate shouldFail) {
+        AtomicInteger calls = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenAnswer(invocation -> {
+            if (shouldFail.test(calls.incrementAndGet())) {
+                throw new IllegalStateException("db down");
+            }
+            SqlParameterSource params = invocation.getArgument(1);
+            int rows = 0;
+            while (params.hasValue("articleId" + rows)) {
+                Long articleId = (Long) params.getValue("articleId" + rows);
+                Long delta = (Long) params.getValue("delta" + rows);
+                persistedHits.merge(articleId, delta, Long::sum);
+                rows++;
+            }
+            return rows;
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ArticlePreviewTextExtractorTest {
+
+    private final ArticlePreviewTextExtractor extractor = new ArticlePreviewTextExtractor();
+
+    // 미리보기는 코드 블록을 제외하고 태그/엔티티를 정리한 평문이어야 한다.
+    @Test
+    void extract_strips_code_blocks_tags_and_entities() {
+        // Given: 코드 블록과 엔티티가 섞인 HTML 본문
+        String html = "<p>첫 줄&nbsp;<strong>강조</strong></p><pre><code>int a = 1;</code></pre><p>A &amp; B</p>";
+
+        // When: 미리보기를 추출하면
+        String preview = extractor.extract(html);
+
+        // Then: 코드 블록 없이 공백이 정리된 평문을 반환해야 한다.
+        assertThat(preview).isEqualTo("첫 줄 강조 A & B");
+    }
+
+    // 최대 길이를 넘는 본문은 말줄임표를 포함해 최대 길이로 잘라야 한다.
+    @Test
+    void extract_truncates_long_text_with_ellipsis() {
+        // Given: 최대 길이를 넘는 본문
+        String html = "<p>" + "가".repeat(ArticlePreviewTextExtractor.MAX_PREVIEW_LENGTH + 10) + "</p>";
+
+        // When: 미리보기를 추출하면
+        String preview = extractor.extract(html);
+
+        // Then: 최대 길이에 맞춰 말줄임표로 끝나야 한다.
+        assertThat(preview).hasSize(ArticlePreviewTextExtractor.MAX_PREVIEW_LENGTH);
+        assertThat(preview).endsWith("…");
+    }
+
+    // 숫자 엔티티를 풀고, 풀린 꺾쇠는 태그로 다시 해석하지 않아야 한다.
+    @Test
+    void extract_decodes_numeric_entities_without_reparsing_tags() {
+        // Given: 숫자/이름 엔티티와 이스케이프된 태그가 섞인 HTML 본문
+        String html = "<p>&#44032;&#xAC00; &lt;b&gt;굵게&lt;/b&gt; &unknown; 5 &lt 6</p>";
+
+        // When: 미리보기를 추출하면
+        String preview = extractor.extract(html);
+
+        // Then: 엔티티만 글자로 바뀌고 알 수 없는 참조는 그대로 남아야 한다.
+        assertThat(preview).isEqualTo("가가 <b>굵게</b> &unknown; 5 &lt 6");
+    }
+
+    // 닫히지 않은 코드 태그는 태그만 지우고 본문은 남겨야 한다.
+    @Test
+    void extract_keeps_text_after_unclosed_code_tag() {
+        // Given: 닫는 태그가 없는 code 태그와 대문자 PRE 블록
+        String html = "<PRE class=\"x\">숨김</PRE><code>보임\n\t  끝";
+
+        // When: 미리보기를 추출하면
+        String preview = extractor.extract(html);
+
+        // Then: 닫힌 블록만 제외되고 공백은 하나로 합쳐져야 한다.
+        assertThat(preview).isEqualTo("보임 끝");
+    }
+
+    // 잘린 위치 바로 앞의 공백은 말줄임표 앞에 남기지 않아야 한다.
+    @Test
+    void extract_trims_space_before_ellipsis() {
+        // Given: 잘리는 위치 직전에 공백이 오는 본문
+        String html = "<p>" + "a".repeat(ArticlePreviewTextExtractor.MAX_PREVIEW_LENGTH - 2) + "&nbsp;<b>bbbb</b></p>";
+
+        // When: 미리보기를 추출하면
+        String preview = extractor.extract(html);
+
+        // Then: 공백 없이 말줄임표가 붙어야 한다.
+        assertThat(preview).isEqualTo("a".repeat(ArticlePreviewTextExtractor.MAX_PREVIEW_LENGTH - 2) + "…");
+    }
+}
@@ -0,0 +1,161 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
+import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
+import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.domain.article.service.ArticleRecommendationCandidatePool.Snapshot;
+import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
+import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
+import com.mocktalkback.domain.role.type.ContentVisibility;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleRecommendationCandidatePoolTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-14T00:00:00Z");
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleTrendingSnapshotService articleTrendingSnapshotService;
+
+    @Mock
+    private ArticleStatsService articleStatsService;
+
+    // 후보 풀은 공지사항/문의 게시판을 제외한 최근 글에 풀 밖의 트렌딩 글을 더해 한 번에 적재해야 한다.
+    @Test
+    void current_loads_recent_and_trending_candidates_once() {
+        // Given: 최근 글 1건과 최근 목록 밖의 트렌딩 글 1건
+        ArticleRecommendationCandidatePool pool = newPool();
+        Set<String> excludedSlugs = Set.of("notice", "inquiry");
+        when(articleRepository.findRecentPublicRows(excludedSlugs, 0L, 300))
+            .thenReturn(List.of(summaryRow(2L, Instant.parse("2026-03-13T00:00:00Z"))));
+        when(articleTrendingSnapshotService.find(ArticleTrendingWindow.DAY, 50)).thenReturn(List.of(
+            trendingItem(1L, 18.0d)
+        ));
+        when(articleRepository.findPublicRowsByIds(List.of(1L), excludedSlugs))
+            .thenReturn(List.of(summaryRow(1L, Instant.parse("2026-03-01T00:00:00Z"))));
+        when(articleStatsService.loadStats(List.of(2L, 1L)))
+            .thenReturn(Map.of(1L, new ArticleStatsService.ArticleStats(3L, 5L, 0L, 0L)));
+
+        // When: 후보 풀을 두 번 조회하면
+        Snapshot first = pool.current();
+        Snapshot second = pool.current();
+
+        // Then: 한 번만 적재하고 최신순 정렬과 트렌딩 순서/집계가 함께 보존되어야 한다.
+        assertThat(second).isSameAs(first);
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(first.articleId(0)).isEqualTo(2L);
+        assertThat(first.trendingOrder()).containsExactly(first.indexOf(1L));
+        assertThat(first.trendScore(first.indexOf(1L))).isEqualTo(18.0d);
+        assertThat(first.toResponse(first.indexOf(1L), 1.0d, "사유", false).likeCount()).isEqualTo(5L);
+        verify(articleRepository, times(1)).findRecentPublicRows(excludedSlugs, 0L, 300);
+    }
+
+    // 게시글 작성/삭제로 오래된 것으로 표시되면 다음 점검에서 주기와 상관없이 다시 적재해야 한다.
+    @Test
+    void refreshIfStale_rebuilds_after_markStale() {
+        // Given: 이미 적재된 후보 풀
+        ArticleRecommendationCandidatePool pool = newPool();
+        when(articleRepository.findRecentPublicRows(Set.of("notice", "inquiry"), 0L, 300)).thenReturn(List.of());
+        when(articleTrendingSnapshotService.find(ArticleTrendingWindow.DAY, 50)).thenReturn(List.of());
+        when(articleStatsService.loadStats(anyList())).thenReturn(Map.of());
+        pool.current();
+
+        // When: 갱신 주기 전에 점검하고, 오래된 것으로 표시한 뒤 다시 점검하면
+        pool.refreshIfStale();
+        pool.markStale();
+        pool.refreshIfStale();
+
+        // Then: 표시 이후 점검에서만 한 번 더 적재해야 한다.
+        verify(articleRepository, times(2)).findRecentPublicRows(Set.of("notice", "inquiry"), 0L, 300);
+    }
+
+    // 재적재가 실패하면 이전 후보를 계속 제공해야 한다.
+    @Test
+    void refreshIfStale_keeps_previous_snapshot_on_failure() {
+        // Given: 적재된 후보 풀과 이후 실패하는 조회
+        ArticleRecommendationCandidatePool pool = newPool();
+        when(articleRepository.findRecentPublicRows(Set.of("notice", "inquiry"), 0L, 300))
+            .thenReturn(List.of(summaryRow(2L, Instant.parse("2026-03-13T00:00:00Z"))))
+            .thenThrow(new IllegalStateException("db down"));
+        when(articleTrendingSnapshotService.find(ArticleTrendingWindow.DAY, 50)).thenReturn(List.of());
+        when(articleStatsService.loadStats(List.of(2L))).thenReturn(Map.of());
+        Snapshot previous = pool.current();
+
+        // When: 오래된 것으로 표시한 뒤 점검하면
+        pool.markStale();
+        pool.refreshIfStale();
+
+        // Then: 이전 후보를 그대로 반환해야 한다.
+        assertThat(pool.current()).isSameAs(previous);
+    }
+
+    private ArticleRecommendationCandidatePool newPool() {
+        return new ArticleRecommendationCandidatePool(
+            articleRepository,
+            articleTrendingSnapshotService,
+            articleStatsService,
+            new PublicArticleFeedPolicy(),
+            new AuthorDisplayResolver(),
+            Clock.fixed(NOW, ZoneId.of("UTC"))
+        );
+    }
+
+    private ArticleTrendingItemResponse trendingItem(Long articleId, double trendScore) {
+        return new ArticleTrendingItemResponse(
+            articleId,
+            1L,
+            "free",
+            2L,
+            "author",
+            "인기 글",
+            10L,
+            0L,
+            0L,
+            0L,
+            trendScore,
+            Instant.parse("2026-03-01T00:00:00Z")
+        );
+    }
+
+    private ArticleSummaryRow summaryRow(Long articleId, Instant createdAt) {
+        return new ArticleSummaryRow(
+            articleId,
+            1L,
+            "free",
+            "자유게시판",
+            2L,
+            "author",
+            "author",
+            null,
+            null,
+            ContentVisibility.PUBLIC,
+            "추천 후보",
+            "",
+            10L,
+            false,
+            createdAt,
+            createdAt
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mocktalkback.domain.article.service.ArticleRecommendationFeedStore.Feed;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleRecommendationFeedRefresherTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-14T00:00:00Z");
+
+    @Mock
+    private ArticleRecommendationService articleRecommendationService;
+
+    @Mock
+    private ArticleRecommendationFeedStore articleRecommendationFeedStore;
+
+    // 재계산이 요청된 사용자는 한 배치로 피드를 다시 만들어 저장해야 한다.
+    @Test
+    void rescoreDirtyUsers_rebuilds_popped_users() {
+        // Given: 재계산 대상 2명
+        ArticleRecommendationFeedRefresher refresher = newRefresher();
+        Map<Long, Feed> feeds = Map.of(9L, new Feed(0L, List.of()), 10L, new Feed(0L, List.of()));
+        when(articleRecommendationFeedStore.popDirtyUsers(50)).thenReturn(List.of(9L, 10L));
+        when(articleRecommendationService.buildFeeds(List.of(9L, 10L))).thenReturn(feeds);
+
+        // When: 재계산 작업이 돌면
+        refresher.rescoreDirtyUsers();
+
+        // Then: 계산한 피드를 TTL과 함께 저장해야 한다.
+        verify(articleRecommendationFeedStore).saveAll(feeds, Duration.ofSeconds(1800));
+    }
+
+    // 활성 사용자 갱신은 최근 활동 창 안의 사용자를 배치 크기로 나눠 다시 만들어야 한다.
+    @Test
+    void refreshActiveUsers_rebuilds_in_batches() {
+        // Given: 배치 크기 2와 활성 사용자 3명
+        ArticleRecommendationFeedRefresher refresher = newRefresher();
+        ReflectionTestUtils.setField(refresher, "batchSize", 2);
+        long sinceMillis = NOW.minus(Duration.ofDays(1)).toEpochMilli();
+        when(articleRecommendationFeedStore.findActiveUsers(sinceMillis, 500)).thenReturn(List.of(1L, 2L, 3L));
+        when(articleRecommendationService.buildFeeds(any())).thenReturn(Map.of());
+
+        // When: 활성 사용자 갱신이 돌면
+        refresher.refreshActiveUsers();
+
+        // Then: 두 배치로 나눠 계산해야 한다.
+        verify(articleRecommendationService).buildFeeds(List.of(1L, 2L));
+        verify(articleRecommendationService).buildFeeds(List.of(3L));
+    }
+
+    // 비활성화되어 있으면 Redis를 조회하지 않아야 한다.
+    @Test
+    void rescoreDirtyUsers_skips_when_disabled() {
+        // Given: 비활성화된 갱신 작업
+        ArticleRecommendationFeedRefresher refresher = newRefresher();
+        ReflectionTestUtils.setField(refresher, "enabled", false);
+
+        // When: 재계산 작업이 돌면
+        refresher.rescoreDirtyUsers();
+
+        // Then: 재계산 대상 조회를 하지 않아야 한다.
+        verify(articleRecommendationFeedStore, never()).popDirtyUsers(50);
+    }
+
+    private ArticleRecommendationFeedRefresher newRefresher() {
+        return new ArticleRecommendationFeedRefresher(
+            articleRecommendationService,
+            articleRecommendationFeedStore,
+            Clock.fixed(NOW, ZoneId.of("UTC"))
+        );
+    }
+}
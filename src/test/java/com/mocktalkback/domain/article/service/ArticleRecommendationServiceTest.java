@@ -1,34 +1,42 @@
 package com.mocktalkback.domain.article.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.SliceImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.mocktalkback.domain.article.dto.ArticleRecommendedItemResponse;
-import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
-import com.mocktalkback.domain.article.entity.ArticleBookmarkEntity;
 import com.mocktalkback.domain.article.entity.ArticleCategoryEntity;
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
-import com.mocktalkback.domain.article.repository.ArticleBookmarkRepository;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.domain.article.service.ArticleRecommendationCandidatePool.Snapshot;
+import com.mocktalkback.domain.article.service.ArticleRecommendationFeedStore.Entry;
+import com.mocktalkback.domain.article.service.ArticleRecommendationFeedStore.Feed;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.board.type.BoardVisibility;
-import com.mocktalkback.domain.comment.repository.CommentRepository;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
 import com.mocktalkback.domain.role.entity.RoleEntity;
 import com.mocktalkback.domain.role.type.ContentVisibility;
@@ -38,51 +46,48 @@ import com.mocktalkback.global.auth.CurrentUserService;
 @ExtendWith(MockitoExtension.class)
 class ArticleRecommendationServiceTest {
 
+    private static final Instant NOW = Instant.parse("2026-03-14T00:00:00Z");
+
     @Mock
     private ArticleRepository articleRepository;
 
     @Mock
-    private ArticleBookmarkRepository articleBookmarkRepository;
+    private ArticleRecommendationCandidatePool articleRecommendationCandidatePool;
 
     @Mock
-    private ArticleReactionRepository articleReactionRepository;
+    private ArticleStatsService articleStatsService;
 
     @Mock
-    private CommentRepository commentRepository;
+    private CurrentUserService currentUserService;
 
     @Mock
-    private ArticleTrendingService articleTrendingService;
+    private ArticleRecommendationFeedStore articleRecommendationFeedStore;
 
     @Mock
-    private CurrentUserService currentUserService;
+    private UserAffinityService userAffinityService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     // 로그인 사용자는 북마크 기반 개인화 추천을 받아야 한다.
     @Test
     void findRecommendedPublic_returns_personalized_items_for_authenticated_user() {
         // Given: 북마크한 게시판과 같은 공개 글 후보가 있다.
         ArticleRecommendationService service = createService();
-        BoardEntity freeBoard = createBoard(1L, "자유게시판", "free");
-        ArticleCategoryEntity javaCategory = createCategory(11L, freeBoard, "java");
-        UserEntity currentUser = createUser(9L, "current-user");
-        UserEntity author = createUser(2L, "author");
-        ArticleEntity bookmarkedArticle = createArticle(100L, freeBoard, author, javaCategory, "북마크 글", Instant.parse("2026-03-11T00:00:00Z"));
-        ArticleEntity candidateArticle = createArticle(101L, freeBoard, author, javaCategory, "추천 후보", Instant.parse("2026-03-13T00:00:00Z"));
-        ArticleEntity otherArticle = createArticle(102L, createBoard(2L, "취미게시판", "hobby"), author, null, "무관한 글", Instant.parse("2026-03-13T00:00:00Z"));
-        ArticleBookmarkEntity bookmark = createBookmark(1L, currentUser, bookmarkedArticle);
+        UserAffinityProfile profile = UserAffinityProfile.empty(NOW.toEpochMilli())
+            .plus(UserAffinitySignal.BOOKMARK, 1L, 11L, 1.0d)
+            .withBookmark(100L);
 
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(9L));
-        when(articleRepository.findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
-            BoardVisibility.PUBLIC,
-            new PublicArticleFeedPolicy().excludedBoardSlugs(),
-            ContentVisibility.PUBLIC,
-            PageRequest.of(0, 60)
-        )).thenReturn(new SliceImpl<>(List.of(candidateArticle, otherArticle), PageRequest.of(0, 60), false));
-        when(articleTrendingService.findTrendingPublic(com.mocktalkback.domain.article.type.ArticleTrendingWindow.DAY, 3)).thenReturn(List.of());
-        when(articleBookmarkRepository.findTop20ByUserIdOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of(bookmark));
-        when(articleReactionRepository.findTop20ByUserIdOrderByUpdatedAtDescIdDesc(9L)).thenReturn(List.of());
-        when(commentRepository.findTop20ByUserIdAndDeletedAtIsNullOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of());
-        when(commentRepository.countByArticleIds(List.of(101L, 102L))).thenReturn(List.of());
-        when(articleReactionRepository.countByArticleIds(List.of(101L, 102L))).thenReturn(List.of());
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(
+            List.of(
+                summaryRow(101L, 1L, "free", 11L, Instant.parse("2026-03-13T00:00:00Z")),
+                summaryRow(102L, 2L, "hobby", null, Instant.parse("2026-03-13T00:00:00Z"))
+            ),
+            List.of(),
+            Map.of()
+        ));
+        when(userAffinityService.findProfile(9L)).thenReturn(Optional.of(profile));
 
         // When: 추천 글을 조회하면
         List<ArticleRecommendedItemResponse> items = service.findRecommendedPublic(1);
@@ -99,81 +104,254 @@ class ArticleRecommendationServiceTest {
     void findRecommendedPublic_returns_fallback_items_for_anonymous_user() {
         // Given: 비로그인 상태와 트렌딩 글 1건이 있다.
         ArticleRecommendationService service = createService();
-        BoardEntity freeBoard = createBoard(1L, "자유게시판", "free");
-        UserEntity author = createUser(2L, "author");
-        ArticleEntity candidateArticle = createArticle(201L, freeBoard, author, null, "인기 글", Instant.parse("2026-03-13T00:00:00Z"));
-
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
-        when(articleRepository.findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
-            BoardVisibility.PUBLIC,
-            new PublicArticleFeedPolicy().excludedBoardSlugs(),
-            ContentVisibility.PUBLIC,
-            PageRequest.of(0, 60)
-        )).thenReturn(new SliceImpl<>(List.of(candidateArticle), PageRequest.of(0, 60), false));
-        when(articleTrendingService.findTrendingPublic(com.mocktalkback.domain.article.type.ArticleTrendingWindow.DAY, 3)).thenReturn(List.of(
-            new ArticleTrendingItemResponse(201L, 1L, "free", 2L, "author", "인기 글", 10L, 0L, 0L, 0L, 18.0d, Instant.parse("2026-03-13T00:00:00Z"))
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(
+            List.of(
+                summaryRow(202L, 1L, "free", null, Instant.parse("2026-03-13T12:00:00Z")),
+                summaryRow(201L, 1L, "free", null, Instant.parse("2026-03-13T00:00:00Z"))
+            ),
+            List.of(201L),
+            Map.of(201L, new ArticleStatsService.ArticleStats(2L, 4L, 1L, 0L))
         ));
-        when(commentRepository.countByArticleIds(List.of(201L))).thenReturn(List.of());
-        when(articleReactionRepository.countByArticleIds(List.of(201L))).thenReturn(List.of());
 
         // When: 추천 글을 조회하면
         List<ArticleRecommendedItemResponse> items = service.findRecommendedPublic(1);
 
-        // Then: 트렌딩 기반 fallback 결과가 반환되어야 한다.
+        // Then: 최신 글보다 트렌딩 글이 먼저 fallback 결과로 반환되어야 한다.
         assertThat(items).hasSize(1);
         assertThat(items.get(0).articleId()).isEqualTo(201L);
         assertThat(items.get(0).personalized()).isFalse();
         assertThat(items.get(0).recommendationReason()).isEqualTo("최근 반응이 뜨거운 글 기반");
+        assertThat(items.get(0).commentCount()).isEqualTo(2L);
+        assertThat(items.get(0).likeCount()).isEqualTo(4L);
     }
 
-    // 추천 결과는 공지사항/문의 게시판 글을 제외해야 한다.
+    // 비로그인 추천은 공유 후보 풀만으로 계산해 요청 중 DB를 조회하지 않아야 한다.
     @Test
-    void findRecommendedPublic_excludes_notice_and_inquiry_boards() {
-        // Given: 공지사항 글과 일반 게시판 글이 후보에 섞여 있다.
+    void findRecommendedPublic_uses_shared_pool_without_queries_for_anonymous_user() {
+        // Given: 비로그인 상태와 후보 풀
         ArticleRecommendationService service = createService();
-        BoardEntity freeBoard = createBoard(1L, "자유게시판", "free");
-        BoardEntity noticeBoard = createBoard(2L, "공지사항", "notice");
-        ArticleCategoryEntity javaCategory = createCategory(11L, freeBoard, "java");
-        UserEntity currentUser = createUser(9L, "current-user");
-        UserEntity author = createUser(2L, "author");
-        ArticleEntity bookmarkedArticle = createArticle(300L, freeBoard, author, javaCategory, "북마크 글", Instant.parse("2026-03-11T00:00:00Z"));
-        ArticleEntity freeCandidate = createArticle(301L, freeBoard, author, javaCategory, "자유 글", Instant.parse("2026-03-13T00:00:00Z"));
-        ArticleEntity noticeCandidate = createArticle(302L, noticeBoard, author, null, "공지 글", Instant.parse("2026-03-13T00:00:00Z"));
-        ArticleBookmarkEntity bookmark = createBookmark(1L, currentUser, bookmarkedArticle);
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(
+            List.of(summaryRow(301L, 1L, "free", null, Instant.parse("2026-03-13T00:00:00Z"))),
+            List.of(),
+            Map.of()
+        ));
+
+        // When: 추천 글을 조회하면
+        List<ArticleRecommendedItemResponse> items = service.findRecommendedPublic(9);
 
+        // Then: 최신 후보로 채우고 게시글/집계 조회는 하지 않아야 한다.
+        assertThat(items).extracting(ArticleRecommendedItemResponse::articleId).containsExactly(301L);
+        verifyNoInteractions(articleRepository, articleStatsService, userAffinityService);
+    }
+
+    // 로그인 사용자에게 본인이 쓴 글은 추천하지 않아야 한다.
+    @Test
+    void findRecommendedPublic_excludes_own_articles() {
+        // Given: 본인 글과 다른 사용자 글이 후보에 섞여 있다.
+        ArticleRecommendationService service = createService();
+        ReflectionTestUtils.setField(service, "feedEnabled", false);
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(2L));
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(
+            List.of(
+                summaryRow(401L, 1L, "free", null, Instant.parse("2026-03-13T12:00:00Z")),
+                summaryRow(402L, 3L, 1L, "free", null, Instant.parse("2026-03-13T00:00:00Z"))
+            ),
+            List.of(401L),
+            Map.of()
+        ));
+        when(userAffinityService.findProfile(2L)).thenReturn(Optional.of(UserAffinityProfile.empty(NOW.toEpochMilli())));
+
+        // When: 추천 글을 조회하면
+        List<ArticleRecommendedItemResponse> items = service.findRecommendedPublic(9);
+
+        // Then: 다른 사용자의 글만 남아야 한다.
+        assertThat(items).extracting(ArticleRecommendedItemResponse::articleId).containsExactly(402L);
+        assertThat(items.get(0).recommendationReason()).isEqualTo("활동 이력이 적어 인기글 기반으로 추천");
+    }
+
+    // 미리 계산한 피드가 있으면 후보 풀로 채우고, 풀에 없는 글만 공개 글 조회로 채워 피드 순서대로 반환해야 한다.
+    @Test
+    void findRecommendedPublic_serves_materialized_feed_without_live_computation() {
+        // Given: 풀에 있는 글(101), 풀 밖의 공개 글(102), 삭제된 글(999)이 섞인 사용자 피드
+        ArticleRecommendationService service = createService();
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(9L));
-        when(articleRepository.findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
-            BoardVisibility.PUBLIC,
-            new PublicArticleFeedPolicy().excludedBoardSlugs(),
-            ContentVisibility.PUBLIC,
-            PageRequest.of(0, 60)
-        )).thenReturn(new SliceImpl<>(List.of(freeCandidate, noticeCandidate), PageRequest.of(0, 60), false));
-        when(articleTrendingService.findTrendingPublic(com.mocktalkback.domain.article.type.ArticleTrendingWindow.DAY, 3)).thenReturn(List.of());
-        when(articleBookmarkRepository.findTop20ByUserIdOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of(bookmark));
-        when(articleReactionRepository.findTop20ByUserIdOrderByUpdatedAtDescIdDesc(9L)).thenReturn(List.of());
-        when(commentRepository.findTop20ByUserIdAndDeletedAtIsNullOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of());
-        when(commentRepository.countByArticleIds(List.of(301L, 302L))).thenReturn(List.of());
-        when(articleReactionRepository.countByArticleIds(List.of(301L, 302L))).thenReturn(List.of());
+        when(articleRecommendationFeedStore.findAndTouch(9L, Instant.parse("2026-03-14T00:00:00Z").toEpochMilli()))
+            .thenReturn(Optional.of(new Feed(0L, List.of(
+                new Entry(999L, 9.0d, "북마크한 글과 비슷한 게시판 기반", true),
+                new Entry(101L, 8.0d, "북마크한 글과 비슷한 게시판 기반", true),
+                new Entry(102L, 7.0d, "최근 반응이 뜨거운 글 기반", false)
+            ))));
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(
+            List.of(summaryRow(101L, 1L, "free", null, Instant.parse("2026-03-13T00:00:00Z"))),
+            List.of(),
+            Map.of(101L, new ArticleStatsService.ArticleStats(2L, 4L, 1L, 0L))
+        ));
+        when(articleRepository.findPublicRowsByIds(List.of(999L, 102L), new PublicArticleFeedPolicy().excludedBoardSlugs()))
+            .thenReturn(List.of(summaryRow(102L, 1L, "free", null, Instant.parse("2026-03-01T00:00:00Z"))));
+        when(articleStatsService.loadStats(List.of(102L)))
+            .thenReturn(Map.of(102L, new ArticleStatsService.ArticleStats(0L, 1L, 0L, 0L)));
+
+        // When: 추천 글을 조회하면
+        List<ArticleRecommendedItemResponse> items = service.findRecommendedPublic(5);
+
+        // Then: 피드의 점수/사유로 응답하고 실시간 계산은 하지 않아야 한다.
+        assertThat(items).extracting(ArticleRecommendedItemResponse::articleId).containsExactly(101L, 102L);
+        assertThat(items.get(0).recommendationScore()).isEqualTo(8.0d);
+        assertThat(items.get(0).personalized()).isTrue();
+        assertThat(items.get(0).likeCount()).isEqualTo(4L);
+        assertThat(items.get(1).likeCount()).isEqualTo(1L);
+        verify(userAffinityService, never()).findProfile(any());
+    }
+
+    // 피드가 없으면 실시간으로 계산하고 해당 사용자의 피드 재계산을 요청해야 한다.
+    @Test
+    void findRecommendedPublic_falls_back_to_live_and_requests_rebuild_on_miss() {
+        // Given: 피드가 없는 로그인 사용자와 후보가 없는 상황
+        ArticleRecommendationService service = createService();
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(9L));
+        when(articleRecommendationFeedStore.findAndTouch(eq(9L), anyLong())).thenReturn(Optional.empty());
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(List.of(), List.of(), Map.of()));
+
+        // When: 추천 글을 조회하면
+        List<ArticleRecommendedItemResponse> items = service.findRecommendedPublic(9);
+
+        // Then: 실시간 결과를 반환하고 재계산을 요청해야 한다.
+        assertThat(items).isEmpty();
+        verify(articleRecommendationFeedStore).markDirty(eq(9L), anyLong());
+    }
+
+    // 피드 배치 생성은 후보 풀을 한 번만 가져오고 사용자마다 신호만 다시 읽어야 한다.
+    @Test
+    void buildFeeds_reads_candidate_pool_once_per_batch() {
+        // Given: 후보 1건과 활동 이력이 없는 두 사용자
+        ArticleRecommendationService service = createService();
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(
+            List.of(summaryRow(201L, 1L, "free", null, Instant.parse("2026-03-13T00:00:00Z"))),
+            List.of(),
+            Map.of()
+        ));
+        when(userAffinityService.findProfile(any())).thenReturn(Optional.of(UserAffinityProfile.empty(NOW.toEpochMilli())));
+
+        // When: 두 사용자의 피드를 만들면
+        Map<Long, Feed> feeds = service.buildFeeds(List.of(9L, 10L));
+
+        // Then: 사용자마다 피드가 만들어지고 후보 풀은 한 번만 읽어야 한다.
+        assertThat(feeds).containsOnlyKeys(9L, 10L);
+        assertThat(feeds.get(9L).entries()).extracting(Entry::articleId).containsExactly(201L);
+        verify(articleRecommendationCandidatePool, times(1)).current();
+    }
+
+    // 저장된 관심도 프로필이 없으면 이번 요청은 활동 이력으로 계산하고 프로필 초기화를 요청해야 한다.
+    @Test
+    void findRecommendedPublic_builds_profile_from_history_and_requests_seed_when_missing() {
+        // Given: 저장된 프로필이 없는 사용자
+        ArticleRecommendationService service = createService();
+        ReflectionTestUtils.setField(service, "feedEnabled", false);
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(9L));
+        when(articleRecommendationCandidatePool.current()).thenReturn(pool(
+            List.of(summaryRow(501L, 1L, "free", null, Instant.parse("2026-03-13T00:00:00Z"))),
+            List.of(),
+            Map.of()
+        ));
+        when(userAffinityService.findProfile(9L)).thenReturn(Optional.empty());
+        when(userAffinityService.buildFromHistory(9L)).thenReturn(
+            UserAffinityProfile.empty(NOW.toEpochMilli()).plus(UserAffinitySignal.COMMENT, 1L, null, 1.0d)
+        );
 
         // When: 추천 글을 조회하면
         List<ArticleRecommendedItemResponse> items = service.findRecommendedPublic(1);
 
-        // Then: 공지사항 게시판 글은 제외되고 일반 공개 글만 남아야 한다.
-        assertThat(items).extracting(ArticleRecommendedItemResponse::articleId).containsExactly(301L);
-        assertThat(items).extracting(ArticleRecommendedItemResponse::boardSlug).doesNotContain("notice");
+        // Then: 이력 기반으로 개인화하고 프로필 초기화 이벤트를 발행해야 한다.
+        assertThat(items.get(0).recommendationReason()).isEqualTo("최근 댓글을 남긴 게시판 기반");
+        verify(applicationEventPublisher).publishEvent(UserAffinityEvent.seed(9L));
+    }
+
+    // 활동 기록은 공개 피드 대상 글일 때만 관심도 이벤트로 발행해야 한다.
+    @Test
+    void recordUserActivity_publishes_event_only_for_public_feed_target() {
+        // Given: 공개 게시판 글과 공지사항 글
+        ArticleRecommendationService service = createService();
+        UserEntity author = createUser(2L, "author");
+        ArticleCategoryEntity category = createCategory(11L, createBoard(1L, "자유게시판", "free"), "java");
+        ArticleEntity publicArticle = createArticle(600L, createBoard(1L, "자유게시판", "free"), author, category, "공개 글", NOW);
+        ArticleEntity noticeArticle = createArticle(601L, createBoard(2L, "공지사항", "notice"), author, null, "공지 글", NOW);
+
+        // When: 두 글에 대한 좋아요를 기록하면
+        service.recordUserActivity(9L, publicArticle, UserAffinitySignal.LIKE, null);
+        service.recordUserActivity(9L, noticeArticle, UserAffinitySignal.LIKE, null);
+
+        // Then: 공개 글의 이벤트만 발행해야 한다.
+        verify(applicationEventPublisher).publishEvent(
+            new UserAffinityEvent(9L, 600L, 1L, 11L, UserAffinitySignal.LIKE, null)
+        );
+        verify(applicationEventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    private Snapshot pool(
+        List<ArticleSummaryRow> rows,
+        List<Long> trendingIds,
+        Map<Long, ArticleStatsService.ArticleStats> stats
+    ) {
+        Map<Long, Double> trendScores = new HashMap<>();
+        for (int rank = 0; rank < trendingIds.size(); rank++) {
+            trendScores.put(trendingIds.get(rank), 20.0d - rank);
+        }
+        return Snapshot.of(
+            Instant.parse("2026-03-14T00:00:00Z").toEpochMilli(),
+            rows,
+            trendingIds,
+            trendScores,
+            stats,
+            new AuthorDisplayResolver()
+        );
+    }
+
+    private ArticleSummaryRow summaryRow(Long articleId, Long boardId, String boardSlug, Long categoryId, Instant createdAt) {
+        return summaryRow(articleId, 2L, boardId, boardSlug, categoryId, createdAt);
+    }
+
+    private ArticleSummaryRow summaryRow(
+        Long articleId,
+        Long authorId,
+        Long boardId,
+        String boardSlug,
+        Long categoryId,
+        Instant createdAt
+    ) {
+        return new ArticleSummaryRow(
+            articleId,
+            boardId,
+            boardSlug,
+            boardSlug,
+            authorId,
+            "author",
+            "author",
+            categoryId,
+            null,
+            ContentVisibility.PUBLIC,
+            "추천 후보",
+            "",
+            10L,
+            false,
+            createdAt,
+            createdAt
+        );
     }
 
     private ArticleRecommendationService createService() {
         return new ArticleRecommendationService(
             articleRepository,
-            articleBookmarkRepository,
-            articleReactionRepository,
-            commentRepository,
-            articleTrendingService,
+            articleRecommendationCandidatePool,
+            articleStatsService,
             currentUserService,
             new PublicArticleFeedPolicy(),
             new AuthorDisplayResolver(),
-            Clock.fixed(Instant.parse("2026-03-14T00:00:00Z"), ZoneId.of("UTC"))
+            articleRecommendationFeedStore,
+            userAffinityService,
+            applicationEventPublisher,
+            Clock.fixed(NOW, ZoneId.of("UTC"))
         );
     }
 
@@ -230,13 +408,4 @@ class ArticleRecommendationServiceTest {
         return article;
     }
 
-    private ArticleBookmarkEntity createBookmark(Long id, UserEntity user, ArticleEntity article) {
-        ArticleBookmarkEntity bookmark = ArticleBookmarkEntity.builder()
-            .user(user)
-            .article(article)
-            .build();
-        ReflectionTestUtils.setField(bookmark, "id", id);
-        return bookmark;
-    }
-
 }
@@ -3,8 +3,11 @@ package com.mocktalkback.domain.article.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -12,8 +15,10 @@ import static org.mockito.Mockito.when;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,8 +29,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -36,6 +39,8 @@ import com.mocktalkback.domain.article.dto.ArticleRecentItemResponse;
 import com.mocktalkback.domain.article.dto.ArticleReactionSummaryResponse;
 import com.mocktalkback.domain.article.dto.ArticleReactionToggleRequest;
 import com.mocktalkback.domain.article.dto.ArticleUpdateRequest;
+import com.mocktalkback.domain.article.dto.ArticleSummaryResponse;
+import com.mocktalkback.domain.article.dto.BoardArticleCursorResponse;
 import com.mocktalkback.domain.article.dto.BoardArticleListResponse;
 import com.mocktalkback.domain.article.entity.ArticleCategoryEntity;
 import com.mocktalkback.domain.article.entity.ArticleEntity;
@@ -45,8 +50,10 @@ import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
 import com.mocktalkback.domain.article.repository.ArticleBookmarkRepository;
 import com.mocktalkback.domain.article.repository.ArticleCategoryRepository;
 import com.mocktalkback.domain.article.repository.ArticleFileRepository;
+import com.mocktalkback.domain.article.repository.ArticleKeysetCursor;
 import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
 import com.mocktalkback.domain.article.type.ArticleContentFormat;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.board.repository.BoardFileRepository;
@@ -69,7 +76,8 @@ import com.mocktalkback.domain.file.service.FileStorage;
 import com.mocktalkback.domain.file.service.TemporaryFilePolicy;
 import com.mocktalkback.domain.file.type.FileClassCode;
 import com.mocktalkback.domain.file.type.MediaKind;
-import com.mocktalkback.domain.realtime.service.BoardRealtimeSseService;
+import com.mocktalkback.domain.outbox.service.OutboxEventWriter;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
 import com.mocktalkback.domain.role.entity.RoleEntity;
 import com.mocktalkback.domain.role.type.ContentVisibility;
 import com.mocktalkback.domain.user.entity.UserEntity;
@@ -139,13 +147,25 @@ class ArticleServiceTest {
     private ArticleViewService articleViewService;
 
     @Mock
-    private ArticleTrendingService articleTrendingService;
+    private ArticleRecommendationService articleRecommendationService;
+
+    @Mock
+    private ArticleRecommendationCandidatePool articleRecommendationCandidatePool;
+
+    @Mock
+    private ArticleStatsService articleStatsService;
+
+    @Mock
+    private ArticleDetailCacheService articleDetailCacheService;
+
+    @Mock
+    private ArticleTrendingSnapshotService articleTrendingSnapshotService;
 
     @Mock
     private SanctionGuard sanctionGuard;
 
     @Mock
-    private BoardRealtimeSseService boardRealtimeSseService;
+    private OutboxEventWriter outboxEventWriter;
 
     @Spy
     private RoleEvaluator roleEvaluator = new RoleEvaluator();
@@ -162,6 +182,15 @@ class ArticleServiceTest {
     @Spy
     private PublicArticleFeedPolicy publicArticleFeedPolicy = new PublicArticleFeedPolicy();
 
+    @Spy
+    private ArticleListCursorCodec articleListCursorCodec = new ArticleListCursorCodec();
+
+    @Spy
+    private ArticlePreviewTextExtractor articlePreviewTextExtractor = new ArticlePreviewTextExtractor();
+
+    @Mock
+    private BoardArticleCountCacheStore boardArticleCountCacheStore;
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -190,7 +219,7 @@ class ArticleServiceTest {
         when(userRepository.findById(2L)).thenReturn(Optional.of(user));
         when(articleCategoryRepository.findById(3L)).thenReturn(Optional.of(category));
         when(articleContentService.render("content", ArticleContentFormat.HTML))
-            .thenReturn(new ArticleContentService.RenderedContent("content", "content"));
+            .thenReturn(new ArticleContentService.RenderedContent("content", "content", "hash"));
 
         ArticleEntity article = createArticle(100L, board, user, category);
         when(articleMapper.toEntity(any(ArticleCreateRequest.class), eq(board), eq(user), eq(category)))
@@ -287,7 +316,7 @@ class ArticleServiceTest {
         when(userRepository.findById(2L)).thenReturn(Optional.of(user));
         when(articleCategoryRepository.findById(3L)).thenReturn(Optional.of(category));
         when(articleContentService.render("content", ArticleContentFormat.HTML))
-            .thenReturn(new ArticleContentService.RenderedContent("content", "content"));
+            .thenReturn(new ArticleContentService.RenderedContent("content", "content", "hash"));
 
         FileClassEntity fileClass = createFileClass(FileClassCode.ARTICLE_CONTENT_IMAGE);
         FileEntity existingFile = createFile(10L, fileClass, null);
@@ -325,6 +354,43 @@ class ArticleServiceTest {
         assertThat(newFile.getTempExpiresAt()).isNull();
     }
 
+    // 본문 해시가 저장값과 같으면 렌더링과 미리보기 추출 없이 수정해야 한다.
+    @Test
+    void update_skips_render_when_content_hash_matches() {
+        // Given: 본문 해시가 저장된 기존 게시글
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleCategoryEntity category = createCategory(3L, board);
+        ArticleEntity article = createArticle(100L, board, user, category);
+        article.applyContentHash("hash");
+
+        when(articleRepository.findByIdAndDeletedAtIsNull(100L)).thenReturn(Optional.of(article));
+        when(currentUserService.getUserId()).thenReturn(2L);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(articleCategoryRepository.findById(3L)).thenReturn(Optional.of(category));
+        when(articleContentService.contentHash("content", ArticleContentFormat.HTML)).thenReturn("hash");
+        when(articleFileRepository.findAllByArticleIdOrderByCreatedAtAsc(100L)).thenReturn(List.of());
+
+        ArticleUpdateRequest request = new ArticleUpdateRequest(
+            3L,
+            ContentVisibility.PUBLIC,
+            "새 제목",
+            "content",
+            ArticleContentFormat.HTML,
+            false,
+            List.of()
+        );
+
+        // When: 제목만 바꿔 수정하면
+        articleService.update(100L, request);
+
+        // Then: 제목은 바뀌고 본문 렌더링은 호출되지 않아야 한다.
+        assertThat(article.getTitle()).isEqualTo("새 제목");
+        assertThat(article.getContent()).isEqualTo("content");
+        verify(articleContentService, never()).render(any(), any());
+        verify(articlePreviewTextExtractor, never()).extract(any());
+    }
+
     // 게시판 카테고리 목록 조회는 접근 가능한 게시판에서 카테고리 응답을 반환해야 한다.
     @Test
     void getBoardCategories_returns_list_when_board_is_accessible() {
@@ -363,7 +429,8 @@ class ArticleServiceTest {
 
         when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
-        when(articleViewService.increaseHitIfEligible(10L, 7L, "127.0.0.1", "MockBrowser/1.0")).thenReturn(8L);
+        when(articleViewService.increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0")).thenReturn(8L);
+        stubDetailCacheMiss();
         when(commentRepository.countByArticleIds(List.of(10L))).thenReturn(List.of());
         when(articleFileRepository.findAllByArticleIdOrderByCreatedAtAsc(10L)).thenReturn(List.of());
         when(boardFileRepository.findAllByBoardIdOrderByCreatedAtDesc(1L)).thenReturn(List.of());
@@ -373,7 +440,7 @@ class ArticleServiceTest {
 
         // Then: 조회 dedupe 서비스의 최신 값을 응답에 반영해야 한다.
         assertThat(response.hit()).isEqualTo(8L);
-        verify(articleViewService).increaseHitIfEligible(10L, 7L, "127.0.0.1", "MockBrowser/1.0");
+        verify(articleViewService).increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0");
     }
 
     // 게시글 상세 조회는 중복 조회거나 Redis 장애면 현재 hit 값을 그대로 반환해야 한다.
@@ -387,7 +454,8 @@ class ArticleServiceTest {
 
         when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
-        when(articleViewService.increaseHitIfEligible(10L, 7L, "127.0.0.1", "MockBrowser/1.0")).thenReturn(7L);
+        when(articleViewService.increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0")).thenReturn(7L);
+        stubDetailCacheMiss();
         when(commentRepository.countByArticleIds(List.of(10L))).thenReturn(List.of());
         when(articleFileRepository.findAllByArticleIdOrderByCreatedAtAsc(10L)).thenReturn(List.of());
         when(boardFileRepository.findAllByBoardIdOrderByCreatedAtDesc(1L)).thenReturn(List.of());
@@ -397,7 +465,54 @@ class ArticleServiceTest {
 
         // Then: 현재 조회수만 반환해야 한다.
         assertThat(response.hit()).isEqualTo(7L);
-        verify(articleViewService).increaseHitIfEligible(10L, 7L, "127.0.0.1", "MockBrowser/1.0");
+        verify(articleViewService).increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0");
+    }
+
+    // 게시글 상세 조회는 캐시된 스냅샷이 있으면 집계/첨부 조회 없이 조회자별 값만 채워야 한다.
+    @Test
+    void findDetailById_uses_cached_snapshot_and_resolves_viewer_fields_live() {
+        // Given: 캐시된 상세 스냅샷과 로그인 사용자
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user, null);
+        ReflectionTestUtils.setField(article, "hit", 7L);
+        ArticleDetailSnapshot snapshot = new ArticleDetailSnapshot(
+            10L,
+            null,
+            2L,
+            "display",
+            ContentVisibility.PUBLIC,
+            "title",
+            "content",
+            4L,
+            5L,
+            1L,
+            false,
+            null,
+            null,
+            List.of()
+        );
+
+        when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(2L));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(boardMemberRepository.findByUserIdAndBoardId(2L, 1L)).thenReturn(Optional.empty());
+        when(articleViewService.increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0")).thenReturn(8L);
+        when(articleDetailCacheService.get(eq(article), any())).thenReturn(snapshot);
+        when(articleReactionRepository.findByUserIdAndArticleId(2L, 10L)).thenReturn(Optional.empty());
+        when(articleBookmarkRepository.existsByUserIdAndArticleId(2L, 10L)).thenReturn(true);
+
+        // When: 상세 조회를 하면
+        ArticleDetailResponse response = articleService.findDetailById(10L, "127.0.0.1", "MockBrowser/1.0");
+
+        // Then: 집계는 스냅샷 값을, 조회수/북마크는 실시간 값을 사용해야 한다.
+        assertThat(response.commentCount()).isEqualTo(4L);
+        assertThat(response.likeCount()).isEqualTo(5L);
+        assertThat(response.hit()).isEqualTo(8L);
+        assertThat(response.bookmarked()).isTrue();
+        assertThat(response.myReaction()).isEqualTo((short) 0);
+        verify(commentRepository, never()).countByArticleIds(any());
+        verify(articleFileRepository, never()).findAllByArticleIdOrderByCreatedAtAsc(anyLong());
     }
 
     // 게시글 목록 조회는 카테고리 필터가 있으면 고정글을 제외하고 카테고리 기준으로 조회해야 한다.
@@ -406,17 +521,12 @@ class ArticleServiceTest {
         // Given: 공개 게시판과 카테고리 필터
         BoardEntity board = createBoard(1L);
         ArticleCategoryEntity category = createCategory(3L, board);
-        Page<ArticleEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0L);
+        Page<ArticleSummaryRow> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0L);
 
         when(boardRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(board));
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
         when(articleCategoryRepository.findById(3L)).thenReturn(Optional.of(category));
-        when(articleRepository.findByBoardIdAndCategoryIdAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-            eq(1L),
-            eq(3L),
-            any(),
-            any()
-        )).thenReturn(emptyPage);
+        when(articleRepository.findBoardArticleRows(eq(1L), eq(3L), eq(false), any(), any())).thenReturn(emptyPage);
 
         // When: 카테고리 필터로 게시글 목록 조회
         BoardArticleListResponse result = articleService.getBoardArticles(1L, 0, 10, SortOrder.LATEST, 3L, false);
@@ -424,17 +534,8 @@ class ArticleServiceTest {
         // Then: 카테고리 조회 메서드 사용 및 pinned 미조회 확인
         assertThat(result.pinned()).isEmpty();
         assertThat(result.page().items()).isEmpty();
-        verify(articleRepository).findByBoardIdAndCategoryIdAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-            eq(1L),
-            eq(3L),
-            any(),
-            any()
-        );
-        verify(articleRepository, never()).findByBoardIdAndNoticeTrueAndVisibilityInAndDeletedAtIsNull(
-            anyLong(),
-            any(),
-            any()
-        );
+        verify(articleRepository).findBoardArticleRows(eq(1L), eq(3L), eq(false), any(), any());
+        verify(articleRepository, never()).findPinnedArticleRows(anyLong(), any(), anyBoolean(), anyInt());
     }
 
     // 게시글 목록 조회는 미분류 필터가 있으면 카테고리 null 기준으로 조회하고 고정글을 제외해야 한다.
@@ -442,15 +543,11 @@ class ArticleServiceTest {
     void getBoardArticles_with_uncategorized_filter_uses_null_category_query_without_pinned() {
         // Given: 공개 게시판과 미분류 필터
         BoardEntity board = createBoard(1L);
-        Page<ArticleEntity> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0L);
+        Page<ArticleSummaryRow> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0L);
 
         when(boardRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(board));
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
-        when(articleRepository.findByBoardIdAndCategoryIsNullAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-            eq(1L),
-            any(),
-            any()
-        )).thenReturn(emptyPage);
+        when(articleRepository.findBoardArticleRows(eq(1L), isNull(), eq(true), any(), any())).thenReturn(emptyPage);
 
         // When: 미분류 필터로 게시글 목록 조회
         BoardArticleListResponse result = articleService.getBoardArticles(1L, 0, 10, SortOrder.LATEST, null, true);
@@ -458,16 +555,8 @@ class ArticleServiceTest {
         // Then: 미분류 조회 메서드 사용 및 pinned 미조회 확인
         assertThat(result.pinned()).isEmpty();
         assertThat(result.page().items()).isEmpty();
-        verify(articleRepository).findByBoardIdAndCategoryIsNullAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-            eq(1L),
-            any(),
-            any()
-        );
-        verify(articleRepository, never()).findByBoardIdAndNoticeTrueAndVisibilityInAndDeletedAtIsNull(
-            anyLong(),
-            any(),
-            any()
-        );
+        verify(articleRepository).findBoardArticleRows(eq(1L), isNull(), eq(true), any(), any());
+        verify(articleRepository, never()).findPinnedArticleRows(anyLong(), any(), anyBoolean(), anyInt());
     }
 
     // 게시글 목록 조회는 게시글 카테고리 정보를 요약 응답에 포함해야 한다.
@@ -475,22 +564,15 @@ class ArticleServiceTest {
     void getBoardArticles_maps_category_fields_in_summary_response() {
         // Given: 카테고리가 지정된 게시글 한 건
         BoardEntity board = createBoard(1L);
-        UserEntity user = createUser(2L);
         ArticleCategoryEntity category = createCategory(3L, board);
-        ArticleEntity article = createArticle(10L, board, user, category);
-        Page<ArticleEntity> page = new PageImpl<>(List.of(article), PageRequest.of(0, 10), 1L);
+        ArticleSummaryRow row = createRow(10L, 1L, 3L, "공지", Instant.parse("2026-03-12T09:00:00Z"));
+        Page<ArticleSummaryRow> page = new PageImpl<>(List.of(row), PageRequest.of(0, 10), 1L);
 
         when(boardRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(board));
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
         when(articleCategoryRepository.findById(3L)).thenReturn(Optional.of(category));
-        when(articleRepository.findByBoardIdAndCategoryIdAndNoticeFalseAndVisibilityInAndDeletedAtIsNull(
-            eq(1L),
-            eq(3L),
-            any(),
-            any()
-        )).thenReturn(page);
-        when(commentRepository.countByArticleIds(any())).thenReturn(List.of());
-        when(articleReactionRepository.countByArticleIds(any())).thenReturn(List.of());
+        when(articleRepository.findBoardArticleRows(eq(1L), eq(3L), eq(false), any(), any())).thenReturn(page);
+        when(articleStatsService.loadStats(any())).thenReturn(Map.of());
 
         // When: 카테고리 필터로 게시글 목록을 조회하면
         BoardArticleListResponse result = articleService.getBoardArticles(1L, 0, 10, SortOrder.LATEST, 3L, false);
@@ -501,6 +583,71 @@ class ArticleServiceTest {
         assertThat(result.page().items().get(0).categoryName()).isEqualTo("공지");
     }
 
+    // 커서 목록 조회는 size+1건으로 다음 페이지를 판단하고 count 쿼리 없이 마지막 글 기준 커서를 반환해야 한다.
+    @Test
+    void getBoardArticlesByCursor_returns_next_cursor_without_count_query() {
+        // Given: 공개 게시판과 size+1건의 keyset 조회 결과
+        BoardEntity board = createBoard(1L);
+        ArticleSummaryRow first = createRow(30L, 1L, null, null, Instant.parse("2026-03-12T09:00:03Z"));
+        ArticleSummaryRow second = createRow(20L, 1L, null, null, Instant.parse("2026-03-12T09:00:02Z"));
+        ArticleSummaryRow third = createRow(10L, 1L, null, null, Instant.parse("2026-03-12T09:00:01Z"));
+
+        when(boardRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(board));
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
+        when(articleRepository.findBoardArticleRowsByKeyset(eq(1L), isNull(), eq(false), any(), isNull(), eq(false), eq(3)))
+            .thenReturn(List.of(first, second, third));
+        when(articleRepository.findPinnedArticleRows(eq(1L), any(), eq(false), eq(5)))
+            .thenReturn(List.of());
+
+        // When: 첫 페이지를 size=2로 조회하면
+        BoardArticleCursorResponse result = articleService.getBoardArticlesByCursor(1L, "", 2, SortOrder.LATEST, null, false, false);
+
+        // Then: 2건과 마지막 글 기준 커서를 반환하고 count 쿼리는 실행하지 않아야 한다.
+        assertThat(result.page().items()).extracting(ArticleSummaryResponse::id).containsExactly(30L, 20L);
+        assertThat(result.page().hasNext()).isTrue();
+        assertThat(result.page().approximateTotal()).isNull();
+        ArticleKeysetCursor nextCursor = articleListCursorCodec.decode(result.page().nextCursor(), SortOrder.LATEST);
+        assertThat(nextCursor.articleId()).isEqualTo(20L);
+        assertThat(nextCursor.createdAt()).isEqualTo(Instant.parse("2026-03-12T09:00:02Z"));
+        verify(articleRepository, never()).countBoardArticles(anyLong(), any(), anyBoolean(), any());
+    }
+
+    // 커서 목록 조회는 정렬 기준이 다른 커서를 거부해야 한다.
+    @Test
+    void getBoardArticlesByCursor_rejects_cursor_with_different_order() {
+        // Given: 과거순으로 발급된 커서
+        ArticleSummaryRow row = createRow(10L, 1L, null, null, Instant.parse("2026-03-12T09:00:01Z"));
+        String oldestCursor = articleListCursorCodec.encode(row, SortOrder.OLDEST);
+
+        // When & Then: 최신순 요청에 사용하면 예외가 발생해야 한다.
+        assertThatThrownBy(() -> articleService.getBoardArticlesByCursor(1L, oldestCursor, 10, SortOrder.LATEST, null, false, false))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("cursor의 정렬 기준이 요청과 다릅니다.");
+    }
+
+    // 커서 목록 조회는 includeTotal이면 캐시된 대략적인 개수를 우선 사용해야 한다.
+    @Test
+    void getBoardArticlesByCursor_uses_cached_approximate_total() {
+        // Given: 캐시된 전체 개수
+        BoardEntity board = createBoard(1L);
+        when(boardRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(board));
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
+        when(articleRepository.findBoardArticleRowsByKeyset(eq(1L), isNull(), eq(false), any(), isNull(), eq(false), eq(11)))
+            .thenReturn(List.of());
+        when(articleRepository.findPinnedArticleRows(eq(1L), any(), eq(false), eq(5)))
+            .thenReturn(List.of());
+        when(boardArticleCountCacheStore.find(eq(1L), isNull(), eq(false), any())).thenReturn(123L);
+
+        // When: includeTotal로 조회하면
+        BoardArticleCursorResponse result = articleService.getBoardArticlesByCursor(1L, null, 10, SortOrder.LATEST, null, false, true);
+
+        // Then: 캐시 값을 반환하고 count 쿼리는 실행하지 않아야 한다.
+        assertThat(result.page().approximateTotal()).isEqualTo(123L);
+        assertThat(result.page().hasNext()).isFalse();
+        assertThat(result.page().nextCursor()).isNull();
+        verify(articleRepository, never()).countBoardArticles(anyLong(), any(), anyBoolean(), any());
+    }
+
     // 게시글 목록 조회는 categoryId와 uncategorized를 동시에 사용하면 예외가 발생해야 한다.
     @Test
     void getBoardArticles_throws_when_category_and_uncategorized_used_together() {
@@ -515,48 +662,34 @@ class ArticleServiceTest {
     // 홈 최근 공개 게시글 조회는 공개 게시글 요약 응답을 반환해야 한다.
     @Test
     void findRecentPublic_returns_recent_public_items() {
-        // Given: 공개 게시판의 최신 게시글 슬라이스
-        BoardEntity board = createBoard(1L);
-        ReflectionTestUtils.setField(board, "slug", "free");
-        ReflectionTestUtils.setField(board, "boardName", "자유게시판");
-        UserEntity user = createUser(2L);
-        ArticleEntity article = ArticleEntity.builder()
-            .board(board)
-            .user(user)
-            .category(null)
-            .visibility(ContentVisibility.PUBLIC)
-            .title("첫 글")
-            .content("<p>첫 줄 <strong>강조</strong></p>")
-            .contentSource("첫 줄 **강조**")
-            .contentFormat(ArticleContentFormat.HTML)
-            .notice(false)
-            .hit(12L)
-            .build();
-        ReflectionTestUtils.setField(article, "id", 100L);
-        Slice<ArticleEntity> slice = new SliceImpl<>(List.of(article), PageRequest.of(0, 8), true);
-
-        CommentRepository.CommentCountView commentCountView = org.mockito.Mockito.mock(CommentRepository.CommentCountView.class);
-        when(commentCountView.getArticleId()).thenReturn(100L);
-        when(commentCountView.getCount()).thenReturn(3L);
-
-        ArticleReactionRepository.ArticleReactionCountView reactionCountView = org.mockito.Mockito.mock(
-            ArticleReactionRepository.ArticleReactionCountView.class
+        // Given: 작성 시점에 미리보기가 계산된 공개 게시글 요약 행(size+1건 조회 결과)
+        ArticleSummaryRow row = new ArticleSummaryRow(
+            100L,
+            1L,
+            "free",
+            "자유게시판",
+            2L,
+            "display",
+            "user",
+            null,
+            null,
+            ContentVisibility.PUBLIC,
+            "첫 글",
+            "첫 줄 강조",
+            12L,
+            false,
+            Instant.parse("2026-03-12T09:00:00Z"),
+            Instant.parse("2026-03-12T09:00:00Z")
         );
-        when(reactionCountView.getArticleId()).thenReturn(100L);
-        when(reactionCountView.getReactionType()).thenReturn((short) 1);
-        when(reactionCountView.getCount()).thenReturn(7L);
-
-        when(articleRepository.findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
-            eq(BoardVisibility.PUBLIC),
-            eq(Set.of("notice", "inquiry")),
-            eq(ContentVisibility.PUBLIC),
-            any()
-        )).thenReturn(slice);
-        when(commentRepository.countByArticleIds(any())).thenReturn(List.of(commentCountView));
-        when(articleReactionRepository.countByArticleIds(List.of(100L))).thenReturn(List.of(reactionCountView));
+        ArticleSummaryRow extra = createRow(99L, 1L, null, null, Instant.parse("2026-03-12T08:00:00Z"));
+
+        when(articleRepository.findRecentPublicRows(Set.of("notice", "inquiry"), 0L, 2))
+            .thenReturn(List.of(row, extra));
+        when(articleStatsService.loadStats(Set.of(100L)))
+            .thenReturn(Map.of(100L, new ArticleStatsService.ArticleStats(3L, 7L, 0L, 0L)));
 
         // When: 홈 최근 공개 게시글을 조회하면
-        SliceResponse<ArticleRecentItemResponse> response = articleService.findRecentPublic(0, 8);
+        SliceResponse<ArticleRecentItemResponse> response = articleService.findRecentPublic(0, 1);
 
         // Then: 게시판/미리보기/집계가 포함된 응답을 반환한다.
         assertThat(response.items()).hasSize(1);
@@ -566,12 +699,7 @@ class ArticleServiceTest {
         assertThat(response.items().get(0).likeCount()).isEqualTo(7L);
         assertThat(response.items().get(0).hit()).isEqualTo(12L);
         assertThat(response.hasNext()).isTrue();
-        verify(articleRepository).findByBoardVisibilityAndBoardDeletedAtIsNullAndBoardSlugNotInAndVisibilityAndNoticeFalseAndDeletedAtIsNull(
-            eq(BoardVisibility.PUBLIC),
-            eq(Set.of("notice", "inquiry")),
-            eq(ContentVisibility.PUBLIC),
-            any()
-        );
+        assertThat(response.hasPrevious()).isFalse();
     }
 
     // 반응 토글은 원자 upsert를 사용해 경합 상황에서도 일관된 결과를 반환해야 한다.
@@ -587,8 +715,8 @@ class ArticleServiceTest {
         when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
         when(boardMemberRepository.findByUserIdAndBoardId(2L, 1L)).thenReturn(Optional.empty());
         when(articleReactionRepository.upsertToggleReaction(2L, 10L, (short) 1)).thenReturn((short) 1);
-        when(articleReactionRepository.countByArticleIdAndReactionType(10L, (short) 1)).thenReturn(5L);
-        when(articleReactionRepository.countByArticleIdAndReactionType(10L, (short) -1)).thenReturn(2L);
+        when(articleReactionRepository.countByArticleIds(List.of(10L)))
+            .thenReturn(List.of(reactionCount(10L, (short) 1, 5L), reactionCount(10L, (short) -1, 2L)));
 
         // When: 반응 토글 실행
         ArticleReactionSummaryResponse response = articleService.toggleReaction(
@@ -602,7 +730,10 @@ class ArticleServiceTest {
         assertThat(response.likeCount()).isEqualTo(5L);
         assertThat(response.dislikeCount()).isEqualTo(2L);
         verify(articleReactionRepository).upsertToggleReaction(2L, 10L, (short) 1);
-        verify(articleTrendingService).recordArticleReactionChanged(10L, (short) 0, (short) 1);
+        verify(outboxEventWriter).append(
+            OutboxEventType.ARTICLE_TRENDING_SCORE,
+            ArticleTrendingOutboxPayload.reactionChanged(10L, 1L, (short) 0, (short) 1)
+        );
     }
 
     // 첨부파일 다운로드 URL 조회는 접근 가능한 게시글의 첨부파일 URL을 반환해야 한다.
@@ -721,6 +852,58 @@ class ArticleServiceTest {
         return article;
     }
 
+    @SuppressWarnings("unchecked")
+    private void stubDetailCacheMiss() {
+        when(articleDetailCacheService.get(any(ArticleEntity.class), any()))
+            .thenAnswer(invocation -> ((Supplier<ArticleDetailSnapshot>) invocation.getArgument(1)).get());
+    }
+
+    private ArticleReactionRepository.ArticleReactionCountView reactionCount(Long articleId, short reactionType, long count) {
+        return new ArticleReactionRepository.ArticleReactionCountView() {
+            @Override
+            public Long getArticleId() {
+                return articleId;
+            }
+
+            @Override
+            public short getReactionType() {
+                return reactionType;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private ArticleSummaryRow createRow(
+        Long id,
+        Long boardId,
+        Long categoryId,
+        String categoryName,
+        Instant timestamp
+    ) {
+        return new ArticleSummaryRow(
+            id,
+            boardId,
+            "notice",
+            "notice",
+            2L,
+            "display",
+            "user",
+            categoryId,
+            categoryName,
+            ContentVisibility.PUBLIC,
+            "title",
+            "",
+            0L,
+            false,
+            timestamp,
+            timestamp
+        );
+    }
+
     private FileClassEntity createFileClass(String code) {
         return FileClassEntity.builder()
             .code(code)
@@ -0,0 +1,90 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mocktalkback.domain.article.entity.ArticleStatsEntity;
+import com.mocktalkback.domain.article.repository.ArticleStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleStatsServiceTest {
+
+    @Mock
+    private ArticleStatsRepository articleStatsRepository;
+
+    @InjectMocks
+    private ArticleStatsService articleStatsService;
+
+    // 좋아요에서 싫어요로 전환하면 좋아요 -1, 싫어요 +1 증감분을 한 번에 반영해야 한다.
+    @Test
+    void recordReactionChanged_applies_like_to_dislike_transition() {
+        // When: 좋아요에서 싫어요로 전환하면
+        articleStatsService.recordReactionChanged(10L, (short) 1, (short) -1);
+
+        // Then: 좋아요/싫어요 증감분이 함께 반영되어야 한다.
+        verify(articleStatsRepository).applyDelta(10L, 0L, -1L, 1L, 0L);
+    }
+
+    // 반응 상태가 그대로면 집계 테이블을 갱신하지 않아야 한다.
+    @Test
+    void recordReactionChanged_skips_when_reaction_is_unchanged() {
+        // When: 같은 반응으로 전환하면
+        articleStatsService.recordReactionChanged(10L, (short) 1, (short) 1);
+
+        // Then: upsert를 호출하지 않아야 한다.
+        verify(articleStatsRepository, never()).applyDelta(
+            any(),
+            anyLong(),
+            anyLong(),
+            anyLong(),
+            anyLong()
+        );
+    }
+
+    // 집계 조회는 null/중복 ID를 걸러낸 뒤 PK 조회 한 번으로 카운터를 읽어야 한다.
+    @Test
+    void loadStats_reads_counters_by_primary_key() {
+        // Given: 집계 행 1건
+        ArticleStatsEntity entity = mock(ArticleStatsEntity.class);
+        when(entity.getArticleId()).thenReturn(10L);
+        when(entity.getCommentCount()).thenReturn(3L);
+        when(entity.getLikeCount()).thenReturn(5L);
+        when(entity.getDislikeCount()).thenReturn(1L);
+        when(entity.getBookmarkCount()).thenReturn(2L);
+        when(articleStatsRepository.findAllByArticleIdIn(Set.of(10L, 11L))).thenReturn(List.of(entity));
+
+        // When: 중복/null이 섞인 ID로 조회하면
+        Map<Long, ArticleStatsService.ArticleStats> result = articleStatsService.loadStats(Arrays.asList(10L, null, 11L, 10L));
+
+        // Then: 존재하는 행만 매핑되어야 한다.
+        assertThat(result).containsOnlyKeys(10L);
+        assertThat(result.get(10L)).isEqualTo(new ArticleStatsService.ArticleStats(3L, 5L, 1L, 2L));
+    }
+
+    // 빈 ID 목록은 저장소를 조회하지 않아야 한다.
+    @Test
+    void loadStats_returns_empty_map_without_query_for_empty_ids() {
+        // When: 빈 목록으로 조회하면
+        Map<Long, ArticleStatsService.ArticleStats> result = articleStatsService.loadStats(List.of());
+
+        // Then: 빈 결과를 반환해야 한다.
+        assertThat(result).isEmpty();
+        verify(articleStatsRepository, never()).findAllByArticleIdIn(any());
+    }
+}
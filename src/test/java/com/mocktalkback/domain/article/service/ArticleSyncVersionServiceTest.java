@@ -0,0 +1,345 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSyncVersionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-14T00:00:00Z");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private InMemorySyncVersionStore store;
+    private ArticleSyncVersionService service;
+    private long persistedFloor;
+    private long committedCommentVersion;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemorySyncVersionStore();
+        service = new ArticleSyncVersionService(store, jdbcTemplate, Clock.fixed(NOW, ZoneId.of("UTC")));
+        persistedFloor = 40L;
+        committedCommentVersion = 0L;
+        lenient().when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+            .thenAnswer(invocation -> List.of(Math.max(persistedFloor, committedCommentVersion)));
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+            .thenAnswer(invocation -> {
+                SqlParameterSource[] batch = invocation.getArgument(1);
+                for (SqlParameterSource params : batch) {
+                    persistedFloor = Math.max(persistedFloor, (Long) params.getValue("syncVersion"));
+                }
+                int[] rows = new int[batch.length];
+                Arrays.fill(rows, 1);
+                return rows;
+            });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 카운터가 없으면 DB 하한에 seed-gap을 더한 값부터 발급해야 한다.
+    @Test
+    void increaseAndGet_seeds_from_db_floor() {
+        // Given: DB 하한 40, Redis 카운터 없음
+
+        // When: 버전을 두 번 발급하면
+        long first = service.increaseAndGet(10L);
+        long second = service.increaseAndGet(10L);
+
+        // Then: 하한 + 1000 다음 값부터 증가해야 한다.
+        assertThat(first).isEqualTo(1041L);
+        assertThat(second).isEqualTo(1042L);
+    }
+
+    // Redis 장애 조치나 재시작으로 반영 전 카운터를 잃어도 버전은 뒤로 가지 않아야 한다.
+    @Test
+    void versions_never_go_backwards_after_redis_failover() {
+        // Given: 일부는 DB에 반영되고 일부는 반영 전인 버전 발급 이력
+        List<Long> issued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            issued.add(service.increaseAndGet(10L));
+        }
+        service.flush();
+        for (int i = 0; i < 2; i++) {
+            issued.add(service.increaseAndGet(10L));
+        }
+        committedCommentVersion = issued.get(issued.size() - 1);
+        long observed = service.currentVersion(10L);
+
+        // When: Redis가 비워진 뒤 다시 읽고 발급하면
+        store.failover();
+        long readAfterFailover = service.currentVersion(10L);
+        long issuedAfterFailover = service.increaseAndGet(10L);
+
+        // Then: 이전에 발급/관측한 어떤 버전보다 커야 한다.
+        assertThat(issued).isSorted();
+        assertThat(readAfterFailover).isGreaterThan(observed);
+        assertThat(issuedAfterFailover).isGreaterThan(issued.get(issued.size() - 1));
+        assertThat(issuedAfterFailover).isGreaterThan(readAfterFailover);
+    }
+
+    // 뒤처진 replica로 장애 조치되어 예전 카운터가 남아 있어도 이미 발급/관측한 버전을 다시 쓰면 안 된다.
+    @Test
+    void versions_never_go_backwards_when_counter_survives_at_older_value() {
+        // Given: 세 번째 발급 시점에 멈춘 replica와, 그 뒤 두 번 더 발급되어 댓글에 커밋된 primary
+        List<Long> issued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            issued.add(service.increaseAndGet(10L));
+        }
+        InMemorySyncVersionStore laggingReplica = store.snapshot();
+        for (int i = 0; i < 2; i++) {
+            issued.add(service.increaseAndGet(10L));
+        }
+        committedCommentVersion = issued.get(issued.size() - 1);
+        long observed = service.currentVersion(10L);
+
+        // When: 예전 카운터가 남은 replica로 장애 조치된 뒤 읽고 발급하면
+        store.restore(laggingReplica);
+        long readAfterFailover = service.currentVersion(10L);
+        long issuedAfterFailover = service.increaseAndGet(10L);
+
+        // Then: 커밋된 댓글 버전을 다시 발급하지 않고, 이전에 관측한 버전보다 커야 한다.
+        assertThat(readAfterFailover).isGreaterThan(observed);
+        assertThat(issuedAfterFailover).isGreaterThan(committedCommentVersion);
+        assertThat(issuedAfterFailover).isGreaterThan(readAfterFailover);
+    }
+
+    // 응답을 받기 전에 다른 요청이 더 큰 watermark를 관측해도 정상 응답을 장애로 오인해 다시 seed하면 안 된다.
+    @Test
+    void currentVersion_does_not_reseed_when_requests_interleave() {
+        // Given: 읽기 스크립트가 끝난 뒤 응답이 돌아오기 전에 다른 요청이 버전을 발급하는 상황
+        long version = service.increaseAndGet(10L);
+        store.afterNextStable = () -> service.increaseAndGet(10L);
+
+        // When: 현재 버전을 읽으면
+        long read = service.currentVersion(10L);
+
+        // Then: 읽은 시점의 버전을 반환하고 epoch를 올리지 않아야 한다.
+        assertThat(read).isEqualTo(version);
+        assertThat(store.epoch).isZero();
+    }
+
+    // 카운터가 만료된 뒤에도 반영된 하한보다 큰 값으로 다시 시작해야 한다.
+    @Test
+    void versions_never_go_backwards_after_counter_expiry() {
+        // Given: 발급 후 DB에 반영된 버전
+        long last = 0L;
+        for (int i = 0; i < 5; i++) {
+            last = service.increaseAndGet(10L);
+        }
+        service.flush();
+        assertThat(persistedFloor).isEqualTo(last);
+
+        // When: 카운터 키가 만료된 뒤 발급하면
+        store.failover();
+        long next = service.increaseAndGet(10L);
+
+        // Then: 마지막 버전보다 커야 한다.
+        assertThat(next).isGreaterThan(last);
+    }
+
+    // 트랜잭션이 끝나기 전 발급된 버전은 읽는 쪽 기준 버전에 포함되지 않아야 한다.
+    @Test
+    void currentVersion_excludes_versions_of_open_transactions() {
+        // Given: 열린 트랜잭션에서 발급된 버전
+        long committed = service.increaseAndGet(10L);
+        TransactionSynchronizationManager.initSynchronization();
+        long open = service.increaseAndGet(10L);
+
+        // When: 커밋 전후로 현재 버전을 읽으면
+        long beforeCommit = service.currentVersion(10L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        long afterCommit = service.currentVersion(10L);
+
+        // Then: 커밋 전에는 열린 버전 바로 아래까지만, 커밋 후에는 그 버전까지 보여야 한다.
+        assertThat(beforeCommit).isEqualTo(committed);
+        assertThat(afterCommit).isEqualTo(open);
+    }
+
+    // flush는 카운터 값을 DB 하한에 반영하고 더 작은 값으로 덮어쓰지 않아야 한다.
+    @Test
+    void flush_persists_counter_as_floor() {
+        // Given: 발급된 버전
+        long version = service.increaseAndGet(10L);
+
+        // When: flush하면
+        int updated = service.flush();
+
+        // Then: DB 하한이 카운터 값이 되어야 한다.
+        assertThat(updated).isEqualTo(1);
+        assertThat(persistedFloor).isEqualTo(version);
+        assertThat(service.flush()).isZero();
+    }
+
+    /**
+     * Redis 스크립트와 같은 규칙으로 동작하는 메모리 구현. failover()는 Redis 데이터를 모두 잃은 상황을,
+     * snapshot()/restore()는 예전 상태가 남은 replica로 장애 조치된 상황을 흉내 낸다.
+     * afterNextStable은 읽기 스크립트 실행과 응답 사이에 끼어드는 다른 요청을 흉내 낸다.
+     */
+    private static final class InMemorySyncVersionStore extends ArticleSyncVersionStore {
+
+        private Map<Long, Long> counters = new HashMap<>();
+        private Map<Long, Long> articleEpochs = new HashMap<>();
+        private Map<Long, TreeSet<Long>> inflight = new HashMap<>();
+        private Set<Long> dirty = new LinkedHashSet<>();
+        private long epoch;
+        private long watermark;
+        private Runnable afterNextStable;
+
+        InMemorySyncVersionStore() {
+            super(mock(StringRedisTemplate.class));
+        }
+
+        void failover() {
+            counters.clear();
+            articleEpochs.clear();
+            inflight.clear();
+            dirty.clear();
+            epoch = 0L;
+            watermark = 0L;
+        }
+
+        InMemorySyncVersionStore snapshot() {
+            InMemorySyncVersionStore copy = new InMemorySyncVersionStore();
+            copy.restore(this);
+            return copy;
+        }
+
+        void restore(InMemorySyncVersionStore source) {
+            counters = new HashMap<>(source.counters);
+            articleEpochs = new HashMap<>(source.articleEpochs);
+            inflight = new HashMap<>();
+            source.inflight.forEach((articleId, versions) -> inflight.put(articleId, new TreeSet<>(versions)));
+            dirty = new LinkedHashSet<>(source.dirty);
+            epoch = source.epoch;
+            watermark = source.watermark;
+        }
+
+        private boolean seeded(Long articleId) {
+            return counters.containsKey(articleId) && articleEpochs.getOrDefault(articleId, 0L) == epoch;
+        }
+
+        @Override
+        public Reading next(Long articleId, long nowMillis, Duration ttl) {
+            if (!seeded(articleId)) {
+                return new Reading(null, watermark);
+            }
+            long version = counters.get(articleId) + 1;
+            counters.put(articleId, version);
+            inflight.computeIfAbsent(articleId, key -> new TreeSet<>()).add(version);
+            dirty.add(articleId);
+            watermark++;
+            return new Reading(version, watermark);
+        }
+
+        @Override
+        public void seed(Long articleId, long version, Duration ttl) {
+            if (seeded(articleId)) {
+                return;
+            }
+            counters.merge(articleId, version, Math::max);
+            articleEpochs.put(articleId, epoch);
+        }
+
+        @Override
+        public Reading stable(Long articleId, long abandonedBeforeMillis) {
+            if (!seeded(articleId)) {
+                return new Reading(null, watermark);
+            }
+            long current = counters.get(articleId);
+            TreeSet<Long> open = inflight.get(articleId);
+            Reading reading = open == null || open.isEmpty()
+                ? new Reading(current, watermark)
+                : new Reading(Math.min(current, open.first() - 1), watermark);
+            if (afterNextStable != null) {
+                Runnable interleaved = afterNextStable;
+                afterNextStable = null;
+                interleaved.run();
+            }
+            return reading;
+        }
+
+        @Override
+        public void recover(long observedWatermark) {
+            if (watermark < observedWatermark) {
+                watermark = observedWatermark;
+                epoch++;
+            }
+        }
+
+        @Override
+        public void complete(Long articleId, long version) {
+            TreeSet<Long> open = inflight.get(articleId);
+            if (open != null) {
+                open.remove(version);
+            }
+        }
+
+        @Override
+        public List<Long> popDirty(int count) {
+            List<Long> popped = new ArrayList<>();
+            for (Long articleId : new ArrayList<>(dirty)) {
+                if (popped.size() >= count) {
+                    break;
+                }
+                dirty.remove(articleId);
+                popped.add(articleId);
+            }
+            return popped;
+        }
+
+        @Override
+        public void markDirty(Collection<Long> articleIds) {
+            dirty.addAll(articleIds);
+        }
+
+        @Override
+        public Map<Long, Long> counters(List<Long> articleIds) {
+            Map<Long, Long> result = new HashMap<>();
+            articleIds.forEach(articleId -> {
+                Long value = counters.get(articleId);
+                if (value != null) {
+                    result.put(articleId, value);
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mocktalkback.domain.article.service.ArticleTrendingStore.ScoreTarget;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleTrendingScoreAccumulatorTest {
+
+    private static final ScoreTarget HOUR = new ScoreTarget("trend:article:hour:2026031218", Duration.ofDays(8));
+    private static final ScoreTarget PREVIOUS_HOUR = new ScoreTarget("trend:article:hour:2026031217", Duration.ofDays(8));
+
+    @Mock
+    private ArticleTrendingStore articleTrendingStore;
+
+    @Mock
+    private Clock clock;
+
+    private AtomicLong nowMillis;
+    private ArticleTrendingScoreAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        nowMillis = new AtomicLong(1_000_000L);
+        when(clock.millis()).thenAnswer(invocation -> nowMillis.get());
+        accumulator = new ArticleTrendingScoreAccumulator(articleTrendingStore, clock);
+        ReflectionTestUtils.setField(accumulator, "flushIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(accumulator, "flushMaxEvents", 100);
+    }
+
+    // 같은 버킷/게시글 증가분은 합쳐서 스크립트 한 번으로 반영해야 한다.
+    @Test
+    void flush_merges_deltas_into_single_batch_write() {
+        // Given: 주기 안에서 누적된 증가분
+        accumulator.add(List.of(HOUR, PREVIOUS_HOUR), 10L, 1.0d);
+        accumulator.add(List.of(HOUR, PREVIOUS_HOUR), 10L, 1.0d);
+        accumulator.add(List.of(HOUR), 20L, 4.0d);
+
+        // When: flush하면
+        int entries = accumulator.flush();
+
+        // Then: 합산된 증가분을 한 번에 보내야 한다.
+        assertThat(entries).isEqualTo(3);
+        verify(articleTrendingStore).incrementScoresBatch(Map.of(
+            HOUR, Map.of(10L, 2.0d, 20L, 4.0d),
+            PREVIOUS_HOUR, Map.of(10L, 2.0d)
+        ));
+        verify(articleTrendingStore, never()).incrementScores(any(), any(), anyDouble());
+    }
+
+    // flush 주기는 주입한 Clock 기준으로 판단해야 한다.
+    @Test
+    void flushIfDue_flushes_only_after_interval_elapses() {
+        // Given: 누적된 증가분
+        accumulator.add(List.of(HOUR), 10L, 1.0d);
+
+        // When: 주기 전과 후에 각각 확인하면
+        nowMillis.addAndGet(999L);
+        boolean beforeInterval = accumulator.flushIfDue();
+        nowMillis.addAndGet(1L);
+        boolean afterInterval = accumulator.flushIfDue();
+
+        // Then: 주기가 지난 뒤에만 반영해야 한다.
+        assertThat(beforeInterval).isFalse();
+        assertThat(afterInterval).isTrue();
+        verify(articleTrendingStore).incrementScoresBatch(Map.of(HOUR, Map.of(10L, 1.0d)));
+    }
+
+    // 누적 이벤트 수가 임계치에 도달하면 주기를 기다리지 않고 반영해야 한다.
+    @Test
+    void add_flushes_when_max_events_reached() {
+        // Given: 임계치 2
+        ReflectionTestUtils.setField(accumulator, "flushMaxEvents", 2);
+
+        // When: 이벤트 2건을 적재하면
+        accumulator.add(List.of(HOUR), 10L, 1.0d);
+        accumulator.add(List.of(HOUR), 10L, 1.0d);
+
+        // Then: 즉시 반영되어야 한다.
+        verify(articleTrendingStore).incrementScoresBatch(Map.of(HOUR, Map.of(10L, 2.0d)));
+    }
+
+    // 반영이 실패하면 일부만 다시 쓰지 않고 꺼낸 증가분 전체를 다음 flush로 넘겨야 한다.
+    @Test
+    void flush_restores_whole_batch_when_write_fails() {
+        // Given: 누적된 증가분과 실패하는 일괄 반영
+        accumulator.add(List.of(HOUR), 10L, 1.0d);
+        accumulator.add(List.of(HOUR), 20L, 4.0d);
+        doThrow(new IllegalStateException("redis down")).when(articleTrendingStore).incrementScoresBatch(anyMap());
+
+        // When: flush가 실패한 뒤 새 증가분과 함께 다시 flush하면
+        int written = accumulator.flush();
+        accumulator.add(List.of(HOUR), 10L, 1.0d);
+        doNothing().when(articleTrendingStore).incrementScoresBatch(anyMap());
+        accumulator.flush();
+
+        // Then: 첫 flush는 아무것도 반영하지 않고, 다음 flush가 전체 증가분을 한 번만 보내야 한다.
+        assertThat(written).isZero();
+        verify(articleTrendingStore).incrementScoresBatch(Map.of(HOUR, Map.of(10L, 2.0d, 20L, 4.0d)));
+        verify(articleTrendingStore, never()).incrementScores(any(), any(), anyDouble());
+    }
+
+    // 종료 시 남은 누적분을 반영하고, 이후 증가분은 바로 써야 한다.
+    @Test
+    void flushOnShutdown_drains_buffer_and_switches_to_direct_writes() {
+        // Given: 누적된 증가분
+        accumulator.add(List.of(HOUR), 10L, 1.0d);
+
+        // When: 종료 후 추가 이벤트가 들어오면
+        accumulator.flushOnShutdown();
+        accumulator.add(List.of(HOUR), 30L, 3.0d);
+
+        // Then: 누적분은 일괄 반영으로, 종료 이후 이벤트는 직접 반영되어야 한다.
+        verify(articleTrendingStore).incrementScoresBatch(Map.of(HOUR, Map.of(10L, 1.0d)));
+        verify(articleTrendingStore).incrementScores(List.of(HOUR), 30L, 3.0d);
+        assertThat(accumulator.isBuffering()).isFalse();
+    }
+}
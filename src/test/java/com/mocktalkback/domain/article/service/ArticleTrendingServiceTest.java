@@ -1,36 +1,42 @@
 package com.mocktalkback.domain.article.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
-import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
-import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
-import com.mocktalkback.domain.article.type.ArticleContentFormat;
+import com.mocktalkback.domain.article.repository.ArticleSummaryRow;
+import com.mocktalkback.domain.article.type.ArticleTrendingSignal;
 import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
-import com.mocktalkback.domain.board.entity.BoardEntity;
-import com.mocktalkback.domain.board.type.BoardVisibility;
-import com.mocktalkback.domain.comment.repository.CommentRepository;
 import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
-import com.mocktalkback.domain.role.entity.RoleEntity;
 import com.mocktalkback.domain.role.type.ContentVisibility;
-import com.mocktalkback.domain.user.entity.UserEntity;
 
 @ExtendWith(MockitoExtension.class)
 class ArticleTrendingServiceTest {
@@ -39,82 +45,236 @@ class ArticleTrendingServiceTest {
     private ArticleTrendingStore articleTrendingStore;
 
     @Mock
-    private ArticleRepository articleRepository;
+    private ArticleTrendingScoreAccumulator articleTrendingScoreAccumulator;
 
     @Mock
-    private CommentRepository commentRepository;
+    private ArticleRepository articleRepository;
 
     @Mock
-    private ArticleReactionRepository articleReactionRepository;
+    private ArticleStatsService articleStatsService;
+
+    @Captor
+    private ArgumentCaptor<List<String>> keysCaptor;
+
+    // 게시글 반응 전환은 이전/현재 반응 가중치의 차이를 전체/게시판 현재 시간 버킷에 함께 반영해야 한다.
+    @Test
+    void recordOnce_applies_reaction_transition_delta_to_all_buckets() {
+        // Given: 고정 시각의 트렌딩 서비스
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+
+        // When: 반응이 좋아요에서 싫어요로 바뀌면
+        service.recordOnce("key-1", ArticleTrendingOutboxPayload.reactionChanged(10L, 1L, (short) 1, (short) -1));
+
+        // Then: 싫어요와 좋아요 가중치의 차이가 같은 대상 목록의 전체/게시판 시간 버킷에 반영되어야 한다.
+        verify(articleTrendingStore).incrementScoresOnce(
+            "trend:outbox:dedupe:key-1",
+            Duration.ofDays(1),
+            List.of(
+                new ArticleTrendingStore.ScoreTarget("trend:article:hour:2026031218", Duration.ofDays(8)),
+                new ArticleTrendingStore.ScoreTarget("trend:board:1:hour:2026031218", Duration.ofDays(8))
+            ),
+            10L,
+            -5.0d
+        );
+    }
 
-    // 게시글 반응 전환은 모든 버킷에 동일한 delta를 반영해야 한다.
+    // 반응이 바뀌지 않아 점수 차이가 없으면 Redis를 호출하지 않아야 한다.
     @Test
-    void recordArticleReactionChanged_applies_transition_delta_to_all_buckets() {
+    void recordOnce_skips_zero_delta() {
         // Given: 고정 시각의 트렌딩 서비스
         ArticleTrendingService service = new ArticleTrendingService(
             articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+
+        // When: 좋아요에서 좋아요로 반영하면
+        service.recordOnce("key-1", ArticleTrendingOutboxPayload.reactionChanged(10L, 1L, (short) 1, (short) 1));
+
+        // Then: 스크립트를 호출하지 않아야 한다.
+        verifyNoInteractions(articleTrendingStore);
+    }
+
+    // 아웃박스 이벤트 점수는 멱등 키로 dedupe해 재전달되어도 한 번만 반영하고, 버퍼링 중에도 누적기를 거치지 않아야 한다.
+    @Test
+    void recordOnce_applies_signal_score_once_per_idempotency_key() {
+        // Given: 고정 시각의 트렌딩 서비스, 두 번째 호출부터 이미 반영된 멱등 키
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+        List<ArticleTrendingStore.ScoreTarget> targets = List.of(
+            new ArticleTrendingStore.ScoreTarget("trend:article:hour:2026031218", Duration.ofDays(8)),
+            new ArticleTrendingStore.ScoreTarget("trend:board:1:hour:2026031218", Duration.ofDays(8))
+        );
+        when(articleTrendingStore.incrementScoresOnce("trend:outbox:dedupe:key-1", Duration.ofDays(1), targets, 10L, 4.0d))
+            .thenReturn(true)
+            .thenReturn(false);
+        ArticleTrendingOutboxPayload payload =
+            ArticleTrendingOutboxPayload.of(10L, 1L, ArticleTrendingSignal.COMMENT_CREATED);
+
+        // When: 같은 이벤트를 두 번 반영하면
+        service.recordOnce("key-1", payload);
+        service.recordOnce("key-1", payload);
+
+        // Then: dedupe와 점수 반영을 같은 스크립트로 넘기고 누적기는 쓰지 않아야 한다.
+        verify(articleTrendingStore, times(2))
+            .incrementScoresOnce("trend:outbox:dedupe:key-1", Duration.ofDays(1), targets, 10L, 4.0d);
+        verifyNoInteractions(articleTrendingScoreAccumulator);
+    }
+
+    // 누적기 flush가 실패해도 아웃박스 점수는 이미 반영되어 있어야 하고, 재전달은 dedupe로 다시 더하지 않아야 한다.
+    @Test
+    void recordOnce_survives_accumulator_flush_failure_and_dedupes_redelivery() {
+        // Given: 버퍼링 중인 실제 누적기와 flush가 실패하는 Redis
+        Clock clock = Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"));
+        ArticleTrendingScoreAccumulator accumulator = new ArticleTrendingScoreAccumulator(articleTrendingStore, clock);
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            accumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            clock
+        );
+        lenient().doThrow(new IllegalStateException("redis down")).when(articleTrendingStore).incrementScoresBatch(any());
+        when(articleTrendingStore.incrementScoresOnce(
+            eq("trend:outbox:dedupe:key-1"),
+            eq(Duration.ofDays(1)),
+            argThat(targets -> targets.size() == 2),
+            eq(10L),
+            eq(4.0d)
+        )).thenReturn(true).thenReturn(false);
+        ArticleTrendingOutboxPayload payload =
+            ArticleTrendingOutboxPayload.of(10L, 1L, ArticleTrendingSignal.COMMENT_CREATED);
+
+        // When: 반영 직후 flush가 실패하고 같은 이벤트가 재전달되면
+        service.recordOnce("key-1", payload);
+        accumulator.flush();
+        service.recordOnce("key-1", payload);
+
+        // Then: 점수는 스크립트로만 반영되고 누적기에서 Redis로 넘어간 점수는 없어야 한다.
+        verify(articleTrendingStore, times(2)).incrementScoresOnce(
+            eq("trend:outbox:dedupe:key-1"),
+            eq(Duration.ofDays(1)),
+            argThat(targets -> targets.size() == 2),
+            eq(10L),
+            eq(4.0d)
+        );
+        verify(articleTrendingStore, never()).incrementScoresBatch(any());
+        verify(articleTrendingStore, never()).incrementScores(any(), any(), anyDouble());
+    }
+
+    // 첫 조회 기록은 dedupe 키와 전체/게시판 시간 버킷을 한 번의 스크립트 호출로 넘겨야 한다.
+    @Test
+    void recordFirstView_sends_dedupe_key_and_all_buckets_in_one_call() {
+        // Given: 고정 시각의 트렌딩 서비스
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+        when(articleTrendingScoreAccumulator.isBuffering()).thenReturn(false);
+        when(articleTrendingStore.recordFirstView(
+            eq("article:view:dedupe:v1:10:user:2"),
+            eq(Duration.ofDays(1)),
+            argThat(targets -> targets.size() == 2
+                && targets.get(1).key().equals("trend:board:1:hour:2026031218")),
+            eq(10L),
+            eq(1.0d)
+        )).thenReturn(true);
+
+        // When: 첫 조회를 기록하면
+        boolean firstView = service.recordFirstView(10L, 1L, "article:view:dedupe:v1:10:user:2", Duration.ofDays(1));
+
+        // Then: 스크립트 결과를 그대로 반환해야 한다.
+        assertThat(firstView).isTrue();
+    }
+
+    // 점수 버퍼링 중에는 스크립트로 dedupe만 하고 첫 조회 점수는 로컬 누적기에 넘겨야 한다.
+    @Test
+    void recordFirstView_accumulates_score_locally_when_buffering() {
+        // Given: 버퍼링 중인 누적기
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
             articleRepository,
-            commentRepository,
-            articleReactionRepository,
+            articleStatsService,
             new AuthorDisplayResolver(),
             new PublicArticleFeedPolicy(),
             Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
         );
+        when(articleTrendingScoreAccumulator.isBuffering()).thenReturn(true);
+        when(articleTrendingStore.recordFirstView("dedupe", Duration.ofDays(1), List.of(), 10L, 1.0d)).thenReturn(true);
 
-        // When: 반응이 없음에서 좋아요로 바뀌면
-        service.recordArticleReactionChanged(10L, (short) 0, (short) 1);
+        // When: 첫 조회를 기록하면
+        boolean firstView = service.recordFirstView(10L, 1L, "dedupe", Duration.ofDays(1));
 
-        // Then: 좋아요 가중치가 모든 버킷에 반영되어야 한다.
-        verify(articleTrendingStore).incrementScore(eq("trend:article:hour:2026031218"), eq(10L), eq(3.0d), any());
-        verify(articleTrendingStore).incrementScore(eq("trend:article:day:20260312"), eq(10L), eq(3.0d), any());
-        verify(articleTrendingStore).incrementScore(eq("trend:article:week:202611"), eq(10L), eq(3.0d), any());
+        // Then: 전체/게시판 시간 버킷 점수가 누적기에 적재되어야 한다.
+        assertThat(firstView).isTrue();
+        verify(articleTrendingScoreAccumulator).add(argThat(targets -> targets.size() == 2), eq(10L), eq(1.0d));
     }
 
     // 공개 인기글 조회는 Redis 순위를 유지한 채 공개 게시글만 응답해야 한다.
     @Test
     void findTrendingPublic_returns_ranked_public_articles() {
-        // Given: 공개 게시글 1건과 Redis 랭킹
+        // Given: 공개 게시글 요약 1건과 Redis 랭킹
         ArticleTrendingService service = new ArticleTrendingService(
             articleTrendingStore,
+            articleTrendingScoreAccumulator,
             articleRepository,
-            commentRepository,
-            articleReactionRepository,
+            articleStatsService,
             new AuthorDisplayResolver(),
             new PublicArticleFeedPolicy(),
             Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
         );
 
-        BoardEntity board = BoardEntity.builder()
-            .boardName("자유")
-            .slug("free")
-            .description("테스트")
-            .visibility(BoardVisibility.PUBLIC)
-            .build();
-        ReflectionTestUtils.setField(board, "id", 1L);
-
-        RoleEntity role = RoleEntity.create("USER", 0, "테스트");
-        UserEntity user = UserEntity.createLocal(role, "login", "user@test.com", "pw", "user", "display", "handle");
-        ReflectionTestUtils.setField(user, "id", 2L);
-
-        ArticleEntity article = ArticleEntity.builder()
-            .board(board)
-            .user(user)
-            .category(null)
-            .visibility(ContentVisibility.PUBLIC)
-            .title("트렌딩 제목")
-            .content("content")
-            .contentSource("content")
-            .contentFormat(ArticleContentFormat.HTML)
-            .notice(false)
-            .hit(12L)
-            .build();
-        ReflectionTestUtils.setField(article, "id", 10L);
-
-        when(articleTrendingStore.findTopArticles("trend:article:day:20260312", 30))
+        ArticleSummaryRow row = new ArticleSummaryRow(
+            10L,
+            1L,
+            "free",
+            "자유",
+            2L,
+            "display",
+            "user",
+            null,
+            null,
+            ContentVisibility.PUBLIC,
+            "트렌딩 제목",
+            "",
+            12L,
+            false,
+            Instant.parse("2026-03-12T09:00:00Z"),
+            Instant.parse("2026-03-12T09:00:00Z")
+        );
+
+        when(articleTrendingStore.findTopArticles("trend:article:rolling:day", 30))
             .thenReturn(List.of(new ArticleTrendingStore.RankedArticle(10L, 18.0d)));
-        when(articleRepository.findAllByIdInAndDeletedAtIsNull(List.of(10L))).thenReturn(List.of(article));
-        when(commentRepository.countByArticleIds(List.of(10L))).thenReturn(List.of());
-        when(articleReactionRepository.countByArticleIds(List.of(10L))).thenReturn(List.of());
+        when(articleRepository.findPublicRowsByIds(List.of(10L), Set.of("notice", "inquiry"))).thenReturn(List.of(row));
+        when(articleStatsService.loadStats(List.of(10L)))
+            .thenReturn(Map.of(10L, new ArticleStatsService.ArticleStats(3L, 5L, 1L, 2L)));
 
         // When: 일간 인기글을 조회하면
         List<ArticleTrendingItemResponse> items = service.findTrendingPublic(ArticleTrendingWindow.DAY, 10);
@@ -123,57 +283,206 @@ class ArticleTrendingServiceTest {
         assertThat(items).hasSize(1);
         assertThat(items.get(0).articleId()).isEqualTo(10L);
         assertThat(items.get(0).boardSlug()).isEqualTo("free");
+        assertThat(items.get(0).authorName()).isEqualTo("display");
         assertThat(items.get(0).trendScore()).isEqualTo(18.0d);
+        assertThat(items.get(0).commentCount()).isEqualTo(3L);
+        assertThat(items.get(0).likeCount()).isEqualTo(5L);
     }
 
-    // 공개 인기글 조회는 공지사항/문의 게시판 글을 제외해야 한다.
+    // 공개 인기글 조회는 공지사항/문의 게시판을 제외 조건으로 넘기고, 걸러진 글은 응답하지 않아야 한다.
     @Test
     void findTrendingPublic_excludes_notice_and_inquiry_boards() {
-        // Given: 공지사항 게시판 글 1건과 Redis 랭킹
+        // Given: 공지사항 게시판 글 1건이 랭킹에 있고 공개 피드 조회에서 걸러지는 상황
         ArticleTrendingService service = new ArticleTrendingService(
             articleTrendingStore,
+            articleTrendingScoreAccumulator,
             articleRepository,
-            commentRepository,
-            articleReactionRepository,
+            articleStatsService,
             new AuthorDisplayResolver(),
             new PublicArticleFeedPolicy(),
             Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
         );
 
-        BoardEntity board = BoardEntity.builder()
-            .boardName("공지사항")
-            .slug("notice")
-            .description("테스트")
-            .visibility(BoardVisibility.PUBLIC)
-            .build();
-        ReflectionTestUtils.setField(board, "id", 1L);
-
-        RoleEntity role = RoleEntity.create("USER", 0, "테스트");
-        UserEntity user = UserEntity.createLocal(role, "login", "user@test.com", "pw", "user", "display", "handle");
-        ReflectionTestUtils.setField(user, "id", 2L);
-
-        ArticleEntity article = ArticleEntity.builder()
-            .board(board)
-            .user(user)
-            .category(null)
-            .visibility(ContentVisibility.PUBLIC)
-            .title("공지 제목")
-            .content("content")
-            .contentSource("content")
-            .contentFormat(ArticleContentFormat.HTML)
-            .notice(false)
-            .hit(12L)
-            .build();
-        ReflectionTestUtils.setField(article, "id", 10L);
-
-        when(articleTrendingStore.findTopArticles("trend:article:day:20260312", 30))
+        when(articleTrendingStore.findTopArticles("trend:article:rolling:day", 30))
             .thenReturn(List.of(new ArticleTrendingStore.RankedArticle(10L, 18.0d)));
-        when(articleRepository.findAllByIdInAndDeletedAtIsNull(List.of(10L))).thenReturn(List.of(article));
+        when(articleRepository.findPublicRowsByIds(List.of(10L), Set.of("notice", "inquiry"))).thenReturn(List.of());
 
         // When: 일간 인기글을 조회하면
         List<ArticleTrendingItemResponse> items = service.findTrendingPublic(ArticleTrendingWindow.DAY, 10);
 
         // Then: 공지사항 게시판 글은 결과에서 제외되어야 한다.
         assertThat(items).isEmpty();
+        verify(articleRepository).findPublicRowsByIds(List.of(10L), Set.of("notice", "inquiry"));
+    }
+
+    // 롤링 집계는 최근 24개 시간 버킷을 반감기 6시간 가중치로 합산해야 한다.
+    @Test
+    void materializeRollingWindow_unions_recent_hour_buckets_with_decay_weights() {
+        // Given: 고정 시각의 트렌딩 서비스
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+        ArgumentCaptor<double[]> weightsCaptor = ArgumentCaptor.forClass(double[].class);
+        when(articleTrendingStore.materializeRolling(
+            eq("trend:article:rolling:day"),
+            keysCaptor.capture(),
+            weightsCaptor.capture(),
+            eq(Duration.ofMinutes(10)),
+            eq(1000)
+        )).thenReturn(5L);
+
+        // When: 일간 롤링 창을 집계하면
+        long size = service.materializeRollingWindow(ArticleTrendingWindow.DAY);
+
+        // Then: 현재 시간부터 거꾸로 24개 버킷이 감쇠 가중치와 함께 전달되어야 한다.
+        assertThat(size).isEqualTo(5L);
+        assertThat(keysCaptor.getValue()).hasSize(24);
+        assertThat(keysCaptor.getValue().get(0)).isEqualTo("trend:article:hour:2026031218");
+        assertThat(keysCaptor.getValue().get(23)).isEqualTo("trend:article:hour:2026031119");
+        assertThat(weightsCaptor.getValue()[0]).isEqualTo(1.0d);
+        assertThat(weightsCaptor.getValue()[6]).isCloseTo(0.5d, within(1e-9));
+        assertThat(weightsCaptor.getValue()[12]).isCloseTo(0.25d, within(1e-9));
+    }
+
+    // 롤링 키가 비어 있고 집계 결과도 없으면 빈 목록을 반환해야 한다.
+    @Test
+    void findTrendingPublic_materializes_rolling_window_when_missing() {
+        // Given: 아직 집계되지 않은 롤링 키
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+        when(articleTrendingStore.findTopArticles("trend:article:rolling:week", 30)).thenReturn(List.of());
+        when(articleTrendingStore.materializeRolling(
+            eq("trend:article:rolling:week"),
+            argThat(keys -> keys.size() == 168),
+            argThat(weights -> weights.length == 168),
+            eq(Duration.ofMinutes(10)),
+            eq(1000)
+        )).thenReturn(0L);
+
+        // When: 주간 인기글을 조회하면
+        List<ArticleTrendingItemResponse> items = service.findTrendingPublic(ArticleTrendingWindow.WEEK, 10);
+
+        // Then: 즉시 집계를 시도한 뒤 빈 목록을 반환해야 한다.
+        assertThat(items).isEmpty();
+    }
+
+    // 스냅샷용 조회는 Redis 실패를 빈 목록으로 바꾸지 않고 그대로 던져야 한다.
+    @Test
+    void loadTrendingPublic_propagates_redis_failure() {
+        // Given: Redis 조회가 실패하는 상황
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+        when(articleTrendingStore.findTopArticles("trend:article:rolling:day", 30))
+            .thenThrow(new IllegalStateException("redis down"));
+
+        // When & Then: 일반 조회는 빈 목록, 스냅샷용 조회는 예외여야 한다.
+        assertThat(service.findTrendingPublic(ArticleTrendingWindow.DAY, 10)).isEmpty();
+        assertThatThrownBy(() -> service.loadTrendingPublic(ArticleTrendingWindow.DAY, 10))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    // 게시판 인기글은 게시판 롤링 키를 짧은 TTL/게시판 보관 개수로 만들고, 다른 게시판으로 옮겨진 글은 제외해야 한다.
+    @Test
+    void findBoardTrendingPublic_returns_only_articles_in_board() {
+        // Given: 게시판 1의 랭킹에 다른 게시판으로 이동한 글이 섞인 상황
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+        when(articleTrendingStore.findTopArticles("trend:board:1:rolling:day", 30))
+            .thenReturn(List.of())
+            .thenReturn(List.of(
+                new ArticleTrendingStore.RankedArticle(10L, 18.0d),
+                new ArticleTrendingStore.RankedArticle(11L, 9.0d)
+            ));
+        when(articleTrendingStore.materializeRolling(
+            eq("trend:board:1:rolling:day"),
+            argThat(keys -> keys.size() == 24 && keys.get(0).equals("trend:board:1:hour:2026031218")),
+            argThat(weights -> weights.length == 24),
+            eq(Duration.ofMinutes(1)),
+            eq(200)
+        )).thenReturn(2L);
+        when(articleRepository.findPublicRowsByIds(List.of(10L, 11L), Set.of()))
+            .thenReturn(List.of(summaryRow(10L, 1L), summaryRow(11L, 2L)));
+        when(articleStatsService.loadStats(List.of(10L))).thenReturn(Map.of());
+
+        // When: 게시판 일간 인기글을 조회하면
+        List<ArticleTrendingItemResponse> items = service.findBoardTrendingPublic(1L, ArticleTrendingWindow.DAY, 10);
+
+        // Then: 게시판 1의 글만 반환해야 한다.
+        assertThat(items).extracting(ArticleTrendingItemResponse::articleId).containsExactly(10L);
+    }
+
+    // 정리 대상에는 최근 점수가 반영된 게시판의 현재/직전 시간 버킷이 게이지 태그 없이 포함되어야 한다.
+    @Test
+    void trimTargets_include_recently_active_board_buckets() {
+        // Given: 게시판 1에 점수가 반영된 상황
+        ArticleTrendingService service = new ArticleTrendingService(
+            articleTrendingStore,
+            articleTrendingScoreAccumulator,
+            articleRepository,
+            articleStatsService,
+            new AuthorDisplayResolver(),
+            new PublicArticleFeedPolicy(),
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+        service.recordOnce("key-1", ArticleTrendingOutboxPayload.of(10L, 1L, ArticleTrendingSignal.BOOKMARK_CREATED));
+
+        // When: 정리 대상을 계산하면
+        List<ArticleTrendingService.TrimTarget> targets = service.trimTargets();
+
+        // Then: 전체 키 5개와 게시판 시간 버킷 2개가 대상이어야 한다.
+        assertThat(targets).hasSize(7);
+        assertThat(targets).contains(
+            new ArticleTrendingService.TrimTarget("trend:article:hour:2026031218", "hour_current", 1000),
+            new ArticleTrendingService.TrimTarget("trend:board:1:hour:2026031218", null, 200),
+            new ArticleTrendingService.TrimTarget("trend:board:1:hour:2026031217", null, 200)
+        );
+    }
+
+    private ArticleSummaryRow summaryRow(Long articleId, Long boardId) {
+        return new ArticleSummaryRow(
+            articleId,
+            boardId,
+            "free",
+            "자유",
+            2L,
+            "display",
+            "user",
+            null,
+            null,
+            ContentVisibility.PUBLIC,
+            "트렌딩 제목",
+            "",
+            12L,
+            false,
+            Instant.parse("2026-03-12T09:00:00Z"),
+            Instant.parse("2026-03-12T09:00:00Z")
+        );
     }
 }
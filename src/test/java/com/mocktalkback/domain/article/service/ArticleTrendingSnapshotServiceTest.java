@@ -0,0 +1,188 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
+import com.mocktalkback.domain.article.service.ArticleTrendingSnapshotStore.Snapshot;
+import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleTrendingSnapshotServiceTest {
+
+    @Mock
+    private ArticleTrendingService articleTrendingService;
+
+    @Mock
+    private ArticleTrendingSnapshotStore articleTrendingSnapshotStore;
+
+    // 스케줄러가 만든 스냅샷이 있으면 요청은 DB 집계를 다시 호출하지 않고 개수만 잘라 반환해야 한다.
+    @Test
+    void find_returns_prebuilt_snapshot_without_hitting_database() {
+        // Given: 스케줄러가 만든 일간 스냅샷
+        ArticleTrendingSnapshotService service = newService();
+        when(articleTrendingService.loadTrendingPublic(ArticleTrendingWindow.DAY, 50))
+            .thenReturn(List.of(item(10L), item(20L), item(30L)));
+        service.rebuild(ArticleTrendingWindow.DAY);
+
+        // When: 2개를 조회하면
+        List<ArticleTrendingItemResponse> items = service.find(ArticleTrendingWindow.DAY, 2);
+
+        // Then: 스냅샷 앞 2개를 반환하고 DB 집계는 한 번만 호출되어야 한다.
+        assertThat(items).extracting(ArticleTrendingItemResponse::articleId).containsExactly(10L, 20L);
+        verify(articleTrendingService, times(1)).loadTrendingPublic(ArticleTrendingWindow.DAY, 50);
+        verify(articleTrendingSnapshotStore, never()).find(any());
+    }
+
+    // 로컬 스냅샷이 없으면 Redis 스냅샷을 DB보다 먼저 사용해야 한다.
+    @Test
+    void find_uses_redis_snapshot_before_database() {
+        // Given: Redis에 저장된 주간 스냅샷
+        ArticleTrendingSnapshotService service = newService();
+        when(articleTrendingSnapshotStore.find(ArticleTrendingWindow.WEEK))
+            .thenReturn(Optional.of(new Snapshot(0L, List.of(item(10L)))));
+
+        // When: 주간 인기글을 조회하면
+        List<ArticleTrendingItemResponse> items = service.find(ArticleTrendingWindow.WEEK, 10);
+
+        // Then: Redis 스냅샷을 반환하고 DB 집계는 호출하지 않아야 한다.
+        assertThat(items).extracting(ArticleTrendingItemResponse::articleId).containsExactly(10L);
+        verify(articleTrendingService, never()).loadTrendingPublic(any(), eq(50));
+    }
+
+    // 동시에 들어온 miss는 한 스레드만 스냅샷을 만들고 나머지는 그 결과를 사용해야 한다.
+    @Test
+    void find_single_flights_concurrent_misses() throws Exception {
+        // Given: 느린 DB 집계와 비어 있는 Redis
+        ArticleTrendingSnapshotService service = newService();
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(articleTrendingSnapshotStore.find(ArticleTrendingWindow.HOUR)).thenReturn(Optional.empty());
+        when(articleTrendingService.loadTrendingPublic(ArticleTrendingWindow.HOUR, 50)).thenAnswer(invocation -> {
+            builds.incrementAndGet();
+            building.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return List.of(item(10L));
+        });
+
+        // When: 두 요청이 동시에 조회하면
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<ArticleTrendingItemResponse>> first = executor.submit(() -> service.find(ArticleTrendingWindow.HOUR, 10));
+            assertThat(building.await(2, TimeUnit.SECONDS)).isTrue();
+            Future<List<ArticleTrendingItemResponse>> second = executor.submit(() -> service.find(ArticleTrendingWindow.HOUR, 10));
+            release.countDown();
+
+            // Then: 스냅샷은 한 번만 만들어지고 두 요청 모두 같은 결과를 받아야 한다.
+            assertThat(first.get(2, TimeUnit.SECONDS)).extracting(ArticleTrendingItemResponse::articleId).containsExactly(10L);
+            assertThat(second.get(2, TimeUnit.SECONDS)).extracting(ArticleTrendingItemResponse::articleId).containsExactly(10L);
+            assertThat(builds).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Redis 장애로 다시 만들지 못하면 빈 스냅샷으로 덮지 않고 이전 스냅샷을 반환해야 한다.
+    @Test
+    void find_returns_previous_snapshot_when_rebuild_fails() {
+        // Given: 한 번 만들어진 뒤 로컬 TTL이 지난 일간 스냅샷과 실패하는 재집계
+        AtomicLong nowMillis = new AtomicLong(Instant.parse("2026-03-12T09:15:30Z").toEpochMilli());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> nowMillis.get());
+        ArticleTrendingSnapshotService service = new ArticleTrendingSnapshotService(
+            articleTrendingService,
+            articleTrendingSnapshotStore,
+            clock
+        );
+        when(articleTrendingService.loadTrendingPublic(ArticleTrendingWindow.DAY, 50))
+            .thenReturn(List.of(item(10L)))
+            .thenThrow(new IllegalStateException("redis down"));
+        when(articleTrendingSnapshotStore.find(ArticleTrendingWindow.DAY)).thenReturn(Optional.empty());
+        service.rebuild(ArticleTrendingWindow.DAY);
+        nowMillis.addAndGet(15_001L);
+
+        // When: 재집계가 실패하는 시점에 조회하면
+        List<ArticleTrendingItemResponse> items = service.find(ArticleTrendingWindow.DAY, 10);
+
+        // Then: 이전 스냅샷을 반환하고 빈 결과로 직접 조회하지 않아야 한다.
+        assertThat(items).extracting(ArticleTrendingItemResponse::articleId).containsExactly(10L);
+        verify(articleTrendingService, never()).findTrendingPublic(any(), eq(10));
+    }
+
+    // 게시판 트렌딩은 짧은 TTL 동안 로컬 캐시를 재사용하고, 만료 후에만 다시 집계해야 한다.
+    @Test
+    void findBoard_reuses_local_cache_until_ttl_expires() {
+        // Given: 시각을 움직일 수 있는 스냅샷 서비스
+        AtomicLong nowMillis = new AtomicLong(Instant.parse("2026-03-12T09:15:30Z").toEpochMilli());
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> nowMillis.get());
+        ArticleTrendingSnapshotService service = new ArticleTrendingSnapshotService(
+            articleTrendingService,
+            articleTrendingSnapshotStore,
+            clock
+        );
+        when(articleTrendingService.loadBoardTrendingPublic(1L, ArticleTrendingWindow.DAY, 50))
+            .thenReturn(List.of(item(10L), item(20L)));
+
+        // When: TTL 안에서 두 번, TTL이 지난 뒤 한 번 조회하면
+        List<ArticleTrendingItemResponse> first = service.findBoard(1L, ArticleTrendingWindow.DAY, 1);
+        service.findBoard(1L, ArticleTrendingWindow.DAY, 10);
+        nowMillis.addAndGet(30_001L);
+        service.findBoard(1L, ArticleTrendingWindow.DAY, 10);
+
+        // Then: 집계는 캐시 적재와 만료 후 재적재에서만 호출되고 Redis 스냅샷은 사용하지 않아야 한다.
+        assertThat(first).extracting(ArticleTrendingItemResponse::articleId).containsExactly(10L);
+        verify(articleTrendingService, times(2)).loadBoardTrendingPublic(1L, ArticleTrendingWindow.DAY, 50);
+        verify(articleTrendingSnapshotStore, never()).find(any());
+    }
+
+    private ArticleTrendingSnapshotService newService() {
+        return new ArticleTrendingSnapshotService(
+            articleTrendingService,
+            articleTrendingSnapshotStore,
+            Clock.fixed(Instant.parse("2026-03-12T09:15:30Z"), ZoneId.of("UTC"))
+        );
+    }
+
+    private ArticleTrendingItemResponse item(Long articleId) {
+        return new ArticleTrendingItemResponse(
+            articleId,
+            1L,
+            "free",
+            2L,
+            "display",
+            "트렌딩 제목",
+            12L,
+            3L,
+            5L,
+            1L,
+            18.0d,
+            Instant.parse("2026-03-12T09:00:00Z")
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleTrendingTrimmerTest {
+
+    @Mock
+    private ArticleTrendingStore articleTrendingStore;
+
+    @Mock
+    private ArticleTrendingService articleTrendingService;
+
+    // 정리 작업은 대상 키를 상위 N개로 자르고 크기/메모리/제거 수를 메트릭에 남겨야 한다.
+    @Test
+    void trim_keeps_top_members_and_records_metrics() {
+        // Given: 보관 개수 100과 정리 대상 키
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ArticleTrendingTrimmer trimmer = new ArticleTrendingTrimmer(articleTrendingStore, articleTrendingService, meterRegistry);
+        when(articleTrendingService.trimTargets()).thenReturn(List.of(
+            new ArticleTrendingService.TrimTarget("trend:article:rolling:day", "rolling_day", 100)
+        ));
+        when(articleTrendingStore.trimToTop("trend:article:rolling:day", 100)).thenReturn(40L);
+        when(articleTrendingStore.size("trend:article:rolling:day")).thenReturn(100L);
+        when(articleTrendingStore.memoryUsage("trend:article:rolling:day")).thenReturn(8192L);
+
+        // When: 정리하면
+        trimmer.trim();
+
+        // Then: 제거 수와 현재 크기/메모리가 메트릭에 반영되어야 한다.
+        assertThat(meterRegistry.get("article.trending.zset.trimmed").counter().count()).isEqualTo(40.0d);
+        assertThat(meterRegistry.get("article.trending.zset.size").tag("key", "rolling_day").gauge().value())
+            .isEqualTo(100.0d);
+        assertThat(meterRegistry.get("article.trending.zset.memory.bytes").tag("key", "rolling_day").gauge().value())
+            .isEqualTo(8192.0d);
+    }
+
+    // 한 키의 정리가 실패해도 나머지 키는 계속 정리해야 한다.
+    @Test
+    void trim_continues_when_one_key_fails() {
+        // Given: 첫 키 정리 실패
+        ArticleTrendingTrimmer trimmer = new ArticleTrendingTrimmer(
+            articleTrendingStore,
+            articleTrendingService,
+            new SimpleMeterRegistry()
+        );
+        when(articleTrendingService.trimTargets()).thenReturn(List.of(
+            new ArticleTrendingService.TrimTarget("trend:article:hour:2026031218", "hour_current", 1000),
+            new ArticleTrendingService.TrimTarget("trend:article:rolling:day", "rolling_day", 1000)
+        ));
+        when(articleTrendingStore.trimToTop("trend:article:hour:2026031218", 1000))
+            .thenThrow(new IllegalStateException("redis down"));
+        when(articleTrendingStore.trimToTop("trend:article:rolling:day", 1000)).thenReturn(0L);
+
+        // When: 정리하면
+        trimmer.trim();
+
+        // Then: 다음 키 정리는 수행되어야 한다.
+        verify(articleTrendingStore).size("trend:article:rolling:day");
+    }
+
+    // 게시판 버킷은 게시판 수만큼 늘어나므로 정리만 하고 키별 게이지는 만들지 않아야 한다.
+    @Test
+    void trim_skips_gauges_for_board_keys() {
+        // Given: 메트릭 태그가 없는 게시판 버킷
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ArticleTrendingTrimmer trimmer = new ArticleTrendingTrimmer(articleTrendingStore, articleTrendingService, meterRegistry);
+        when(articleTrendingService.trimTargets()).thenReturn(List.of(
+            new ArticleTrendingService.TrimTarget("trend:board:1:hour:2026031218", null, 200)
+        ));
+        when(articleTrendingStore.trimToTop("trend:board:1:hour:2026031218", 200)).thenReturn(3L);
+
+        // When: 정리하면
+        trimmer.trim();
+
+        // Then: 게시판 보관 개수로 잘리고 크기/메모리는 조회하지 않아야 한다.
+        assertThat(meterRegistry.get("article.trending.zset.trimmed").counter().count()).isEqualTo(3.0d);
+        assertThat(meterRegistry.find("article.trending.zset.size").gauges()).isEmpty();
+        verify(articleTrendingStore, never()).size("trend:board:1:hour:2026031218");
+    }
+}
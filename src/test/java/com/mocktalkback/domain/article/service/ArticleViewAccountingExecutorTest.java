@@ -0,0 +1,76 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArticleViewAccountingExecutorTest {
+
+    private ArticleViewAccountingExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    // 큐가 가득 차면 요청 스레드를 막지 않고 이벤트를 버린 뒤 메트릭에 남겨야 한다.
+    @Test
+    void submit_drops_event_and_records_metrics_when_queue_is_full() throws InterruptedException {
+        // Given: 작업 스레드 1개와 큐 1칸이 모두 점유된 실행기
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new ArticleViewAccountingExecutor(meterRegistry, 1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(1L, () -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+        boolean queued = executor.submit(2L, () -> { });
+
+        // When: 추가 이벤트를 제출하면
+        boolean accepted = executor.submit(3L, () -> { });
+
+        // Then: 버려지고 큐 길이/버림 수가 메트릭에 반영되어야 한다.
+        assertThat(queued).isTrue();
+        assertThat(accepted).isFalse();
+        assertThat(meterRegistry.get("article.view.accounting.dropped").counter().count()).isEqualTo(1.0d);
+        assertThat(meterRegistry.get("article.view.accounting.submitted").counter().count()).isEqualTo(2.0d);
+        assertThat(meterRegistry.get("article.view.accounting.queue.size").gauge().value()).isEqualTo(1.0d);
+        release.countDown();
+    }
+
+    // 종료 시 이미 적재된 이벤트는 처리한 뒤 멈춰야 한다.
+    @Test
+    void destroy_drains_queued_events() throws InterruptedException {
+        // Given: 적재된 이벤트
+        executor = new ArticleViewAccountingExecutor(new SimpleMeterRegistry(), 1, 10);
+        CountDownLatch processed = new CountDownLatch(3);
+        for (long articleId = 1L; articleId <= 3L; articleId++) {
+            executor.submit(articleId, processed::countDown);
+        }
+
+        // When: 종료하면
+        executor.destroy();
+
+        // Then: 모든 이벤트가 처리되어야 한다.
+        assertThat(processed.getCount()).isZero();
+        assertThat(executor.queueSize()).isZero();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
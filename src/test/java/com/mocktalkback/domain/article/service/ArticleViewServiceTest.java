@@ -3,6 +3,7 @@ package com.mocktalkback.domain.article.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -25,8 +27,8 @@ class ArticleViewServiceTest {
     @Mock
     private ArticleHitService articleHitService;
 
-    @Mock
-    private ArticleViewDedupeStore articleViewDedupeStore;
+    @Spy
+    private ArticleViewDedupeStore articleViewDedupeStore = new ArticleViewDedupeStore();
 
     @Mock
     private ArticleViewerKeyService articleViewerKeyService;
@@ -34,29 +36,33 @@ class ArticleViewServiceTest {
     @Mock
     private ArticleTrendingService articleTrendingService;
 
+    @Mock
+    private ArticleViewAccountingExecutor articleViewAccountingExecutor;
+
     @Mock
     private CurrentUserService currentUserService;
 
     @InjectMocks
     private ArticleViewService articleViewService;
 
-    // 조회 dedupe를 통과한 첫 조회는 원자 조회수 증가를 수행해야 한다.
+    // 조회 dedupe를 통과한 첫 조회는 조회수 버퍼에 증가분을 적재해야 한다.
     @Test
     void increaseHitIfEligible_increases_hit_when_first_view() {
         // Given: 로그인 사용자의 첫 조회
         ReflectionTestUtils.setField(articleViewService, "dedupeTtlSeconds", 86400L);
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(2L));
         when(articleViewerKeyService.resolve(2L, "127.0.0.1", "MockBrowser/1.0")).thenReturn("user:2");
-        when(articleViewDedupeStore.markViewed(eq(10L), eq("user:2"), any(Duration.class))).thenReturn(true);
-        when(articleHitService.increaseAndGet(10L)).thenReturn(8L);
+        when(articleTrendingService.recordFirstView(eq(10L), eq(1L), eq("article:view:dedupe:v1:10:user:2"), any(Duration.class)))
+            .thenReturn(true);
+        when(articleHitService.resolveHit(10L, 7L)).thenReturn(8L);
+        runAccountingInline();
 
         // When: 조회수를 반영하면
-        long hit = articleViewService.increaseHitIfEligible(10L, 7L, "127.0.0.1", "MockBrowser/1.0");
+        long hit = articleViewService.increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0");
 
-        // Then: 원자 조회수 증가 결과를 반환해야 한다.
+        // Then: 저장된 조회수와 미반영 증가분을 합친 값을 반환하고 집계를 반영해야 한다.
         assertThat(hit).isEqualTo(8L);
-        verify(articleHitService).increaseAndGet(10L);
-        verify(articleTrendingService).recordView(10L);
+        verify(articleHitService).increase(10L);
     }
 
     // 중복 조회는 조회수 증가 없이 현재 hit 값을 그대로 반환해야 한다.
@@ -66,14 +72,17 @@ class ArticleViewServiceTest {
         ReflectionTestUtils.setField(articleViewService, "dedupeTtlSeconds", 86400L);
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(2L));
         when(articleViewerKeyService.resolve(2L, "127.0.0.1", "MockBrowser/1.0")).thenReturn("user:2");
-        when(articleViewDedupeStore.markViewed(eq(10L), eq("user:2"), any(Duration.class))).thenReturn(false);
+        when(articleTrendingService.recordFirstView(eq(10L), eq(1L), eq("article:view:dedupe:v1:10:user:2"), any(Duration.class)))
+            .thenReturn(false);
+        when(articleHitService.resolveHit(10L, 7L)).thenReturn(7L);
+        runAccountingInline();
 
         // When: 조회수를 반영하면
-        long hit = articleViewService.increaseHitIfEligible(10L, 7L, "127.0.0.1", "MockBrowser/1.0");
+        long hit = articleViewService.increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0");
 
         // Then: 현재 조회수만 반환해야 한다.
         assertThat(hit).isEqualTo(7L);
-        verify(articleHitService, never()).increaseAndGet(10L);
+        verify(articleHitService, never()).increase(10L);
     }
 
     // Redis dedupe 처리 실패 시 조회수 증가는 생략하고 현재 hit 값을 유지해야 한다.
@@ -84,14 +93,42 @@ class ArticleViewServiceTest {
         when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
         when(articleViewerKeyService.resolve(null, "127.0.0.1", "MockBrowser/1.0"))
             .thenReturn("anon:test");
-        when(articleViewDedupeStore.markViewed(eq(10L), eq("anon:test"), any(Duration.class)))
+        when(articleTrendingService.recordFirstView(eq(10L), eq(1L), eq("article:view:dedupe:v1:10:anon:test"), any(Duration.class)))
             .thenThrow(new IllegalStateException("redis down"));
+        when(articleHitService.resolveHit(10L, 7L)).thenReturn(7L);
+        runAccountingInline();
 
         // When: 조회수를 반영하면
-        long hit = articleViewService.increaseHitIfEligible(10L, 7L, "127.0.0.1", "MockBrowser/1.0");
+        long hit = articleViewService.increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0");
 
         // Then: 현재 조회수를 유지해야 한다.
         assertThat(hit).isEqualTo(7L);
-        verify(articleHitService, never()).increaseAndGet(10L);
+        verify(articleHitService, never()).increase(10L);
+    }
+
+    // 집계 큐가 가득 차 이벤트가 버려지면 Redis/조회수 버퍼를 건드리지 않고 현재 hit 값을 반환해야 한다.
+    @Test
+    void increaseHitIfEligible_skips_accounting_when_executor_drops_event() {
+        // Given: 포화된 집계 실행기
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(2L));
+        when(articleViewerKeyService.resolve(2L, "127.0.0.1", "MockBrowser/1.0")).thenReturn("user:2");
+        when(articleViewAccountingExecutor.submit(eq(10L), any(Runnable.class))).thenReturn(false);
+        when(articleHitService.resolveHit(10L, 7L)).thenReturn(7L);
+
+        // When: 조회수를 반영하면
+        long hit = articleViewService.increaseHitIfEligible(10L, 1L, 7L, "127.0.0.1", "MockBrowser/1.0");
+
+        // Then: 요청은 그대로 응답하고 집계는 생략해야 한다.
+        assertThat(hit).isEqualTo(7L);
+        verify(articleTrendingService, never()).recordFirstView(any(), any(), any(), any());
+        verify(articleHitService, never()).increase(10L);
+    }
+
+    private void runAccountingInline() {
+        doAnswer(invocation -> {
+            Runnable task = invocation.getArgument(1);
+            task.run();
+            return true;
+        }).when(articleViewAccountingExecutor).submit(eq(10L), any(Runnable.class));
     }
 }
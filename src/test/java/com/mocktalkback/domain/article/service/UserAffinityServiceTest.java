@@ -0,0 +1,229 @@
+package com.mocktalkback.domain.article.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.article.entity.ArticleBookmarkEntity;
+import com.mocktalkback.domain.article.entity.ArticleEntity;
+import com.mocktalkback.domain.article.entity.UserAffinityEntity;
+import com.mocktalkback.domain.article.policy.PublicArticleFeedPolicy;
+import com.mocktalkback.domain.article.repository.ArticleBookmarkRepository;
+import com.mocktalkback.domain.article.repository.ArticleReactionRepository;
+import com.mocktalkback.domain.article.repository.UserAffinityRepository;
+import com.mocktalkback.domain.article.type.ArticleContentFormat;
+import com.mocktalkback.domain.article.type.UserAffinitySignal;
+import com.mocktalkback.domain.board.entity.BoardEntity;
+import com.mocktalkback.domain.board.type.BoardVisibility;
+import com.mocktalkback.domain.comment.repository.CommentRepository;
+import com.mocktalkback.domain.role.entity.RoleEntity;
+import com.mocktalkback.domain.role.type.ContentVisibility;
+import com.mocktalkback.domain.user.entity.UserEntity;
+
+@ExtendWith(MockitoExtension.class)
+class UserAffinityServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-14T00:00:00Z");
+    private static final long HALF_LIFE_MILLIS = Duration.ofHours(336).toMillis();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private UserAffinityRepository userAffinityRepository;
+
+    @Mock
+    private ArticleBookmarkRepository articleBookmarkRepository;
+
+    @Mock
+    private ArticleReactionRepository articleReactionRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    // 저장된 프로필은 한 행만 읽고 마지막 갱신 이후 경과 시간만큼 감쇠해야 한다.
+    @Test
+    void findProfile_decays_stored_weights() throws Exception {
+        // Given: 반감기 한 번 전에 저장된 게시판 가중치 4.0
+        UserAffinityService service = createService();
+        UserAffinityProfile stored = UserAffinityProfile.empty(NOW.toEpochMilli() - HALF_LIFE_MILLIS)
+            .plus(UserAffinitySignal.LIKE, 1L, null, 1.0d);
+        when(userAffinityRepository.findById(9L)).thenReturn(Optional.of(entity(stored)));
+
+        // When: 프로필을 조회하면
+        UserAffinityProfile profile = service.findProfile(9L).orElseThrow();
+
+        // Then: 가중치가 절반으로 줄고 사유는 유지되어야 한다.
+        assertThat(profile.boards().get(1L).score()).isCloseTo(2.0d, within(1.0e-9));
+        assertThat(profile.boards().get(1L).reason()).isEqualTo(UserAffinitySignal.LIKE);
+        verify(articleBookmarkRepository, never()).findTop20ByUserIdOrderByCreatedAtDescIdDesc(any());
+    }
+
+    // 프로필이 있으면 활동 이력을 다시 읽지 않고 증분만 반영해야 한다.
+    @Test
+    void apply_adds_activity_to_existing_profile() throws Exception {
+        // Given: 댓글 가중치만 있는 기존 프로필
+        UserAffinityService service = createService();
+        UserAffinityEntity entity = entity(UserAffinityProfile.empty(NOW.toEpochMilli())
+            .plus(UserAffinitySignal.COMMENT, 1L, 11L, 1.0d));
+        when(userAffinityRepository.findForUpdate(9L)).thenReturn(Optional.of(entity));
+
+        // When: 같은 게시판 글 북마크를 반영하면
+        service.apply(new UserAffinityEvent(9L, 100L, 1L, 11L, UserAffinitySignal.BOOKMARK, null));
+
+        // Then: 가중치가 더해지고 사유는 우선순위가 높은 북마크로 바뀌어야 한다.
+        UserAffinityProfile updated = savedProfile(entity);
+        assertThat(updated.boards().get(1L).score()).isEqualTo(7.0d);
+        assertThat(updated.boards().get(1L).reason()).isEqualTo(UserAffinitySignal.BOOKMARK);
+        assertThat(updated.categories().get(11L).score()).isEqualTo(4.0d);
+        assertThat(updated.bookmarkedArticleIds()).containsExactly(100L);
+        verify(articleBookmarkRepository, never()).findTop20ByUserIdOrderByCreatedAtDescIdDesc(any());
+    }
+
+    // 취소된 활동은 감쇠로 이미 줄어든 몫 이상을 빼서 반대 부호가 되면 안 된다.
+    @Test
+    void apply_removal_does_not_flip_sign() throws Exception {
+        // Given: 감쇠로 1.0만 남은 북마크 가중치
+        UserAffinityService service = createService();
+        UserAffinityEntity entity = entity(UserAffinityProfile.empty(NOW.toEpochMilli())
+            .plus(UserAffinitySignal.BOOKMARK, 1L, null, 0.2d)
+            .withBookmark(100L));
+        when(userAffinityRepository.findForUpdate(9L)).thenReturn(Optional.of(entity));
+
+        // When: 북마크 해제를 반영하면
+        service.apply(new UserAffinityEvent(9L, 100L, 1L, null, null, UserAffinitySignal.BOOKMARK));
+
+        // Then: 가중치는 0에서 멈추고 북마크 목록에서 빠져야 한다.
+        UserAffinityProfile updated = savedProfile(entity);
+        assertThat(updated.boards()).doesNotContainKey(1L);
+        assertThat(updated.hasPositiveSignal()).isFalse();
+        assertThat(updated.bookmarkedArticleIds()).isEmpty();
+    }
+
+    // 프로필이 없으면 활동 이력으로 한 번 만들고, 이력에 이미 포함된 이번 활동은 다시 더하지 않아야 한다.
+    @Test
+    void apply_seeds_profile_from_history_when_missing() throws Exception {
+        // Given: 프로필이 없고 방금 커밋된 북마크 1건이 이력에 있는 사용자
+        UserAffinityService service = createService();
+        ArticleEntity article = createArticle(100L, createBoard(1L, "free"));
+        ArticleBookmarkEntity bookmark = ArticleBookmarkEntity.builder()
+            .user(createUser(9L))
+            .article(article)
+            .build();
+        ReflectionTestUtils.setField(bookmark, "createdAt", NOW);
+        when(userAffinityRepository.findForUpdate(9L)).thenReturn(Optional.empty());
+        when(articleBookmarkRepository.findTop20ByUserIdOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of(bookmark));
+        when(articleReactionRepository.findTop20ByUserIdOrderByUpdatedAtDescIdDesc(9L)).thenReturn(List.of());
+        when(commentRepository.findTop20ByUserIdAndDeletedAtIsNullOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of());
+
+        // When: 북마크 이벤트를 반영하면
+        service.apply(new UserAffinityEvent(9L, 100L, 1L, null, UserAffinitySignal.BOOKMARK, null));
+
+        // Then: 북마크 한 번만큼의 가중치로 행을 만들어야 한다.
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(userAffinityRepository).insertIfAbsent(eq(9L), json.capture());
+        UserAffinityProfile seeded = objectMapper.readValue(json.getValue(), UserAffinityProfile.class);
+        assertThat(seeded.boards().get(1L).score()).isEqualTo(5.0d);
+        assertThat(seeded.bookmarkedArticleIds()).containsExactly(100L);
+    }
+
+    // 북마크를 한꺼번에 지운 뒤에는 증분 대신 활동 이력으로 기존 프로필을 다시 계산해야 한다.
+    @Test
+    void apply_rebuild_recomputes_existing_profile_from_history() throws Exception {
+        // Given: 북마크 가중치가 남아 있지만 이력에서는 북마크가 모두 지워진 사용자
+        UserAffinityService service = createService();
+        UserAffinityEntity entity = entity(UserAffinityProfile.empty(NOW.toEpochMilli())
+            .plus(UserAffinitySignal.BOOKMARK, 1L, null, 1.0d)
+            .withBookmark(100L));
+        when(userAffinityRepository.findForUpdate(9L)).thenReturn(Optional.of(entity));
+        when(articleBookmarkRepository.findTop20ByUserIdOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of());
+        when(articleReactionRepository.findTop20ByUserIdOrderByUpdatedAtDescIdDesc(9L)).thenReturn(List.of());
+        when(commentRepository.findTop20ByUserIdAndDeletedAtIsNullOrderByCreatedAtDescIdDesc(9L)).thenReturn(List.of());
+
+        // When: 재계산 이벤트를 반영하면
+        service.apply(UserAffinityEvent.rebuild(9L));
+
+        // Then: 지워진 북마크의 가중치와 목록이 프로필에서 빠져야 한다.
+        UserAffinityProfile updated = savedProfile(entity);
+        assertThat(updated.boards()).doesNotContainKey(1L);
+        assertThat(updated.bookmarkedArticleIds()).isEmpty();
+        verify(userAffinityRepository, never()).insertIfAbsent(any(), any());
+    }
+
+    private UserAffinityService createService() {
+        return new UserAffinityService(
+            userAffinityRepository,
+            articleBookmarkRepository,
+            articleReactionRepository,
+            commentRepository,
+            new PublicArticleFeedPolicy(),
+            objectMapper,
+            Clock.fixed(NOW, ZoneId.of("UTC"))
+        );
+    }
+
+    private UserAffinityEntity entity(UserAffinityProfile profile) throws Exception {
+        UserAffinityEntity entity = mock(UserAffinityEntity.class);
+        when(entity.getProfile()).thenReturn(objectMapper.writeValueAsString(profile));
+        return entity;
+    }
+
+    private UserAffinityProfile savedProfile(UserAffinityEntity entity) throws Exception {
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(entity).changeProfile(json.capture(), any(Instant.class));
+        return objectMapper.readValue(json.getValue(), UserAffinityProfile.class);
+    }
+
+    private BoardEntity createBoard(Long id, String slug) {
+        BoardEntity board = BoardEntity.builder()
+            .boardName(slug)
+            .slug(slug)
+            .description("테스트")
+            .visibility(BoardVisibility.PUBLIC)
+            .build();
+        ReflectionTestUtils.setField(board, "id", id);
+        return board;
+    }
+
+    private UserEntity createUser(Long id) {
+        RoleEntity role = RoleEntity.create("USER", 0, "테스트");
+        UserEntity user = UserEntity.createLocal(role, "user" + id, "user" + id + "@test.com", "pw", "user", "user", "user");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private ArticleEntity createArticle(Long id, BoardEntity board) {
+        ArticleEntity article = ArticleEntity.builder()
+            .board(board)
+            .user(createUser(2L))
+            .visibility(ContentVisibility.PUBLIC)
+            .title("제목")
+            .content("content")
+            .contentSource("content")
+            .contentFormat(ArticleContentFormat.HTML)
+            .hit(0L)
+            .notice(false)
+            .build();
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+}
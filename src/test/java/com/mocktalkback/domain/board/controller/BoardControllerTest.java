@@ -28,6 +28,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mocktalkback.domain.article.dto.ArticleCategoryResponse;
 import com.mocktalkback.domain.article.dto.ArticleSummaryResponse;
+import com.mocktalkback.domain.article.dto.ArticleTrendingItemResponse;
+import com.mocktalkback.domain.article.dto.BoardArticleCursorResponse;
 import com.mocktalkback.domain.article.dto.BoardArticleListResponse;
 import com.mocktalkback.domain.board.dto.BoardCreateRequest;
 import com.mocktalkback.domain.board.dto.BoardDetailResponse;
@@ -41,6 +43,8 @@ import com.mocktalkback.domain.board.type.BoardArticleWritePolicy;
 import com.mocktalkback.domain.board.type.BoardRole;
 import com.mocktalkback.domain.board.type.BoardVisibility;
 import com.mocktalkback.domain.article.service.ArticleService;
+import com.mocktalkback.domain.article.type.ArticleTrendingWindow;
+import com.mocktalkback.global.common.dto.CursorResponse;
 import com.mocktalkback.global.common.dto.PageResponse;
 import com.mocktalkback.global.common.type.SortOrder;
 
@@ -410,6 +414,45 @@ class BoardControllerTest {
             .andExpect(jsonPath("$.data.page.items[0].id").value(12L));
     }
 
+    // 게시판 게시글 목록 API는 cursor 파라미터가 있으면 커서 기반 목록을 반환해야 한다.
+    @Test
+    void findArticles_with_cursor_returns_cursor_page() throws Exception {
+        // Given: 커서 목록 응답
+        List<ArticleSummaryResponse> items = List.of(
+            new ArticleSummaryResponse(
+                13L,
+                10L,
+                2L,
+                "author",
+                "cursor title",
+                null,
+                null,
+                0L,
+                0L,
+                0L,
+                0L,
+                false,
+                FIXED_TIME
+            )
+        );
+        CursorResponse<ArticleSummaryResponse> cursorResponse = new CursorResponse<>(items, 10, "next-cursor", true, null);
+        BoardArticleCursorResponse response = new BoardArticleCursorResponse(List.of(), cursorResponse);
+        when(articleService.getBoardArticlesByCursor(10L, "", 10, SortOrder.LATEST, null, false, false)).thenReturn(response);
+
+        // When: 빈 cursor로 첫 페이지를 요청하면
+        ResultActions result = mockMvc.perform(get("/api/boards/10/articles")
+            .param("cursor", "")
+            .param("size", "10")
+            .param("order", "LATEST"));
+
+        // Then: 커서 응답이 반환되어야 한다.
+        result.andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.page.items[0].id").value(13L))
+            .andExpect(jsonPath("$.data.page.nextCursor").value("next-cursor"))
+            .andExpect(jsonPath("$.data.page.hasNext").value(true));
+    }
+
     // 게시판 게시글 목록 API는 categoryId와 uncategorized를 동시에 사용하면 실패해야 한다.
     @Test
     void findArticles_with_categoryId_and_uncategorized_returns_bad_request() throws Exception {
@@ -455,6 +498,40 @@ class BoardControllerTest {
             .andExpect(jsonPath("$.data[0].categoryName").value("공지"));
     }
 
+    // 게시판 인기 게시글 API는 게시판/윈도우 조건으로 트렌딩 목록을 반환해야 한다.
+    @Test
+    void findTrendingArticles_returns_list() throws Exception {
+        // Given: 게시판 주간 트렌딩 응답
+        List<ArticleTrendingItemResponse> response = List.of(
+            new ArticleTrendingItemResponse(
+                20L,
+                10L,
+                "free",
+                2L,
+                "author",
+                "title",
+                12L,
+                3L,
+                5L,
+                1L,
+                18.0d,
+                FIXED_TIME
+            )
+        );
+        when(articleService.findBoardTrendingPublic(10L, ArticleTrendingWindow.WEEK, 5)).thenReturn(response);
+
+        // When: 게시판 인기 게시글 API 호출
+        ResultActions result = mockMvc.perform(get("/api/boards/10/articles/trending")
+            .param("window", "WEEK")
+            .param("limit", "5"));
+
+        // Then: 트렌딩 목록이 반환되어야 한다.
+        result.andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data[0].articleId").value(20L))
+            .andExpect(jsonPath("$.data[0].boardId").value(10L));
+    }
+
     // 게시판 수정 API는 변경된 응답을 반환해야 한다.
     @Test
     void update_returns_updated_board() throws Exception {
@@ -1,12 +1,18 @@
 package com.mocktalkback.domain.comment.controller;
 
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -24,14 +30,18 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.comment.dto.CommentChangesResponse;
 import com.mocktalkback.domain.comment.dto.CommentCreateRequest;
 import com.mocktalkback.domain.comment.dto.CommentPageResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionSummaryResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionToggleRequest;
 import com.mocktalkback.domain.comment.dto.CommentSnapshotResponse;
+import com.mocktalkback.domain.comment.dto.CommentThreadResponse;
 import com.mocktalkback.domain.comment.dto.CommentTreeResponse;
 import com.mocktalkback.domain.comment.dto.CommentUpdateRequest;
 import com.mocktalkback.domain.comment.service.CommentService;
+import com.mocktalkback.domain.comment.service.CommentSyncState;
+import com.mocktalkback.global.common.dto.CursorResponse;
 
 @WebMvcTest(controllers = CommentController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -166,18 +176,115 @@ class CommentControllerTest {
             false,
             false
         );
-        when(commentService.getArticleComments(10L, 0, 10)).thenReturn(pageResponse);
+        CommentSyncState state = new CommentSyncState(10L, 7L, null);
+        when(commentService.getCommentSyncState(10L)).thenReturn(state);
+        when(commentService.getArticleComments(state, 0, 10)).thenReturn(pageResponse);
 
         // When: 댓글 목록 API 호출
         ResultActions result = mockMvc.perform(get("/api/articles/10/comments?size=10"));
 
         // Then: 응답 리스트 확인
         result.andExpect(status().isOk())
+            .andExpect(header().string("ETag", "W/\"comments-10-7-anonymous\""))
             .andExpect(jsonPath("$.success").value(true))
             .andExpect(jsonPath("$.data.items[0].id").value(100L))
             .andExpect(jsonPath("$.data.items[0].children[0].id").value(101L));
     }
 
+    // If-None-Match가 현재 sync_version의 ETag와 같으면 댓글을 조회하지 않고 304를 반환해야 한다.
+    @Test
+    void findAll_returns_not_modified_when_etag_matches() throws Exception {
+        // Given: 클라이언트가 가진 ETag와 같은 버전
+        when(commentService.getCommentSyncState(10L)).thenReturn(new CommentSyncState(10L, 7L, null));
+
+        // When: If-None-Match와 함께 댓글 목록 API 호출
+        ResultActions result = mockMvc.perform(get("/api/articles/10/comments?size=10")
+            .header("If-None-Match", "W/\"comments-10-7-anonymous\""));
+
+        // Then: 본문 없이 304와 같은 ETag를 반환해야 한다.
+        result.andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "W/\"comments-10-7-anonymous\""))
+            .andExpect(content().string(""));
+        verify(commentService, never()).getArticleComments(any(CommentSyncState.class), anyInt(), anyInt());
+    }
+
+    // cursor 파라미터가 있으면 루트 댓글 커서 조회로 라우팅되어야 한다.
+    @Test
+    void findByCursor_returns_threads_with_reply_cursor() throws Exception {
+        // Given: 답글 미리보기 이후 답글이 남은 루트 댓글 응답
+        CommentTreeResponse root = new CommentTreeResponse(
+            100L,
+            1L,
+            "작성자",
+            "comment 1",
+            0,
+            null,
+            100L,
+            FIXED_TIME,
+            FIXED_TIME,
+            null,
+            0L,
+            0L,
+            (short) 0,
+            List.of()
+        );
+        CursorResponse<CommentThreadResponse> response = new CursorResponse<>(
+            List.of(new CommentThreadResponse(root, 12, true, "reply-cursor")),
+            10,
+            "next-cursor",
+            true,
+            null
+        );
+        CommentSyncState state = new CommentSyncState(10L, 7L, null);
+        when(commentService.getCommentSyncState(10L)).thenReturn(state);
+        when(commentService.getArticleCommentsByCursor(state, "", 10)).thenReturn(response);
+
+        // When: 빈 cursor로 댓글 목록 API 호출
+        ResultActions result = mockMvc.perform(get("/api/articles/10/comments?cursor=&size=10"));
+
+        // Then: 루트 댓글과 답글 더보기 커서를 반환해야 한다.
+        result.andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items[0].comment.id").value(100L))
+            .andExpect(jsonPath("$.data.items[0].replyCount").value(12))
+            .andExpect(jsonPath("$.data.items[0].nextReplyCursor").value("reply-cursor"))
+            .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
+    }
+
+    // 댓글 변경분 조회 API는 since 이후 바뀐 댓글과 다음 기준 버전을 반환해야 한다.
+    @Test
+    void findChanges_returns_changed_comments() throws Exception {
+        // Given: since 이후 수정된 댓글 한 건
+        CommentTreeResponse changed = new CommentTreeResponse(
+            100L,
+            1L,
+            "작성자",
+            "edited",
+            0,
+            null,
+            100L,
+            FIXED_TIME,
+            FIXED_TIME,
+            null,
+            0L,
+            0L,
+            (short) 0,
+            List.of()
+        );
+        CommentSyncState state = new CommentSyncState(10L, 42L, null);
+        when(commentService.getCommentSyncState(10L)).thenReturn(state);
+        when(commentService.getCommentChanges(state, 40L))
+            .thenReturn(new CommentChangesResponse(10L, 40L, 42L, false, List.of(changed)));
+
+        // When: 변경분 조회 API 호출
+        ResultActions result = mockMvc.perform(get("/api/articles/10/comments/changes?since=40"));
+
+        // Then: 변경된 댓글과 syncVersion을 반환해야 한다.
+        result.andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.syncVersion").value(42L))
+            .andExpect(jsonPath("$.data.resyncRequired").value(false))
+            .andExpect(jsonPath("$.data.changes[0].content").value("edited"));
+    }
+
     // 댓글 스냅샷 조회 API는 페이지 데이터와 syncVersion을 함께 반환해야 한다.
     @Test
     void findSnapshot_returns_page_with_sync_version() throws Exception {
@@ -208,7 +315,9 @@ class CommentControllerTest {
             false
         );
         CommentSnapshotResponse snapshotResponse = new CommentSnapshotResponse(10L, 7L, pageResponse);
-        when(commentService.getArticleCommentsSnapshot(10L, 0, 10)).thenReturn(snapshotResponse);
+        CommentSyncState state = new CommentSyncState(10L, 7L, null);
+        when(commentService.getCommentSyncState(10L)).thenReturn(state);
+        when(commentService.getArticleCommentsSnapshot(state, 0, 10)).thenReturn(snapshotResponse);
 
         // When: 댓글 스냅샷 API 호출
         ResultActions result = mockMvc.perform(get("/api/articles/10/comments/snapshot?page=0&size=10"));
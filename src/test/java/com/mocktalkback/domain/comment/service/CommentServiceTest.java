@@ -1,30 +1,52 @@
 package com.mocktalkback.domain.comment.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.mocktalkback.domain.article.entity.ArticleEntity;
 import com.mocktalkback.domain.article.repository.ArticleRepository;
+import com.mocktalkback.domain.article.service.ArticleDetailCacheService;
+import com.mocktalkback.domain.article.service.ArticleStatsService;
 import com.mocktalkback.domain.article.service.ArticleSyncVersionService;
-import com.mocktalkback.domain.article.service.ArticleTrendingService;
+import com.mocktalkback.domain.article.service.ArticleRecommendationService;
+import com.mocktalkback.domain.article.service.ArticleTrendingOutboxPayload;
+import com.mocktalkback.domain.article.type.ArticleTrendingSignal;
 import com.mocktalkback.domain.board.entity.BoardEntity;
 import com.mocktalkback.domain.board.repository.BoardMemberRepository;
 import com.mocktalkback.domain.board.type.BoardVisibility;
+import com.mocktalkback.domain.comment.dto.CommentChangesResponse;
 import com.mocktalkback.domain.comment.dto.CommentCreateRequest;
+import com.mocktalkback.domain.comment.dto.CommentPageResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionSummaryResponse;
 import com.mocktalkback.domain.comment.dto.CommentReactionToggleRequest;
+import com.mocktalkback.domain.comment.dto.CommentThreadResponse;
+import com.mocktalkback.domain.comment.dto.CommentTreeResponse;
 import com.mocktalkback.domain.comment.entity.CommentEntity;
 import com.mocktalkback.domain.comment.repository.CommentReactionRepository;
 import com.mocktalkback.domain.comment.repository.CommentRepository;
@@ -34,16 +56,21 @@ import com.mocktalkback.domain.common.policy.PageNormalizer;
 import com.mocktalkback.domain.common.policy.RoleEvaluator;
 import com.mocktalkback.domain.common.policy.SanctionGuard;
 import com.mocktalkback.domain.notification.service.NotificationService;
-import com.mocktalkback.domain.realtime.service.BoardRealtimeSseService;
+import com.mocktalkback.domain.outbox.service.OutboxEventWriter;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+import com.mocktalkback.domain.realtime.service.BoardRealtimeOutboxPayload;
 import com.mocktalkback.domain.role.entity.RoleEntity;
 import com.mocktalkback.domain.role.type.ContentVisibility;
 import com.mocktalkback.domain.user.entity.UserEntity;
 import com.mocktalkback.domain.user.repository.UserRepository;
 import com.mocktalkback.global.auth.CurrentUserService;
+import com.mocktalkback.global.common.dto.CursorResponse;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
 
+    private static final Instant FIXED_TIME = Instant.parse("2026-03-14T00:00:00Z");
+
     @Mock
     private CommentRepository commentRepository;
 
@@ -69,13 +96,16 @@ class CommentServiceTest {
     private SanctionGuard sanctionGuard;
 
     @Mock
-    private BoardRealtimeSseService boardRealtimeSseService;
+    private ArticleSyncVersionService articleSyncVersionService;
 
     @Mock
-    private ArticleSyncVersionService articleSyncVersionService;
+    private ArticleRecommendationService articleRecommendationService;
 
     @Mock
-    private ArticleTrendingService articleTrendingService;
+    private ArticleStatsService articleStatsService;
+
+    @Mock
+    private ArticleDetailCacheService articleDetailCacheService;
 
     @Spy
     private RoleEvaluator roleEvaluator = new RoleEvaluator();
@@ -89,6 +119,15 @@ class CommentServiceTest {
     @Spy
     private AuthorDisplayResolver authorDisplayResolver = new AuthorDisplayResolver();
 
+    @Spy
+    private CommentCursorCodec commentCursorCodec = new CommentCursorCodec();
+
+    @Spy
+    private CommentPageCache commentPageCache = new CommentPageCache();
+
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -122,6 +161,66 @@ class CommentServiceTest {
         assertThat(response.likeCount()).isEqualTo(3L);
         assertThat(response.dislikeCount()).isEqualTo(1L);
         verify(commentReactionRepository).upsertToggleReaction(2L, 100L, (short) 1);
+        verify(articleSyncVersionService).increaseAndGet(10L);
+    }
+
+    // 반응은 댓글 수정이 아니므로 엔티티를 바꾸지 않고 last_sync_version만 직접 갱신해 updated_at이 유지되어야 한다.
+    @Test
+    void toggleReaction_updates_sync_version_without_touching_comment_entity() {
+        // Given: 작성 이후 수정된 적 없는 댓글
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user);
+        CommentEntity comment = createComment(100L, article, user);
+        Instant writtenAt = Instant.parse("2026-03-12T09:00:00Z");
+        ReflectionTestUtils.setField(comment, "updatedAt", writtenAt);
+
+        when(currentUserService.getUserId()).thenReturn(2L);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(comment));
+        when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
+        when(boardMemberRepository.findByUserIdAndBoardId(2L, 1L)).thenReturn(Optional.empty());
+        when(commentReactionRepository.upsertToggleReaction(2L, 100L, (short) -1)).thenReturn((short) -1);
+        when(articleSyncVersionService.increaseAndGet(10L)).thenReturn(5L);
+
+        // When: 싫어요를 누르면
+        commentService.toggleReaction(100L, new CommentReactionToggleRequest((short) -1));
+
+        // Then: 버전은 쿼리로만 갱신되고 엔티티의 updated_at/last_sync_version은 그대로여야 한다.
+        verify(commentRepository).updateLastSyncVersion(100L, 5L);
+        assertThat(comment.getUpdatedAt()).isEqualTo(writtenAt);
+        assertThat(comment.getLastSyncVersion()).isZero();
+    }
+
+    // 댓글 작성은 발급한 sync_version을 INSERT에 담아 저장 직후 추가 UPDATE가 없어야 한다.
+    @Test
+    void createReply_saves_sync_version_with_insert() {
+        // Given: 루트 댓글에 답글을 작성하는 사용자
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user);
+        CommentEntity parent = createComment(100L, article, user);
+
+        when(currentUserService.getUserId()).thenReturn(2L);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
+        when(boardMemberRepository.findByUserIdAndBoardId(2L, 1L)).thenReturn(Optional.empty());
+        when(commentRepository.findById(100L)).thenReturn(Optional.of(parent));
+        when(commentRepository.save(any(CommentEntity.class))).thenAnswer(invocation -> {
+            CommentEntity entity = invocation.getArgument(0);
+            ReflectionTestUtils.setField(entity, "id", 101L);
+            return entity;
+        });
+        when(articleSyncVersionService.increaseAndGet(10L)).thenReturn(6L);
+
+        // When: 답글을 작성하면
+        commentService.createReply(10L, 100L, new CommentCreateRequest("답글"));
+
+        // Then: 저장하는 엔티티에 버전이 담겨 있고 별도 갱신은 없어야 한다.
+        ArgumentCaptor<CommentEntity> saved = ArgumentCaptor.forClass(CommentEntity.class);
+        verify(commentRepository).save(saved.capture());
+        assertThat(saved.getValue().getLastSyncVersion()).isEqualTo(6L);
+        verify(commentRepository, never()).updateLastSyncVersion(any(), anyLong());
     }
 
     // 루트 댓글 생성은 트렌딩 점수에 댓글 가중치를 반영해야 한다.
@@ -143,8 +242,13 @@ class CommentServiceTest {
         // When: 루트 댓글을 생성하면
         commentService.createRoot(10L, new CommentCreateRequest("댓글"));
 
-        // Then: 댓글 생성 트렌딩 점수를 반영해야 한다.
-        verify(articleTrendingService).recordCommentCreated(10L);
+        // Then: 댓글 생성 트렌딩 점수와 게시판 실시간 이벤트를 같은 트랜잭션의 아웃박스에 남겨야 한다.
+        verify(outboxEventWriter).append(
+            OutboxEventType.ARTICLE_TRENDING_SCORE,
+            ArticleTrendingOutboxPayload.of(10L, 1L, ArticleTrendingSignal.COMMENT_CREATED)
+        );
+        verify(outboxEventWriter).append(eq(OutboxEventType.BOARD_REALTIME), any(BoardRealtimeOutboxPayload.class));
+        verify(articleStatsService).recordCommentCreated(10L);
     }
 
     // 댓글 삭제는 트렌딩 점수에서 댓글 가중치를 차감해야 한다.
@@ -164,8 +268,165 @@ class CommentServiceTest {
         // When: 댓글을 삭제하면
         commentService.delete(100L);
 
-        // Then: 댓글 삭제 트렌딩 점수를 반영해야 한다.
-        verify(articleTrendingService).recordCommentDeleted(10L);
+        // Then: 댓글 삭제 트렌딩 점수를 아웃박스에 남겨야 한다.
+        verify(outboxEventWriter).append(
+            OutboxEventType.ARTICLE_TRENDING_SCORE,
+            ArticleTrendingOutboxPayload.of(10L, 1L, ArticleTrendingSignal.COMMENT_DELETED)
+        );
+        verify(articleStatsService).recordCommentDeleted(10L);
+    }
+
+    // 같은 sync_version의 댓글 페이지는 다시 조회하지 않고, 내 반응만 요청마다 덧씌워야 한다.
+    @Test
+    void getArticleComments_reuses_cached_page_and_overlays_my_reaction() {
+        // Given: 현재 버전이 7인 게시글과 댓글에 좋아요를 누른 로그인 사용자
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user);
+        CommentEntity root = createComment(100L, article, user);
+        CommentReactionRepository.CommentReactionUserView myReaction =
+            mock(CommentReactionRepository.CommentReactionUserView.class);
+        when(myReaction.getCommentId()).thenReturn(100L);
+        when(myReaction.getReactionType()).thenReturn((short) 1);
+
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.of(2L));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
+        when(boardMemberRepository.findByUserIdAndBoardId(2L, 1L)).thenReturn(Optional.empty());
+        when(articleSyncVersionService.currentVersion(10L)).thenReturn(7L);
+        when(commentRepository.findByArticleIdAndParentCommentIsNull(eq(10L), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(root), PageRequest.of(0, 10), 1));
+        when(commentRepository.findTreeByArticleIdAndRootIds(10L, List.of(100L))).thenReturn(List.of(root));
+        when(commentReactionRepository.findUserReactions(2L, List.of(100L))).thenReturn(List.of(myReaction));
+
+        // When: 같은 페이지를 두 번 조회하면
+        commentService.getArticleComments(commentService.getCommentSyncState(10L), 0, 10);
+        CommentPageResponse<CommentTreeResponse> response =
+            commentService.getArticleComments(commentService.getCommentSyncState(10L), 0, 10);
+
+        // Then: 댓글 조회는 한 번만 실행되고 내 반응은 매번 반영되어야 한다.
+        assertThat(response.items().get(0).myReaction()).isEqualTo((short) 1);
+        verify(commentRepository, times(1)).findByArticleIdAndParentCommentIsNull(eq(10L), any(Pageable.class));
+        verify(commentRepository, times(1)).findTreeByArticleIdAndRootIds(10L, List.of(100L));
+        verify(commentReactionRepository, times(2)).findUserReactions(2L, List.of(100L));
+    }
+
+    // ETag 판단에 쓴 상태로 댓글을 조회하면 게시글과 Redis 버전을 다시 읽지 않아야 한다.
+    @Test
+    void getArticleComments_reuses_sync_state_from_etag_check() {
+        // Given: 현재 버전이 7인 게시글과 루트 댓글 한 건
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user);
+        CommentEntity root = createComment(100L, article, user);
+
+        when(currentUserService.getOptionalUserId()).thenReturn(Optional.empty());
+        when(articleRepository.findByIdAndDeletedAtIsNull(10L)).thenReturn(Optional.of(article));
+        when(articleSyncVersionService.currentVersion(10L)).thenReturn(7L);
+        when(commentRepository.findByArticleIdAndParentCommentIsNull(eq(10L), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(root), PageRequest.of(0, 10), 1));
+        when(commentRepository.findTreeByArticleIdAndRootIds(10L, List.of(100L))).thenReturn(List.of(root));
+
+        // When: ETag용 상태를 만든 뒤 같은 상태로 페이지를 조회하면
+        CommentSyncState state = commentService.getCommentSyncState(10L);
+        CommentPageResponse<CommentTreeResponse> response = commentService.getArticleComments(state, 0, 10);
+
+        // Then: 게시글 조회와 버전 조회는 한 번씩만 실행되어야 한다.
+        assertThat(state.syncVersion()).isEqualTo(7L);
+        assertThat(response.items()).extracting(CommentTreeResponse::id).containsExactly(100L);
+        verify(articleRepository, times(1)).findByIdAndDeletedAtIsNull(10L);
+        verify(articleSyncVersionService, times(1)).currentVersion(10L);
+    }
+
+    // 변경분 조회는 since 초과, 현재 syncVersion 이하로 바뀐 댓글만 반환해야 한다.
+    @Test
+    void getCommentChanges_returns_comments_changed_after_since() {
+        // Given: 현재 버전이 12인 게시글과 11 버전에 삭제된 댓글
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user);
+        CommentEntity deleted = createComment(100L, article, user);
+        deleted.softDelete();
+        ReflectionTestUtils.setField(deleted, "lastSyncVersion", 11L);
+
+        when(commentRepository.findChangedComments(eq(10L), eq(10L), eq(12L), any(Pageable.class)))
+            .thenReturn(List.of(deleted));
+
+        // When: since=10으로 변경분을 조회하면
+        CommentChangesResponse response = commentService.getCommentChanges(new CommentSyncState(10L, 12L, null), 10L);
+
+        // Then: 삭제 표시된 댓글과 다음 요청 기준 버전을 반환해야 한다.
+        assertThat(response.resyncRequired()).isFalse();
+        assertThat(response.syncVersion()).isEqualTo(12L);
+        assertThat(response.changes()).extracting(CommentTreeResponse::id).containsExactly(100L);
+        assertThat(response.changes().get(0).deletedAt()).isNotNull();
+    }
+
+    // 이미 최신 버전이면 댓글을 조회하지 않아야 한다.
+    @Test
+    void getCommentChanges_skips_query_when_up_to_date() {
+        // Given: 클라이언트가 이미 현재 버전을 가진 상황
+        CommentSyncState state = new CommentSyncState(10L, 12L, null);
+
+        // When: since=12로 변경분을 조회하면
+        CommentChangesResponse response = commentService.getCommentChanges(state, 12L);
+
+        // Then: 빈 목록을 반환하고 댓글 조회는 없어야 한다.
+        assertThat(response.changes()).isEmpty();
+        verify(commentRepository, never()).findChangedComments(any(), anyLong(), anyLong(), any());
+    }
+
+    // 커서 조회는 루트마다 답글을 미리보기 개수까지만 붙이고 나머지는 답글 커서로 넘겨야 한다.
+    @Test
+    void getArticleCommentsByCursor_caps_replies_per_root() {
+        // Given: 답글 3개가 달린 루트 댓글과 미리보기 2개 설정
+        ReflectionTestUtils.setField(commentService, "replyPreviewSize", 2);
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user);
+        CommentEntity root = createComment(100L, article, user);
+        ReflectionTestUtils.setField(root, "replyCount", 3);
+        CommentEntity first = createReply(101L, article, user, root, 1);
+        CommentEntity second = createReply(102L, article, user, first, 2);
+        CommentEntity third = createReply(103L, article, user, root, 3);
+
+        when(commentRepository.findRootCommentsByKeyset(10L, null, 11)).thenReturn(List.of(root));
+        when(commentRepository.findFirstReplyIdsByRootIds(List.of(100L), 3)).thenReturn(List.of(101L, 102L, 103L));
+        when(commentRepository.findAllWithUserByIdIn(List.of(101L, 102L, 103L))).thenReturn(List.of(third, second, first));
+
+        // When: 첫 페이지를 조회하면
+        CursorResponse<CommentThreadResponse> response = commentService.getArticleCommentsByCursor(
+            new CommentSyncState(10L, 7L, null),
+            null,
+            10
+        );
+
+        // Then: 미리보기 답글 2개만 트리로 붙고 두 번째 답글 이후를 가리키는 커서를 반환해야 한다.
+        assertThat(response.hasNext()).isFalse();
+        CommentThreadResponse thread = response.items().get(0);
+        assertThat(thread.replyCount()).isEqualTo(3);
+        assertThat(thread.hasMoreReplies()).isTrue();
+        assertThat(thread.comment().children()).extracting(CommentTreeResponse::id).containsExactly(101L);
+        assertThat(thread.comment().children().get(0).children()).extracting(CommentTreeResponse::id).containsExactly(102L);
+        assertThat(commentCursorCodec.decode(thread.nextReplyCursor()).commentId()).isEqualTo(102L);
+    }
+
+    // 답글 더보기는 루트가 아닌 댓글 ID로 요청하면 찾을 수 없음으로 처리해야 한다.
+    @Test
+    void getReplies_rejects_non_root_comment() {
+        // Given: 답글 ID로 더보기를 요청하는 상황
+        BoardEntity board = createBoard(1L);
+        UserEntity user = createUser(2L);
+        ArticleEntity article = createArticle(10L, board, user);
+        CommentEntity root = createComment(100L, article, user);
+        CommentEntity reply = createReply(101L, article, user, root, 1);
+
+        when(commentRepository.findById(101L)).thenReturn(Optional.of(reply));
+
+        // When & Then: 404 예외가 발생해야 한다.
+        assertThatThrownBy(() -> commentService.getReplies(new CommentSyncState(10L, 7L, null), 101L, null, 20))
+            .isInstanceOf(ResponseStatusException.class);
+        verify(commentRepository, never()).findRepliesByKeyset(any(), any(), anyInt());
     }
 
     private BoardEntity createBoard(Long id) {
@@ -221,4 +482,19 @@ class CommentServiceTest {
         ReflectionTestUtils.setField(comment, "id", id);
         return comment;
     }
+
+    private CommentEntity createReply(Long id, ArticleEntity article, UserEntity user, CommentEntity parent, int order) {
+        CommentEntity root = parent.getRootComment() == null ? parent : parent.getRootComment();
+        CommentEntity comment = CommentEntity.builder()
+            .user(user)
+            .article(article)
+            .parentComment(parent)
+            .rootComment(root)
+            .depth(parent.getDepth() + 1)
+            .content("reply")
+            .build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        ReflectionTestUtils.setField(comment, "createdAt", FIXED_TIME.plusSeconds(order));
+        return comment;
+    }
 }
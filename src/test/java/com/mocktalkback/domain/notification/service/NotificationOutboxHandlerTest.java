@@ -0,0 +1,330 @@
+package com.mocktalkback.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocktalkback.domain.notification.service.NotificationBatchStore.NotificationDraft;
+import com.mocktalkback.domain.notification.type.NotificationType;
+import com.mocktalkback.domain.notification.type.ReferenceType;
+import com.mocktalkback.domain.outbox.service.OutboxEvent;
+import com.mocktalkback.domain.outbox.service.OutboxEventStore;
+import com.mocktalkback.domain.outbox.service.OutboxRelay;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+import com.mocktalkback.domain.realtime.service.NotificationPresenceService;
+import com.mocktalkback.domain.realtime.service.NotificationRealtimeSseService;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxHandlerTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private NotificationPresenceService notificationPresenceService;
+
+    @Mock
+    private NotificationRealtimeSseService notificationRealtimeSseService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InMemoryNotificationBatchStore notificationBatchStore;
+    private NotificationOutboxHandler notificationOutboxHandler;
+
+    @BeforeEach
+    void setUp() {
+        notificationBatchStore = new InMemoryNotificationBatchStore();
+        notificationOutboxHandler = new NotificationOutboxHandler(
+            notificationBatchStore,
+            notificationPresenceService,
+            notificationRealtimeSseService,
+            objectMapper
+        );
+    }
+
+    // 한 배치의 알림은 한 번에 저장하고 안읽은 수는 수신자마다 한 번만 푸시해야 한다.
+    @Test
+    void handle_batch_inserts_once_and_coalesces_unread_count_pushes() {
+        // Given: 수신자 10에게 알림 두 건과 카운트 푸시 한 건, 수신자 11에게 알림 한 건
+        List<OutboxEvent> events = List.of(
+            createEvent(1L, "event-1", 10L, 30L),
+            createEvent(2L, "event-2", 10L, 31L),
+            createEvent(3L, "event-3", 11L, 30L),
+            new OutboxEvent(
+                4L,
+                OutboxEventType.NOTIFICATION_UNREAD_COUNT,
+                "event-4",
+                toJson(new NotificationUnreadCountOutboxPayload(10L, null)),
+                1
+            )
+        );
+
+        // When: 배치로 처리
+        Map<Long, RuntimeException> failures = notificationOutboxHandler.handleBatch(events);
+
+        // Then: 저장은 한 번의 배치로, 푸시는 수신자마다 한 번씩만 일어나야 함
+        assertThat(failures).isEmpty();
+        assertThat(notificationBatchStore.insertCalls).isEqualTo(1);
+        assertThat(notificationBatchStore.rows).containsOnlyKeys("event-1", "event-2", "event-3");
+        verify(notificationRealtimeSseService).publishUnreadCountChanged(10L, 2L);
+        verify(notificationRealtimeSseService).publishUnreadCountChanged(11L, 1L);
+        verifyNoMoreInteractions(notificationRealtimeSseService);
+    }
+
+    // 수신자가 같은 게시글 상세를 보고 있으면 읽음으로 저장하고 카운트를 푸시하지 않아야 한다.
+    @Test
+    void handle_batch_saves_as_read_when_receiver_viewing_article_detail() {
+        // Given: 수신자가 게시글 상세를 보고 있는 상태
+        when(notificationPresenceService.isViewingArticleDetail(12L, 32L)).thenReturn(true);
+
+        // When: 배치로 처리
+        notificationOutboxHandler.handleBatch(List.of(createEvent(1L, "event-1", 12L, 32L)));
+
+        // Then: 읽음으로 저장되고 푸시하지 않아야 함
+        assertThat(notificationBatchStore.rows.get("event-1").read()).isTrue();
+        verifyNoInteractions(notificationRealtimeSseService);
+    }
+
+    // 내용을 읽지 못한 이벤트만 실패로 돌려주고, 같은 배치의 나머지 알림은 저장하고 푸시해야 한다.
+    @Test
+    void handle_batch_reports_only_unreadable_events() {
+        // Given: 정상 알림 한 건과 깨진 내용의 알림/카운트 이벤트
+        List<OutboxEvent> events = List.of(
+            createEvent(1L, "event-1", 10L, 30L),
+            new OutboxEvent(2L, OutboxEventType.NOTIFICATION_CREATE, "event-2", "{broken", 1),
+            new OutboxEvent(3L, OutboxEventType.NOTIFICATION_UNREAD_COUNT, "event-3", "{broken", 1)
+        );
+
+        // When: 배치로 처리
+        Map<Long, RuntimeException> failures = notificationOutboxHandler.handleBatch(events);
+
+        // Then: 깨진 이벤트만 실패로 돌려주고 정상 알림은 저장/푸시되어야 함
+        assertThat(failures).containsOnlyKeys(2L, 3L);
+        assertThat(notificationBatchStore.rows).containsOnlyKeys("event-1");
+        verify(notificationRealtimeSseService).publishUnreadCountChanged(10L, 1L);
+        verifyNoMoreInteractions(notificationRealtimeSseService);
+    }
+
+    // 커밋 뒤 이벤트를 가져간 인스턴스가 처리 전에 죽어도 lease가 끝나면 다른 인스턴스가 한 번 저장해야 한다.
+    @Test
+    void relay_delivers_notification_after_crash_between_commit_and_dispatch() {
+        // Given: 커밋된 알림 이벤트를 가져간 직후 죽은 인스턴스
+        InMemoryOutboxEventStore outboxEventStore = new InMemoryOutboxEventStore();
+        outboxEventStore.append(OutboxEventType.NOTIFICATION_CREATE, "event-1", toJson(createPayload(10L, 30L)));
+        assertThat(outboxEventStore.claim(100, LEASE)).hasSize(1);
+        OutboxRelay restartedRelay = createRelay(outboxEventStore);
+
+        // When: 재기동한 relay가 lease 전후로 비우면
+        restartedRelay.poll();
+        List<String> beforeLeaseExpired = List.copyOf(notificationBatchStore.rows.keySet());
+        outboxEventStore.advance(LEASE.plusSeconds(1));
+        restartedRelay.poll();
+
+        // Then: lease가 끝난 뒤 알림이 한 번 저장되고 푸시되어야 함
+        assertThat(beforeLeaseExpired).isEmpty();
+        assertThat(notificationBatchStore.rows).containsOnlyKeys("event-1");
+        assertThat(outboxEventStore.isProcessed(1L)).isTrue();
+        verify(notificationRealtimeSseService).publishUnreadCountChanged(10L, 1L);
+    }
+
+    // 저장 뒤 처리 완료 표시 전에 죽으면 다시 전달되지만 알림은 늘지 않아야 한다.
+    @Test
+    void relay_redelivers_without_duplicate_after_crash_before_mark_processed() {
+        // Given: 처리 완료 표시 직전에 죽는 인스턴스
+        InMemoryOutboxEventStore outboxEventStore = new InMemoryOutboxEventStore();
+        outboxEventStore.append(OutboxEventType.NOTIFICATION_CREATE, "event-1", toJson(createPayload(10L, 30L)));
+        outboxEventStore.crashOnNextMarkProcessed = true;
+        OutboxRelay relay = createRelay(outboxEventStore);
+
+        // When: 한 번 처리하다 죽은 뒤 lease가 끝나고 다시 비우면
+        relay.poll();
+        outboxEventStore.advance(LEASE.plusSeconds(1));
+        relay.poll();
+
+        // Then: 알림은 하나만 남고, 카운트는 같은 값으로 다시 푸시되어야 함
+        assertThat(notificationBatchStore.rows).containsOnlyKeys("event-1");
+        assertThat(outboxEventStore.isProcessed(1L)).isTrue();
+        assertThat(outboxEventStore.attempts(1L)).isEqualTo(2);
+        verify(notificationRealtimeSseService, times(2)).publishUnreadCountChanged(10L, 1L);
+    }
+
+    private OutboxRelay createRelay(OutboxEventStore outboxEventStore) {
+        OutboxRelay relay = new OutboxRelay(outboxEventStore, List.of(notificationOutboxHandler), Runnable::run);
+        ReflectionTestUtils.setField(relay, "lingerMillis", 0L);
+        return relay;
+    }
+
+    private OutboxEvent createEvent(Long id, String eventKey, Long receiverId, Long articleId) {
+        return new OutboxEvent(
+            id,
+            OutboxEventType.NOTIFICATION_CREATE,
+            eventKey,
+            toJson(createPayload(receiverId, articleId)),
+            1
+        );
+    }
+
+    private NotificationCreateOutboxPayload createPayload(Long receiverId, Long articleId) {
+        return new NotificationCreateOutboxPayload(
+            receiverId,
+            99L,
+            NotificationType.ARTICLE_COMMENT,
+            "/b/notice/articles/" + articleId,
+            ReferenceType.ARTICLE,
+            articleId,
+            articleId
+        );
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class InMemoryNotificationBatchStore extends NotificationBatchStore {
+
+        private final Map<String, NotificationDraft> rows = new LinkedHashMap<>();
+        private int insertCalls;
+
+        InMemoryNotificationBatchStore() {
+            super(mock(NamedParameterJdbcTemplate.class));
+        }
+
+        @Override
+        public void insertIfAbsent(List<NotificationDraft> drafts) {
+            insertCalls++;
+            drafts.forEach(draft -> rows.putIfAbsent(draft.eventKey(), draft));
+        }
+
+        @Override
+        public Set<String> findUnreadEventKeys(Collection<String> eventKeys) {
+            return eventKeys.stream()
+                .filter(key -> rows.containsKey(key) && !rows.get(key).read())
+                .collect(Collectors.toSet());
+        }
+
+        @Override
+        public Map<Long, Long> countUnread(Collection<Long> userIds) {
+            Map<Long, Long> counts = new HashMap<>();
+            for (Long userId : userIds) {
+                counts.put(userId, rows.values().stream()
+                    .filter(row -> row.receiverId().equals(userId) && !row.read())
+                    .count());
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * tb_outbox의 lease/재시도 규칙을 시계를 직접 움직여 흉내 낸다.
+     */
+    private static final class InMemoryOutboxEventStore extends OutboxEventStore {
+
+        private final Map<Long, Row> rows = new LinkedHashMap<>();
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        private boolean crashOnNextMarkProcessed;
+
+        InMemoryOutboxEventStore() {
+            super(mock(NamedParameterJdbcTemplate.class));
+        }
+
+        @Override
+        public void append(OutboxEventType type, String idempotencyKey, String payload) {
+            long id = rows.size() + 1L;
+            rows.put(id, new Row(id, type, idempotencyKey, payload, now));
+        }
+
+        @Override
+        public List<OutboxEvent> claim(int limit, Duration lease) {
+            List<Row> claimed = rows.values().stream()
+                .filter(row -> !row.processed && !row.dead && !row.nextAttemptAt.isAfter(now))
+                .sorted(Comparator.comparing((Row row) -> row.nextAttemptAt).thenComparing(row -> row.id))
+                .limit(limit)
+                .toList();
+            claimed.forEach(row -> {
+                row.attempts++;
+                row.nextAttemptAt = now.plus(lease);
+            });
+            return claimed.stream()
+                .map(row -> new OutboxEvent(row.id, row.type, row.idempotencyKey, row.payload, row.attempts))
+                .toList();
+        }
+
+        @Override
+        public void markProcessed(Collection<Long> outboxIds) {
+            if (crashOnNextMarkProcessed) {
+                crashOnNextMarkProcessed = false;
+                throw new IllegalStateException("처리 완료 표시 전 종료");
+            }
+            outboxIds.forEach(id -> rows.get(id).processed = true);
+        }
+
+        @Override
+        public void scheduleRetry(Long outboxId, Duration delay, String error) {
+            rows.get(outboxId).nextAttemptAt = now.plus(delay);
+        }
+
+        @Override
+        public void markDead(Long outboxId, String error) {
+            rows.get(outboxId).dead = true;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        boolean isProcessed(Long outboxId) {
+            return rows.get(outboxId).processed;
+        }
+
+        int attempts(Long outboxId) {
+            return rows.get(outboxId).attempts;
+        }
+
+        private static final class Row {
+
+            private final Long id;
+            private final OutboxEventType type;
+            private final String idempotencyKey;
+            private final String payload;
+            private int attempts;
+            private Instant nextAttemptAt;
+            private boolean processed;
+            private boolean dead;
+
+            Row(Long id, OutboxEventType type, String idempotencyKey, String payload, Instant nextAttemptAt) {
+                this.id = id;
+                this.type = type;
+                this.idempotencyKey = idempotencyKey;
+                this.payload = payload;
+                this.nextAttemptAt = nextAttemptAt;
+            }
+        }
+    }
+}
@@ -1,16 +1,14 @@
 package com.mocktalkback.domain.notification.service;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -27,6 +25,10 @@ import com.mocktalkback.domain.common.policy.AuthorDisplayResolver;
 import com.mocktalkback.domain.common.policy.PageNormalizer;
 import com.mocktalkback.domain.notification.entity.NotificationEntity;
 import com.mocktalkback.domain.notification.repository.NotificationRepository;
+import com.mocktalkback.domain.notification.type.NotificationType;
+import com.mocktalkback.domain.notification.type.ReferenceType;
+import com.mocktalkback.domain.outbox.service.OutboxEventWriter;
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
 import com.mocktalkback.domain.realtime.service.NotificationPresenceService;
 import com.mocktalkback.domain.realtime.service.NotificationRealtimeSseService;
 import com.mocktalkback.domain.role.entity.RoleEntity;
@@ -61,77 +63,72 @@ class NotificationServiceTest {
     @Spy
     private AuthorDisplayResolver authorDisplayResolver = new AuthorDisplayResolver();
 
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
     @InjectMocks
     private NotificationService notificationService;
 
-    // 댓글 대댓글 알림 대상이 동일 게시글 상세를 보고 있으면 읽음 상태로 저장해야 한다.
+    // 댓글 알림은 요청 트랜잭션에서 바로 저장하지 않고 아웃박스에 남겨야 한다.
     @Test
-    void create_comment_reply_should_save_as_read_when_receiver_viewing_same_article_detail() {
-        // Given: 수신자가 동일 게시글 상세 화면을 보고 있는 상태
+    void create_comment_reply_should_append_outbox_event() {
+        // Given: 다른 사용자의 댓글에 대댓글을 단 상황
         UserEntity receiver = createUser(10L, "receiver");
         UserEntity sender = createUser(20L, "sender");
         BoardEntity board = createBoard(1L, "team-board");
         ArticleEntity article = createArticle(30L, board, receiver);
         CommentEntity reply = createComment(40L, article, sender);
 
-        when(notificationPresenceService.isViewingArticleDetail(10L, 30L)).thenReturn(true);
-
         // When: 대댓글 알림 생성 요청
         notificationService.createCommentReply(receiver, sender, article, reply);
 
-        // Then: 알림은 읽음 상태로 저장되고 unread 카운트 푸시는 발생하지 않아야 함
-        ArgumentCaptor<NotificationEntity> entityCaptor = ArgumentCaptor.forClass(NotificationEntity.class);
-        verify(notificationRepository, times(1)).save(entityCaptor.capture());
-        assertThat(entityCaptor.getValue().isRead()).isTrue();
-        verify(notificationRepository, never()).countByUserIdAndReadFalse(anyLong());
-        verify(notificationRealtimeSseService, never()).publishUnreadCountChanged(anyLong(), anyLong());
+        // Then: 알림 내용이 아웃박스에 남고 저장/조회/푸시는 요청 안에서 일어나지 않아야 함
+        verify(outboxEventWriter).append(
+            OutboxEventType.NOTIFICATION_CREATE,
+            new NotificationCreateOutboxPayload(
+                10L,
+                20L,
+                NotificationType.COMMENT_REPLY,
+                "/b/team-board/articles/30",
+                ReferenceType.COMMENT,
+                40L,
+                30L
+            )
+        );
+        verify(notificationRepository, never()).save(any(NotificationEntity.class));
+        verifyNoInteractions(notificationPresenceService, notificationRealtimeSseService);
     }
 
-    // 게시글 댓글 알림 대상이 동일 게시글 상세를 보고 있으면 읽음 상태로 저장해야 한다.
+    // 자기 글에 단 댓글은 알림을 남기지 않아야 한다.
     @Test
-    void create_article_comment_should_save_as_read_when_receiver_viewing_same_article_detail() {
-        // Given: 수신자가 동일 게시글 상세 화면을 보고 있는 상태
-        UserEntity receiver = createUser(11L, "receiver2");
-        UserEntity sender = createUser(21L, "sender2");
+    void create_article_comment_should_skip_self_notification() {
+        // Given: 게시글 작성자가 자기 글에 댓글을 단 상황
+        UserEntity owner = createUser(11L, "owner");
         BoardEntity board = createBoard(2L, "notice");
-        ArticleEntity article = createArticle(31L, board, receiver);
-
-        when(notificationPresenceService.isViewingArticleDetail(11L, 31L)).thenReturn(true);
+        ArticleEntity article = createArticle(31L, board, owner);
 
         // When: 댓글 알림 생성 요청
-        notificationService.createArticleComment(receiver, sender, article);
-
-        // Then: 알림은 읽음 상태로 저장되고 unread 카운트 푸시는 발생하지 않아야 함
-        ArgumentCaptor<NotificationEntity> entityCaptor = ArgumentCaptor.forClass(NotificationEntity.class);
-        verify(notificationRepository, times(1)).save(entityCaptor.capture());
-        assertThat(entityCaptor.getValue().isRead()).isTrue();
-        verify(notificationRepository, never()).countByUserIdAndReadFalse(anyLong());
-        verify(notificationRealtimeSseService, never()).publishUnreadCountChanged(anyLong(), anyLong());
+        notificationService.createArticleComment(owner, owner, article);
+
+        // Then: 아웃박스에 아무것도 남기지 않아야 함
+        verifyNoInteractions(outboxEventWriter);
     }
 
-    // 동일 게시글 상세를 보고 있지 않으면 기존처럼 알림을 생성하고 카운트를 푸시해야 한다.
+    // 트랜잭션 밖에서 읽음 처리하면 아웃박스를 거치지 않고 바로 현재 카운트를 푸시해야 한다.
     @Test
-    void create_comment_reply_should_create_and_publish_when_receiver_not_viewing_article_detail() {
-        // Given: 수신자가 동일 게시글 상세를 보고 있지 않은 상태
-        UserEntity receiver = createUser(12L, "receiver3");
-        UserEntity sender = createUser(22L, "sender3");
-        BoardEntity board = createBoard(3L, "general");
-        ArticleEntity article = createArticle(32L, board, receiver);
-        CommentEntity reply = createComment(42L, article, sender);
-
-        when(notificationPresenceService.isViewingArticleDetail(12L, 32L)).thenReturn(false);
-        when(notificationPresenceService.shouldSuppressUnreadCountPush(12L, 32L)).thenReturn(false);
-        when(notificationRepository.countByUserIdAndReadFalse(12L)).thenReturn(3L);
-        when(notificationRepository.save(any(NotificationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When: 대댓글 알림 생성 요청
-        notificationService.createCommentReply(receiver, sender, article, reply);
-
-        // Then: unread 알림이 생성되고 unread 카운트 푸시가 수행되어야 함
-        ArgumentCaptor<NotificationEntity> entityCaptor = ArgumentCaptor.forClass(NotificationEntity.class);
-        verify(notificationRepository, times(1)).save(entityCaptor.capture());
-        assertThat(entityCaptor.getValue().isRead()).isFalse();
-        verify(notificationRealtimeSseService, times(1)).publishUnreadCountChanged(12L, 3L);
+    void mark_all_read_should_push_current_count_without_transaction() {
+        // Given: 로그인 사용자와 남은 안읽은 알림이 없는 상태
+        when(currentUserService.getUserId()).thenReturn(12L);
+        when(notificationPresenceService.shouldSuppressUnreadCountPush(12L, null)).thenReturn(false);
+        when(notificationRepository.countByUserIdAndReadFalse(12L)).thenReturn(0L);
+
+        // When: 모두 읽음 처리
+        notificationService.markAllRead();
+
+        // Then: 현재 카운트가 바로 푸시되고 아웃박스에는 남기지 않아야 함
+        verify(notificationRepository).markAllRead(12L);
+        verify(notificationRealtimeSseService, times(1)).publishUnreadCountChanged(12L, 0L);
+        verifyNoInteractions(outboxEventWriter);
     }
 
     private UserEntity createUser(Long id, String suffix) {
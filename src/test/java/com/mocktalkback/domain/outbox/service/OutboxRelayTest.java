@@ -0,0 +1,252 @@
+package com.mocktalkback.domain.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mocktalkback.domain.outbox.type.OutboxEventType;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventStore outboxEventStore;
+
+    private RecordingHandler handler;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RecordingHandler(Set.of(OutboxEventType.BOARD_REALTIME, OutboxEventType.ARTICLE_TRENDING_SCORE));
+        outboxRelay = new OutboxRelay(outboxEventStore, List.of(handler), Runnable::run);
+    }
+
+    // 가져온 이벤트를 멱등 키와 함께 처리기에 넘기고 처리 완료로 표시해야 한다.
+    @Test
+    void drain_dispatches_claimed_events_and_marks_processed() {
+        // Given: 발행할 차례인 이벤트 두 건
+        when(outboxEventStore.claim(eq(100), any(Duration.class))).thenReturn(List.of(
+            event(1L, OutboxEventType.BOARD_REALTIME, "key-1", 1),
+            event(2L, OutboxEventType.ARTICLE_TRENDING_SCORE, "key-2", 1)
+        ));
+
+        // When: relay가 비우면
+        int processed = outboxRelay.drain();
+
+        // Then: 두 건 모두 처리되고 처리 완료로 표시되어야 한다.
+        assertThat(processed).isEqualTo(2);
+        assertThat(handler.handledKeys).containsExactly("key-1", "key-2");
+        verify(outboxEventStore).markProcessed(List.of(1L, 2L));
+    }
+
+    // 처리에 실패한 이벤트는 처리 완료로 표시하지 않고 시도 횟수에 따른 백오프로 다시 예약해야 한다.
+    @Test
+    void drain_schedules_retry_with_backoff_when_handler_fails() {
+        // Given: 세 번째 시도에서 실패하는 이벤트와 성공하는 이벤트
+        handler.failingKeys.add("key-1");
+        when(outboxEventStore.claim(eq(100), any(Duration.class))).thenReturn(List.of(
+            event(1L, OutboxEventType.BOARD_REALTIME, "key-1", 3),
+            event(2L, OutboxEventType.BOARD_REALTIME, "key-2", 1)
+        ));
+
+        // When: relay가 비우면
+        outboxRelay.drain();
+
+        // Then: 실패한 이벤트만 1s * 2^2 뒤로 다시 예약되어야 한다.
+        verify(outboxEventStore).scheduleRetry(eq(1L), eq(Duration.ofSeconds(4)), anyString());
+        verify(outboxEventStore).markProcessed(List.of(2L));
+        verify(outboxEventStore, never()).markDead(any(), any());
+    }
+
+    // 최대 시도 횟수를 넘긴 이벤트와 처리기가 없는 이벤트는 무한히 재시도하지 않아야 한다.
+    @Test
+    void drain_marks_dead_after_max_attempts() {
+        // Given: 마지막 시도에서도 실패하는 이벤트
+        handler.failingKeys.add("key-1");
+        when(outboxEventStore.claim(eq(100), any(Duration.class))).thenReturn(List.of(
+            event(1L, OutboxEventType.BOARD_REALTIME, "key-1", 10),
+            event(2L, null, "key-2", 10)
+        ));
+
+        // When: relay가 비우면
+        outboxRelay.drain();
+
+        // Then: 두 이벤트 모두 dead로 남아야 한다.
+        verify(outboxEventStore).markDead(eq(1L), anyString());
+        verify(outboxEventStore).markDead(eq(2L), anyString());
+        verify(outboxEventStore, never()).scheduleRetry(any(), any(), any());
+        verify(outboxEventStore).markProcessed(List.of());
+    }
+
+    // 한 배치가 가득 차면 남은 이벤트가 없을 때까지 이어서 가져와야 한다.
+    @Test
+    void drain_claims_next_batch_when_batch_is_full() {
+        // Given: 배치 크기 1, 이벤트 두 건
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 1);
+        when(outboxEventStore.claim(anyInt(), any(Duration.class)))
+            .thenReturn(List.of(event(1L, OutboxEventType.BOARD_REALTIME, "key-1", 1)))
+            .thenReturn(List.of(event(2L, OutboxEventType.BOARD_REALTIME, "key-2", 1)))
+            .thenReturn(List.of());
+
+        // When: relay가 비우면
+        int processed = outboxRelay.drain();
+
+        // Then: 두 배치를 모두 처리해야 한다.
+        assertThat(processed).isEqualTo(2);
+        assertThat(handler.handledKeys).containsExactly("key-1", "key-2");
+    }
+
+    // 묶음 처리기가 맡은 이벤트는 배치마다 한 번에 넘겨야 한다.
+    @Test
+    void drain_hands_events_to_batch_handler_in_one_call() {
+        // Given: 묶음 처리기가 맡은 이벤트 두 건과 개별 처리기가 맡은 이벤트 한 건
+        RecordingBatchHandler batchHandler = new RecordingBatchHandler();
+        OutboxRelay relay = new OutboxRelay(outboxEventStore, List.of(handler, batchHandler), Runnable::run);
+        when(outboxEventStore.claim(eq(100), any(Duration.class))).thenReturn(List.of(
+            event(1L, OutboxEventType.NOTIFICATION_CREATE, "key-1", 1),
+            event(2L, OutboxEventType.BOARD_REALTIME, "key-2", 1),
+            event(3L, OutboxEventType.NOTIFICATION_UNREAD_COUNT, "key-3", 1)
+        ));
+
+        // When: relay가 비우면
+        int processed = relay.drain();
+
+        // Then: 묶음 처리기는 두 건을 한 번에 받아야 한다.
+        assertThat(processed).isEqualTo(3);
+        assertThat(batchHandler.batches).containsExactly(List.of("key-1", "key-3"));
+        assertThat(handler.handledKeys).containsExactly("key-2");
+        verify(outboxEventStore).markProcessed(List.of(2L, 1L, 3L));
+    }
+
+    // 묶음 처리가 실패하면 묶음 전체를 다시 예약해야 한다.
+    @Test
+    void drain_schedules_retry_for_whole_batch_when_batch_handler_fails() {
+        // Given: 실패하는 묶음 처리기
+        RecordingBatchHandler batchHandler = new RecordingBatchHandler();
+        batchHandler.failing = true;
+        OutboxRelay relay = new OutboxRelay(outboxEventStore, List.of(batchHandler), Runnable::run);
+        when(outboxEventStore.claim(eq(100), any(Duration.class))).thenReturn(List.of(
+            event(1L, OutboxEventType.NOTIFICATION_CREATE, "key-1", 1),
+            event(2L, OutboxEventType.NOTIFICATION_CREATE, "key-2", 2)
+        ));
+
+        // When: relay가 비우면
+        relay.drain();
+
+        // Then: 묶음의 모든 이벤트가 각자의 시도 횟수에 맞춰 다시 예약되어야 한다.
+        verify(outboxEventStore).scheduleRetry(eq(1L), eq(Duration.ofSeconds(1)), anyString());
+        verify(outboxEventStore).scheduleRetry(eq(2L), eq(Duration.ofSeconds(2)), anyString());
+        verify(outboxEventStore).markProcessed(List.of());
+    }
+
+    // 묶음 처리기가 일부 이벤트만 실패로 돌려주면 그 이벤트만 재시도/폐기하고 나머지는 처리 완료로 표시해야 한다.
+    @Test
+    void drain_fails_only_events_reported_by_batch_handler() {
+        // Given: 두 이벤트의 내용을 읽지 못하는 묶음 처리기, 그중 하나는 마지막 시도
+        RecordingBatchHandler batchHandler = new RecordingBatchHandler();
+        batchHandler.failingKeys.add("key-2");
+        batchHandler.failingKeys.add("key-3");
+        OutboxRelay relay = new OutboxRelay(outboxEventStore, List.of(batchHandler), Runnable::run);
+        when(outboxEventStore.claim(eq(100), any(Duration.class))).thenReturn(List.of(
+            event(1L, OutboxEventType.NOTIFICATION_CREATE, "key-1", 1),
+            event(2L, OutboxEventType.NOTIFICATION_CREATE, "key-2", 1),
+            event(3L, OutboxEventType.NOTIFICATION_UNREAD_COUNT, "key-3", 10)
+        ));
+
+        // When: relay가 비우면
+        int processed = relay.drain();
+
+        // Then: 실패한 이벤트만 재시도/폐기되고 나머지는 처리 완료로 표시되어야 한다.
+        assertThat(processed).isEqualTo(1);
+        verify(outboxEventStore).scheduleRetry(eq(2L), eq(Duration.ofSeconds(1)), anyString());
+        verify(outboxEventStore).markDead(eq(3L), anyString());
+        verify(outboxEventStore).markProcessed(List.of(1L));
+    }
+
+    // 같은 유형을 두 처리기가 맡으면 기동 시점에 막아야 한다.
+    @Test
+    void constructor_rejects_duplicate_handlers() {
+        // Given: 같은 유형을 처리하는 두 처리기
+        RecordingHandler other = new RecordingHandler(Set.of(OutboxEventType.BOARD_REALTIME));
+
+        // When & Then: relay 생성이 실패해야 한다.
+        assertThatThrownBy(() -> new OutboxRelay(outboxEventStore, List.of(handler, other), Runnable::run))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private OutboxEvent event(Long id, OutboxEventType type, String key, int attempts) {
+        return new OutboxEvent(id, type, key, "{}", attempts);
+    }
+
+    private static final class RecordingHandler implements OutboxEventHandler {
+
+        private final Set<OutboxEventType> types;
+        private final List<String> handledKeys = new ArrayList<>();
+        private final Set<String> failingKeys = new HashSet<>();
+
+        RecordingHandler(Set<OutboxEventType> types) {
+            this.types = types;
+        }
+
+        @Override
+        public Set<OutboxEventType> supportedTypes() {
+            return types;
+        }
+
+        @Override
+        public void handle(OutboxEvent event) {
+            if (failingKeys.contains(event.idempotencyKey())) {
+                throw new IllegalStateException("발행 실패");
+            }
+            handledKeys.add(event.idempotencyKey());
+        }
+    }
+
+    private static final class RecordingBatchHandler implements BatchOutboxEventHandler {
+
+        private final List<List<String>> batches = new ArrayList<>();
+        private final Set<String> failingKeys = new HashSet<>();
+        private boolean failing;
+
+        @Override
+        public Set<OutboxEventType> supportedTypes() {
+            return Set.of(OutboxEventType.NOTIFICATION_CREATE, OutboxEventType.NOTIFICATION_UNREAD_COUNT);
+        }
+
+        @Override
+        public Map<Long, RuntimeException> handleBatch(List<OutboxEvent> events) {
+            if (failing) {
+                throw new IllegalStateException("발행 실패");
+            }
+            batches.add(events.stream().map(OutboxEvent::idempotencyKey).toList());
+            Map<Long, RuntimeException> failures = new HashMap<>();
+            for (OutboxEvent event : events) {
+                if (failingKeys.contains(event.idempotencyKey())) {
+                    failures.put(event.id(), new IllegalStateException("역직렬화 실패"));
+                }
+            }
+            return failures;
+        }
+    }
+}